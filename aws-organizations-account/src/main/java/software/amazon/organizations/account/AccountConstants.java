@@ -8,6 +8,8 @@ public class AccountConstants {
         TAG_RESOURCE,
         UNTAG_RESOURCE,
         LIST_PARENTS,
+        LIST_ACCOUNTS_FOR_PARENT,
+        LIST_ROOTS,
         LIST_TAGS_FOR_RESOURCE,
         DESCRIBE_ACCOUNT,
         LIST_ACCOUNTS
@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.organizations.model.DestinationParentNotF
 import software.amazon.awssdk.services.organizations.model.DuplicateAccountException;
 import software.amazon.awssdk.services.organizations.model.FinalizingOrganizationException;
 import software.amazon.awssdk.services.organizations.model.InvalidInputException;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationsRequest;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
@@ -28,8 +29,16 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InstrumentedProxyClient;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
 
+import java.util.Locale;
 import java.util.Random;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -51,13 +60,25 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String CREATE_ACCOUNT_FAILURE_REASON_UNKNOWN_BUSINESS_VALIDATION = "UNKNOWN_BUSINESS_VALIDATION";
     protected static final String ACCOUNT_CREATION_STATUS_SUCCEEDED = "SUCCEEDED";
     protected static final String ACCOUNT_CREATION_STATUS_FAILED = "FAILED";
+    // time the pre-existence check may spend paging through ListAccounts in one invoke before it continues in a callback
+    protected static final long PRE_EXISTENCE_CHECK_TIME_BUDGET_MILLIS = 30_000L;
+    protected static final int PRE_EXISTENCE_CHECK_CALLBACK_DELAY_SECONDS = 1;
     // ExponentialBackoffJitter Constants
     protected static final double RANDOMIZATION_FACTOR = 0.5;
     protected static final double RANDOMIZATION_FACTOR_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS = 0.2;
     protected static final int BASE_DELAY = 15; // in second
-    protected static final int BASE_DELAY_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS = 2500; // in millisecond
     private static final int MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION = 2;
-    protected static final int MAX_NUMBER_OF_ATTEMPT_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS = 5;
+    // set to true to return the model just written from Update instead of reading the account back
+    public static final String WRITE_THROUGH_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_WRITE_THROUGH";
+
+    // registers the SnapStart priming pass and warms up the connection to the endpoint, the handlers are constructed
+    // in the init phase before the snapshot, which restores without open connections
+    static {
+        Priming.register();
+        if (!ConnectionWarmUp.isSnapStartInit()) {
+            ClientBuilder.warmUpConnection();
+        }
+    }
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -72,13 +93,34 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             logger.log(errMsg);
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, errMsg);
         }
-        return handleRequest(
-            awsClientProxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            awsClientProxy.newProxy(ClientBuilder::getClient),
-            new OrgsLoggerWrapper(logger)
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RetryBudget retryBudget = restoreRetryBudget(context);
+        final InvocationMetrics metrics = new InvocationMetrics(ResourceModel.TYPE_NAME, handlerNameOf(getClass()));
+        // metrics sit inside the rate limiter, so recorded latency is the API call itself and not the time spent waiting for a permit
+        final RateLimitedProxyClient<OrganizationsClient> orgsClient = new RateLimitedProxyClient<>(
+            new InstrumentedProxyClient<>(awsClientProxy.newProxy(ClientBuilder::getClient), metrics));
+        final OrgsLoggerWrapper orgsLogger = new OrgsLoggerWrapper(logger, request.getClientRequestToken());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = metrics.runWith(() -> retryBudget.runWith(() -> handleRequest(
+                awsClientProxy,
+                request,
+                context,
+                orgsClient,
+                orgsLogger
+            )));
+            saveRetryBudget(context, retryBudget);
+            if (orgsClient.getThrottledCalls() > 0) {
+                orgsLogger.warn("Throttled {} time(s), client-side rate limits now {}.", orgsClient.getThrottledCalls(), AdaptiveRateLimiter.metrics());
+            }
+            return progressEvent;
+        } finally {
+            metrics.flush(logger);
+        }
+    }
+
+    // CreateHandler -> CREATE, matching the names of AccountConstants.Handler
+    private static String handlerNameOf(final Class<?> handlerClass) {
+        return handlerClass.getSimpleName().replaceFirst("Handler$", "").toUpperCase(Locale.ROOT);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -89,6 +131,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final OrgsLoggerWrapper logger
     );
 
+    protected static boolean isWriteThroughEnabled() {
+        return Boolean.parseBoolean(System.getenv(WRITE_THROUGH_ENVIRONMENT_VARIABLE));
+    }
+
+    // the root of the management account's organization, ListRoots only runs when the container has no fresh cached value
+    protected String getRootId(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProxyClient<OrganizationsClient> orgsClient
+    ) {
+        return OrganizationRootCache.getRootId(request.getAwsAccountId(), () -> {
+            final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(Translator.translateToListRootsRequest(), orgsClient.client()::listRoots);
+            return listRootsResponse.roots().iterator().next().id();
+        });
+    }
+
     public ProgressEvent<ResourceModel, CallbackContext> handleError(
         final OrganizationsRequest request,
         final ResourceHandlerRequest<ResourceModel> handlerRequest,
@@ -122,6 +180,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final AccountConstants.Action actionName,
         final AccountConstants.Handler handlerName
     ) {
+        InvocationMetrics.recordHandlerError(handlerName.toString(), actionName.toString(), e);
         if ((handlerName != AccountConstants.Handler.READ && handlerName != AccountConstants.Handler.LIST)
             && isRetriableException(e)) {
             return handleRetriableException(request, handlerRequest, proxyClient, callbackContext, logger, e, resourceModel, actionName, handlerName);
@@ -137,6 +196,10 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final OrgsLoggerWrapper logger
     ) {
         HandlerErrorCode errorCode = HandlerErrorCode.GeneralServiceException;
+        if (e instanceof AwsOrganizationsNotInUseException) {
+            // the organization of this management account is gone, so drop its cached root ID
+            OrganizationRootCache.invalidate(handlerRequest.getAwsAccountId());
+        }
         if (e instanceof AwsOrganizationsNotInUseException
                 || e instanceof AccountNotFoundException
                 || e instanceof ChildNotFoundException
@@ -165,8 +228,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             errorCode = HandlerErrorCode.InternalFailure;
         }
         String accountInfo = resourceModel.getAccountId() == null ? handlerRequest.getLogicalResourceIdentifier() : resourceModel.getAccountId();
-        logger.log(String.format("[Exception] Failed with exception [%s]. Message: [%s], ErrorCode: [%s] for Account [%s].",
-            e.getClass().getSimpleName(), e.getMessage(), errorCode, accountInfo));
+        logger.error("[Exception] Failed with exception [{}]. Message: [{}], ErrorCode: [{}] for Account [{}].",
+            e.getClass().getSimpleName(), e.getMessage(), errorCode, accountInfo);
         return ProgressEvent.failed(resourceModel, callbackContext, errorCode, e.getMessage());
     }
 
@@ -200,18 +263,41 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
         if (actionName != AccountConstants.Action.CREATE_ACCOUNT) {
             int currentAttempt = context.getCurrentRetryAttempt(actionName, handlerName);
-            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION) {
+            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION && acquireHandlerRetry(context, logger)) {
                 context.setCurrentRetryAttempt(actionName, handlerName);
+                InvocationMetrics.recordHandlerRetry(handlerName.toString(), actionName.toString());
                 int callbackDelaySeconds = computeDelayBeforeNextRetry(currentAttempt, BASE_DELAY, RANDOMIZATION_FACTOR); // in seconds
-                logger.log(String.format("Got %s when calling %s for "
-                                + "account [%s]. Retrying %s of %s with callback delay %s seconds.",
-                        e.getClass().getName(), organizationsRequest.getClass().getName(), accountInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds));
+                logger.warn("Got {} when calling {} for "
+                                + "account [{}]. Retrying {} of {} with callback delay {} seconds.",
+                        e.getClass().getName(), organizationsRequest.getClass().getName(), accountInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds);
                 return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
             }
         }
-        logger.log(String.format("All retry attempts exhausted for account [%s], return exception to CloudFormation for further handling.", accountInfo));
+        logger.warn("All retry attempts exhausted for account [{}], return exception to CloudFormation for further handling.", accountInfo);
         return handleError(organizationsRequest, handlerRequest, e, proxyClient, model, context, logger);
     }
 
+    // Restores the retry budget persisted by an earlier invocation of this operation, or a full one on the first invocation
+    private static RetryBudget restoreRetryBudget(final CallbackContext context) {
+        return RetryBudget.restore(context.getRetryBudgetTokens(), context.getRetryBudgetRefilledAt());
+    }
+
+    private static void saveRetryBudget(final CallbackContext context, final RetryBudget retryBudget) {
+        context.setRetryBudgetTokens(retryBudget.getRemainingTokens());
+        context.setRetryBudgetRefilledAt(retryBudget.getLastRefillMillis());
+    }
+
+    // A callback retry is only scheduled while the budget shared with SDK retries lasts, otherwise the error is returned right away
+    private static boolean acquireHandlerRetry(final CallbackContext context, final OrgsLoggerWrapper logger) {
+        final RetryBudget boundRetryBudget = RetryBudget.current();
+        final RetryBudget retryBudget = boundRetryBudget != null ? boundRetryBudget : restoreRetryBudget(context);
+        final boolean acquired = retryBudget.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        saveRetryBudget(context, retryBudget);
+        if (!acquired) {
+            logger.warn("Retry budget for this operation is exhausted, skipping callback retry.");
+        }
+        return acquired;
+    }
+
 
 }
@@ -19,10 +19,18 @@ public class CallbackContext extends StdCallbackContext {
         String key = actionName.toString() + handlerName.toString();
         this.actionToRetryAttemptMap.put(key, getCurrentRetryAttempt(actionName, handlerName)+1);
     }
+    // RetryBudget state shared by SDK and callback retries of this operation, refill time is epoch milliseconds
+    private Integer retryBudgetTokens;
+    private long retryBudgetRefilledAt = 0L;
     // used in CREATE handler
     private boolean accountCreated = false;
     private boolean preExistenceCheckComplete = false;
     private boolean resourceAlreadyExists = false;
+    private String preExistenceCheckNextToken;
     private String createAccountRequestId;
     private String failureReason;
+    // DescribeCreateAccountStatus polling state, times are epoch milliseconds
+    private int createAccountStatusPollAttempt = 0;
+    private long createAccountFirstSeenTime = 0L;
+    private long nextCreateAccountStatusPollTime = 0L;
 }
@@ -0,0 +1,54 @@
+package software.amazon.organizations.account;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when the create handler should call DescribeCreateAccountStatus again.
+ * Polls are aimed at the creation latency observed for earlier accounts in this container. Once a request runs past that
+ * estimate, the delay grows with how overdue it is, bounded by MAX_DELAY_SECONDS, so a long-running create keeps being
+ * polled through callbacks instead of holding the handler thread.
+ */
+final class CreateAccountPollingSchedule {
+    static final int MIN_DELAY_SECONDS = 5;
+    static final int MAX_DELAY_SECONDS = 60;
+    static final long DEFAULT_EXPECTED_LATENCY_MILLIS = 60_000L;
+    // stop polling and report NotStabilized once a single create request has been in progress this long
+    static final long MAX_POLLING_DURATION_MILLIS = 60 * 60_000L;
+    // weight given to the newest observed latency in the moving average
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    private static final Random RANDOM = new Random();
+    private static final AtomicLong EXPECTED_LATENCY_MILLIS = new AtomicLong(DEFAULT_EXPECTED_LATENCY_MILLIS);
+
+    private CreateAccountPollingSchedule() {
+    }
+
+    static long expectedLatencyMillis() {
+        return EXPECTED_LATENCY_MILLIS.get();
+    }
+
+    static void recordCreationLatency(final long latencyMillis) {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        EXPECTED_LATENCY_MILLIS.updateAndGet(current -> Math.round(current + SMOOTHING_FACTOR * (latencyMillis - current)));
+    }
+
+    static int nextDelaySeconds(final long elapsedMillis) {
+        final long remainingMillis = expectedLatencyMillis() - elapsedMillis;
+        // before the expected completion aim straight at it, afterwards back off by half of the time we are overdue
+        final long targetMillis = remainingMillis > 0 ? remainingMillis : -remainingMillis / 2;
+        final int baseDelay = (int) Math.max(MIN_DELAY_SECONDS, Math.min(MAX_DELAY_SECONDS, (targetMillis + 999) / 1000));
+        final int jitter = RANDOM.nextInt((int) Math.ceil(baseDelay * BaseHandlerStd.RANDOMIZATION_FACTOR_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS));
+        return Math.min(MAX_DELAY_SECONDS, baseDelay + jitter);
+    }
+
+    static boolean isPollingExpired(final long elapsedMillis) {
+        return elapsedMillis >= MAX_POLLING_DURATION_MILLIS;
+    }
+
+    static void reset() {
+        EXPECTED_LATENCY_MILLIS.set(DEFAULT_EXPECTED_LATENCY_MILLIS);
+    }
+}
@@ -5,6 +5,7 @@ import software.amazon.awssdk.services.organizations.model.Account;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
 import software.amazon.awssdk.services.organizations.model.CreateAccountResponse;
+import software.amazon.awssdk.services.organizations.model.CreateAccountStatus;
 import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusResponse;
 import software.amazon.awssdk.services.organizations.model.DuplicateAccountException;
 import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
@@ -12,19 +13,31 @@ import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
 import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
 import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
 import software.amazon.awssdk.services.organizations.model.MoveAccountResponse;
+import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final long preExistenceCheckTimeBudgetMillis;
+
+    public CreateHandler() {
+        this(PRE_EXISTENCE_CHECK_TIME_BUDGET_MILLIS);
+    }
+
+    CreateHandler(final long preExistenceCheckTimeBudgetMillis) {
+        this.preExistenceCheckTimeBudgetMillis = preExistenceCheckTimeBudgetMillis;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -34,8 +47,8 @@ public class CreateHandler extends BaseHandlerStd {
         final OrgsLoggerWrapper logger) {
 
         this.log = logger;
-        logger.log(String.format("Entered %s create handler with management account Id [%s] and account logical resource identifier [%s].",
-            ResourceModel.TYPE_NAME, request.getAwsAccountId(), request.getLogicalResourceIdentifier()));
+        logger.info("Entered {} create handler with management account Id [{}] and account logical resource identifier [{}].",
+            ResourceModel.TYPE_NAME, request.getAwsAccountId(), request.getLogicalResourceIdentifier());
         final ResourceModel model = request.getDesiredResourceState();
         if (model.getAccountName() == null || model.getEmail() == null) {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
@@ -58,7 +71,11 @@ public class CreateHandler extends BaseHandlerStd {
                                 String.format("Account with email [%s] already exists.", model.getEmail()));
                     }
                     if (progress.getCallbackContext().isAccountCreated()) {
-                        log.log(String.format("Account has already been created in previous handler invoke with account Id: [%s]. Skip create account.", model.getAccountId()));
+                        log.info("Account has already been created in previous handler invoke with account Id: [{}]. Skip create account.", model.getAccountId());
+                        return ProgressEvent.progress(model, callbackContext);
+                    }
+                    if (progress.getCallbackContext().getCreateAccountRequestId() != null) {
+                        log.info("Account creation has already been initiated in previous handler invoke with CreateAccountRequestId [{}]. Skip create account.", callbackContext.getCreateAccountRequestId());
                         return ProgressEvent.progress(model, callbackContext);
                     }
                     return awsClientProxy.initiate("AWS-Organizations-Account::CreateAccount", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -67,7 +84,8 @@ public class CreateHandler extends BaseHandlerStd {
                             .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleError(organizationsRequest, request, e, proxyClient1, model1, context, logger))
                             .done(CreateAccountResponse -> {
                                 callbackContext.setCreateAccountRequestId(CreateAccountResponse.createAccountStatus().id());
-                                logger.log(String.format("Successfully initiated new account creation request with CreateAccountRequestId [%s]", callbackContext.getCreateAccountRequestId()));
+                                callbackContext.setCreateAccountFirstSeenTime(System.currentTimeMillis());
+                                logger.info("Successfully initiated new account creation request with CreateAccountRequestId [{}]", callbackContext.getCreateAccountRequestId());
                                 return ProgressEvent.progress(model, callbackContext);
                             });
                 })
@@ -83,7 +101,13 @@ public class CreateHandler extends BaseHandlerStd {
 
         ResourceModel model = progress.getResourceModel();
         final CallbackContext context = progress.getCallbackContext();
-        String nextToken = null;
+        // the scan only guards the first invoke, later callbacks would find the account this handler created
+        if (context.isPreExistenceCheckComplete()) {
+            return ProgressEvent.progress(model, context);
+        }
+        final long scanDeadline = System.currentTimeMillis() + preExistenceCheckTimeBudgetMillis;
+        // resume from the page where the previous invoke ran out of time budget
+        String nextToken = context.getPreExistenceCheckNextToken();
 
         do {
             final String currentToken = nextToken;
@@ -101,10 +125,9 @@ public class CreateHandler extends BaseHandlerStd {
                         if (existingAccount.isPresent()) {
                             model.setAccountId(existingAccount.get().id());
                             context.setResourceAlreadyExists(true);
-                            log.log(String.format("Failing PreExistenceCheck: Account with email [%s] already exists with Id: [%s]", model.getEmail(), model.getAccountId()));
+                            log.info("Failing PreExistenceCheck: Account with email [{}] already exists with Id: [{}]", model.getEmail(), model.getAccountId());
                         }
 
-                        context.setPreExistenceCheckComplete(true);
                         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                                 .resourceModel(model)
                                 .callbackContext(context)
@@ -112,11 +135,19 @@ public class CreateHandler extends BaseHandlerStd {
                                 .status(OperationStatus.IN_PROGRESS)
                                 .build();
                     });
-
+            if (currentProgress.isFailed()) {
+                return currentProgress;
+            }
             nextToken = currentProgress.getNextToken();
 
-        } while(nextToken != null);
+            if (nextToken != null && !context.isResourceAlreadyExists() && System.currentTimeMillis() >= scanDeadline) {
+                context.setPreExistenceCheckNextToken(nextToken);
+                log.log("PreExistenceCheck ran out of time budget for this invoke. Resume scanning accounts in next callback.");
+                return ProgressEvent.defaultInProgressHandler(context, PRE_EXISTENCE_CHECK_CALLBACK_DELAY_SECONDS, model);
+            }
+        } while (nextToken != null && !context.isResourceAlreadyExists());
 
+        context.setPreExistenceCheckNextToken(null);
         context.setPreExistenceCheckComplete(true);
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModel(model)
@@ -134,67 +165,92 @@ public class CreateHandler extends BaseHandlerStd {
         final OrgsLoggerWrapper logger) {
         // skip if account is created
         if (callbackContext.isAccountCreated()) {
-            log.log(String.format("Account has already been created in previous handler invoke with account id: [%s]. Skip describeCreateAccountStatus.", model.getAccountId()));
+            log.info("Account has already been created in previous handler invoke with account id: [{}]. Skip describeCreateAccountStatus.", model.getAccountId());
             return ProgressEvent.progress(model, callbackContext);
         }
 
-        // all attempts add up should be less than 60s because single progress needs to return within 60s
-        for (int attempt = 0; attempt < MAX_NUMBER_OF_ATTEMPT_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS; attempt++) {
-            try {
-                int wait = computeDelayBeforeNextRetry(attempt, BASE_DELAY_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS, RANDOMIZATION_FACTOR_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS);
-                logger.log(String.format("Enter describeCreateAccountStatus with CreateAccountRequestId [%s] and attempt %s. Wait %s millisecond for propagation.", callbackContext.getCreateAccountRequestId(), attempt + 1, wait));
-                Thread.sleep(wait); // ms
-            } catch (InterruptedException e) {
-                log.log(e.getMessage());
-            }
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = awsClientProxy
-                                                                                    .initiate("AWS-Organizations-Account::DescribeCreateAccountStatus-Attempt" + attempt, orgsClient, model, callbackContext)
-                                                                                    .translateToServiceRequest((resourceModel) -> Translator.translateToDescribeCreateAccountStatusRequest(callbackContext))
-                                                                                    .makeServiceCall((describeCreateAccountStatusRequest, client) -> {
-                                                                                        DescribeCreateAccountStatusResponse describeCreateAccountStatusResponse = orgsClient.injectCredentialsAndInvokeV2(describeCreateAccountStatusRequest,
-                                                                                            orgsClient.client()::describeCreateAccountStatus);
-                                                                                        String state = describeCreateAccountStatusResponse.createAccountStatus().state().toString();
-                                                                                        logger.log(String.format("DescribeCreateAccountStatus returns status [%s] for request id [%s].", state, callbackContext.getCreateAccountRequestId()));
-                                                                                        if (state.equals(ACCOUNT_CREATION_STATUS_SUCCEEDED)) {
-                                                                                            model.setAccountId(describeCreateAccountStatusResponse.createAccountStatus().accountId());
-                                                                                            callbackContext.setAccountCreated(true);
-                                                                                            callbackContext.setFailureReason(null);
-                                                                                        } else if (state.equals(ACCOUNT_CREATION_STATUS_FAILED)) {
-                                                                                            callbackContext.setFailureReason(describeCreateAccountStatusResponse.createAccountStatus().failureReasonAsString());
-                                                                                            model.setAccountId(null);
-                                                                                        }
-                                                                                        return describeCreateAccountStatusResponse;
-                                                                                    })
-                                                                                    .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleError(organizationsRequest, request, e, proxyClient1, model1, context, logger))
-                                                                                    .success();
-            // cases to exist loop
-            // case 1: exceptions from DescribeCreateAccountStatus API, and exceptions are non-retriable
-            if (!progressEvent.isSuccess()) {
-                if (!progressEvent.getErrorCode().name().equals(HandlerErrorCode.ResourceConflict.name())
-                        && !progressEvent.getErrorCode().name().equals(HandlerErrorCode.ServiceInternalError.name())
-                        && !progressEvent.getErrorCode().name().equals(HandlerErrorCode.Throttling.name())) {
-                    logger.log("ProgressEvent in createAccount failed with non-retriable exceptions.");
-                    return progressEvent;
-                }
-            }
-            // case 2: create account already failed with a failure reason
-            if (callbackContext.getFailureReason() != null) {
-                return handleAccountCreationError(model, callbackContext, logger);
-            }
-            // case 3: create account succeed
-            if (model.getAccountId() != null) {
-                logger.log(String.format("Successfully created account with id: [%s].", model.getAccountId()));
-                model.setStatus("ACTIVE");
-                return ProgressEvent.progress(model, callbackContext);
+        final long now = System.currentTimeMillis();
+        if (callbackContext.getCreateAccountFirstSeenTime() == 0L) {
+            callbackContext.setCreateAccountFirstSeenTime(now);
+        }
+        // invoked again before the scheduled poll time, keep waiting for the remainder
+        if (now < callbackContext.getNextCreateAccountStatusPollTime()) {
+            int remainingSeconds = (int) ((callbackContext.getNextCreateAccountStatusPollTime() - now + 999) / 1000);
+            logger.info("Next DescribeCreateAccountStatus for CreateAccountRequestId [{}] is scheduled in {} seconds.", callbackContext.getCreateAccountRequestId(), remainingSeconds);
+            return ProgressEvent.defaultInProgressHandler(callbackContext, remainingSeconds, model);
+        }
+
+        final int attempt = callbackContext.getCreateAccountStatusPollAttempt() + 1;
+        callbackContext.setCreateAccountStatusPollAttempt(attempt);
+        logger.info("Enter describeCreateAccountStatus with CreateAccountRequestId [{}] and attempt {}, {} milliseconds after account creation was initiated.",
+            callbackContext.getCreateAccountRequestId(), attempt, now - callbackContext.getCreateAccountFirstSeenTime());
+
+        final DescribeCreateAccountStatusResponse describeCreateAccountStatusResponse;
+        try {
+            describeCreateAccountStatusResponse = orgsClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeCreateAccountStatusRequest(callbackContext),
+                orgsClient.client()::describeCreateAccountStatus);
+        } catch (Exception e) {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = handleError(request, model, callbackContext, e, logger);
+            // exceptions from DescribeCreateAccountStatus API that are non-retriable end the polling
+            if (progressEvent.getErrorCode() != HandlerErrorCode.ResourceConflict
+                    && progressEvent.getErrorCode() != HandlerErrorCode.ServiceInternalError
+                    && progressEvent.getErrorCode() != HandlerErrorCode.Throttling) {
+                logger.log("ProgressEvent in createAccount failed with non-retriable exceptions.");
+                return progressEvent;
             }
+            return scheduleNextCreateAccountStatusPoll(request, model, callbackContext, now, logger);
         }
-        String errMsg = String.format("DescribeCreateAccountStatus returns IN_PROGRESS state before time out." +
-                                          "Please check account creation status with CreateAccountRequestID [%s] and import account to CloudFormation if it is created successfully.",
-            callbackContext.getCreateAccountRequestId());
-        HandlerErrorCode errorCode = HandlerErrorCode.NotStabilized;
-        logger.log(String.format("[Exception] Failed in describeCreateAccountStatus. Message: [%s], ErrorCode: [%s] for Account [%s].",
-            errMsg, errorCode, request.getAwsAccountId()));
-        return ProgressEvent.failed(model, callbackContext, errorCode, errMsg);
+
+        String state = describeCreateAccountStatusResponse.createAccountStatus().state().toString();
+        logger.info("DescribeCreateAccountStatus returns status [{}] for request id [{}].", state, callbackContext.getCreateAccountRequestId());
+        if (state.equals(ACCOUNT_CREATION_STATUS_SUCCEEDED)) {
+            model.setAccountId(describeCreateAccountStatusResponse.createAccountStatus().accountId());
+            callbackContext.setAccountCreated(true);
+            callbackContext.setFailureReason(null);
+            recordCreationLatency(describeCreateAccountStatusResponse.createAccountStatus());
+            logger.info("Successfully created account with id: [{}].", model.getAccountId());
+            model.setStatus("ACTIVE");
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        if (state.equals(ACCOUNT_CREATION_STATUS_FAILED)) {
+            callbackContext.setFailureReason(describeCreateAccountStatusResponse.createAccountStatus().failureReasonAsString());
+            model.setAccountId(null);
+            return handleAccountCreationError(model, callbackContext, logger);
+        }
+        return scheduleNextCreateAccountStatusPoll(request, model, callbackContext, now, logger);
+    }
+
+    // The service's own timestamps, a poll lands after the completion and timing it would only ever raise the estimate
+    private void recordCreationLatency(final CreateAccountStatus createAccountStatus) {
+        if (createAccountStatus.requestedTimestamp() == null || createAccountStatus.completedTimestamp() == null) {
+            return;
+        }
+        CreateAccountPollingSchedule.recordCreationLatency(
+            Duration.between(createAccountStatus.requestedTimestamp(), createAccountStatus.completedTimestamp()).toMillis());
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> scheduleNextCreateAccountStatusPoll(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final long now,
+        final OrgsLoggerWrapper logger) {
+
+        long elapsedMillis = now - callbackContext.getCreateAccountFirstSeenTime();
+        if (CreateAccountPollingSchedule.isPollingExpired(elapsedMillis)) {
+            String errMsg = String.format("DescribeCreateAccountStatus returns IN_PROGRESS state before time out." +
+                                              "Please check account creation status with CreateAccountRequestID [%s] and import account to CloudFormation if it is created successfully.",
+                callbackContext.getCreateAccountRequestId());
+            HandlerErrorCode errorCode = HandlerErrorCode.NotStabilized;
+            logger.info("[Exception] Failed in describeCreateAccountStatus. Message: [{}], ErrorCode: [{}] for Account [{}].",
+                errMsg, errorCode, request.getAwsAccountId());
+            return ProgressEvent.failed(model, callbackContext, errorCode, errMsg);
+        }
+        int callbackDelaySeconds = CreateAccountPollingSchedule.nextDelaySeconds(elapsedMillis);
+        callbackContext.setNextCreateAccountStatusPollTime(now + callbackDelaySeconds * 1000L);
+        logger.info("Account creation with CreateAccountRequestId [{}] still in progress after {} milliseconds, expected latency is {} milliseconds. Poll again in {} seconds.",
+            callbackContext.getCreateAccountRequestId(), elapsedMillis, CreateAccountPollingSchedule.expectedLatencyMillis(), callbackDelaySeconds);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, model);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> handleAccountCreationError(ResourceModel model, CallbackContext callbackContext, OrgsLoggerWrapper logger) {
@@ -224,7 +280,7 @@ public class CreateHandler extends BaseHandlerStd {
         ) {
             errorCode = HandlerErrorCode.InvalidRequest;
         }
-        logger.log(String.format("[Exception] ProgressEvent failed in account creation, translated FailureReason: [%s] to CloudFormation error code: [%s].", failureReason, errorCode));
+        logger.info("[Exception] ProgressEvent failed in account creation, translated FailureReason: [{}] to CloudFormation error code: [{}].", failureReason, errorCode);
         return ProgressEvent.failed(model, callbackContext, errorCode, errMsg);
     }
 
@@ -239,12 +295,18 @@ public class CreateHandler extends BaseHandlerStd {
         Set<String> parentIds = model.getParentIds();
         String accountId = model.getAccountId();
         if (CollectionUtils.isEmpty(parentIds)) {
-            logger.log(String.format("No parent id found in request for account [%s]. Skip move account.", accountId));
+            logger.info("No parent id found in request for account [{}]. Skip move account.", accountId);
             return ProgressEvent.progress(model, callbackContext);
         }
 
         String destinationId = parentIds.iterator().next();
-        String sourceId = getParentIdForAccount(awsClientProxy, orgsClient, accountId);
+        // a new account always starts in the root, so the source is the (cached) root ID rather than a ListParents call
+        final String sourceId;
+        try {
+            sourceId = getRootId(awsClientProxy, request, orgsClient);
+        } catch (Exception e) {
+            return handleErrorInGeneral(Translator.translateToListRootsRequest(), request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_ROOTS, AccountConstants.Handler.CREATE);
+        }
         return ProgressEvent.progress(model, callbackContext)
                    .then(progress ->
                              awsClientProxy.initiate("AWS-Organizations-Account::MoveAccount", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -252,10 +314,16 @@ public class CreateHandler extends BaseHandlerStd {
                                  .makeServiceCall(this::moveAccount)
                                  .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
                                      if (e instanceof DuplicateAccountException) {
-                                         log.log(String.format("Got %s when calling %s for "
-                                                                   + "account id [%s], source id [%s], destination id [%s]. Continue with next step.",
-                                             e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId));
+                                         log.info("Got {} when calling {} for "
+                                                                   + "account id [{}], source id [{}], destination id [{}]. Continue with next step.",
+                                             e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId);
                                          return ProgressEvent.progress(model1, context);
+                                     } else if (e instanceof SourceParentNotFoundException) {
+                                         log.info("Got {} when calling {} for "
+                                                                   + "account id [{}], source id [{}], destination id [{}]. Retrying from the account's current parent.",
+                                             e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId);
+                                         OrganizationRootCache.invalidate(request.getAwsAccountId());
+                                         return moveAccountFromCurrentParent(awsClientProxy, request, model, callbackContext, orgsClient, logger, destinationId);
                                      }
                                      return handleErrorInGeneral(organizationsRequest, request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.MOVE_ACCOUNT, AccountConstants.Handler.CREATE);
                                  })
@@ -263,13 +331,44 @@ public class CreateHandler extends BaseHandlerStd {
                    );
     }
 
+    // fallback for an account that is no longer in the root, e.g. when the cached root ID went stale
+    private ProgressEvent<ResourceModel, CallbackContext> moveAccountFromCurrentParent(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger,
+        final String destinationId) {
+
+        final String currentParentId;
+        try {
+            currentParentId = getParentIdForAccount(awsClientProxy, orgsClient, model.getAccountId());
+        } catch (Exception e) {
+            return handleErrorInGeneral(Translator.translateToListParentsRequest(model.getAccountId()), request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_PARENTS, AccountConstants.Handler.CREATE);
+        }
+        if (destinationId.equals(currentParentId)) {
+            logger.info("Account [{}] is already in destination id [{}]. Continue with next step.", model.getAccountId(), destinationId);
+            return ProgressEvent.progress(model, callbackContext);
+        }
+        final MoveAccountRequest moveAccountRequest = Translator.translateToMoveAccountRequest(model, destinationId, currentParentId);
+        try {
+            moveAccount(moveAccountRequest, orgsClient);
+        } catch (DuplicateAccountException e) {
+            logger.info("Got {} when moving account id [{}] to destination id [{}]. Continue with next step.", e.getClass().getName(), model.getAccountId(), destinationId);
+        } catch (Exception e) {
+            return handleErrorInGeneral(moveAccountRequest, request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.MOVE_ACCOUNT, AccountConstants.Handler.CREATE);
+        }
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
     protected String getParentIdForAccount(
         final AmazonWebServicesClientProxy awsClientProxy,
         final ProxyClient<OrganizationsClient> orgsClient,
         final String childId
     ) {
         ListParentsRequest listParentsRequest = Translator.translateToListParentsRequest(childId);
-        ListParentsResponse listParentsResponse = awsClientProxy.injectCredentialsAndInvokeV2(listParentsRequest, orgsClient.client()::listParents);
+        ListParentsResponse listParentsResponse = orgsClient.injectCredentialsAndInvokeV2(listParentsRequest, orgsClient.client()::listParents);
         return listParentsResponse.parents().get(0).id();
     }
 
@@ -279,7 +378,7 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     protected MoveAccountResponse moveAccount(final MoveAccountRequest moveAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling moveAccount API for Account [%s] with destinationId [%s],  sourceId [%s].", moveAccountRequest.accountId(), moveAccountRequest.destinationParentId(), moveAccountRequest.sourceParentId()));
+        log.info("Calling moveAccount API for Account [{}] with destinationId [{}],  sourceId [{}].", moveAccountRequest.accountId(), moveAccountRequest.destinationParentId(), moveAccountRequest.sourceParentId());
         return orgsClient.injectCredentialsAndInvokeV2(moveAccountRequest, orgsClient.client()::moveAccount);
     }
 }
@@ -1,22 +1,49 @@
 package software.amazon.organizations.account;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.AccountNotFoundException;
+import software.amazon.awssdk.services.organizations.model.AccountStatus;
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
 import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
 import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.ParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrganizationRootCache;
+import software.amazon.organizations.utils.OrganizationTree;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 public class ListHandler extends BaseHandlerStd {
+    // set to true to return every listed account with its ParentIds, Tags, Arn, Status and join details
+    public static final String ENRICHED_LIST_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_ACCOUNT_LIST_ENRICHED";
+
+    private final boolean enriched;
     private OrgsLoggerWrapper log;
 
+    public ListHandler() {
+        this(Boolean.parseBoolean(System.getenv(ENRICHED_LIST_ENVIRONMENT_VARIABLE)));
+    }
+
+    ListHandler(final boolean enriched) {
+        this.enriched = enriched;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy awsClientProxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -25,7 +52,7 @@ public class ListHandler extends BaseHandlerStd {
             final OrgsLoggerWrapper logger) {
 
         this.log = logger;
-        logger.log(String.format("Entered %s list handler with accountId [%s]", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
+        logger.info("Entered {} list handler with accountId [{}]", ResourceModel.TYPE_NAME, request.getAwsAccountId());
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -42,6 +69,9 @@ public class ListHandler extends BaseHandlerStd {
                 .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                                  handleErrorInGeneral(organizationsRequest, request, e, proxyClient1, model1, context, logger, AccountConstants.Action.LIST_ACCOUNTS, AccountConstants.Handler.LIST))
                 .done(ListAccountsResponse -> {
+                    if (enriched) {
+                        return enrichAccounts(ListAccountsResponse, awsClientProxy, request, callbackContext, orgsClient, model, logger);
+                    }
                     models.addAll(Translator.translateListAccountsResponseToResourceModel(ListAccountsResponse));
                     return ProgressEvent.<ResourceModel, CallbackContext>builder()
                             .resourceModels(models)
@@ -51,8 +81,104 @@ public class ListHandler extends BaseHandlerStd {
                 });
     }
 
+    /**
+     * Completes every active account of a ListAccounts page with the same properties Read returns.
+     * ListAccounts already carries the Arn, Status and join details. ParentIds come from an OrganizationTree snapshot of
+     * the caller's organization, built by the first page of a listing and shared by the pages that follow, so a listing
+     * of thousands of accounts walks the OUs once instead of calling ListParents for every account. An account missing
+     * from the snapshot, such as one that joined after it was built, falls back to ListParents. ListTagsForResource for all
+     * accounts of the page and those ListParents are issued at once on the ConcurrentInvoker pool, which bounds the calls
+     * in flight, and go through the rate limited ProxyClient. An account that leaves the organization between the calls is
+     * dropped from the page.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> enrichAccounts(
+            final ListAccountsResponse listAccountsResponse,
+            final AmazonWebServicesClientProxy awsClientProxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<OrganizationsClient> orgsClient,
+            final ResourceModel model,
+            final OrgsLoggerWrapper logger) {
+
+        final List<Account> accounts = listAccountsResponse.accounts().stream()
+                .filter(account -> account.status() == AccountStatus.ACTIVE)
+                .collect(Collectors.toList());
+        final String rootId;
+        try {
+            rootId = getRootId(awsClientProxy, request, orgsClient);
+        } catch (Exception e) {
+            return handleErrorInGeneral(Translator.translateToListRootsRequest(), request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_ROOTS, AccountConstants.Handler.LIST);
+        }
+        final OrganizationTree tree;
+        try {
+            tree = OrganizationTree.getSnapshot(request.getAwsAccountId(), () -> OrganizationTree.build(orgsClient, rootId));
+        } catch (Exception e) {
+            if (e instanceof ParentNotFoundException) {
+                // the cached root is gone with the organization it belonged to
+                OrganizationRootCache.invalidate(request.getAwsAccountId());
+            }
+            return handleErrorInGeneral(Translator.translateToListAccountsForParentRequest(rootId), request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_ACCOUNTS_FOR_PARENT, AccountConstants.Handler.LIST);
+        }
+        logger.info("Organization snapshot has {} OU(s) and {} account(s), requesting ListTagsForResource for {} account(s).",
+                tree.getOrganizationalUnitCount(), tree.getAccountCount(), accounts.size());
+
+        final List<ListParentsRequest> listParentsRequests = new ArrayList<>(accounts.size());
+        final List<ListTagsForResourceRequest> listTagsRequests = new ArrayList<>(accounts.size());
+        final List<CompletableFuture<ListParentsResponse>> listParentsFutures = new ArrayList<>(accounts.size());
+        final List<CompletableFuture<ListTagsForResourceResponse>> listTagsFutures = new ArrayList<>(accounts.size());
+        for (final Account account : accounts) {
+            final ListParentsRequest listParentsRequest = Translator.translateToListParentsRequest(account.id());
+            final ListTagsForResourceRequest listTagsRequest = Translator.translateToListTagsForResourceRequest(account.id());
+            listParentsRequests.add(listParentsRequest);
+            listTagsRequests.add(listTagsRequest);
+            final String parentId = tree.getParentId(account.id());
+            listParentsFutures.add(parentId != null
+                    ? CompletableFuture.completedFuture(Translator.translateToListParentsResponse(parentId, tree.isOrganizationalUnit(parentId)))
+                    : ConcurrentInvoker.submit(() -> listParents(listParentsRequest, orgsClient)));
+            listTagsFutures.add(ConcurrentInvoker.submit(() -> listTagsForResource(listTagsRequest, orgsClient)));
+        }
+        final List<CompletableFuture<?>> futures = new ArrayList<>(listParentsFutures);
+        futures.addAll(listTagsFutures);
+        ConcurrentInvoker.awaitAll(futures.toArray(new CompletableFuture<?>[0]));
+
+        final List<ResourceModel> models = new ArrayList<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            Exception exception = ConcurrentInvoker.failureOf(listParentsFutures.get(i));
+            if (exception instanceof ChildNotFoundException || exception instanceof AccountNotFoundException) {
+                logger.info("Account [{}] left the organization after it was listed, skipping it.", accounts.get(i).id());
+                continue;
+            }
+            if (exception != null) {
+                return handleErrorInGeneral(listParentsRequests.get(i), request, exception, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_PARENTS, AccountConstants.Handler.LIST);
+            }
+            exception = ConcurrentInvoker.failureOf(listTagsFutures.get(i));
+            if (exception instanceof TargetNotFoundException) {
+                logger.info("Account [{}] left the organization after it was listed, skipping it.", accounts.get(i).id());
+                continue;
+            }
+            if (exception != null) {
+                return handleErrorInGeneral(listTagsRequests.get(i), request, exception, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_TAGS_FOR_RESOURCE, AccountConstants.Handler.LIST);
+            }
+            models.add(Translator.translateToEnrichedResourceModel(accounts.get(i), listParentsFutures.get(i).join(), listTagsFutures.get(i).join()));
+        }
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(listAccountsResponse.nextToken())
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
     protected ListAccountsResponse listAccounts(final ListAccountsRequest listAccountsRequest, final ProxyClient<OrganizationsClient> orgsClient) {
         log.log("Start calling listAccounts");
         return orgsClient.injectCredentialsAndInvokeV2(listAccountsRequest, orgsClient.client()::listAccounts);
     }
+
+    protected ListParentsResponse listParents(final ListParentsRequest listParentsRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        return orgsClient.injectCredentialsAndInvokeV2(listParentsRequest, orgsClient.client()::listParents);
+    }
+
+    protected ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest listTagsForResourceRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        return orgsClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, orgsClient.client()::listTagsForResource);
+    }
 }
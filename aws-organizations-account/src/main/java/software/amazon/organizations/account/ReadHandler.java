@@ -15,10 +15,12 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class ReadHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
@@ -34,89 +36,64 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
         String accountId = model.getAccountId();
 
-        logger.log(String.format("Requesting DescribeAccount w/ Account id: %s.%n", accountId));
-        return ProgressEvent.progress(model, callbackContext)
-                   .then(progress ->
-                             awsClientProxy.initiate("AWS-Organizations-Account::Read::DescribeAccount", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
-                                 .translateToServiceRequest(Translator::translateToDescribeAccountRequest)
-                                 .makeServiceCall(this::describeAccount)
-                                 .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                                                  handleErrorInGeneral(organizationsRequest, request, e, orgsClient1, model1, context, logger, AccountConstants.Action.DESCRIBE_ACCOUNT, AccountConstants.Handler.READ))
-                                 .done(describeAccountResponse -> {
-                                     if (describeAccountResponse.account().status() != AccountStatus.ACTIVE) {
-                                         String errMsg = String.format("Account [%s] in state [%s], suspended account will not be managed by CloudFormation, return NotFound.", model.getAccountId(), describeAccountResponse.account().status());
-                                         logger.log(errMsg);
-                                         return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
-                                     }
-                                     Account account = describeAccountResponse.account();
-                                     model.setAccountId(account.id());
-                                     model.setAccountName(account.name());
-                                     model.setEmail(account.email());
-                                     model.setStatus(account.status().toString());
-                                     model.setJoinedMethod(account.joinedMethodAsString());
-                                     model.setJoinedTimestamp(account.joinedTimestamp().toString());
-                                     model.setArn(account.arn());
-                                     return ProgressEvent.progress(model, callbackContext);
-                                 })
-                   )
-                   .then(progress -> listParents(awsClientProxy, request, model, callbackContext, orgsClient, logger))
-                   .then(progress -> listTagsForAccount(awsClientProxy, request, model, callbackContext, orgsClient, logger));
-    }
+        final DescribeAccountRequest describeAccountRequest = Translator.translateToDescribeAccountRequest(model);
+        final ListParentsRequest listParentsRequest = Translator.translateToListParentsRequest(model);
+        final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsForResourceRequest(model);
 
-    protected ProgressEvent<ResourceModel, CallbackContext> listParents(
-        final AmazonWebServicesClientProxy awsClientProxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final ResourceModel model,
-        final CallbackContext callbackContext,
-        final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger) {
+        // DescribeAccount, ListParents and ListTagsForResource only need the account id, so issue them concurrently
+        // and process the results in the original order once all of them have settled
+        logger.info("Requesting DescribeAccount, ListParents and ListTagsForResource w/ Account id: {}.", accountId);
+        final CompletableFuture<DescribeAccountResponse> describeAccountFuture = ConcurrentInvoker.submit(() -> describeAccount(describeAccountRequest, orgsClient));
+        final CompletableFuture<ListParentsResponse> listParentsFuture = ConcurrentInvoker.submit(() -> listParents(listParentsRequest, orgsClient));
+        final CompletableFuture<ListTagsForResourceResponse> listTagsFuture = ConcurrentInvoker.submit(() -> listTagsForResource(listTagsForResourceRequest, orgsClient));
+        ConcurrentInvoker.awaitAll(describeAccountFuture, listParentsFuture, listTagsFuture);
 
-        String accountId = model.getAccountId();
-        logger.log(String.format("Listing parents for account id: %s.%n", accountId));
-        return awsClientProxy.initiate("AWS-Organizations-Account::ListParents", orgsClient, model, callbackContext)
-                   .translateToServiceRequest(Translator::translateToListParentsRequest)
-                   .makeServiceCall(this::listParents)
-                   .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                                    handleErrorInGeneral(organizationsRequest, request, e, orgsClient1, model1, context, logger, AccountConstants.Action.LIST_PARENTS, AccountConstants.Handler.READ))
-                   .done(listParentsResponse -> {
-                       Parent parent = listParentsResponse.parents().get(0);
-                       Set<String> parentIds = new HashSet<>();
-                       parentIds.add(parent.id());
-                       model.setParentIds(parentIds);
-                       return ProgressEvent.progress(model, callbackContext);
-                   });
-    }
+        Exception exception = ConcurrentInvoker.failureOf(describeAccountFuture);
+        if (exception != null) {
+            return handleErrorInGeneral(describeAccountRequest, request, exception, orgsClient, model, callbackContext, logger, AccountConstants.Action.DESCRIBE_ACCOUNT, AccountConstants.Handler.READ);
+        }
+        final Account account = describeAccountFuture.join().account();
+        if (account.status() != AccountStatus.ACTIVE) {
+            String errMsg = String.format("Account [%s] in state [%s], suspended account will not be managed by CloudFormation, return NotFound.", model.getAccountId(), account.status());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+        model.setAccountId(account.id());
+        model.setAccountName(account.name());
+        model.setEmail(account.email());
+        model.setStatus(account.status().toString());
+        model.setJoinedMethod(account.joinedMethodAsString());
+        model.setJoinedTimestamp(account.joinedTimestamp().toString());
+        model.setArn(account.arn());
 
-    protected ProgressEvent<ResourceModel, CallbackContext> listTagsForAccount(
-        final AmazonWebServicesClientProxy awsClientProxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final ResourceModel model,
-        final CallbackContext callbackContext,
-        final ProxyClient<OrganizationsClient> orgsClient,
-        final OrgsLoggerWrapper logger) {
+        exception = ConcurrentInvoker.failureOf(listParentsFuture);
+        if (exception != null) {
+            return handleErrorInGeneral(listParentsRequest, request, exception, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_PARENTS, AccountConstants.Handler.READ);
+        }
+        Parent parent = listParentsFuture.join().parents().get(0);
+        Set<String> parentIds = new HashSet<>();
+        parentIds.add(parent.id());
+        model.setParentIds(parentIds);
 
-        String accountId = model.getAccountId();
-        logger.log(String.format("Listing tags for account id: %s.%n", accountId));
-        return awsClientProxy.initiate("AWS-Organizations-Account::ListTagsForResource", orgsClient, model, callbackContext)
-                   .translateToServiceRequest(resourceModel -> Translator.translateToListTagsForResourceRequest(model))
-                   .makeServiceCall(this::listTagsForResource)
-                   .handleError((organizationsRequest, e, orgsClient1, model1, context) ->
-                                    handleErrorInGeneral(organizationsRequest, request, e, orgsClient1, model1, context, logger, AccountConstants.Action.LIST_TAGS_FOR_RESOURCE, AccountConstants.Handler.READ))
-                   .done(listTagsForResourceResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromAllDescribeResponse(model, listTagsForResourceResponse)));
+        exception = ConcurrentInvoker.failureOf(listTagsFuture);
+        if (exception != null) {
+            return handleErrorInGeneral(listTagsForResourceRequest, request, exception, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_TAGS_FOR_RESOURCE, AccountConstants.Handler.READ);
+        }
+        return ProgressEvent.defaultSuccessHandler(Translator.translateFromAllDescribeResponse(model, listTagsFuture.join()));
     }
 
     protected ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest listTagsForResourceRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling ListTagsForResource API for resource [%s].", listTagsForResourceRequest.resourceId()));
+        log.info("Calling ListTagsForResource API for resource [{}].", listTagsForResourceRequest.resourceId());
         return orgsClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, orgsClient.client()::listTagsForResource);
     }
 
     protected DescribeAccountResponse describeAccount(final DescribeAccountRequest describeAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling DescribeAccount API for AccountId [%s].", describeAccountRequest.accountId()));
+        log.info("Calling DescribeAccount API for AccountId [{}].", describeAccountRequest.accountId());
         return orgsClient.injectCredentialsAndInvokeV2(describeAccountRequest, orgsClient.client()::describeAccount);
     }
 
     protected ListParentsResponse listParents(final ListParentsRequest listParentsRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling ListParents API for AccountId [%s].", listParentsRequest.childId()));
+        log.info("Calling ListParents API for AccountId [{}].", listParentsRequest.childId());
         return orgsClient.injectCredentialsAndInvokeV2(listParentsRequest, orgsClient.client()::listParents);
     }
 }
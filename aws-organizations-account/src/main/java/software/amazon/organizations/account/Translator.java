@@ -1,28 +1,35 @@
 package software.amazon.organizations.account;
 
 import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.organizations.model.Account;
 import software.amazon.awssdk.services.organizations.model.AccountStatus;
 import software.amazon.awssdk.services.organizations.model.CloseAccountRequest;
 import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
 import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
 import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
 import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
 import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.Parent;
+import software.amazon.awssdk.services.organizations.model.ParentType;
 import software.amazon.awssdk.services.organizations.model.Tag;
 import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
 import software.amazon.awssdk.services.organizations.model.UntagResourceRequest;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ListPageSize;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -52,6 +59,7 @@ public class Translator {
 
     static ListAccountsRequest translateToListAccounts(final String nextToken) {
         return ListAccountsRequest.builder()
+                   .maxResults(ListPageSize.get())
                    .nextToken(nextToken)
                    .build();
     }
@@ -67,12 +75,34 @@ public class Translator {
                    .collect(Collectors.toList());
     }
 
+    // Builds the full model of a listed account from its ListAccounts entry and its parents and tags, as Read would
+    static ResourceModel translateToEnrichedResourceModel(final Account account, final ListParentsResponse listParentsResponse,
+                                                          final ListTagsForResourceResponse listTagsForResourceResponse) {
+        return ResourceModel.builder()
+                   .accountId(account.id())
+                   .accountName(account.name())
+                   .email(account.email())
+                   .arn(account.arn())
+                   .status(account.statusAsString())
+                   .joinedMethod(account.joinedMethodAsString())
+                   .joinedTimestamp(Objects.toString(account.joinedTimestamp(), null))
+                   .parentIds(streamOfOrEmpty(listParentsResponse.parents()).map(Parent::id).collect(Collectors.toSet()))
+                   .tags(translateTagsFromSdkResponse(listTagsForResourceResponse.tags()))
+                   .build();
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                    .map(Collection::stream)
                    .orElseGet(Stream::empty);
     }
 
+    static ListTagsForResourceRequest translateToListTagsForResourceRequest(final String resourceId) {
+        return ListTagsForResourceRequest.builder()
+                   .resourceId(resourceId)
+                   .build();
+    }
+
     static ListParentsRequest translateToListParentsRequest(final ResourceModel model) {
         return ListParentsRequest.builder()
                    .childId(model.getAccountId())
@@ -123,6 +153,17 @@ public class Translator {
         return ListParentsRequest.builder().childId(childId).build();
     }
 
+    // the parent an OrganizationTree snapshot recorded for an account, in the shape ListParents returns it
+    static ListParentsResponse translateToListParentsResponse(final String parentId, final boolean organizationalUnit) {
+        return ListParentsResponse.builder()
+                   .parents(Parent.builder().id(parentId).type(organizationalUnit ? ParentType.ORGANIZATIONAL_UNIT : ParentType.ROOT).build())
+                   .build();
+    }
+
+    static ListAccountsForParentRequest translateToListAccountsForParentRequest(final String parentId) {
+        return ListAccountsForParentRequest.builder().parentId(parentId).build();
+    }
+
     static DescribeAccountRequest translateToDescribeAccountRequest(final ResourceModel model) {
         return DescribeAccountRequest.builder()
                    .accountId(model.getAccountId())
@@ -1,12 +1,13 @@
 package software.amazon.organizations.account;
 
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
 import software.amazon.awssdk.services.organizations.model.DuplicateAccountException;
 import software.amazon.awssdk.services.organizations.model.InvalidInputException;
-import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
-import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
 import software.amazon.awssdk.services.organizations.model.MoveAccountResponse;
 import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
@@ -18,13 +19,25 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final boolean writeThrough;
+
+    public UpdateHandler() {
+        this(isWriteThroughEnabled());
+    }
+
+    UpdateHandler(final boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -63,11 +76,59 @@ public class UpdateHandler extends BaseHandlerStd {
                 TagsHelper.convertAccountTagToOrganizationTag(model.getTags()),
                 request.getDesiredResourceTags());
 
-        logger.log(String.format("Requesting Account Update w/ id: %s", model.getAccountId()));
+        logger.info("Requesting Account Update w/ id: {}", model.getAccountId());
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> moveAccount(awsClientProxy, request, previousModel, model, callbackContext, orgsClient, logger))
                 .then(progress -> handleTagging(awsClientProxy, request, model, callbackContext, requestedTags, existingTags, model.getAccountId(), orgsClient, logger))
-                .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+                .then(progress -> writeThrough
+                        ? writeThroughModel(awsClientProxy, request, previousModel, model, callbackContext, orgsClient, logger)
+                        : new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+    }
+
+    /**
+     * Completes the update without the ReadHandler round trip. AccountName, Email, RoleName, ParentIds and Tags are the
+     * values just written, an empty ParentIds meaning the root. Arn, Status, JoinedMethod and JoinedTimestamp are derived by
+     * the service and do not change on update; they come from the previous model, and a single DescribeAccount fills them
+     * in when it did not have them.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> writeThroughModel(
+            final AmazonWebServicesClientProxy awsClientProxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel previousModel,
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final ProxyClient<OrganizationsClient> orgsClient,
+            final OrgsLoggerWrapper logger) {
+
+        if (previousModel != null) {
+            model.setArn(ObjectUtils.firstNonNull(model.getArn(), previousModel.getArn()));
+            model.setStatus(ObjectUtils.firstNonNull(model.getStatus(), previousModel.getStatus()));
+            model.setJoinedMethod(ObjectUtils.firstNonNull(model.getJoinedMethod(), previousModel.getJoinedMethod()));
+            model.setJoinedTimestamp(ObjectUtils.firstNonNull(model.getJoinedTimestamp(), previousModel.getJoinedTimestamp()));
+        }
+        if (model.getArn() == null || model.getStatus() == null || model.getJoinedMethod() == null || model.getJoinedTimestamp() == null) {
+            logger.info("Derived attributes of account [{}] are not known from the previous model, describing the account.", model.getAccountId());
+            final DescribeAccountRequest describeAccountRequest = Translator.translateToDescribeAccountRequest(model);
+            final Account account;
+            try {
+                account = orgsClient.injectCredentialsAndInvokeV2(describeAccountRequest, orgsClient.client()::describeAccount).account();
+            } catch (Exception e) {
+                return handleErrorInGeneral(describeAccountRequest, request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.DESCRIBE_ACCOUNT, AccountConstants.Handler.UPDATE);
+            }
+            model.setArn(account.arn());
+            model.setStatus(account.statusAsString());
+            model.setJoinedMethod(account.joinedMethodAsString());
+            model.setJoinedTimestamp(Objects.toString(account.joinedTimestamp(), null));
+        }
+        if (CollectionUtils.isEmpty(model.getParentIds())) {
+            try {
+                model.setParentIds(new HashSet<>(Collections.singleton(getRootId(awsClientProxy, request, orgsClient))));
+            } catch (Exception e) {
+                return handleErrorInGeneral(Translator.translateToListRootsRequest(), request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_ROOTS, AccountConstants.Handler.UPDATE);
+            }
+        }
+        logger.info("Returning the written model of account [{}] without reading it back.", model.getAccountId());
+        return ProgressEvent.defaultSuccessHandler(model);
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> moveAccount(
@@ -88,13 +149,15 @@ public class UpdateHandler extends BaseHandlerStd {
         parentIds = CollectionUtils.isEmpty(parentIds) ? null : parentIds;
 
         if (previousParentIds != null ^ parentIds != null) {
-            logger.log(String.format("%s is missing a parentId for account [%s]. Retrieving root as parent", previousParentIds == null ? "Previous model" : "New model", accountId));
-            ListRootsRequest listRootsRequest = Translator.translateToListRootsRequest();
-            ListRootsResponse listRootsResponse = awsClientProxy.injectCredentialsAndInvokeV2(listRootsRequest, orgsClient.client()::listRoots);
-            rootID = listRootsResponse.roots().iterator().next().id();
+            logger.info("{} is missing a parentId for account [{}]. Retrieving root as parent", previousParentIds == null ? "Previous model" : "New model", accountId);
+            try {
+                rootID = getRootId(awsClientProxy, request, orgsClient);
+            } catch (Exception e) {
+                return handleErrorInGeneral(Translator.translateToListRootsRequest(), request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.LIST_ROOTS, AccountConstants.Handler.UPDATE);
+            }
         }
         else if ((previousParentIds == null && parentIds == null) || (previousParentIds != null && previousParentIds.equals(parentIds))) {
-            logger.log(String.format("Updated parent id is the same for account [%s]. Skip move account.", accountId));
+            logger.info("Updated parent id is the same for account [{}]. Skip move account.", accountId);
             return ProgressEvent.progress(model, callbackContext);
         }
 
@@ -114,14 +177,16 @@ public class UpdateHandler extends BaseHandlerStd {
                                 .makeServiceCall(this::moveAccount)
                                 .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
                                     if (e instanceof DuplicateAccountException) {
-                                        logger.log(String.format("Got %s when calling %s for "
-                                                        + "account id [%s], source id [%s], destination id [%s]. Continue with next step.",
-                                                e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId));
+                                        logger.info("Got {} when calling {} for "
+                                                        + "account id [{}], source id [{}], destination id [{}]. Continue with next step.",
+                                                e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId);
                                         return ProgressEvent.progress(model1, context);
                                     } else if (e instanceof SourceParentNotFoundException) {
-                                        logger.log(String.format("Got %s when calling %s for "
-                                                        + "account id [%s], source id [%s], destination id [%s]. Translating to InvalidInputException.",
-                                                e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId));
+                                        // the source may have been a cached root ID that is no longer valid
+                                        OrganizationRootCache.invalidate(request.getAwsAccountId());
+                                        logger.info("Got {} when calling {} for "
+                                                        + "account id [{}], source id [{}], destination id [{}]. Translating to InvalidInputException.",
+                                                e.getClass().getName(), organizationsRequest.getClass().getName(), model.getAccountId(), sourceId, destinationId);
                                         InvalidInputException translatedException = InvalidInputException.builder()
                                             .message(e.getMessage())
                                             .build();
@@ -153,10 +218,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Delete tags only if tagsToRemove is not empty
         if (!tagsToRemove.isEmpty()) {
-            logger.log(String.format("Calling untagResource API for Account [%s].", model.getAccountId()));
+            logger.info("Calling untagResource API for Account [{}].", model.getAccountId());
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, accountId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
+                orgsClient.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(untagResourceRequest, request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.UNTAG_RESOURCE, AccountConstants.Handler.UPDATE);
             }
@@ -164,10 +229,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Add tags only if tagsToAddOrUpdate is not empty.
         if (!tagsToAddOrUpdate.isEmpty()) {
-            logger.log(String.format("Calling tagResource API for Account [%s].", model.getAccountId()));
+            logger.info("Calling tagResource API for Account [{}].", model.getAccountId());
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAddOrUpdate, accountId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
+                orgsClient.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(tagResourceRequest, request, e, orgsClient, model, callbackContext, logger, AccountConstants.Action.TAG_RESOURCE, AccountConstants.Handler.UPDATE);
             }
@@ -177,7 +242,7 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     protected MoveAccountResponse moveAccount(final MoveAccountRequest moveAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling moveAccount API for Account [%s] with destinationId [%s],  sourceId [%s].", moveAccountRequest.accountId(), moveAccountRequest.destinationParentId(), moveAccountRequest.sourceParentId()));
+        log.info("Calling moveAccount API for Account [{}] with destinationId [{}],  sourceId [{}].", moveAccountRequest.accountId(), moveAccountRequest.destinationParentId(), moveAccountRequest.sourceParentId());
         return orgsClient.injectCredentialsAndInvokeV2(moveAccountRequest, orgsClient.client()::moveAccount);
     }
 }
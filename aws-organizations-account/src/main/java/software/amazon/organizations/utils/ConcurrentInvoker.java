@@ -0,0 +1,62 @@
+package software.amazon.organizations.utils;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent Organizations API calls concurrently on a small container-scoped pool of daemon threads.
+ * Calls are expected to go through the sync ProxyClient, whose credential injection and shared HTTP client are thread-safe.
+ * Tasks must not submit and then wait on further tasks, otherwise a saturated pool can deadlock.
+ * Each task runs with the submitting thread's RetryBudget bound, so SDK retries on worker threads draw from the same budget.
+ */
+public final class ConcurrentInvoker {
+    public static final int MAX_THREADS = 8;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(MAX_THREADS, runnable -> {
+        final Thread thread = new Thread(runnable, "orgs-invoker-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ConcurrentInvoker() {
+    }
+
+    public static <T> CompletableFuture<T> submit(final Supplier<T> call) {
+        return CompletableFuture.supplyAsync(InvocationMetrics.propagate(RetryBudget.propagate(call)), EXECUTOR);
+    }
+
+    // Waits for every future to settle; failures are left on the individual futures for the caller to inspect in order
+    public static void awaitAll(final CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException | CancellationException e) {
+            // inspected per future through failureOf
+        }
+    }
+
+    // Returns the exception a completed future failed with, or null if it completed normally
+    public static Exception failureOf(final CompletableFuture<?> future) {
+        try {
+            future.get();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        } catch (CancellationException e) {
+            return e;
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return cause instanceof Exception ? (Exception) cause : new CompletionException(cause);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Opt-in warm-up of the connection to the Organizations endpoint. With ORGANIZATIONS_CONNECTION_WARM_UP set to true,
+ * clients are built on their own HTTP client, whose pool keeps idle connections across the callback delays of a
+ * resource operation, and the init phase opens one pooled connection to the endpoint, so the DNS lookup, TCP connect
+ * and TLS handshake of the first API call are not paid within the handler's time budget.
+ */
+public final class ConnectionWarmUp {
+    public static final String WARM_UP_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_CONNECTION_WARM_UP";
+    // set by Lambda for the init phase that precedes a SnapStart snapshot
+    static final String INITIALIZATION_TYPE_ENVIRONMENT_VARIABLE = "AWS_LAMBDA_INITIALIZATION_TYPE";
+    static final String SNAP_START_INITIALIZATION_TYPE = "snap-start";
+    // a warm-up without a route to the endpoint gives up quickly instead of holding up the init phase
+    static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+    // callbacks come back after 1 to 60 seconds, idle connections are kept for most of that but dropped before the
+    // 60 second idle timeout of the endpoint's load balancers, so a pooled connection is not one the server is closing
+    static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(55);
+    // re-resolves the endpoint now and then, long-lived containers follow DNS changes
+    static final Duration CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getenv(WARM_UP_ENVIRONMENT_VARIABLE));
+
+    private ConnectionWarmUp() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Connections opened before a SnapStart snapshot would be dead after restore, that warm-up happens after restore instead
+    public static boolean isSnapStartInit() {
+        return SNAP_START_INITIALIZATION_TYPE.equals(System.getenv(INITIALIZATION_TYPE_ENVIRONMENT_VARIABLE));
+    }
+
+    public static SdkHttpClient newHttpClient() {
+        return newHttpClientBuilder().build();
+    }
+
+    // package-private so tests can add the trust managers of a local HTTPS stand-in
+    static ApacheHttpClient.Builder newHttpClientBuilder() {
+        return ApacheHttpClient.builder()
+                   .connectionTimeout(CONNECTION_TIMEOUT)
+                   .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+                   .connectionTimeToLive(CONNECTION_TIME_TO_LIVE)
+                   .tcpKeepAlive(true);
+    }
+
+    /**
+     * Sends an unsigned GET to the endpoint and reads the response, which leaves the connection in the pool of the HTTP
+     * client. Any response counts, the endpoint rejects the request but the handshake is done. Never throws: without a
+     * network the first API call simply connects as it always did.
+     */
+    public static boolean warmUp(final SdkHttpClient httpClient, final URI endpoint) {
+        try {
+            final HttpExecuteResponse response = httpClient.prepareRequest(HttpExecuteRequest.builder()
+                                                                                .request(SdkHttpFullRequest.builder()
+                                                                                             .method(SdkHttpMethod.GET)
+                                                                                             .uri(endpoint)
+                                                                                             .build())
+                                                                                .build()).call();
+            final Optional<AbortableInputStream> body = response.responseBody();
+            if (body.isPresent()) {
+                // the connection only goes back to the pool once the body is consumed
+                try (InputStream inputStream = body.get()) {
+                    inputStream.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package software.amazon.organizations.utils;
+
+/**
+ * Page size of the List handlers, sent as MaxResults with every list request they make.
+ * Read once per container from ORGANIZATIONS_LIST_PAGE_SIZE, between 1 and 20, and defaults to 20, the largest page
+ * every Organizations list operation returns, so a full list takes the fewest invocations.
+ */
+public final class ListPageSize {
+    public static final String ENVIRONMENT_VARIABLE = "ORGANIZATIONS_LIST_PAGE_SIZE";
+    // upper limit of MaxResults for every Organizations list operation
+    public static final int MAX_PAGE_SIZE = 20;
+
+    private static final int PAGE_SIZE = parse(System.getenv(ENVIRONMENT_VARIABLE));
+
+    private ListPageSize() {
+    }
+
+    public static int get() {
+        return PAGE_SIZE;
+    }
+
+    // Falls back to the largest page for values that are missing, not a number or out of range
+    static int parse(final String pageSize) {
+        if (pageSize != null) {
+            try {
+                final int value = Integer.parseInt(pageSize.trim());
+                if (value >= 1 && value <= MAX_PAGE_SIZE) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the default
+            }
+        }
+        return MAX_PAGE_SIZE;
+    }
+}
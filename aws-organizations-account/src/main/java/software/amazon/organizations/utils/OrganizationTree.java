@@ -0,0 +1,341 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Immutable snapshot of the whole hierarchy of an organization: its root, every OU and every account.
+ * Each ID is stored once and referred to by its index in parallel arrays. Nodes are kept in breadth-first order, so the
+ * children of a node are one contiguous range of indexes and adjacency is a single offset array; account emails map to
+ * their node for pre-existence checks.
+ * The snapshot is built level by level, listing the OUs and the accounts of every parent of a level concurrently on the
+ * ConcurrentInvoker pool. Calls go through the given ProxyClient, so a RateLimitedProxyClient paces them per operation.
+ * A built snapshot is cached per key for SNAPSHOT_TTL_MILLIS, so the invocations of one paged listing share one walk;
+ * moves made in the meantime are only seen once it expires.
+ */
+public final class OrganizationTree {
+    public static final int DEFAULT_MAX_CONCURRENCY = ConcurrentInvoker.MAX_THREADS;
+    // CloudFormation asks for the pages of one listing back to back, a minute covers a listing of thousands of accounts
+    public static final long SNAPSHOT_TTL_MILLIS = 60_000L;
+
+    private static final byte ROOT = 0;
+    private static final byte ORGANIZATIONAL_UNIT = 1;
+    private static final byte ACCOUNT = 2;
+    private static final int NO_PARENT = -1;
+    private static final Map<String, OrganizationTree> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    private final String[] ids;
+    private final String[] names;
+    private final String[] arns;
+    private final String[] emails;
+    private final byte[] kinds;
+    private final int[] parents;
+    // children of node i are the nodes firstChild[i] up to, excluding, firstChild[i + 1]
+    private final int[] firstChild;
+    private final Map<String, Integer> indexById;
+    private final Map<String, Integer> accountIndexByEmail;
+    private final int organizationalUnitCount;
+    private final long builtAtMillis;
+
+    private OrganizationTree(final Builder builder, final long builtAtMillis) {
+        final int size = builder.ids.size();
+        this.ids = builder.ids.toArray(new String[0]);
+        this.names = builder.names.toArray(new String[0]);
+        this.arns = builder.arns.toArray(new String[0]);
+        this.emails = builder.emails.toArray(new String[0]);
+        this.kinds = Arrays.copyOf(builder.kinds, size);
+        this.parents = Arrays.copyOf(builder.parents, size);
+        this.firstChild = new int[size + 1];
+        // breadth-first order makes the children of every node the next unassigned range of node indexes
+        int next = 1;
+        for (int i = 0; i < size; i++) {
+            firstChild[i] = next;
+            next += builder.childCounts[i];
+        }
+        firstChild[size] = next;
+        this.indexById = new HashMap<>(builder.indexById);
+        this.accountIndexByEmail = new HashMap<>(builder.accountIndexByEmail);
+        this.organizationalUnitCount = builder.organizationalUnitCount;
+        this.builtAtMillis = builtAtMillis;
+    }
+
+    /**
+     * Returns the cached snapshot for the key, or calls the loader and caches the tree it builds when there is none or it
+     * is older than SNAPSHOT_TTL_MILLIS. Exceptions thrown by the loader reach the caller and nothing is cached.
+     */
+    public static OrganizationTree getSnapshot(final String key, final Supplier<OrganizationTree> loader) {
+        final String cacheKey = Objects.toString(key, "");
+        final OrganizationTree cached = SNAPSHOTS.get(cacheKey);
+        if (cached != null && cached.builtAtMillis + SNAPSHOT_TTL_MILLIS > System.currentTimeMillis()) {
+            return cached;
+        }
+        final OrganizationTree tree = loader.get();
+        SNAPSHOTS.put(cacheKey, tree);
+        return tree;
+    }
+
+    public static void invalidate(final String key) {
+        SNAPSHOTS.remove(Objects.toString(key, ""));
+    }
+
+    public static void invalidateAll() {
+        SNAPSHOTS.clear();
+    }
+
+    public static OrganizationTree build(final ProxyClient<OrganizationsClient> proxyClient, final String rootId) {
+        return build(proxyClient, rootId, DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Walks the organization breadth first from the root, with at most maxConcurrency list calls in flight.
+     * The first failed call is rethrown once its batch of calls has settled; a partial tree is never returned.
+     */
+    public static OrganizationTree build(final ProxyClient<OrganizationsClient> proxyClient, final String rootId, final int maxConcurrency) {
+        final int concurrency = Math.max(1, Math.min(maxConcurrency, ConcurrentInvoker.MAX_THREADS));
+        final Builder builder = new Builder(rootId);
+        List<Integer> level = Collections.singletonList(0);
+        while (!level.isEmpty()) {
+            final List<Integer> nextLevel = new ArrayList<>();
+            for (int start = 0; start < level.size(); start += concurrency) {
+                final List<Integer> parentIndexes = level.subList(start, Math.min(level.size(), start + concurrency));
+                final List<CompletableFuture<Children>> futures = new ArrayList<>(parentIndexes.size());
+                for (final int parentIndex : parentIndexes) {
+                    final String parentId = builder.ids.get(parentIndex);
+                    futures.add(ConcurrentInvoker.submit(() -> listChildren(proxyClient, parentId)));
+                }
+                ConcurrentInvoker.awaitAll(futures.toArray(new CompletableFuture<?>[0]));
+                for (int i = 0; i < futures.size(); i++) {
+                    final Exception failure = ConcurrentInvoker.failureOf(futures.get(i));
+                    if (failure != null) {
+                        throw failure instanceof RuntimeException ? (RuntimeException) failure : new CompletionException(failure);
+                    }
+                    nextLevel.addAll(builder.addChildren(parentIndexes.get(i), futures.get(i).join()));
+                }
+            }
+            level = nextLevel;
+        }
+        return new OrganizationTree(builder, System.currentTimeMillis());
+    }
+
+    // Lists every OU and account directly under the parent, following all pages
+    static Children listChildren(final ProxyClient<OrganizationsClient> proxyClient, final String parentId) {
+        final List<OrganizationalUnit> organizationalUnits = new ArrayList<>();
+        String nextToken = null;
+        do {
+            final ListOrganizationalUnitsForParentResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                ListOrganizationalUnitsForParentRequest.builder().parentId(parentId).maxResults(ListPageSize.get()).nextToken(nextToken).build(),
+                proxyClient.client()::listOrganizationalUnitsForParent);
+            organizationalUnits.addAll(response.organizationalUnits());
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+
+        final List<Account> accounts = new ArrayList<>();
+        do {
+            final ListAccountsForParentResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                ListAccountsForParentRequest.builder().parentId(parentId).maxResults(ListPageSize.get()).nextToken(nextToken).build(),
+                proxyClient.client()::listAccountsForParent);
+            accounts.addAll(response.accounts());
+            nextToken = response.nextToken();
+        } while (nextToken != null);
+        return new Children(organizationalUnits, accounts);
+    }
+
+    public String getRootId() {
+        return ids[0];
+    }
+
+    public long getBuiltAtMillis() {
+        return builtAtMillis;
+    }
+
+    public int getOrganizationalUnitCount() {
+        return organizationalUnitCount;
+    }
+
+    public int getAccountCount() {
+        return ids.length - 1 - organizationalUnitCount;
+    }
+
+    public boolean contains(final String id) {
+        return indexById.containsKey(id);
+    }
+
+    public boolean isOrganizationalUnit(final String id) {
+        final Integer index = indexById.get(id);
+        return index != null && kinds[index] == ORGANIZATIONAL_UNIT;
+    }
+
+    public boolean isAccount(final String id) {
+        final Integer index = indexById.get(id);
+        return index != null && kinds[index] == ACCOUNT;
+    }
+
+    // Returns the parent of an OU or account, or null for the root and IDs that are not in the snapshot
+    public String getParentId(final String id) {
+        final Integer index = indexById.get(id);
+        return index == null || parents[index] == NO_PARENT ? null : ids[parents[index]];
+    }
+
+    public String getName(final String id) {
+        final Integer index = indexById.get(id);
+        return index == null ? null : names[index];
+    }
+
+    public String getArn(final String id) {
+        final Integer index = indexById.get(id);
+        return index == null ? null : arns[index];
+    }
+
+    public String getEmail(final String id) {
+        final Integer index = indexById.get(id);
+        return index == null ? null : emails[index];
+    }
+
+    public List<String> getChildOrganizationalUnitIds(final String parentId) {
+        return children(parentId, ORGANIZATIONAL_UNIT);
+    }
+
+    public List<String> getChildAccountIds(final String parentId) {
+        return children(parentId, ACCOUNT);
+    }
+
+    // Every OU of the organization, parents before their children
+    public List<String> getOrganizationalUnitIds() {
+        return ofKind(ORGANIZATIONAL_UNIT);
+    }
+
+    public List<String> getAccountIds() {
+        return ofKind(ACCOUNT);
+    }
+
+    public Optional<String> findOrganizationalUnitId(final String parentId, final String name) {
+        final Integer parentIndex = indexById.get(parentId);
+        if (parentIndex == null) {
+            return Optional.empty();
+        }
+        for (int child = firstChild[parentIndex]; child < firstChild[parentIndex + 1]; child++) {
+            if (kinds[child] == ORGANIZATIONAL_UNIT && names[child].equals(name)) {
+                return Optional.of(ids[child]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<String> findAccountIdByEmail(final String email) {
+        final Integer index = accountIndexByEmail.get(email);
+        return index == null ? Optional.empty() : Optional.of(ids[index]);
+    }
+
+    private List<String> children(final String parentId, final byte kind) {
+        final Integer parentIndex = indexById.get(parentId);
+        if (parentIndex == null) {
+            return Collections.emptyList();
+        }
+        final List<String> result = new ArrayList<>();
+        for (int child = firstChild[parentIndex]; child < firstChild[parentIndex + 1]; child++) {
+            if (kinds[child] == kind) {
+                result.add(ids[child]);
+            }
+        }
+        return result;
+    }
+
+    private List<String> ofKind(final byte kind) {
+        final List<String> result = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (kinds[i] == kind) {
+                result.add(ids[i]);
+            }
+        }
+        return result;
+    }
+
+    static final class Children {
+        private final List<OrganizationalUnit> organizationalUnits;
+        private final List<Account> accounts;
+
+        Children(final List<OrganizationalUnit> organizationalUnits, final List<Account> accounts) {
+            this.organizationalUnits = organizationalUnits;
+            this.accounts = accounts;
+        }
+
+        List<OrganizationalUnit> getOrganizationalUnits() {
+            return organizationalUnits;
+        }
+
+        List<Account> getAccounts() {
+            return accounts;
+        }
+    }
+
+    // Collects nodes in breadth-first order while the tree is walked; only used by the thread that builds the tree
+    private static final class Builder {
+        private final List<String> ids = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<String> arns = new ArrayList<>();
+        private final List<String> emails = new ArrayList<>();
+        private final Map<String, Integer> indexById = new HashMap<>();
+        private final Map<String, Integer> accountIndexByEmail = new HashMap<>();
+        private byte[] kinds = new byte[16];
+        private int[] parents = new int[16];
+        private int[] childCounts = new int[16];
+        private int organizationalUnitCount;
+
+        private Builder(final String rootId) {
+            add(rootId, null, null, null, ROOT, NO_PARENT);
+        }
+
+        // Adds the children of a node and returns the indexes of its OUs, which make up part of the next level
+        private List<Integer> addChildren(final int parentIndex, final Children children) {
+            final List<Integer> organizationalUnitIndexes = new ArrayList<>(children.getOrganizationalUnits().size());
+            for (final OrganizationalUnit organizationalUnit : children.getOrganizationalUnits()) {
+                organizationalUnitIndexes.add(add(organizationalUnit.id(), organizationalUnit.name(), organizationalUnit.arn(), null, ORGANIZATIONAL_UNIT, parentIndex));
+                organizationalUnitCount++;
+            }
+            for (final Account account : children.getAccounts()) {
+                final int index = add(account.id(), account.name(), account.arn(), account.email(), ACCOUNT, parentIndex);
+                if (account.email() != null) {
+                    accountIndexByEmail.put(account.email(), index);
+                }
+            }
+            childCounts[parentIndex] = children.getOrganizationalUnits().size() + children.getAccounts().size();
+            return organizationalUnitIndexes;
+        }
+
+        private int add(final String id, final String name, final String arn, final String email, final byte kind, final int parentIndex) {
+            final int index = ids.size();
+            if (index == kinds.length) {
+                kinds = Arrays.copyOf(kinds, index * 2);
+                parents = Arrays.copyOf(parents, index * 2);
+                childCounts = Arrays.copyOf(childCounts, index * 2);
+            }
+            ids.add(id);
+            names.add(name);
+            arns.add(arn);
+            emails.add(email);
+            kinds[index] = kind;
+            parents[index] = parentIndex;
+            indexById.put(id, index);
+            return index;
+        }
+    }
+}
@@ -15,6 +15,8 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.time.Instant;
@@ -26,6 +28,7 @@ public class AbstractTestBase {
     // Constants for unit test
     protected static final String GOV_CLOUD_PARTITION = "aws-us-gov";
     protected static final String TEST_ACCOUNT_ID = "111111111111";
+    protected static final String TEST_MANAGEMENT_ACCOUNT_ID = "999999999999";
     protected static final String TEST_ACCOUNT_ARN = "arn:aws:organizations::111111111111:account/o-1111111111/111111111111";
     protected static final String TEST_ACCOUNT_EMAIL = "testAccountEmail@amazon.com";
     protected static final String TEST_ACCOUNT_NAME = "TestAccountName";
@@ -51,7 +54,7 @@ public class AbstractTestBase {
     protected static final String TEST_JOINED_METHOD = "CREATED";
     protected static final Instant TEST_JOINED_TIMESTAMP = Instant.parse("2017-02-03T10:47:30.00Z");
     protected static final String ACCOUNT_JSON_SCHEMA_FILE_NAME = "aws-organizations-account.json";
-    protected static final String ACCOUNT_SCHEMA_SHA256_HEXSTRING = "1A51D6F92B97B0E908EEE1B1D65621C9665591108750FB127CF800BE0E0A16BC";
+    protected static final String ACCOUNT_SCHEMA_SHA256_HEXSTRING = "1F571AB3D59098BE5EC993933EE6C254C90DC120FCB0748E369752C923D1F5EA";
 
     protected static final DescribeAccountResponse describeAccountResponse = DescribeAccountResponse.builder().account(Account.builder()
                                                                                                           .arn(TEST_ACCOUNT_ARN)
@@ -111,6 +114,23 @@ public class AbstractTestBase {
                                                                                   .state(SUCCEEDED)
                                                                                   .requestedTimestamp(REQUESTED_TIMESTAMP)
                                                                                   .build();
+    // API call budgets of the handler paths, see ApiCallBudgetTest
+    protected static final CallBudget READ_CALLS = CallBudget.calls()
+                                                       .exactly("DescribeAccount", 1)
+                                                       .exactly("ListParents", 1)
+                                                       .exactly("ListTagsForResource", 1);
+    protected static final CallBudget CREATE_CALLS = CallBudget.calls()
+                                                         .exactly("ListAccounts", 1)
+                                                         .exactly("CreateAccount", 1)
+                                                         .exactly("DescribeCreateAccountStatus", 1);
+    protected static final CallBudget MOVE_FROM_ROOT_CALLS = CallBudget.calls()
+                                                                 .atMost("ListRoots", 1)
+                                                                 .exactly("MoveAccount", 1);
+    protected static final CallBudget RETAG_CALLS = CallBudget.calls()
+                                                        .atMost("UntagResource", 1)
+                                                        .atMost("TagResource", 1);
+    protected static final CallBudget DELETE_CALLS = CallBudget.calls().exactly("CloseAccount", 1);
+
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy loggerProxy;
     protected static final OrgsLoggerWrapper logger;
@@ -164,6 +184,13 @@ public class AbstractTestBase {
         };
     }
 
+    // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+    static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+    }
+
     protected ResourceModel generateDeleteResourceModel() {
         ResourceModel model = ResourceModel.builder()
                                   .accountId(TEST_ACCOUNT_ID)
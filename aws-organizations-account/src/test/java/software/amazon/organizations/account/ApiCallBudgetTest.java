@@ -0,0 +1,170 @@
+package software.amazon.organizations.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.organizations.utils.CallBudget.calls;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+    private static final long CALLBACK_DELAY_MILLIS = 1000L;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+    private String rootId;
+    private String ouId;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        // account creation takes three callback delays, the clock only moves between invocations
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                         .createAccountDurationMillis(3 * CALLBACK_DELAY_MILLIS)
+                                                         .clock(clock::get)
+                                                         .build());
+        proxyClient = COUNTING_PROXY(awsClientProxy, fakeOrgsClient);
+        rootId = fakeOrgsClient.getRootId();
+        ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                           .parentId(rootId)
+                                                           .name("workloads")
+                                                           .build()).organizationalUnit().id();
+    }
+
+    @Test
+    public void create_WithParentIds() {
+        final ProgressEvent<ResourceModel, CallbackContext> created = create(new HashSet<>(Set.of(ouId)));
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // one ListAccounts page, CreateAccount, one status poll per invocation until the account exists, the move out of
+        // the root, and no Read
+        calls().exactly("ListAccounts", 1)
+            .exactly("CreateAccount", 1)
+            .between("DescribeCreateAccountStatus", 1, 4)
+            .plus(MOVE_FROM_ROOT_CALLS)
+            .assertWithin(proxyClient);
+    }
+
+    @Test
+    public void create_WithoutParentIds() {
+        // the account is created right away, so a single status poll finds it
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().clock(clock::get).build());
+        proxyClient = COUNTING_PROXY(awsClientProxy, fakeOrgsClient);
+
+        assertThat(create(null).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        CREATE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read() {
+        final ResourceModel created = create(null).getResourceModel();
+        proxyClient.reset();
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                         .desiredResourceState(ResourceModel.builder().accountId(created.getAccountId()).build())
+                                                                                                         .build());
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        READ_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_MoveToRootAndRetag() {
+        final ResourceModel previousModel = readAfterCreate(new HashSet<>(Set.of(ouId)));
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(false), updateRequest(previousModel)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        MOVE_FROM_ROOT_CALLS.plus(RETAG_CALLS).plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_WriteThroughSkipsRead() {
+        final ResourceModel previousModel = readAfterCreate(new HashSet<>(Set.of(ouId)));
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(true), updateRequest(previousModel)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        MOVE_FROM_ROOT_CALLS.plus(RETAG_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete() {
+        final ResourceModel created = create(null).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .desiredResourceState(created)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        DELETE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void list_OnePage() {
+        assertThat(invokeUntilDone(new ListHandler(false, false), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                      .desiredResourceState(ResourceModel.builder().build())
+                                                                      .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().exactly("ListAccounts", 1).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final Set<String> parentIds) {
+        return invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                        .desiredResourceState(ResourceModel.builder()
+                                                                                  .accountName(TEST_ACCOUNT_NAME)
+                                                                                  .email(TEST_ACCOUNT_EMAIL)
+                                                                                  .parentIds(parentIds)
+                                                                                  .tags(TagTestResourcesHelper.translateOrganizationTagsToAccountTags(TagTestResourcesHelper.defaultTags))
+                                                                                  .build())
+                                                        .build());
+    }
+
+    private ResourceModel readAfterCreate(final Set<String> parentIds) {
+        final ResourceModel created = create(parentIds).getResourceModel();
+        return invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                      .desiredResourceState(ResourceModel.builder().accountId(created.getAccountId()).build())
+                                                      .build()).getResourceModel();
+    }
+
+    // moving back to the root is expressed by dropping the parent ids
+    private static ResourceHandlerRequest<ResourceModel> updateRequest(final ResourceModel previousModel) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .previousResourceState(previousModel)
+                   .desiredResourceState(ResourceModel.builder()
+                                             .accountId(previousModel.getAccountId())
+                                             .accountName(previousModel.getAccountName())
+                                             .email(previousModel.getEmail())
+                                             .tags(TagTestResourcesHelper.translateOrganizationTagsToAccountTags(TagTestResourcesHelper.updatedTags))
+                                             .build())
+                   .build();
+    }
+
+    // Re-invokes the handler with the returned callback context, moving the clock of the fake by the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            context.setNextCreateAccountStatusPollTime(0L);
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+            clock.addAndGet(CALLBACK_DELAY_MILLIS);
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
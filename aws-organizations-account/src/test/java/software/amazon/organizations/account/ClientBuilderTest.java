@@ -0,0 +1,75 @@
+package software.amazon.organizations.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.organizations.utils.PrimingHttpClient;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+    private static final String TEST_REGION = "us-east-1";
+    private static final String TEST_OTHER_REGION = "us-west-2";
+    private static final String TEST_GOV_CLOUD_REGION = "us-gov-west-1";
+
+    @AfterEach
+    public void tear_down() {
+        ClientBuilder.invalidateClient();
+    }
+
+    @Test
+    public void getClient_ReusesClientAcrossInvocations() {
+        final OrganizationsClient first = ClientBuilder.getClient(TEST_REGION);
+        final OrganizationsClient second = ClientBuilder.getClient(TEST_REGION);
+
+        assertThat(first).isNotNull();
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void getClient_RebuildsClientWhenRegionChanges() {
+        final OrganizationsClient first = ClientBuilder.getClient(TEST_REGION);
+        final OrganizationsClient second = ClientBuilder.getClient(TEST_OTHER_REGION);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(ClientBuilder.getClient(TEST_OTHER_REGION)).isSameAs(second);
+    }
+
+    @Test
+    public void getClient_RebuildsClientWhenPartitionChanges() {
+        final OrganizationsClient first = ClientBuilder.getClient(TEST_REGION);
+        final OrganizationsClient second = ClientBuilder.getClient(TEST_GOV_CLOUD_REGION);
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    public void getClient_RebuildsClientAfterInvalidation() {
+        final OrganizationsClient first = ClientBuilder.getClient(TEST_REGION);
+        ClientBuilder.invalidateClient();
+
+        assertThat(ClientBuilder.getClient(TEST_REGION)).isNotSameAs(first);
+    }
+
+    @Test
+    public void getClient_ServesPinnedClientUntilInvalidation() {
+        final OrganizationsClient pinned = ClientBuilder.newClient(TEST_REGION, new PrimingHttpClient());
+        ClientBuilder.pinClient(pinned);
+
+        assertThat(ClientBuilder.getClient()).isSameAs(pinned);
+        ClientBuilder.invalidateClient();
+        assertThat(ClientBuilder.getClient(TEST_REGION)).isNotSameAs(pinned);
+    }
+
+    @Test
+    public void endpointOf_IsTheRegionalEndpoint() {
+        assertThat(ClientBuilder.endpointOf(TEST_REGION)).isEqualTo(URI.create("https://organizations.us-east-1.amazonaws.com"));
+    }
+
+    @Test
+    public void warmUpConnection_DisabledByDefault() {
+        assertThat(ClientBuilder.warmUpConnection()).isFalse();
+    }
+}
@@ -3,6 +3,7 @@ package software.amazon.organizations.account;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
@@ -20,15 +21,20 @@ import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
 import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
 import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
 import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
 import software.amazon.awssdk.services.organizations.model.MoveAccountResponse;
 import software.amazon.awssdk.services.organizations.model.Parent;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -39,6 +45,7 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,6 +68,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        CreateAccountPollingSchedule.reset();
+        OrganizationRootCache.invalidateAll();
     }
 
     @Test
@@ -80,11 +89,11 @@ public class CreateHandlerTest extends AbstractTestBase {
         final CreateAccountResponse createAccountResponse = getCreateAccountResponse();
         final DescribeCreateAccountStatusResponse describeCreateAccountStatusResponse = getDescribeCreateAccountStatusResponse(SUCCEEDED);
         final MoveAccountResponse moveAccountResponse = getMoveAccountResponse();
-        final ListParentsResponse listParentsResponseBeforeMoveAccountResponse = getListParentsResponseBeforeMoveAccount();
+        final ListRootsResponse listRootsResponse = getListRootsResponse();
 
         when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(createAccountResponse);
         when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(describeCreateAccountStatusResponse);
-        lenient().when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponseBeforeMoveAccountResponse);
+        lenient().when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
         when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenReturn(moveAccountResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -224,12 +233,12 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final CreateAccountResponse createAccountResponse = getCreateAccountResponse();
         final DescribeCreateAccountStatusResponse describeCreateAccountStatusResponse = getDescribeCreateAccountStatusResponse(SUCCEEDED);
-        final ListParentsResponse listParentsResponse = getListParentsResponseBeforeMoveAccount();
+        final ListRootsResponse listRootsResponse = getListRootsResponse();
 
 
         when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(createAccountResponse);
         when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(describeCreateAccountStatusResponse);
-        lenient().when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponse);
+        lenient().when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
         when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenThrow(DuplicateAccountException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -279,11 +288,11 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final CreateAccountResponse createAccountResponse = getCreateAccountResponse();
         final DescribeCreateAccountStatusResponse describeCreateAccountStatusResponse = getDescribeCreateAccountStatusResponse(SUCCEEDED);
-        final ListParentsResponse listParentsResponse = getListParentsResponseBeforeMoveAccount();
+        final ListRootsResponse listRootsResponse = getListRootsResponse();
 
         when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(createAccountResponse);
         when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(describeCreateAccountStatusResponse);
-        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponse);
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
         when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenThrow(ConcurrentModificationException.class);
 
         CallbackContext context = new CallbackContext();
@@ -547,6 +556,61 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client(), atLeast(1)).describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class));
     }
 
+    @Test
+    public void handleRequest_MoveAccountReusesCachedRootIdAcrossRequests() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .desiredResourceTags(defaultStackTags)
+                                                                  .awsAccountId(TEST_MANAGEMENT_ACCOUNT_ID)
+                                                                  .build();
+
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(ListAccountsResponse.builder().accounts(Collections.emptyList()).build());
+        when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(getCreateAccountResponse());
+        when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(getDescribeCreateAccountStatusResponse(SUCCEEDED));
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(getListRootsResponse());
+        when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenReturn(getMoveAccountResponse());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // new accounts start in the root, so neither create looks up the account's parent
+        verify(mockProxyClient.client(), times(1)).listRoots(any(ListRootsRequest.class));
+        verify(mockProxyClient.client(), never()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client(), times(2)).moveAccount(any(MoveAccountRequest.class));
+    }
+
+    @Test
+    public void handleRequest_MoveAccountThrowsSourceParentNotFoundException_ChecksCurrentParent() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .desiredResourceTags(defaultStackTags)
+                                                                  .awsAccountId(TEST_MANAGEMENT_ACCOUNT_ID)
+                                                                  .build();
+
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(ListAccountsResponse.builder().accounts(Collections.emptyList()).build());
+        when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(getCreateAccountResponse());
+        when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(getDescribeCreateAccountStatusResponse(SUCCEEDED));
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(getListRootsResponse());
+        when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenThrow(SourceParentNotFoundException.class);
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(getListParentsResponseAfterMoveAccount());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParentIds()).isEqualTo(TEST_PARENT_IDS);
+
+        // the account already sits in its destination, so MoveAccount is not called again
+        verify(mockProxyClient.client(), times(1)).moveAccount(any(MoveAccountRequest.class));
+        verify(mockProxyClient.client(), times(1)).listParents(any(ListParentsRequest.class));
+    }
+
     @Test
     public void handleRequest_shouldFailWhenMoveAccountThrowsDestinationParentNotFoundException() {
         final ResourceModel model = generateCreateResourceModel();
@@ -563,11 +627,11 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         final CreateAccountResponse createAccountResponse = getCreateAccountResponse();
         final DescribeCreateAccountStatusResponse describeCreateAccountStatusResponse = getDescribeCreateAccountStatusResponse(SUCCEEDED);
-        final ListParentsResponse listParentsResponse = getListParentsResponseBeforeMoveAccount();
+        final ListRootsResponse listRootsResponse = getListRootsResponse();
 
         when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(createAccountResponse);
         when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(describeCreateAccountStatusResponse);
-        lenient().when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponse);
+        lenient().when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
         when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenThrow(DestinationParentNotFoundException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -750,6 +814,227 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client(), times(2)).listAccounts(any(ListAccountsRequest.class));
     }
 
+    @Test
+    public void handleRequest_checkIfAccountExists_Pagination_StopsAtFirstMatch() {
+        final ResourceModel model = ResourceModel.builder()
+                .email(TEST_ACCOUNT_EMAIL)
+                .accountName(TEST_ACCOUNT_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(defaultStackTags)
+                .build();
+
+        final ListAccountsResponse firstListAccountsResponse = ListAccountsResponse.builder()
+                .accounts(Collections.singletonList(Account.builder()
+                        .id(TEST_ACCOUNT_ID)
+                        .email(TEST_ACCOUNT_EMAIL)
+                        .name(TEST_ACCOUNT_NAME)
+                        .build()))
+                .nextToken("nextPageToken")
+                .build();
+
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(firstListAccountsResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getResourceModel().getAccountId()).isEqualTo(TEST_ACCOUNT_ID);
+
+        verify(mockProxyClient.client(), times(1)).listAccounts(any(ListAccountsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_checkIfAccountExists_Pagination_ResumesFromCheckpointAfterTimeBudget() {
+        // no time budget, so the scan checkpoints after every page
+        createHandler = new CreateHandler(0L);
+        final ResourceModel model = ResourceModel.builder()
+                .email(TEST_ACCOUNT_EMAIL)
+                .accountName(TEST_ACCOUNT_NAME)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .desiredResourceTags(defaultStackTags)
+                .build();
+
+        final ListAccountsResponse firstListAccountsResponse = ListAccountsResponse.builder()
+                .accounts(Collections.singletonList(Account.builder()
+                        .id("Account 1")
+                        .email("paginationtestaccount")
+                        .name("Account1")
+                        .build()))
+                .nextToken("nextPageToken")
+                .build();
+
+        final ListAccountsResponse secondListAccountsResponse = ListAccountsResponse.builder()
+                .accounts(Collections.singletonList(Account.builder()
+                        .id(TEST_ACCOUNT_ID)
+                        .email(TEST_ACCOUNT_EMAIL)
+                        .name(TEST_ACCOUNT_NAME)
+                        .build()))
+                .build();
+
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class)))
+                .thenReturn(firstListAccountsResponse)
+                .thenReturn(secondListAccountsResponse);
+
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
+        assertThat(context.getPreExistenceCheckNextToken()).isEqualTo("nextPageToken");
+        assertThat(context.isPreExistenceCheckComplete()).isFalse();
+
+        response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getResourceModel().getAccountId()).isEqualTo(TEST_ACCOUNT_ID);
+        assertThat(context.getPreExistenceCheckNextToken()).isNull();
+        assertThat(context.isPreExistenceCheckComplete()).isTrue();
+
+        final ArgumentCaptor<ListAccountsRequest> listAccountsRequestCaptor = ArgumentCaptor.forClass(ListAccountsRequest.class);
+        verify(mockProxyClient.client(), times(2)).listAccounts(listAccountsRequestCaptor.capture());
+        assertThat(listAccountsRequestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(listAccountsRequestCaptor.getAllValues().get(1).nextToken()).isEqualTo("nextPageToken");
+        verify(mockProxyClient.client(), times(0)).createAccount(any(CreateAccountRequest.class));
+    }
+
+    @Test
+    public void handleRequest_shouldReturnInProgressWithCallbackDelay_WhenAccountCreationInProgress() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .desiredResourceTags(defaultStackTags)
+                                                                  .build();
+
+        final ListAccountsResponse listAccountsResponse = ListAccountsResponse.builder()
+                .accounts(Collections.emptyList())
+                .build();
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(listAccountsResponse);
+        when(mockProxyClient.client().createAccount(any(CreateAccountRequest.class))).thenReturn(getCreateAccountResponse());
+        when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class)))
+                .thenReturn(getDescribeCreateAccountStatusResponse(IN_PROGRESS))
+                // the service completed the account 20 seconds after the request
+                .thenReturn(DescribeCreateAccountStatusResponse.builder()
+                    .createAccountStatus(CreateAccountStatusSucceeded.toBuilder().completedTimestamp(REQUESTED_TIMESTAMP.plusSeconds(20)).build())
+                    .build());
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(getListRootsResponse());
+        when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class))).thenReturn(getMoveAccountResponse());
+
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isBetween(CreateAccountPollingSchedule.MIN_DELAY_SECONDS, CreateAccountPollingSchedule.MAX_DELAY_SECONDS);
+        assertThat(response.getErrorCode()).isNull();
+        assertThat(context.getCreateAccountRequestId()).isEqualTo(CREATE_ACCOUNT_STATUS_ID);
+        assertThat(context.getCreateAccountStatusPollAttempt()).isEqualTo(1);
+        assertThat(context.getCreateAccountFirstSeenTime()).isGreaterThan(0L);
+        assertThat(context.getNextCreateAccountStatusPollTime()).isGreaterThan(context.getCreateAccountFirstSeenTime());
+        assertThat(context.isAccountCreated()).isFalse();
+
+        // callback arrives long after the account was completed, ten minutes after account creation was initiated
+        context.setCreateAccountFirstSeenTime(context.getCreateAccountFirstSeenTime() - 600_000L);
+        context.setNextCreateAccountStatusPollTime(System.currentTimeMillis() - 1);
+        response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAccountId()).isEqualTo(TEST_ACCOUNT_ID);
+        assertThat(context.getCreateAccountStatusPollAttempt()).isEqualTo(2);
+        assertThat(context.isAccountCreated()).isTrue();
+        // the late poll does not count, the estimate moves towards the 20 seconds the service reported
+        assertThat(CreateAccountPollingSchedule.expectedLatencyMillis()).isEqualTo(48_000L);
+
+        verify(mockProxyClient.client(), times(1)).listAccounts(any(ListAccountsRequest.class));
+        verify(mockProxyClient.client(), times(1)).createAccount(any(CreateAccountRequest.class));
+        verify(mockProxyClient.client(), times(2)).describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class));
+        verify(mockProxyClient.client(), times(1)).moveAccount(any(MoveAccountRequest.class));
+    }
+
+    @Test
+    public void handleRequest_shouldWaitWithoutPolling_WhenInvokedBeforeNextPollTime() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .desiredResourceTags(defaultStackTags)
+                                                                  .build();
+
+        final CallbackContext context = generateInProgressCallbackContext(System.currentTimeMillis());
+        context.setNextCreateAccountStatusPollTime(System.currentTimeMillis() + 10_000L);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isBetween(1, 10);
+        assertThat(context.getCreateAccountStatusPollAttempt()).isEqualTo(1);
+
+        verify(mockProxyClient.client(), times(0)).listAccounts(any(ListAccountsRequest.class));
+        verify(mockProxyClient.client(), times(0)).createAccount(any(CreateAccountRequest.class));
+        verify(mockProxyClient.client(), times(0)).describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class));
+    }
+
+    @Test
+    public void handleRequest_shouldPollAgain_WhenDescribeCreateAccountStatusThrowsRetriableException() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .desiredResourceTags(defaultStackTags)
+                                                                  .build();
+
+        when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenThrow(ConcurrentModificationException.class);
+
+        final CallbackContext context = generateInProgressCallbackContext(System.currentTimeMillis());
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThanOrEqualTo(CreateAccountPollingSchedule.MIN_DELAY_SECONDS);
+        assertThat(response.getErrorCode()).isNull();
+        assertThat(context.getCreateAccountStatusPollAttempt()).isEqualTo(2);
+
+        verify(mockProxyClient.client(), times(0)).createAccount(any(CreateAccountRequest.class));
+        verify(mockProxyClient.client(), times(1)).describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class));
+    }
+
+    @Test
+    public void handleRequest_shouldFailWithNotStabilized_WhenAccountCreationInProgressPastPollingLimit() {
+        final ResourceModel model = generateCreateResourceModel();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .desiredResourceTags(defaultStackTags)
+                                                                  .build();
+
+        when(mockProxyClient.client().describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class))).thenReturn(getDescribeCreateAccountStatusResponse(IN_PROGRESS));
+
+        final CallbackContext context = generateInProgressCallbackContext(System.currentTimeMillis() - CreateAccountPollingSchedule.MAX_POLLING_DURATION_MILLIS);
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+        assertThat(response.getMessage()).contains(CREATE_ACCOUNT_STATUS_ID);
+
+        verify(mockProxyClient.client(), times(1)).describeCreateAccountStatus(any(DescribeCreateAccountStatusRequest.class));
+        verify(mockProxyClient.client(), times(0)).moveAccount(any(MoveAccountRequest.class));
+    }
+
+    protected CallbackContext generateInProgressCallbackContext(final long firstSeenTime) {
+        CallbackContext context = new CallbackContext();
+        context.setPreExistenceCheckComplete(true);
+        context.setCreateAccountRequestId(CREATE_ACCOUNT_STATUS_ID);
+        context.setCreateAccountFirstSeenTime(firstSeenTime);
+        context.setCreateAccountStatusPollAttempt(1);
+        return context;
+    }
+
     protected ResourceModel generateCreateResourceModel() {
         ResourceModel model = ResourceModel.builder()
                                   .email(TEST_ACCOUNT_EMAIL)
@@ -817,6 +1102,14 @@ public class CreateHandlerTest extends AbstractTestBase {
         return MoveAccountResponse.builder().build();
     }
 
+    protected ListRootsResponse getListRootsResponse() {
+        return ListRootsResponse.builder()
+                   .roots(Root.builder()
+                              .id(TEST_SOURCE_PARENT_ID)
+                              .build()
+                   ).build();
+    }
+
     protected ListParentsResponse getListParentsResponseBeforeMoveAccount() {
         return ListParentsResponse.builder()
                    .parents(Parent.builder()
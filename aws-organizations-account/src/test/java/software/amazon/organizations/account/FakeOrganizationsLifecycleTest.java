@@ -0,0 +1,188 @@
+package software.amazon.organizations.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the handlers end to end against the in-memory FakeOrganizationsClient instead of per-call mocks
+public class FakeOrganizationsLifecycleTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_CreateReadUpdateListDelete() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final String ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                        .parentId(rootId)
+                                                                        .name("workloads")
+                                                                        .build()).organizationalUnit().id();
+        final ResourceModel desiredModel = ResourceModel.builder()
+                                               .accountName(TEST_ACCOUNT_NAME)
+                                               .email(TEST_ACCOUNT_EMAIL)
+                                               .parentIds(new HashSet<>(Set.of(ouId)))
+                                               .tags(TagTestResourcesHelper.translateOrganizationTagsToAccountTags(TagTestResourcesHelper.defaultTags))
+                                               .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(desiredModel)
+                                                                                                               .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final String accountId = created.getResourceModel().getAccountId();
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(accountId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourcesHelper.defaultTags);
+
+        final ResourceModel readModel = ResourceModel.builder().accountId(accountId).build();
+        final ProgressEvent<ResourceModel, CallbackContext> read = invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                         .desiredResourceState(readModel)
+                                                                                                         .build());
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel().getEmail()).isEqualTo(TEST_ACCOUNT_EMAIL);
+        assertThat(read.getResourceModel().getParentIds()).containsExactly(ouId);
+
+        // moving back to the root is expressed by dropping the parent ids
+        final ResourceModel updatedModel = ResourceModel.builder()
+                                               .accountId(accountId)
+                                               .accountName(TEST_ACCOUNT_NAME)
+                                               .email(TEST_ACCOUNT_EMAIL)
+                                               .tags(TagTestResourcesHelper.translateOrganizationTagsToAccountTags(TagTestResourcesHelper.updatedTags))
+                                               .build();
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .previousResourceState(read.getResourceModel())
+                                                                                                               .desiredResourceState(updatedModel)
+                                                                                                               .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getParentIds()).containsExactly(rootId);
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(accountId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourcesHelper.updatedTags);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = invokeUntilDone(new ListHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                           .desiredResourceState(ResourceModel.builder().build())
+                                                                                                           .build());
+        // the management account plus the one created above
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getAccountId).contains(accountId).hasSize(2);
+
+        final ResourceHandlerRequest<ResourceModel> deleteRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                        .desiredResourceState(updated.getResourceModel())
+                                                                        .build();
+        assertThat(invokeUntilDone(new DeleteHandler(), deleteRequest).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readAfterDelete = invokeUntilDone(new ReadHandler(), deleteRequest);
+        assertThat(readAfterDelete.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(readAfterDelete.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_WriteThroughUpdateSkipsReadBack() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final String ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                        .parentId(rootId)
+                                                                        .name("workloads")
+                                                                        .build()).organizationalUnit().id();
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(ResourceModel.builder()
+                                                                                                                                         .accountName(TEST_ACCOUNT_NAME)
+                                                                                                                                         .email(TEST_ACCOUNT_EMAIL)
+                                                                                                                                         .parentIds(new HashSet<>(Set.of(ouId)))
+                                                                                                                                         .build())
+                                                                                                               .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final long describeAccountCalls = fakeOrgsClient.getCallCount("DescribeAccount");
+        final long listParentsCalls = fakeOrgsClient.getCallCount("ListParents");
+        final long listTagsCalls = fakeOrgsClient.getCallCount("ListTagsForResource");
+        final long listRootsCalls = fakeOrgsClient.getCallCount("ListRoots");
+
+        final ResourceModel updatedModel = ResourceModel.builder()
+                                               .accountId(created.getResourceModel().getAccountId())
+                                               .accountName(TEST_ACCOUNT_NAME)
+                                               .email(TEST_ACCOUNT_EMAIL)
+                                               .tags(TagTestResourcesHelper.translateOrganizationTagsToAccountTags(TagTestResourcesHelper.updatedTags))
+                                               .build();
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(true), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                                   .previousResourceState(created.getResourceModel())
+                                                                                                                   .desiredResourceState(updatedModel)
+                                                                                                                   .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getParentIds()).containsExactly(rootId);
+        assertThat(updated.getResourceModel().getArn()).isEqualTo(created.getResourceModel().getArn());
+        assertThat(updated.getResourceModel().getJoinedTimestamp()).isEqualTo(created.getResourceModel().getJoinedTimestamp());
+        assertThat(updated.getResourceModel().getTags()).isEqualTo(updatedModel.getTags());
+        // derived attributes came from the previous model and the root id from the organization root cache
+        assertThat(fakeOrgsClient.getCallCount("DescribeAccount")).isEqualTo(describeAccountCalls);
+        assertThat(fakeOrgsClient.getCallCount("ListParents")).isEqualTo(listParentsCalls);
+        assertThat(fakeOrgsClient.getCallCount("ListTagsForResource")).isEqualTo(listTagsCalls);
+        assertThat(fakeOrgsClient.getCallCount("ListRoots")).isLessThanOrEqualTo(listRootsCalls + 1);
+    }
+
+    @Test
+    public void handleRequest_CreateAccountPollsUntilFakeCompletesCreation() {
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                         .createAccountDurationMillis(50L)
+                                                         .build());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        final ResourceModel desiredModel = ResourceModel.builder()
+                                               .accountName(TEST_ACCOUNT_NAME)
+                                               .email(TEST_ACCOUNT_EMAIL)
+                                               .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(desiredModel)
+                                                                                                               .build());
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getAccountId()).isNotNull();
+        assertThat(fakeOrgsClient.getCallCount("CreateAccount")).isEqualTo(1);
+        assertThat(fakeOrgsClient.getCallCount("DescribeCreateAccountStatus")).isGreaterThanOrEqualTo(1);
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            // the test does not wait out the callback delay, so poll DescribeCreateAccountStatus right away
+            context.setNextCreateAccountStatusPollTime(0L);
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+            if (response.getStatus() == OperationStatus.IN_PROGRESS) {
+                sleepQuietly();
+            }
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(10L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,18 +8,34 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.Account;
 import software.amazon.awssdk.services.organizations.model.AccountStatus;
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
 import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
 import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Root;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
+import software.amazon.organizations.utils.OrganizationTree;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +54,9 @@ public class ListHandlerTest extends AbstractTestBase{
 
     @BeforeEach
     public void setup() {
+        // the enriched list caches the root and the organization snapshot per account, and every test has its own organization
+        OrganizationRootCache.invalidateAll();
+        OrganizationTree.invalidateAll();
         listHandler = new ListHandler();
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
@@ -125,6 +144,129 @@ public class ListHandlerTest extends AbstractTestBase{
 
     }
 
+    @Test
+    public void handleRequest_Enriched_ReturnsFullModels() {
+        final String otherAccountId = "222222222222";
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        final ListAccountsResponse listAccountsResponse = ListAccountsResponse.builder()
+                .accounts(Arrays.asList(
+                    accountGetMockAccountSummary().toBuilder()
+                        .arn(TEST_ACCOUNT_ARN)
+                        .joinedMethod(TEST_JOINED_METHOD)
+                        .joinedTimestamp(TEST_JOINED_TIMESTAMP)
+                        .build(),
+                    Account.builder().id(otherAccountId).status(AccountStatus.SUSPENDED).build()))
+                .nextToken(TEST_NEXT_TOKEN)
+                .build();
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(listAccountsResponse);
+        stubOrganization(accountGetMockAccountSummary());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+                .tags(software.amazon.awssdk.services.organizations.model.Tag.builder().key("team").value("payments").build())
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new ListHandler(true).handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifySuccessResponse(response);
+        final ResourceModel responseModel = response.getResourceModels().get(0);
+        assertThat(responseModel.getArn()).isEqualTo(TEST_ACCOUNT_ARN);
+        assertThat(responseModel.getStatus()).isEqualTo(AccountStatus.ACTIVE.toString());
+        assertThat(responseModel.getJoinedMethod()).isEqualTo(TEST_JOINED_METHOD);
+        assertThat(responseModel.getJoinedTimestamp()).isEqualTo(TEST_JOINED_TIMESTAMP.toString());
+        assertThat(responseModel.getParentIds()).isEqualTo(TEST_PARENT_IDS);
+        assertThat(responseModel.getTags()).containsExactly(Tag.builder().key("team").value("payments").build());
+        // the parent comes from the organization snapshot, and the suspended account is neither returned nor enriched
+        verify(mockOrgsClient, never()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(ListTagsForResourceRequest.builder().resourceId(TEST_ACCOUNT_ID).build());
+        verify(mockOrgsClient, never()).listTagsForResource(ListTagsForResourceRequest.builder().resourceId(otherAccountId).build());
+    }
+
+    @Test
+    public void handleRequest_Enriched_SharesSnapshotAcrossPages() {
+        final ListHandler enrichedListHandler = new ListHandler(true);
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(ListAccountsResponse.builder()
+                .accounts(accountGetMockAccountSummary())
+                .nextToken(TEST_NEXT_TOKEN)
+                .build());
+        stubOrganization(accountGetMockAccountSummary());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = enrichedListHandler.handleRequest(mockAwsClientProxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).build(),
+                new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = enrichedListHandler.handleRequest(mockAwsClientProxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(ResourceModel.builder().build()).nextToken(TEST_NEXT_TOKEN).build(),
+                new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(firstPage.getResourceModels().get(0).getParentIds()).isEqualTo(TEST_PARENT_IDS);
+        assertThat(secondPage.getResourceModels().get(0).getParentIds()).isEqualTo(TEST_PARENT_IDS);
+        // the root and the OU were walked once, by the first page
+        verify(mockOrgsClient, times(1)).listRoots(any(ListRootsRequest.class));
+        verify(mockOrgsClient, times(2)).listAccountsForParent(any(ListAccountsForParentRequest.class));
+        verify(mockOrgsClient, never()).listParents(any(ListParentsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_Enriched_SkipsAccountThatLeftOrganization() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(ListAccountsResponse.builder()
+                .accounts(accountGetMockAccountSummary())
+                .build());
+        // the account left before the snapshot was built, so its parent is looked up with ListParents
+        stubOrganization();
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenThrow(ChildNotFoundException.class);
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenThrow(TargetNotFoundException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new ListHandler(true).handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEmpty();
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_Enriched_shouldReturnFailed_withServiceException_forListTagsCalls() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+        when(mockProxyClient.client().listAccounts(any(ListAccountsRequest.class))).thenReturn(ListAccountsResponse.builder()
+                .accounts(accountGetMockAccountSummary())
+                .build());
+        stubOrganization(accountGetMockAccountSummary());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenThrow(ServiceException.class);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                new ListHandler(true).handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+    }
+
+    // the organization OrganizationTree walks: the root, with one OU under it that holds the given accounts
+    private void stubOrganization(final Account... accountsInOrganizationalUnit) {
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+                .roots(Root.builder().id(TEST_SOURCE_PARENT_ID).build())
+                .build());
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenAnswer(invocation ->
+                ListOrganizationalUnitsForParentResponse.builder()
+                        .organizationalUnits(TEST_SOURCE_PARENT_ID.equals(invocation.<ListOrganizationalUnitsForParentRequest>getArgument(0).parentId())
+                                ? Collections.singletonList(OrganizationalUnit.builder().id(TEST_DESTINATION_PARENT_ID).name("workloads").build())
+                                : Collections.emptyList())
+                        .build());
+        when(mockProxyClient.client().listAccountsForParent(any(ListAccountsForParentRequest.class))).thenAnswer(invocation ->
+                ListAccountsForParentResponse.builder()
+                        .accounts(TEST_DESTINATION_PARENT_ID.equals(invocation.<ListAccountsForParentRequest>getArgument(0).parentId())
+                                ? Arrays.asList(accountsInOrganizationalUnit)
+                                : Collections.emptyList())
+                        .build());
+    }
+
     protected Account accountGetMockAccountSummary(){
         return Account.builder()
                 .email(TEST_ACCOUNT_EMAIL)
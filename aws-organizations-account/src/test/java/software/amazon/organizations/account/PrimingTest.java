@@ -0,0 +1,19 @@
+package software.amazon.organizations.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimingTest {
+    @AfterEach
+    public void tear_down() {
+        ClientBuilder.invalidateClient();
+    }
+
+    @Test
+    public void prime_RunsHandlersAgainstStubOnly() {
+        // at least one request per handler, all of them answered by PrimingHttpClient
+        assertThat(Priming.prime()).isGreaterThanOrEqualTo(2);
+    }
+}
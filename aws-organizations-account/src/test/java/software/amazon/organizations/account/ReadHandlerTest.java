@@ -119,6 +119,11 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+
+        // parents and tags are requested concurrently with DescribeAccount
+        verify(mockProxyClient.client()).describeAccount(any(DescribeAccountRequest.class));
+        verify(mockProxyClient.client()).listParents(any(ListParentsRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -7,6 +7,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
 import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
 import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
 import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
@@ -31,6 +32,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -43,6 +45,7 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -64,6 +67,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        OrganizationRootCache.invalidateAll();
     }
 
     @Test
@@ -215,6 +219,42 @@ public class UpdateHandlerTest extends AbstractTestBase {
         tearDown();
     }
 
+    @Test
+    public void handleRequest_SourceTargetNull_ReusesCachedRootIdUntilOrganizationNotInUse() {
+        final ResourceModel previousResourceModel = generatePreviousResourceModel(null).toBuilder()
+                .parentIds(null)
+                .build();
+        final ResourceModel model = generateUpdatedResourceModel(null);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousResourceModel)
+                .desiredResourceState(model)
+                .awsAccountId(TEST_MANAGEMENT_ACCOUNT_ID)
+                .build();
+
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(getListRootsResponse());
+        when(mockProxyClient.client().moveAccount(any(MoveAccountRequest.class)))
+                .thenReturn(getMoveAccountResponse())
+                .thenThrow(AwsOrganizationsNotInUseException.class)
+                .thenReturn(getMoveAccountResponse());
+        whenReadMockSetup(request, null);
+
+        ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // the second update takes the root from the cache and the service reports the organization is gone
+        response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+
+        // the cached root was dropped, so the third update lists the roots again
+        response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(mockProxyClient.client(), times(2)).listRoots(any(ListRootsRequest.class));
+        verify(mockProxyClient.client(), times(3)).moveAccount(any(MoveAccountRequest.class));
+    }
+
     @Test
     public void handleRequest_DestinationTargetNull_Success() {
         final ResourceModel previousResourceModel = generatePreviousResourceModel(null);
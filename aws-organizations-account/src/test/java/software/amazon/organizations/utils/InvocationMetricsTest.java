@@ -0,0 +1,176 @@
+package software.amazon.organizations.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InvocationMetricsTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESOURCE_TYPE = "AWS::Organizations::Account";
+
+    @Test
+    public void time_RecordsSuccessfulCall() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "READ", () -> 1700000000000L);
+
+        assertThat(metrics.time("DescribePolicy", () -> "result")).isEqualTo("result");
+
+        final List<String> records = metrics.toEmf();
+        assertThat(records).hasSize(1);
+        final JsonNode record = MAPPER.readTree(records.get(0));
+        assertThat(record.at("/_aws/Timestamp").asLong()).isEqualTo(1700000000000L);
+        assertThat(record.at("/_aws/CloudWatchMetrics/0/Namespace").asText()).isEqualTo(InvocationMetrics.NAMESPACE);
+        assertThat(record.at("/_aws/CloudWatchMetrics/0/Dimensions/0/2").asText()).isEqualTo("Operation");
+        assertThat(record.get("ResourceType").asText()).isEqualTo(RESOURCE_TYPE);
+        assertThat(record.get("Handler").asText()).isEqualTo("READ");
+        assertThat(record.get("Operation").asText()).isEqualTo("DescribePolicy");
+        assertThat(record.get("Latency").size()).isEqualTo(1);
+        assertThat(record.get("CallCount").asInt()).isEqualTo(1);
+        assertThat(record.get("ErrorCount").asInt()).isZero();
+        assertThat(record.get("ThrottleCount").asInt()).isZero();
+        assertThat(record.get("SdkRetryCount").asInt()).isZero();
+    }
+
+    @Test
+    public void time_RecordsErrorCodeAndThrottleOfFailedCall() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "CREATE");
+        final TooManyRequestsException throttle = TooManyRequestsException.builder()
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode("TooManyRequestsException").build())
+            .build();
+
+        assertThatThrownBy(() -> metrics.time("CreatePolicy", () -> {
+            throw throttle;
+        })).isSameAs(throttle);
+
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.get("ErrorCount").asInt()).isEqualTo(1);
+        assertThat(record.get("ThrottleCount").asInt()).isEqualTo(1);
+        assertThat(record.at("/ErrorCodes/TooManyRequestsException").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void sdkRetryObserver_CountsRetriesOfCallInProgress() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "UPDATE");
+        final RetryPolicyContext throttled = RetryPolicyContext.builder()
+            .exception(TooManyRequestsException.builder().message("Rate exceeded").build())
+            .build();
+        final RetryPolicyContext conflict = RetryPolicyContext.builder()
+            .exception(ConcurrentModificationException.builder().message("conflict").build())
+            .build();
+
+        metrics.time("UpdatePolicy", () -> {
+            InvocationMetrics.sdkRetryObserver().shouldRetry(throttled);
+            return InvocationMetrics.sdkRetryObserver().shouldRetry(conflict);
+        });
+
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.get("SdkRetryCount").asInt()).isEqualTo(2);
+        assertThat(record.get("ThrottleCount").asInt()).isEqualTo(1);
+        assertThat(record.get("ErrorCount").asInt()).isZero();
+    }
+
+    @Test
+    public void sdkRetryObserver_AllowsRetryOutsideTimedCall() {
+        final RetryPolicyContext context = RetryPolicyContext.builder()
+            .exception(TooManyRequestsException.builder().message("Rate exceeded").build())
+            .build();
+
+        assertThat(InvocationMetrics.sdkRetryObserver().shouldRetry(context)).isTrue();
+    }
+
+    @Test
+    public void recordCall_CapsLatencyValues() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "LIST");
+        final int calls = InvocationMetrics.MAX_LATENCY_VALUES + 20;
+        for (int i = 0; i < calls; i++) {
+            metrics.recordCall("ListPolicies", i, 0, 0, null);
+        }
+
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.get("Latency").size()).isEqualTo(InvocationMetrics.MAX_LATENCY_VALUES);
+        assertThat(record.get("CallCount").asInt()).isEqualTo(calls);
+    }
+
+    @Test
+    public void recordHandlerRetryAndError_RecordedOnlyWhileBound() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "DELETE");
+        final Exception e = ConcurrentModificationException.builder().message("conflict").build();
+
+        InvocationMetrics.recordHandlerError("DELETE", "DELETE_POLICY", e);
+        assertThat(metrics.isEmpty()).isTrue();
+
+        metrics.runWith(() -> {
+            InvocationMetrics.recordHandlerError("DELETE", "DELETE_POLICY", e);
+            InvocationMetrics.recordHandlerRetry("DELETE", "DELETE_POLICY");
+            return null;
+        });
+
+        assertThat(InvocationMetrics.current()).isNull();
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.at("/_aws/CloudWatchMetrics/0/Dimensions/0/2").asText()).isEqualTo("Action");
+        assertThat(record.get("Action").asText()).isEqualTo("DELETE_POLICY");
+        assertThat(record.get("HandlerRetryCount").asInt()).isEqualTo(1);
+        assertThat(record.get("HandlerErrorCount").asInt()).isEqualTo(1);
+        assertThat(record.at("/ErrorCodes/ConcurrentModificationException").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void recordHandlerErrorsUnless_DropsErrorsOfExpectedResults() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "DELETE");
+        final Exception e = ConcurrentModificationException.builder().message("conflict").build();
+
+        metrics.runWith(() -> {
+            final String expected = InvocationMetrics.recordHandlerErrorsUnless(() -> {
+                InvocationMetrics.recordHandlerError("DELETE", "DELETE_POLICY", e);
+                return "not visible yet";
+            }, "not visible yet"::equals);
+            assertThat(expected).isEqualTo("not visible yet");
+            return InvocationMetrics.recordHandlerErrorsUnless(() -> {
+                InvocationMetrics.recordHandlerError("DELETE", "DELETE_POLICY", e);
+                return "failed";
+            }, "not visible yet"::equals);
+        });
+
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.get("Action").asText()).isEqualTo("DELETE_POLICY");
+        assertThat(record.get("HandlerErrorCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void propagate_BindsSubmittingInvocationOnWorkerThread() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "UPDATE");
+        final Supplier<InvocationMetrics> task = metrics.runWith(() -> InvocationMetrics.propagate(InvocationMetrics::current));
+
+        assertThat(CompletableFuture.supplyAsync(task).get()).isSameAs(metrics);
+        assertThat(InvocationMetrics.propagate(InvocationMetrics::current).get()).isNull();
+    }
+
+    @Test
+    public void flush_LogsOneBareJsonLinePerRecord() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics(RESOURCE_TYPE, "READ");
+        final List<String> lines = new ArrayList<>();
+
+        metrics.flush(lines::add);
+        assertThat(lines).isEmpty();
+
+        metrics.time("DescribePolicy", () -> "result");
+        metrics.time("ListTagsForResource", () -> "result");
+        metrics.flush(lines::add);
+
+        assertThat(lines).hasSize(2);
+        for (final String line : lines) {
+            assertThat(MAPPER.readTree(line).has("_aws")).isTrue();
+        }
+    }
+}
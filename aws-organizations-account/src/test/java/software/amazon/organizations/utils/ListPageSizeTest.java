@@ -0,0 +1,17 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListPageSizeTest {
+    @Test
+    public void parse_DefaultsToMaximum() {
+        assertThat(ListPageSize.parse("5")).isEqualTo(5);
+        assertThat(ListPageSize.parse(" 20 ")).isEqualTo(20);
+        assertThat(ListPageSize.parse("0")).isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+        assertThat(ListPageSize.parse("100")).isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+        assertThat(ListPageSize.parse("all")).isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+        assertThat(ListPageSize.parse(null)).isEqualTo(ListPageSize.MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,154 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.ParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OrganizationTreeTest {
+    private static final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    private static final String TEST_CALLER_ACCOUNT_ID = "111111111111";
+
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+    private String rootId;
+
+    @BeforeEach
+    public void setup() {
+        // a small page size makes every parent with more than two children span several pages
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().pageSize(2).build());
+        proxyClient = newProxyClient(fakeOrgsClient);
+        rootId = fakeOrgsClient.getRootId();
+    }
+
+    @Test
+    public void build_SnapshotsWholeHierarchy() {
+        final String workloads = createOrganizationalUnit(rootId, "workloads");
+        final String security = createOrganizationalUnit(rootId, "security");
+        final String sandbox = createOrganizationalUnit(rootId, "sandbox");
+        final String prod = createOrganizationalUnit(workloads, "prod");
+        final String dev = createOrganizationalUnit(workloads, "dev");
+        final String payments = createOrganizationalUnit(prod, "payments");
+        final String audit = createAccount("audit@example.com", security);
+        final String payments1 = createAccount("payments-1@example.com", payments);
+        final String payments2 = createAccount("payments-2@example.com", payments);
+        final String payments3 = createAccount("payments-3@example.com", payments);
+        final String devAccount = createAccount("dev@example.com", dev);
+
+        final OrganizationTree tree = OrganizationTree.build(proxyClient, rootId, 3);
+
+        assertThat(tree.getRootId()).isEqualTo(rootId);
+        assertThat(tree.getOrganizationalUnitCount()).isEqualTo(6);
+        // the management account sits under the root next to the created accounts
+        assertThat(tree.getAccountCount()).isEqualTo(6);
+        assertThat(tree.getChildOrganizationalUnitIds(rootId)).containsExactlyInAnyOrder(workloads, security, sandbox);
+        assertThat(tree.getChildOrganizationalUnitIds(workloads)).containsExactlyInAnyOrder(prod, dev);
+        assertThat(tree.getChildAccountIds(payments)).containsExactlyInAnyOrder(payments1, payments2, payments3);
+        assertThat(tree.getChildAccountIds(sandbox)).isEmpty();
+        assertThat(tree.getParentId(payments)).isEqualTo(prod);
+        assertThat(tree.getParentId(devAccount)).isEqualTo(dev);
+        assertThat(tree.getParentId(rootId)).isNull();
+        assertThat(tree.isOrganizationalUnit(payments)).isTrue();
+        assertThat(tree.isAccount(audit)).isTrue();
+        assertThat(tree.getName(payments)).isEqualTo("payments");
+        assertThat(tree.getEmail(audit)).isEqualTo("audit@example.com");
+        assertThat(tree.getArn(payments)).isNotNull();
+        assertThat(tree.findOrganizationalUnitId(workloads, "dev")).contains(dev);
+        assertThat(tree.findOrganizationalUnitId(rootId, "dev")).isEmpty();
+        assertThat(tree.findAccountIdByEmail("payments-2@example.com")).contains(payments2);
+        assertThat(tree.findAccountIdByEmail("unknown@example.com")).isEmpty();
+        assertThat(tree.contains("ou-unknown")).isFalse();
+        assertThat(tree.getChildOrganizationalUnitIds("ou-unknown")).isEmpty();
+    }
+
+    @Test
+    public void build_ListsParentsBeforeChildren() {
+        final String level1 = createOrganizationalUnit(rootId, "level-1");
+        final String level2 = createOrganizationalUnit(level1, "level-2");
+        final String level3 = createOrganizationalUnit(level2, "level-3");
+
+        final OrganizationTree tree = OrganizationTree.build(proxyClient, rootId);
+
+        assertThat(tree.getOrganizationalUnitIds()).containsExactly(level1, level2, level3);
+    }
+
+    @Test
+    public void build_ListsEveryParentOnce() {
+        final String workloads = createOrganizationalUnit(rootId, "workloads");
+        createOrganizationalUnit(workloads, "prod");
+        createOrganizationalUnit(workloads, "dev");
+
+        OrganizationTree.build(proxyClient, rootId, 2);
+
+        // root, workloads, prod and dev each take one page of OUs and one page of accounts
+        assertThat(fakeOrgsClient.getCallCount("ListOrganizationalUnitsForParent")).isEqualTo(4);
+        assertThat(fakeOrgsClient.getCallCount("ListAccountsForParent")).isEqualTo(4);
+    }
+
+    @Test
+    public void build_EmptyOrganizationHasOnlyManagementAccount() {
+        final OrganizationTree tree = OrganizationTree.build(proxyClient, rootId);
+
+        assertThat(tree.getOrganizationalUnitCount()).isZero();
+        assertThat(tree.getAccountCount()).isEqualTo(1);
+        assertThat(tree.findAccountIdByEmail(FakeOrganizationsClient.Config.builder().build().getManagementAccountEmail())).isPresent();
+    }
+
+    @Test
+    public void build_RethrowsFailedCall() {
+        assertThatThrownBy(() -> OrganizationTree.build(proxyClient, "r-unknown"))
+            .isInstanceOf(ParentNotFoundException.class);
+
+        final FakeOrganizationsClient throttlingClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().throttleRate(1.0).build());
+        assertThatThrownBy(() -> OrganizationTree.build(newProxyClient(throttlingClient), throttlingClient.getRootId()))
+            .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    public void getSnapshot_ReusesSnapshotUntilInvalidated() {
+        OrganizationTree.invalidateAll();
+        final OrganizationTree first = OrganizationTree.getSnapshot(TEST_CALLER_ACCOUNT_ID, () -> OrganizationTree.build(proxyClient, rootId));
+
+        assertThat(OrganizationTree.getSnapshot(TEST_CALLER_ACCOUNT_ID, () -> {
+            throw new IllegalStateException("a fresh snapshot is not rebuilt");
+        })).isSameAs(first);
+        assertThat(fakeOrgsClient.getCallCount("ListAccountsForParent")).isEqualTo(1);
+
+        OrganizationTree.invalidate(TEST_CALLER_ACCOUNT_ID);
+        assertThat(OrganizationTree.getSnapshot(TEST_CALLER_ACCOUNT_ID, () -> OrganizationTree.build(proxyClient, rootId))).isNotSameAs(first);
+        assertThat(fakeOrgsClient.getCallCount("ListAccountsForParent")).isEqualTo(2);
+    }
+
+    private String createOrganizationalUnit(final String parentId, final String name) {
+        return fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder().parentId(parentId).name(name).build())
+                   .organizationalUnit().id();
+    }
+
+    private String createAccount(final String email, final String parentId) {
+        final String requestId = fakeOrgsClient.createAccount(CreateAccountRequest.builder().email(email).accountName(email).build())
+                                     .createAccountStatus().id();
+        final String accountId = fakeOrgsClient.describeCreateAccountStatus(DescribeCreateAccountStatusRequest.builder().createAccountRequestId(requestId).build())
+                                     .createAccountStatus().accountId();
+        fakeOrgsClient.moveAccount(MoveAccountRequest.builder().accountId(accountId).sourceParentId(rootId).destinationParentId(parentId).build());
+        return accountId;
+    }
+
+    private static ProxyClient<OrganizationsClient> newProxyClient(final OrganizationsClient client) {
+        return new AmazonWebServicesClientProxy(new LoggerProxy(), MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis())
+                   .newProxy(() -> client);
+    }
+}
@@ -0,0 +1,21 @@
+package software.amazon.organizations.accountbatch;
+
+public class AccountBatchConstants {
+    public enum Action {
+        CREATE_ACCOUNT,
+        DESCRIBE_CREATE_ACCOUNT_STATUS,
+        MOVE_ACCOUNT,
+        CLOSE_ACCOUNT,
+        LIST_PARENTS,
+        LIST_ROOTS,
+        LIST_TAGS_FOR_RESOURCE,
+        DESCRIBE_ACCOUNT,
+        LIST_ACCOUNTS
+    }
+
+    public enum Handler {
+        CREATE,
+        DELETE,
+        READ
+    }
+}
@@ -0,0 +1,305 @@
+package software.amazon.organizations.accountbatch;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedForDependencyException;
+import software.amazon.awssdk.services.organizations.model.AccountAlreadyClosedException;
+import software.amazon.awssdk.services.organizations.model.AccountNotFoundException;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.ConflictException;
+import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
+import software.amazon.awssdk.services.organizations.model.CreateAccountStatusNotFoundException;
+import software.amazon.awssdk.services.organizations.model.DestinationParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.DuplicateAccountException;
+import software.amazon.awssdk.services.organizations.model.FinalizingOrganizationException;
+import software.amazon.awssdk.services.organizations.model.InvalidInputException;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationsRequest;
+import software.amazon.awssdk.services.organizations.model.ServiceException;
+import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.awssdk.services.organizations.model.UnsupportedApiEndpointException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InstrumentedProxyClient;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.OrganizationRootCache;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
+
+import java.util.Locale;
+import java.util.Random;
+
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    protected static final String GOV_CLOUD_PARTITION = "aws-us-gov";
+    // CreateAccount Constants
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_EMAIL_ALREADY_EXISTS = "EMAIL_ALREADY_EXISTS";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_GOVCLOUD_ACCOUNT_ALREADY_EXISTS = "GOVCLOUD_ACCOUNT_ALREADY_EXISTS";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_ACCOUNT_LIMIT_EXCEEDED = "ACCOUNT_LIMIT_EXCEEDED";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_INVALID_ADDRESS = "INVALID_ADDRESS";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_INVALID_EMAIL = "INVALID_EMAIL";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_CONCURRENT_ACCOUNT_MODIFICATION = "CONCURRENT_ACCOUNT_MODIFICATION";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_FAILED_BUSINESS_VALIDATION = "FAILED_BUSINESS_VALIDATION";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_IDENTITY_INVALID_BUSINESS_VALIDATION = "IDENTITY_INVALID_BUSINESS_VALIDATION";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_INVALID_PAYMENT_INSTRUMENT = "INVALID_PAYMENT_INSTRUMENT";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_INTERNAL_FAILURE = "INTERNAL_FAILURE";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_MISSING_BUSINESS_VALIDATION = "MISSING_BUSINESS_VALIDATION";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_MISSING_PAYMENT_INSTRUMENT = "MISSING_PAYMENT_INSTRUMENT";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_PENDING_BUSINESS_VALIDATION = "PENDING_BUSINESS_VALIDATION";
+    protected static final String CREATE_ACCOUNT_FAILURE_REASON_UNKNOWN_BUSINESS_VALIDATION = "UNKNOWN_BUSINESS_VALIDATION";
+    protected static final String ACCOUNT_CREATION_STATUS_SUCCEEDED = "SUCCEEDED";
+    protected static final String ACCOUNT_CREATION_STATUS_FAILED = "FAILED";
+    // CreateAccount requests a batch keeps in progress at a time, within the concurrent account creation limit of Organizations
+    protected static final int MAX_IN_FLIGHT_CREATE_ACCOUNT_REQUESTS = 5;
+    // CloseAccount Constants, Organizations only lets a few closures be in progress at a time and rejects the rest
+    // with CLOSE_ACCOUNT_REQUESTS_LIMIT_EXCEEDED, so a delete closes its accounts a few at a time and backs off on it
+    protected static final String CLOSE_ACCOUNT_FAILURE_REASON_REQUESTS_LIMIT_EXCEEDED = "CLOSE_ACCOUNT_REQUESTS_LIMIT_EXCEEDED";
+    protected static final int MAX_CONCURRENT_CLOSE_ACCOUNT_REQUESTS = 2;
+    protected static final int MAX_CLOSE_ACCOUNT_BACKOFF_ATTEMPTS = 10;
+    protected static final int MAX_CLOSE_ACCOUNT_BACKOFF_SECONDS = 300;
+    // time the pre-existence check may spend paging through ListAccounts in one invoke before it continues in a callback
+    protected static final long PRE_EXISTENCE_CHECK_TIME_BUDGET_MILLIS = 30_000L;
+    protected static final int PRE_EXISTENCE_CHECK_CALLBACK_DELAY_SECONDS = 1;
+    // ExponentialBackoffJitter Constants
+    protected static final double RANDOMIZATION_FACTOR = 0.5;
+    protected static final double RANDOMIZATION_FACTOR_FOR_DESCRIBE_CREATE_ACCOUNT_STATUS = 0.2;
+    protected static final int BASE_DELAY = 15; // in second
+    private static final int MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION = 2;
+
+    // registers the SnapStart priming pass and warms up the connection to the endpoint, the handlers are constructed
+    // in the init phase before the snapshot, which restores without open connections
+    static {
+        Priming.register();
+        if (!ConnectionWarmUp.isSnapStartInit()) {
+            ClientBuilder.warmUpConnection();
+        }
+    }
+
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+        // Fail directly if this is GovCloud
+        final ResourceModel model = request.getDesiredResourceState();
+        if (request.getAwsPartition().equals(GOV_CLOUD_PARTITION)) {
+            String errMsg = "Can not create account for GovCloud in AWS::Organizations::AccountBatch resource type.";
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, errMsg);
+        }
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RetryBudget retryBudget = restoreRetryBudget(context);
+        final InvocationMetrics metrics = new InvocationMetrics(ResourceModel.TYPE_NAME, handlerNameOf(getClass()));
+        // metrics sit inside the rate limiter, so recorded latency is the API call itself and not the time spent waiting for a permit
+        final RateLimitedProxyClient<OrganizationsClient> orgsClient = new RateLimitedProxyClient<>(
+            new InstrumentedProxyClient<>(awsClientProxy.newProxy(ClientBuilder::getClient), metrics));
+        final OrgsLoggerWrapper orgsLogger = new OrgsLoggerWrapper(logger, request.getClientRequestToken());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = metrics.runWith(() -> retryBudget.runWith(() -> handleRequest(
+                awsClientProxy,
+                request,
+                context,
+                orgsClient,
+                orgsLogger
+            )));
+            saveRetryBudget(context, retryBudget);
+            if (orgsClient.getThrottledCalls() > 0) {
+                orgsLogger.warn("Throttled {} time(s), client-side rate limits now {}.", orgsClient.getThrottledCalls(), AdaptiveRateLimiter.metrics());
+            }
+            return progressEvent;
+        } finally {
+            metrics.flush(logger);
+        }
+    }
+
+    // CreateHandler -> CREATE, matching the names of AccountBatchConstants.Handler
+    private static String handlerNameOf(final Class<?> handlerClass) {
+        return handlerClass.getSimpleName().replaceFirst("Handler$", "").toUpperCase(Locale.ROOT);
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final OrgsLoggerWrapper logger
+    );
+
+    // the root of the management account's organization, ListRoots only runs when the container has no fresh cached value
+    protected String getRootId(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProxyClient<OrganizationsClient> orgsClient
+    ) {
+        return OrganizationRootCache.getRootId(request.getAwsAccountId(), () -> {
+            final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(Translator.translateToListRootsRequest(), orgsClient.client()::listRoots);
+            return listRootsResponse.roots().iterator().next().id();
+        });
+    }
+
+    public ProgressEvent<ResourceModel, CallbackContext> handleError(
+        final OrganizationsRequest request,
+        final ResourceHandlerRequest<ResourceModel> handlerRequest,
+        final Exception e,
+        final ProxyClient<OrganizationsClient> awsClientProxy,
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final OrgsLoggerWrapper logger
+    ) {
+        return handleErrorTranslation(handlerRequest, resourceModel, callbackContext, e, logger);
+    }
+
+    public ProgressEvent<ResourceModel, CallbackContext> handleError(
+        final ResourceHandlerRequest<ResourceModel> handlerRequest,
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final Exception e,
+        final OrgsLoggerWrapper logger
+    ) {
+        return handleErrorTranslation(handlerRequest, resourceModel, callbackContext, e, logger);
+    }
+
+    public ProgressEvent<ResourceModel, CallbackContext> handleErrorInGeneral(
+        final OrganizationsRequest request,
+        final ResourceHandlerRequest<ResourceModel> handlerRequest,
+        final Exception e,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final OrgsLoggerWrapper logger,
+        final AccountBatchConstants.Action actionName,
+        final AccountBatchConstants.Handler handlerName
+    ) {
+        InvocationMetrics.recordHandlerError(handlerName.toString(), actionName.toString(), e);
+        if ((handlerName != AccountBatchConstants.Handler.READ && handlerName != AccountBatchConstants.Handler.LIST)
+            && isRetriableException(e)) {
+            return handleRetriableException(request, handlerRequest, proxyClient, callbackContext, logger, e, resourceModel, actionName, handlerName);
+        }
+        return handleError(request, handlerRequest, e, proxyClient, resourceModel, callbackContext, logger);
+    }
+
+    public ProgressEvent<ResourceModel, CallbackContext> handleErrorTranslation(
+        final ResourceHandlerRequest<ResourceModel> handlerRequest,
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final Exception e,
+        final OrgsLoggerWrapper logger
+    ) {
+        HandlerErrorCode errorCode = HandlerErrorCode.GeneralServiceException;
+        if (e instanceof AwsOrganizationsNotInUseException) {
+            // the organization of this management account is gone, so drop its cached root ID
+            OrganizationRootCache.invalidate(handlerRequest.getAwsAccountId());
+        }
+        if (e instanceof AwsOrganizationsNotInUseException
+                || e instanceof AccountNotFoundException
+                || e instanceof ChildNotFoundException
+                || e instanceof AccountAlreadyClosedException
+                || e instanceof TargetNotFoundException
+        ) {
+            errorCode = HandlerErrorCode.NotFound;
+        } else if (e instanceof AccessDeniedException || e instanceof AccessDeniedForDependencyException) {
+            errorCode = HandlerErrorCode.AccessDenied;
+        } else if (e instanceof ConcurrentModificationException) {
+            errorCode = HandlerErrorCode.ResourceConflict;
+        } else if (e instanceof ConstraintViolationException) {
+            errorCode = HandlerErrorCode.ServiceLimitExceeded;
+        } else if (e instanceof InvalidInputException
+                       || e instanceof DestinationParentNotFoundException
+                       || e instanceof FinalizingOrganizationException
+                       || e instanceof UnsupportedApiEndpointException
+                       || e instanceof ConflictException
+        ) {
+            errorCode = HandlerErrorCode.InvalidRequest;
+        } else if (e instanceof ServiceException || e instanceof SdkClientException) {
+            errorCode = HandlerErrorCode.ServiceInternalError;
+        } else if (e instanceof TooManyRequestsException) {
+            errorCode = HandlerErrorCode.Throttling;
+        } else if (e instanceof SourceParentNotFoundException || e instanceof CreateAccountStatusNotFoundException || e instanceof DuplicateAccountException) {
+            errorCode = HandlerErrorCode.InternalFailure;
+        }
+        String batchInfo = resourceModel.getBatchId() == null ? handlerRequest.getLogicalResourceIdentifier() : resourceModel.getBatchId();
+        logger.error("[Exception] Failed with exception [{}]. Message: [{}], ErrorCode: [{}] for AccountBatch [{}].",
+            e.getClass().getSimpleName(), e.getMessage(), errorCode, batchInfo);
+        return ProgressEvent.failed(resourceModel, callbackContext, errorCode, e.getMessage());
+    }
+
+    public final int computeDelayBeforeNextRetry(int retryAttempt, int baseDelay, double randomizationFactor) {
+        Random random = new Random();
+        int exponentialBackoff = (int) Math.pow(2, retryAttempt) * baseDelay;
+        int jitter = random.nextInt((int) Math.ceil(exponentialBackoff * randomizationFactor));
+        return exponentialBackoff + jitter;
+    }
+
+    public final boolean isRetriableException(Exception e) {
+        return (e instanceof ConcurrentModificationException
+                    || e instanceof TooManyRequestsException
+                    || e instanceof ServiceException
+        );
+    }
+
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRetriableException(
+        final OrganizationsRequest organizationsRequest,
+        final ResourceHandlerRequest<ResourceModel> handlerRequest,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final CallbackContext context,
+        final OrgsLoggerWrapper logger,
+        final Exception e,
+        final ResourceModel model,
+        final AccountBatchConstants.Action actionName,
+        final AccountBatchConstants.Handler handlerName
+    ) {
+        String batchInfo = model.getBatchId() == null ? handlerRequest.getLogicalResourceIdentifier() : model.getBatchId();
+
+
+        if (actionName != AccountBatchConstants.Action.CREATE_ACCOUNT) {
+            int currentAttempt = context.getCurrentRetryAttempt(actionName, handlerName);
+            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION && acquireHandlerRetry(context, logger)) {
+                context.setCurrentRetryAttempt(actionName, handlerName);
+                InvocationMetrics.recordHandlerRetry(handlerName.toString(), actionName.toString());
+                int callbackDelaySeconds = computeDelayBeforeNextRetry(currentAttempt, BASE_DELAY, RANDOMIZATION_FACTOR); // in seconds
+                logger.warn("Got {} when calling {} for "
+                                + "account batch [{}]. Retrying {} of {} with callback delay {} seconds.",
+                        e.getClass().getName(), organizationsRequest.getClass().getName(), batchInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds);
+                return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+            }
+        }
+        logger.warn("All retry attempts exhausted for account batch [{}], return exception to CloudFormation for further handling.", batchInfo);
+        return handleError(organizationsRequest, handlerRequest, e, proxyClient, model, context, logger);
+    }
+
+    // Restores the retry budget persisted by an earlier invocation of this operation, or a full one on the first invocation
+    private static RetryBudget restoreRetryBudget(final CallbackContext context) {
+        return RetryBudget.restore(context.getRetryBudgetTokens(), context.getRetryBudgetRefilledAt());
+    }
+
+    private static void saveRetryBudget(final CallbackContext context, final RetryBudget retryBudget) {
+        context.setRetryBudgetTokens(retryBudget.getRemainingTokens());
+        context.setRetryBudgetRefilledAt(retryBudget.getLastRefillMillis());
+    }
+
+    // A callback retry is only scheduled while the budget shared with SDK retries lasts, otherwise the error is returned right away
+    protected static boolean acquireHandlerRetry(final CallbackContext context, final OrgsLoggerWrapper logger) {
+        final RetryBudget boundRetryBudget = RetryBudget.current();
+        final RetryBudget retryBudget = boundRetryBudget != null ? boundRetryBudget : restoreRetryBudget(context);
+        final boolean acquired = retryBudget.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        saveRetryBudget(context, retryBudget);
+        if (!acquired) {
+            logger.warn("Retry budget for this operation is exhausted, skipping callback retry.");
+        }
+        return acquired;
+    }
+
+
+}
@@ -0,0 +1,47 @@
+package software.amazon.organizations.accountbatch;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode(callSuper = true)
+public class CallbackContext extends StdCallbackContext {
+    private Map<String, Integer> actionToRetryAttemptMap = new HashMap<>();
+    public int getCurrentRetryAttempt(final AccountBatchConstants.Action actionName, final AccountBatchConstants.Handler handlerName) {
+        String key = actionName.toString() + handlerName.toString();
+        return this.actionToRetryAttemptMap.getOrDefault(key, 0);
+    }
+    public void setCurrentRetryAttempt(final AccountBatchConstants.Action actionName, final AccountBatchConstants.Handler handlerName) {
+        String key = actionName.toString() + handlerName.toString();
+        this.actionToRetryAttemptMap.put(key, getCurrentRetryAttempt(actionName, handlerName)+1);
+    }
+    // RetryBudget state shared by SDK and callback retries of this operation, refill time is epoch milliseconds
+    private Integer retryBudgetTokens;
+    private long retryBudgetRefilledAt = 0L;
+    // used in CREATE handler, per account state is keyed by the email of its AccountSpec
+    private boolean preExistenceCheckComplete = false;
+    private String preExistenceCheckNextToken;
+    private Set<String> existingEmails = new HashSet<>();
+    private Map<String, String> createAccountRequestIds = new HashMap<>();
+    // epoch milliseconds at which each CreateAccount request was submitted
+    private Map<String, Long> createAccountRequestedTimes = new HashMap<>();
+    private Map<String, String> accountIds = new HashMap<>();
+    private Set<String> movedEmails = new HashSet<>();
+    private Map<String, String> failureReasons = new HashMap<>();
+    // first failure of the batch, no further CreateAccount requests are submitted once it is set
+    private HandlerErrorCode batchErrorCode;
+    private int createAccountStatusPollAttempt = 0;
+    private long nextCreateAccountStatusPollTime = 0L;
+    // used in DELETE handler, accounts closed by this delete and accounts found closed or gone before it
+    private Set<String> closedAccountIds = new HashSet<>();
+    private Set<String> alreadyClosedAccountIds = new HashSet<>();
+    // consecutive callbacks that backed off on CLOSE_ACCOUNT_REQUESTS_LIMIT_EXCEEDED without closing an account
+    private int closeAccountBackoffAttempt = 0;
+}
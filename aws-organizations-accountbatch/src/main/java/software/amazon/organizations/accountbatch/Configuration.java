@@ -0,0 +1,8 @@
+package software.amazon.organizations.accountbatch;
+
+class Configuration extends BaseConfiguration {
+
+    public Configuration() {
+        super("aws-organizations-accountbatch.json");
+    }
+}
@@ -0,0 +1,484 @@
+package software.amazon.organizations.accountbatch;
+
+import org.apache.commons.collections4.CollectionUtils;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateAccountResponse;
+import software.amazon.awssdk.services.organizations.model.CreateAccountStatus;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicateAccountException;
+import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.MoveAccountResponse;
+import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.OrganizationRootCache;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Creates all accounts of a batch through one pipeline instead of one AWS::Organizations::Account resource per account.
+ * A single ListAccounts scan checks every email of the batch up front. After that each invoke runs one round: it polls
+ * all CreateAccount requests in progress at once, tops the pipeline up to maxInFlightCreateAccountRequests new requests
+ * and moves the accounts created so far to their parents, issuing the calls of each phase together on the ConcurrentInvoker
+ * pool. Rounds are spaced by CreateAccountPollingSchedule, aimed at the oldest request in flight.
+ * Once an account fails no further requests are submitted, and the batch fails after the requests in flight have settled,
+ * naming the accounts it did create so they can be imported or closed.
+ */
+public class CreateHandler extends BaseHandlerStd {
+    private OrgsLoggerWrapper log;
+    private final long preExistenceCheckTimeBudgetMillis;
+    private final int maxInFlightCreateAccountRequests;
+
+    public CreateHandler() {
+        this(PRE_EXISTENCE_CHECK_TIME_BUDGET_MILLIS, MAX_IN_FLIGHT_CREATE_ACCOUNT_REQUESTS);
+    }
+
+    CreateHandler(final long preExistenceCheckTimeBudgetMillis, final int maxInFlightCreateAccountRequests) {
+        this.preExistenceCheckTimeBudgetMillis = preExistenceCheckTimeBudgetMillis;
+        this.maxInFlightCreateAccountRequests = maxInFlightCreateAccountRequests;
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        this.log = logger;
+        logger.info("Entered {} create handler with management account Id [{}] and account batch logical resource identifier [{}].",
+            ResourceModel.TYPE_NAME, request.getAwsAccountId(), request.getLogicalResourceIdentifier());
+        final ResourceModel model = request.getDesiredResourceState();
+        final String validationError = validateAccountSpecs(model.getAccounts());
+        if (validationError != null) {
+            logger.log(validationError);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, validationError);
+        }
+
+        return ProgressEvent.progress(model, callbackContext)
+                   .then(progress -> checkIfAccountsExist(request, progress, orgsClient))
+                   .then(progress -> {
+                       if (!progress.getCallbackContext().getExistingEmails().isEmpty()) {
+                           return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
+                               String.format("Accounts with email %s already exist.", new TreeSet<>(callbackContext.getExistingEmails())));
+                       }
+                       return progress;
+                   })
+                   .then(progress -> runPipelineRound(awsClientProxy, request, model, callbackContext, orgsClient));
+    }
+
+    private static String validateAccountSpecs(final List<AccountSpec> accountSpecs) {
+        if (CollectionUtils.isEmpty(accountSpecs)) {
+            return "Account batch cannot be created without accounts!";
+        }
+        final Set<String> emails = new HashSet<>();
+        for (final AccountSpec accountSpec : accountSpecs) {
+            if (accountSpec.getAccountName() == null || accountSpec.getEmail() == null) {
+                return "Account cannot be created without account name and email!";
+            }
+            // currently only support 1 parent id
+            if (accountSpec.getParentIds() != null && accountSpec.getParentIds().size() > 1) {
+                return String.format("Can not specify more than one parent id for account with email [%s].", accountSpec.getEmail());
+            }
+            if (!emails.add(normalizeEmail(accountSpec.getEmail()))) {
+                return String.format("Email [%s] is specified for more than one account of the batch.", accountSpec.getEmail());
+            }
+        }
+        return null;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> checkIfAccountsExist(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final ProxyClient<OrganizationsClient> orgsClient) {
+
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext context = progress.getCallbackContext();
+        // one scan covers the whole batch and only guards the first invoke, later callbacks would find the accounts created here
+        if (context.isPreExistenceCheckComplete()) {
+            return progress;
+        }
+        final Map<String, String> emailsOfBatch = model.getAccounts().stream()
+            .collect(Collectors.toMap(accountSpec -> normalizeEmail(accountSpec.getEmail()), AccountSpec::getEmail));
+        final long scanDeadline = System.currentTimeMillis() + preExistenceCheckTimeBudgetMillis;
+        // resume from the page where the previous invoke ran out of time budget
+        String nextToken = context.getPreExistenceCheckNextToken();
+
+        do {
+            final ListAccountsRequest listAccountsRequest = Translator.translateToListAccountsRequest(nextToken);
+            final ListAccountsResponse listAccountsResponse;
+            try {
+                listAccountsResponse = orgsClient.injectCredentialsAndInvokeV2(listAccountsRequest, orgsClient.client()::listAccounts);
+            } catch (Exception e) {
+                context.setPreExistenceCheckNextToken(nextToken);
+                return handleErrorInGeneral(listAccountsRequest, request, e, orgsClient, model, context, log,
+                    AccountBatchConstants.Action.LIST_ACCOUNTS, AccountBatchConstants.Handler.CREATE);
+            }
+            for (final Account account : listAccountsResponse.accounts()) {
+                final String email = emailsOfBatch.get(normalizeEmail(account.email()));
+                if (email != null) {
+                    context.getExistingEmails().add(email);
+                    log.info("Failing PreExistenceCheck: Account with email [{}] already exists with Id: [{}]", email, account.id());
+                }
+            }
+            nextToken = listAccountsResponse.nextToken();
+
+            if (nextToken != null && System.currentTimeMillis() >= scanDeadline) {
+                context.setPreExistenceCheckNextToken(nextToken);
+                log.log("PreExistenceCheck ran out of time budget for this invoke. Resume scanning accounts in next callback.");
+                return ProgressEvent.defaultInProgressHandler(context, PRE_EXISTENCE_CHECK_CALLBACK_DELAY_SECONDS, model);
+            }
+        } while (nextToken != null);
+
+        context.setPreExistenceCheckNextToken(null);
+        context.setPreExistenceCheckComplete(true);
+        return ProgressEvent.progress(model, context);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> runPipelineRound(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext context,
+        final ProxyClient<OrganizationsClient> orgsClient) {
+
+        final long now = System.currentTimeMillis();
+        // invoked again before the scheduled round, keep waiting for the remainder
+        if (now < context.getNextCreateAccountStatusPollTime()) {
+            final int remainingSeconds = (int) ((context.getNextCreateAccountStatusPollTime() - now + 999) / 1000);
+            log.info("Next round of account batch creation is scheduled in {} seconds.", remainingSeconds);
+            return ProgressEvent.defaultInProgressHandler(context, remainingSeconds, model);
+        }
+
+        // calls that failed with a retriable exception in this round, retried in the next one while the retry budget lasts
+        final Map<String, Exception> retriableFailures = new LinkedHashMap<>();
+        pollCreateAccountStatuses(request, model, context, orgsClient, now, retriableFailures);
+
+        final List<AccountSpec> accountsToMove = model.getAccounts().stream()
+            .filter(accountSpec -> isCreated(accountSpec, context) && !isSettled(accountSpec, context))
+            .collect(Collectors.toList());
+        // a new account always starts in the root, so the source is the (cached) root ID rather than a ListParents call
+        String rootId = null;
+        if (!accountsToMove.isEmpty()) {
+            try {
+                rootId = getRootId(awsClientProxy, request, orgsClient);
+            } catch (Exception e) {
+                return handleErrorInGeneral(Translator.translateToListRootsRequest(), request, e, orgsClient, model, context, log,
+                    AccountBatchConstants.Action.LIST_ROOTS, AccountBatchConstants.Handler.CREATE);
+            }
+        }
+        submitAndMove(request, model, context, orgsClient, now, rootId, accountsToMove, retriableFailures);
+
+        if (!retriableFailures.isEmpty() && !acquireHandlerRetry(context, log)) {
+            retriableFailures.forEach((email, e) -> recordFailure(email, handleError(request, model, context, e, log).getErrorCode(),
+                String.format("%s: %s", e.getClass().getSimpleName(), e.getMessage()), context));
+        }
+
+        final List<AccountSpec> accountSpecs = model.getAccounts();
+        if (accountSpecs.stream().allMatch(accountSpec -> isSettled(accountSpec, context))) {
+            if (context.getBatchErrorCode() != null) {
+                return failBatch(model, context);
+            }
+            final List<String> accountIds = accountSpecs.stream()
+                .map(accountSpec -> context.getAccountIds().get(accountSpec.getEmail()))
+                .collect(Collectors.toList());
+            model.setAccountIds(accountIds);
+            model.setBatchId(Translator.translateToBatchId(accountIds));
+            log.info("Successfully created account batch [{}].", model.getBatchId());
+            return ProgressEvent.success(model, context);
+        }
+        return scheduleNextRound(model, context, now);
+    }
+
+    private void pollCreateAccountStatuses(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext context,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final long now,
+        final Map<String, Exception> retriableFailures) {
+
+        final List<String> inFlightEmails = inFlightEmails(model, context);
+        if (inFlightEmails.isEmpty()) {
+            return;
+        }
+        final int attempt = context.getCreateAccountStatusPollAttempt() + 1;
+        context.setCreateAccountStatusPollAttempt(attempt);
+        log.info("Polling DescribeCreateAccountStatus for {} CreateAccount request(s) in flight, attempt {}.", inFlightEmails.size(), attempt);
+
+        final Map<String, CompletableFuture<DescribeCreateAccountStatusResponse>> futures = new LinkedHashMap<>();
+        for (final String email : inFlightEmails) {
+            final DescribeCreateAccountStatusRequest describeRequest =
+                Translator.translateToDescribeCreateAccountStatusRequest(context.getCreateAccountRequestIds().get(email));
+            futures.put(email, ConcurrentInvoker.submit(() -> describeCreateAccountStatus(describeRequest, orgsClient)));
+        }
+        ConcurrentInvoker.awaitAll(futures.values().toArray(new CompletableFuture<?>[0]));
+
+        futures.forEach((email, future) -> {
+            final Exception exception = ConcurrentInvoker.failureOf(future);
+            final long elapsedMillis = now - context.getCreateAccountRequestedTimes().getOrDefault(email, now);
+            if (exception != null && isRetriableException(exception)) {
+                // the next round polls again anyway, so these do not draw from the retry budget
+                log.warn("Got {} when calling DescribeCreateAccountStatus for email [{}], polling again in the next round.", exception.getClass().getName(), email);
+                return;
+            }
+            if (exception != null) {
+                handleCallFailure(request, model, context, email, exception, AccountBatchConstants.Action.DESCRIBE_CREATE_ACCOUNT_STATUS, retriableFailures);
+                return;
+            }
+            final CreateAccountStatus createAccountStatus = future.join().createAccountStatus();
+            if (ACCOUNT_CREATION_STATUS_SUCCEEDED.equals(createAccountStatus.stateAsString())) {
+                CreateAccountPollingSchedule.recordCreationLatency(elapsedMillis);
+            } else if (!ACCOUNT_CREATION_STATUS_FAILED.equals(createAccountStatus.stateAsString())
+                           && CreateAccountPollingSchedule.isPollingExpired(elapsedMillis)) {
+                recordFailure(email, HandlerErrorCode.NotStabilized, String.format("DescribeCreateAccountStatus returns IN_PROGRESS state before time out, "
+                    + "check the status of CreateAccountRequestID [%s]", createAccountStatus.id()), context);
+                return;
+            }
+            recordCreateAccountStatus(email, createAccountStatus, context);
+        });
+    }
+
+    private void submitAndMove(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext context,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final long now,
+        final String rootId,
+        final List<AccountSpec> accountsToMove,
+        final Map<String, Exception> retriableFailures) {
+
+        // after a failure the batch only settles what is in flight
+        final List<AccountSpec> accountsToSubmit = new ArrayList<>();
+        if (context.getBatchErrorCode() == null) {
+            final int freeSlots = maxInFlightCreateAccountRequests - inFlightEmails(model, context).size();
+            model.getAccounts().stream()
+                .filter(accountSpec -> !context.getCreateAccountRequestIds().containsKey(accountSpec.getEmail())
+                                           && !retriableFailures.containsKey(accountSpec.getEmail()))
+                .limit(Math.max(0, freeSlots))
+                .forEach(accountsToSubmit::add);
+        }
+        log.info("Submitting {} CreateAccount request(s) and moving {} created account(s).", accountsToSubmit.size(), accountsToMove.size());
+
+        final Map<String, CompletableFuture<CreateAccountResponse>> createFutures = new LinkedHashMap<>();
+        for (final AccountSpec accountSpec : accountsToSubmit) {
+            final CreateAccountRequest createAccountRequest = Translator.translateToCreateAccountRequest(accountSpec);
+            createFutures.put(accountSpec.getEmail(), ConcurrentInvoker.submit(() -> createAccount(createAccountRequest, orgsClient)));
+        }
+        final Map<String, CompletableFuture<String>> moveFutures = new LinkedHashMap<>();
+        for (final AccountSpec accountSpec : accountsToMove) {
+            final String accountId = context.getAccountIds().get(accountSpec.getEmail());
+            final String destinationId = accountSpec.getParentIds().iterator().next();
+            moveFutures.put(accountSpec.getEmail(), ConcurrentInvoker.submit(() -> moveAccountToParent(request, accountId, destinationId, rootId, orgsClient)));
+        }
+        final List<CompletableFuture<?>> futures = new ArrayList<>(createFutures.values());
+        futures.addAll(moveFutures.values());
+        ConcurrentInvoker.awaitAll(futures.toArray(new CompletableFuture<?>[0]));
+
+        createFutures.forEach((email, future) -> {
+            final Exception exception = ConcurrentInvoker.failureOf(future);
+            if (exception != null) {
+                handleCallFailure(request, model, context, email, exception, AccountBatchConstants.Action.CREATE_ACCOUNT, retriableFailures);
+                return;
+            }
+            final CreateAccountStatus createAccountStatus = future.join().createAccountStatus();
+            context.getCreateAccountRequestIds().put(email, createAccountStatus.id());
+            context.getCreateAccountRequestedTimes().put(email, now);
+            log.info("Successfully initiated new account creation request with CreateAccountRequestId [{}] for email [{}].", createAccountStatus.id(), email);
+            recordCreateAccountStatus(email, createAccountStatus, context);
+        });
+        moveFutures.forEach((email, future) -> {
+            final Exception exception = ConcurrentInvoker.failureOf(future);
+            if (exception != null) {
+                handleCallFailure(request, model, context, email, exception, AccountBatchConstants.Action.MOVE_ACCOUNT, retriableFailures);
+                return;
+            }
+            context.getMovedEmails().add(email);
+            log.info("Account [{}] is in destination id [{}].", context.getAccountIds().get(email), future.join());
+        });
+    }
+
+    private void recordCreateAccountStatus(final String email, final CreateAccountStatus createAccountStatus, final CallbackContext context) {
+        final String state = createAccountStatus.stateAsString();
+        if (ACCOUNT_CREATION_STATUS_SUCCEEDED.equals(state)) {
+            context.getAccountIds().put(email, createAccountStatus.accountId());
+            log.info("Successfully created account with id: [{}] for email [{}].", createAccountStatus.accountId(), email);
+        } else if (ACCOUNT_CREATION_STATUS_FAILED.equals(state)) {
+            final String failureReason = createAccountStatus.failureReasonAsString();
+            recordFailure(email, translateCreateAccountFailureReason(failureReason),
+                String.format("Account creation failed with reason [%s] for request id: %s", failureReason, createAccountStatus.id()), context);
+        }
+    }
+
+    private void handleCallFailure(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext context,
+        final String email,
+        final Exception e,
+        final AccountBatchConstants.Action actionName,
+        final Map<String, Exception> retriableFailures) {
+
+        InvocationMetrics.recordHandlerError(AccountBatchConstants.Handler.CREATE.toString(), actionName.toString(), e);
+        if (isRetriableException(e)) {
+            log.warn("Got {} when calling {} for email [{}], retrying in the next round.", e.getClass().getName(), actionName, email);
+            InvocationMetrics.recordHandlerRetry(AccountBatchConstants.Handler.CREATE.toString(), actionName.toString());
+            retriableFailures.put(email, e);
+            return;
+        }
+        final ProgressEvent<ResourceModel, CallbackContext> progressEvent = handleError(request, model, context, e, log);
+        recordFailure(email, progressEvent.getErrorCode(), String.format("%s failed with %s: %s", actionName, e.getClass().getSimpleName(), e.getMessage()), context);
+    }
+
+    private void recordFailure(final String email, final HandlerErrorCode errorCode, final String message, final CallbackContext context) {
+        log.error("[Exception] Account with email [{}] failed with ErrorCode [{}]: {}", email, errorCode, message);
+        context.getFailureReasons().put(email, message);
+        if (context.getBatchErrorCode() == null) {
+            context.setBatchErrorCode(errorCode);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> scheduleNextRound(final ResourceModel model, final CallbackContext context, final long now) {
+        // the oldest request in flight is the one expected to complete first
+        final long oldestRequestedTime = inFlightEmails(model, context).stream()
+            .mapToLong(email -> context.getCreateAccountRequestedTimes().getOrDefault(email, now))
+            .min()
+            .orElse(now);
+        final int callbackDelaySeconds = oldestRequestedTime < now
+            ? CreateAccountPollingSchedule.nextDelaySeconds(now - oldestRequestedTime) : CreateAccountPollingSchedule.MIN_DELAY_SECONDS;
+        context.setNextCreateAccountStatusPollTime(now + callbackDelaySeconds * 1000L);
+        log.info("Account batch has {} account(s) created, {} request(s) in flight and {} failure(s). Next round in {} seconds.",
+            context.getAccountIds().size(), inFlightEmails(model, context).size(), context.getFailureReasons().size(), callbackDelaySeconds);
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> failBatch(final ResourceModel model, final CallbackContext context) {
+        final Map<String, String> createdAccounts = new LinkedHashMap<>();
+        for (final AccountSpec accountSpec : model.getAccounts()) {
+            final String accountId = context.getAccountIds().get(accountSpec.getEmail());
+            if (accountId != null) {
+                createdAccounts.put(accountSpec.getEmail(), accountId);
+            }
+        }
+        final String errMsg = String.format("Account batch creation failed for %s. Accounts created by this batch: %s. "
+                                                + "Import or close these accounts before creating the batch again.",
+            context.getFailureReasons(), createdAccounts);
+        log.log(errMsg);
+        return ProgressEvent.failed(model, context, context.getBatchErrorCode(), errMsg);
+    }
+
+    private static List<String> inFlightEmails(final ResourceModel model, final CallbackContext context) {
+        return model.getAccounts().stream()
+                   .map(AccountSpec::getEmail)
+                   .filter(email -> context.getCreateAccountRequestIds().containsKey(email)
+                                        && !context.getAccountIds().containsKey(email)
+                                        && !context.getFailureReasons().containsKey(email))
+                   .collect(Collectors.toList());
+    }
+
+    private static boolean isCreated(final AccountSpec accountSpec, final CallbackContext context) {
+        return context.getAccountIds().containsKey(accountSpec.getEmail()) && !context.getFailureReasons().containsKey(accountSpec.getEmail());
+    }
+
+    // an account is settled once it failed, or was created and is in its parent; after a failure unsubmitted accounts are settled too
+    private static boolean isSettled(final AccountSpec accountSpec, final CallbackContext context) {
+        final String email = accountSpec.getEmail();
+        if (context.getFailureReasons().containsKey(email)) {
+            return true;
+        }
+        if (context.getAccountIds().containsKey(email)) {
+            return CollectionUtils.isEmpty(accountSpec.getParentIds()) || context.getMovedEmails().contains(email);
+        }
+        return context.getBatchErrorCode() != null && !context.getCreateAccountRequestIds().containsKey(email);
+    }
+
+    private static String normalizeEmail(final String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static HandlerErrorCode translateCreateAccountFailureReason(final String failureReason) {
+        if (CREATE_ACCOUNT_FAILURE_REASON_EMAIL_ALREADY_EXISTS.equals(failureReason)
+                || CREATE_ACCOUNT_FAILURE_REASON_GOVCLOUD_ACCOUNT_ALREADY_EXISTS.equals(failureReason)) {
+            return HandlerErrorCode.AlreadyExists;
+        } else if (CREATE_ACCOUNT_FAILURE_REASON_ACCOUNT_LIMIT_EXCEEDED.equals(failureReason)) {
+            return HandlerErrorCode.ServiceLimitExceeded;
+        } else if (CREATE_ACCOUNT_FAILURE_REASON_INTERNAL_FAILURE.equals(failureReason)) {
+            return HandlerErrorCode.ServiceInternalError;
+        } else if (CREATE_ACCOUNT_FAILURE_REASON_INVALID_ADDRESS.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_INVALID_EMAIL.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_FAILED_BUSINESS_VALIDATION.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_IDENTITY_INVALID_BUSINESS_VALIDATION.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_INVALID_PAYMENT_INSTRUMENT.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_MISSING_BUSINESS_VALIDATION.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_MISSING_PAYMENT_INSTRUMENT.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_PENDING_BUSINESS_VALIDATION.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_UNKNOWN_BUSINESS_VALIDATION.equals(failureReason)
+                       || CREATE_ACCOUNT_FAILURE_REASON_CONCURRENT_ACCOUNT_MODIFICATION.equals(failureReason)) {
+            return HandlerErrorCode.InvalidRequest;
+        }
+        return HandlerErrorCode.GeneralServiceException;
+    }
+
+    // Runs on a ConcurrentInvoker thread, returns the parent the account ends up in
+    private String moveAccountToParent(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final String accountId,
+        final String destinationId,
+        final String rootId,
+        final ProxyClient<OrganizationsClient> orgsClient) {
+
+        try {
+            moveAccount(Translator.translateToMoveAccountRequest(accountId, destinationId, rootId), orgsClient);
+        } catch (DuplicateAccountException e) {
+            log.info("Got {} when moving account id [{}] to destination id [{}]. Continue with next step.", e.getClass().getName(), accountId, destinationId);
+        } catch (SourceParentNotFoundException e) {
+            // fallback for an account that is no longer in the root, e.g. when the cached root ID went stale
+            log.info("Got {} when moving account id [{}] from source id [{}]. Retrying from the account's current parent.", e.getClass().getName(), accountId, rootId);
+            OrganizationRootCache.invalidate(request.getAwsAccountId());
+            final ListParentsResponse listParentsResponse = orgsClient.injectCredentialsAndInvokeV2(
+                Translator.translateToListParentsRequest(accountId), orgsClient.client()::listParents);
+            final String currentParentId = listParentsResponse.parents().get(0).id();
+            if (!destinationId.equals(currentParentId)) {
+                moveAccount(Translator.translateToMoveAccountRequest(accountId, destinationId, currentParentId), orgsClient);
+            }
+        }
+        return destinationId;
+    }
+
+    protected CreateAccountResponse createAccount(final CreateAccountRequest createAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.info("Calling createAccount API for email [{}].", createAccountRequest.email());
+        return orgsClient.injectCredentialsAndInvokeV2(createAccountRequest, orgsClient.client()::createAccount);
+    }
+
+    protected DescribeCreateAccountStatusResponse describeCreateAccountStatus(final DescribeCreateAccountStatusRequest describeCreateAccountStatusRequest,
+                                                                              final ProxyClient<OrganizationsClient> orgsClient) {
+        return orgsClient.injectCredentialsAndInvokeV2(describeCreateAccountStatusRequest, orgsClient.client()::describeCreateAccountStatus);
+    }
+
+    protected MoveAccountResponse moveAccount(final MoveAccountRequest moveAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.info("Calling moveAccount API for Account [{}] with destinationId [{}],  sourceId [{}].", moveAccountRequest.accountId(), moveAccountRequest.destinationParentId(), moveAccountRequest.sourceParentId());
+        return orgsClient.injectCredentialsAndInvokeV2(moveAccountRequest, orgsClient.client()::moveAccount);
+    }
+}
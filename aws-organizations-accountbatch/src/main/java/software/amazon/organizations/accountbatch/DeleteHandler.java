@@ -0,0 +1,136 @@
+package software.amazon.organizations.accountbatch;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccountAlreadyClosedException;
+import software.amazon.awssdk.services.organizations.model.AccountNotFoundException;
+import software.amazon.awssdk.services.organizations.model.CloseAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CloseAccountResponse;
+import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Closes the accounts of the batch in windows of MAX_CONCURRENT_CLOSE_ACCOUNT_REQUESTS concurrent CloseAccount calls,
+ * checkpointing the closed accounts in the callback context so a callback only closes the remaining ones. When
+ * Organizations rejects a closure with CLOSE_ACCOUNT_REQUESTS_LIMIT_EXCEEDED the delete backs off and continues in a
+ * callback. Accounts that were already closed or left the organization count as deleted; the batch is NotFound only
+ * when this delete closed none of its accounts.
+ */
+public class DeleteHandler extends BaseHandlerStd {
+    private OrgsLoggerWrapper log;
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        this.log = logger;
+        final ResourceModel model = request.getDesiredResourceState();
+        final List<String> accountIds = Translator.translateFromBatchId(model.getBatchId());
+        if (accountIds == null) {
+            String errMsg = String.format("Account batch [%s] does not exist.", model.getBatchId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+
+        final List<String> remainingAccountIds = new ArrayList<>();
+        for (final String accountId : accountIds) {
+            if (!callbackContext.getClosedAccountIds().contains(accountId) && !callbackContext.getAlreadyClosedAccountIds().contains(accountId)) {
+                remainingAccountIds.add(accountId);
+            }
+        }
+        logger.info("Requesting CloseAccount for {} remaining account(s) of batch [{}].", remainingAccountIds.size(), model.getBatchId());
+        for (int windowStart = 0; windowStart < remainingAccountIds.size(); windowStart += MAX_CONCURRENT_CLOSE_ACCOUNT_REQUESTS) {
+            final List<String> window = remainingAccountIds.subList(windowStart,
+                Math.min(windowStart + MAX_CONCURRENT_CLOSE_ACCOUNT_REQUESTS, remainingAccountIds.size()));
+            final Map<String, CloseAccountRequest> closeAccountRequests = new LinkedHashMap<>();
+            final Map<String, CompletableFuture<CloseAccountResponse>> closeAccountFutures = new LinkedHashMap<>();
+            for (final String accountId : window) {
+                final CloseAccountRequest closeAccountRequest = Translator.translateToCloseAccountRequest(accountId);
+                closeAccountRequests.put(accountId, closeAccountRequest);
+                closeAccountFutures.put(accountId, ConcurrentInvoker.submit(() -> closeAccount(closeAccountRequest, orgsClient)));
+            }
+            ConcurrentInvoker.awaitAll(closeAccountFutures.values().toArray(new CompletableFuture<?>[0]));
+
+            String failedAccountId = null;
+            Exception failure = null;
+            String limitedAccountId = null;
+            Exception limitExceeded = null;
+            for (final Map.Entry<String, CompletableFuture<CloseAccountResponse>> entry : closeAccountFutures.entrySet()) {
+                final Exception exception = ConcurrentInvoker.failureOf(entry.getValue());
+                if (exception == null) {
+                    callbackContext.getClosedAccountIds().add(entry.getKey());
+                    callbackContext.setCloseAccountBackoffAttempt(0);
+                } else if (exception instanceof AccountAlreadyClosedException || exception instanceof AccountNotFoundException) {
+                    logger.info("Account [{}] of batch is already closed or not in the organization anymore.", entry.getKey());
+                    callbackContext.getAlreadyClosedAccountIds().add(entry.getKey());
+                } else if (isCloseAccountRequestsLimitExceeded(exception)) {
+                    limitedAccountId = entry.getKey();
+                    limitExceeded = exception;
+                } else if (failure == null) {
+                    failedAccountId = entry.getKey();
+                    failure = exception;
+                }
+            }
+            // accounts closed so far are kept in the callback context, so a retry only closes the remaining ones
+            if (failure != null) {
+                return handleErrorInGeneral(closeAccountRequests.get(failedAccountId), request, failure, orgsClient, model, callbackContext, logger, AccountBatchConstants.Action.CLOSE_ACCOUNT, AccountBatchConstants.Handler.DELETE);
+            }
+            if (limitExceeded != null) {
+                return backOffCloseAccount(closeAccountRequests.get(limitedAccountId), request, limitExceeded, orgsClient, model, callbackContext);
+            }
+        }
+        if (callbackContext.getClosedAccountIds().isEmpty()) {
+            String errMsg = String.format("All accounts of batch [%s] are already closed, return NotFound.", model.getBatchId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+        return ProgressEvent.defaultSuccessHandler(null);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> backOffCloseAccount(
+        final CloseAccountRequest closeAccountRequest,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final Exception e,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final ResourceModel model,
+        final CallbackContext callbackContext) {
+
+        final int attempt = callbackContext.getCloseAccountBackoffAttempt();
+        if (attempt >= MAX_CLOSE_ACCOUNT_BACKOFF_ATTEMPTS) {
+            log.warn("CloseAccount requests limit still exceeded after {} callbacks for batch [{}], return exception to CloudFormation.", attempt, model.getBatchId());
+            return handleError(closeAccountRequest, request, e, orgsClient, model, callbackContext, log);
+        }
+        InvocationMetrics.recordHandlerError(AccountBatchConstants.Handler.DELETE.toString(), AccountBatchConstants.Action.CLOSE_ACCOUNT.toString(), e);
+        InvocationMetrics.recordHandlerRetry(AccountBatchConstants.Handler.DELETE.toString(), AccountBatchConstants.Action.CLOSE_ACCOUNT.toString());
+        callbackContext.setCloseAccountBackoffAttempt(attempt + 1);
+        final int callbackDelaySeconds = Math.min(computeDelayBeforeNextRetry(attempt, BASE_DELAY, RANDOMIZATION_FACTOR), MAX_CLOSE_ACCOUNT_BACKOFF_SECONDS);
+        log.warn("CloseAccount requests limit exceeded for batch [{}] with {} account(s) closed so far, continuing {} of {} with callback delay {} seconds.",
+            model.getBatchId(), callbackContext.getClosedAccountIds().size(), attempt + 1, MAX_CLOSE_ACCOUNT_BACKOFF_ATTEMPTS, callbackDelaySeconds);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, callbackDelaySeconds, model);
+    }
+
+    private static boolean isCloseAccountRequestsLimitExceeded(final Exception e) {
+        return e instanceof ConstraintViolationException
+            && CLOSE_ACCOUNT_FAILURE_REASON_REQUESTS_LIMIT_EXCEEDED.equals(((ConstraintViolationException) e).reasonAsString());
+    }
+
+    protected CloseAccountResponse closeAccount(final CloseAccountRequest closeAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.info("Calling closeAccount API for AccountId [{}].", closeAccountRequest.accountId());
+        return orgsClient.injectCredentialsAndInvokeV2(closeAccountRequest, orgsClient.client()::closeAccount);
+    }
+}
@@ -0,0 +1,85 @@
+package software.amazon.organizations.accountbatch;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.organizations.utils.OrganizationRootCache;
+import software.amazon.organizations.utils.PrimingHttpClient;
+import software.amazon.organizations.utils.SnapStartPriming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SnapStart priming pass. Before the snapshot it runs a Read through the full handler stack against
+ * PrimingHttpClient, which loads the SDK marshallers and exception classes, the handlers' error mapping and the
+ * Jackson bindings of the model without a network call. After a restore the cached client is dropped, so that each
+ * restored sandbox builds its own client and connections on first use.
+ */
+final class Priming {
+    private static final String PRIMING_ACCOUNT_ID = "123456789012";
+    private static final String PRIMING_PARTITION = "aws";
+    // priming requests never leave the container, so any region will do when AWS_REGION is unset
+    private static final String PRIMING_REGION = System.getenv("AWS_REGION") != null ? System.getenv("AWS_REGION") : "us-east-1";
+    private static final String PRIMING_CLIENT_REQUEST_TOKEN = "snapstart-priming";
+    private static final long PRIMING_REMAINING_MILLIS = 60_000L;
+    private static final Credentials PRIMING_CREDENTIALS = new Credentials("priming", "priming", "priming");
+    private static final LoggerProxy LOGGER_PROXY = new LoggerProxy();
+    private static final Serializer SERIALIZER = new Serializer();
+    private static final AtomicBoolean REGISTERED = new AtomicBoolean();
+
+    private Priming() {
+    }
+
+    static void register() {
+        if (REGISTERED.compareAndSet(false, true)) {
+            SnapStartPriming.register(Priming::prime, Priming::afterRestore);
+        }
+    }
+
+    // Returns the number of requests the stub answered
+    static int prime() {
+        final PrimingHttpClient httpClient = new PrimingHttpClient();
+        ClientBuilder.pinClient(ClientBuilder.newClient(PRIMING_REGION, httpClient));
+        try {
+            final ResourceModel model = roundTrip(ResourceModel.builder().batchId(PRIMING_ACCOUNT_ID).build());
+            invoke(new ReadHandler(), model);
+        } finally {
+            ClientBuilder.invalidateClient();
+        }
+        return httpClient.getRequestCount();
+    }
+
+    static void afterRestore() {
+        ClientBuilder.invalidateClient();
+        OrganizationRootCache.invalidateAll();
+        // connections opened before the snapshot are gone, the first callback after restore should not pay for one
+        ClientBuilder.warmUpConnection();
+    }
+
+    private static void invoke(final BaseHandlerStd handler, final ResourceModel model) {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(LOGGER_PROXY, PRIMING_CREDENTIALS, () -> PRIMING_REMAINING_MILLIS);
+        handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                         .awsAccountId(PRIMING_ACCOUNT_ID)
+                                         .awsPartition(PRIMING_PARTITION)
+                                         .region(PRIMING_REGION)
+                                         .clientRequestToken(PRIMING_CLIENT_REQUEST_TOKEN)
+                                         .desiredResourceState(model)
+                                         .build(),
+            new CallbackContext(), LOGGER_PROXY);
+    }
+
+    // LambdaWrapper deserializes every request and serializes every callback context with the same Serializer
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        try {
+            SERIALIZER.deserialize(SERIALIZER.serialize(new CallbackContext()), new TypeReference<CallbackContext>() { });
+            return SERIALIZER.deserialize(SERIALIZER.serialize(model), new TypeReference<ResourceModel>() { });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package software.amazon.organizations.accountbatch;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.AccountNotFoundException;
+import software.amazon.awssdk.services.organizations.model.AccountStatus;
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reads the accounts listed in the BatchId. Every account that is still in the organization is reported, closed ones
+ * included, so closing a single account outside CloudFormation does not show up as drift of the whole batch; AccountIds
+ * always lists every account of the BatchId. Only an account that left the organization is missing from Accounts. The
+ * batch is NotFound once none of its accounts is active, which is also what a Read after Delete sees.
+ */
+public class ReadHandler extends BaseHandlerStd {
+    private OrgsLoggerWrapper log;
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        this.log = logger;
+        final ResourceModel model = request.getDesiredResourceState();
+        final List<String> accountIds = Translator.translateFromBatchId(model.getBatchId());
+        if (accountIds == null) {
+            String errMsg = String.format("Account batch [%s] does not exist.", model.getBatchId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+
+        // DescribeAccount, ListParents and ListTagsForResource only need the account id, so the calls for all accounts of
+        // the batch are issued at once and processed in the original order once all of them have settled
+        logger.info("Requesting DescribeAccount, ListParents and ListTagsForResource for {} account(s) of batch [{}].", accountIds.size(), model.getBatchId());
+        final List<DescribeAccountRequest> describeAccountRequests = new ArrayList<>(accountIds.size());
+        final List<ListParentsRequest> listParentsRequests = new ArrayList<>(accountIds.size());
+        final List<ListTagsForResourceRequest> listTagsRequests = new ArrayList<>(accountIds.size());
+        final List<CompletableFuture<DescribeAccountResponse>> describeAccountFutures = new ArrayList<>(accountIds.size());
+        final List<CompletableFuture<ListParentsResponse>> listParentsFutures = new ArrayList<>(accountIds.size());
+        final List<CompletableFuture<ListTagsForResourceResponse>> listTagsFutures = new ArrayList<>(accountIds.size());
+        for (final String accountId : accountIds) {
+            final DescribeAccountRequest describeAccountRequest = Translator.translateToDescribeAccountRequest(accountId);
+            final ListParentsRequest listParentsRequest = Translator.translateToListParentsRequest(accountId);
+            final ListTagsForResourceRequest listTagsRequest = Translator.translateToListTagsForResourceRequest(accountId);
+            describeAccountRequests.add(describeAccountRequest);
+            listParentsRequests.add(listParentsRequest);
+            listTagsRequests.add(listTagsRequest);
+            describeAccountFutures.add(ConcurrentInvoker.submit(() -> describeAccount(describeAccountRequest, orgsClient)));
+            listParentsFutures.add(ConcurrentInvoker.submit(() -> listParents(listParentsRequest, orgsClient)));
+            listTagsFutures.add(ConcurrentInvoker.submit(() -> listTagsForResource(listTagsRequest, orgsClient)));
+        }
+        final List<CompletableFuture<?>> futures = new ArrayList<>(describeAccountFutures);
+        futures.addAll(listParentsFutures);
+        futures.addAll(listTagsFutures);
+        ConcurrentInvoker.awaitAll(futures.toArray(new CompletableFuture<?>[0]));
+
+        boolean anyActive = false;
+        final List<AccountSpec> accountSpecs = new ArrayList<>(accountIds.size());
+        for (int i = 0; i < accountIds.size(); i++) {
+            Exception exception = ConcurrentInvoker.failureOf(describeAccountFutures.get(i));
+            if (exception instanceof AccountNotFoundException) {
+                logger.info("Account [{}] of batch is not in the organization anymore, skipping it.", accountIds.get(i));
+                continue;
+            }
+            if (exception != null) {
+                return handleErrorInGeneral(describeAccountRequests.get(i), request, exception, orgsClient, model, callbackContext, logger, AccountBatchConstants.Action.DESCRIBE_ACCOUNT, AccountBatchConstants.Handler.READ);
+            }
+            final Account account = describeAccountFutures.get(i).join().account();
+            exception = ConcurrentInvoker.failureOf(listParentsFutures.get(i));
+            if (exception instanceof ChildNotFoundException) {
+                logger.info("Account [{}] of batch left the organization while it was read, skipping it.", accountIds.get(i));
+                continue;
+            }
+            if (exception != null) {
+                return handleErrorInGeneral(listParentsRequests.get(i), request, exception, orgsClient, model, callbackContext, logger, AccountBatchConstants.Action.LIST_PARENTS, AccountBatchConstants.Handler.READ);
+            }
+            exception = ConcurrentInvoker.failureOf(listTagsFutures.get(i));
+            if (exception instanceof TargetNotFoundException) {
+                logger.info("Account [{}] of batch left the organization while it was read, skipping it.", accountIds.get(i));
+                continue;
+            }
+            if (exception != null) {
+                return handleErrorInGeneral(listTagsRequests.get(i), request, exception, orgsClient, model, callbackContext, logger, AccountBatchConstants.Action.LIST_TAGS_FOR_RESOURCE, AccountBatchConstants.Handler.READ);
+            }
+            anyActive |= account.status() == AccountStatus.ACTIVE;
+            accountSpecs.add(Translator.translateToAccountSpec(account, listParentsFutures.get(i).join(), listTagsFutures.get(i).join()));
+        }
+
+        if (!anyActive) {
+            String errMsg = String.format("No account of batch [%s] is active, return NotFound.", model.getBatchId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+        return ProgressEvent.defaultSuccessHandler(ResourceModel.builder()
+                                                       .batchId(model.getBatchId())
+                                                       .accountIds(accountIds)
+                                                       .accounts(accountSpecs)
+                                                       .build());
+    }
+
+    protected DescribeAccountResponse describeAccount(final DescribeAccountRequest describeAccountRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.info("Calling DescribeAccount API for AccountId [{}].", describeAccountRequest.accountId());
+        return orgsClient.injectCredentialsAndInvokeV2(describeAccountRequest, orgsClient.client()::describeAccount);
+    }
+
+    protected ListParentsResponse listParents(final ListParentsRequest listParentsRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.info("Calling ListParents API for AccountId [{}].", listParentsRequest.childId());
+        return orgsClient.injectCredentialsAndInvokeV2(listParentsRequest, orgsClient.client()::listParents);
+    }
+
+    protected ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest listTagsForResourceRequest, final ProxyClient<OrganizationsClient> orgsClient) {
+        log.info("Calling ListTagsForResource API for resource [{}].", listTagsForResourceRequest.resourceId());
+        return orgsClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, orgsClient.client()::listTagsForResource);
+    }
+}
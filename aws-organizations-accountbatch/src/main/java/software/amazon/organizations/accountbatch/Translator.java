@@ -0,0 +1,140 @@
+package software.amazon.organizations.accountbatch;
+
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.CloseAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.Parent;
+import software.amazon.awssdk.services.organizations.model.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class is a centralized placeholder for
+ * - api request construction
+ * - object translation to/from aws sdk
+ * - resource model construction for read handler
+ */
+
+public class Translator {
+    // the BatchId lists the account IDs of the batch, so Read and Delete need nothing but the primary identifier
+    static final String BATCH_ID_SEPARATOR = "|";
+    private static final Pattern BATCH_ID_PATTERN = Pattern.compile("^\\d{12}(\\|\\d{12})*$");
+
+    static String translateToBatchId(final List<String> accountIds) {
+        return String.join(BATCH_ID_SEPARATOR, accountIds);
+    }
+
+    // Returns null for an identifier that was not produced by translateToBatchId
+    static List<String> translateFromBatchId(final String batchId) {
+        if (batchId == null || !BATCH_ID_PATTERN.matcher(batchId).matches()) {
+            return null;
+        }
+        return Arrays.asList(batchId.split(Pattern.quote(BATCH_ID_SEPARATOR)));
+    }
+
+    static ListAccountsRequest translateToListAccountsRequest(final String nextToken) {
+        return ListAccountsRequest.builder()
+                   .nextToken(nextToken)
+                   .build();
+    }
+
+    static CreateAccountRequest translateToCreateAccountRequest(final AccountSpec accountSpec) {
+        return CreateAccountRequest.builder()
+                   .accountName(accountSpec.getAccountName())
+                   .email(accountSpec.getEmail())
+                   .roleName(accountSpec.getRoleName())
+                   .tags(translateTagsToSdk(accountSpec.getTags()))
+                   .build();
+    }
+
+    static DescribeCreateAccountStatusRequest translateToDescribeCreateAccountStatusRequest(final String createAccountRequestId) {
+        return DescribeCreateAccountStatusRequest.builder()
+                   .createAccountRequestId(createAccountRequestId)
+                   .build();
+    }
+
+    static ListRootsRequest translateToListRootsRequest() {
+        return ListRootsRequest.builder()
+                   .build();
+    }
+
+    static MoveAccountRequest translateToMoveAccountRequest(final String accountId, final String destinationParentId, final String sourceParentId) {
+        return MoveAccountRequest.builder()
+                   .accountId(accountId)
+                   .sourceParentId(sourceParentId)
+                   .destinationParentId(destinationParentId)
+                   .build();
+    }
+
+    static ListParentsRequest translateToListParentsRequest(final String childId) {
+        return ListParentsRequest.builder().childId(childId).build();
+    }
+
+    static DescribeAccountRequest translateToDescribeAccountRequest(final String accountId) {
+        return DescribeAccountRequest.builder()
+                   .accountId(accountId)
+                   .build();
+    }
+
+    static ListTagsForResourceRequest translateToListTagsForResourceRequest(final String resourceId) {
+        return ListTagsForResourceRequest.builder()
+                   .resourceId(resourceId)
+                   .build();
+    }
+
+    static CloseAccountRequest translateToCloseAccountRequest(final String accountId) {
+        return CloseAccountRequest.builder().accountId(accountId).build();
+    }
+
+    // Builds the spec of an existing account from its DescribeAccount, ListParents and ListTagsForResource responses
+    static AccountSpec translateToAccountSpec(final Account account, final ListParentsResponse listParentsResponse,
+                                              final ListTagsForResourceResponse listTagsForResourceResponse) {
+        return AccountSpec.builder()
+                   .accountName(account.name())
+                   .email(account.email())
+                   .parentIds(streamOfOrEmpty(listParentsResponse.parents()).map(Parent::id).collect(Collectors.toSet()))
+                   .tags(translateTagsFromSdkResponse(listTagsForResourceResponse.tags()))
+                   .build();
+    }
+
+    static Collection<Tag> translateTagsToSdk(final Set<software.amazon.organizations.accountbatch.Tag> tags) {
+        return streamOfOrEmpty(tags)
+                   .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                   .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    static Set<software.amazon.organizations.accountbatch.Tag> translateTagsFromSdkResponse(final List<Tag> tags) {
+        if (tags == null) return new HashSet<>();
+
+        return tags.stream()
+                   .map(tag -> software.amazon.organizations.accountbatch.Tag.builder()
+                                   .key(tag.key())
+                                   .value(tag.value())
+                                   .build())
+                   .collect(Collectors.toSet());
+    }
+
+    private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
+        return Optional.ofNullable(collection)
+                   .map(Collection::stream)
+                   .orElseGet(Stream::empty);
+    }
+}
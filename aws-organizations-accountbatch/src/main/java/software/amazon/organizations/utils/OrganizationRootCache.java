@@ -0,0 +1,56 @@
+package software.amazon.organizations.utils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the root ID of an organization for the life of a warm container.
+ * The root of an organization never changes, but the organization behind a key can be deleted and recreated, so entries
+ * expire after TTL_MILLIS and handlers invalidate them as soon as the service reports that the organization is gone.
+ */
+public final class OrganizationRootCache {
+    public static final long TTL_MILLIS = 10 * 60_000L;
+
+    private static final Map<String, Entry> ROOT_IDS = new ConcurrentHashMap<>();
+
+    private OrganizationRootCache() {
+    }
+
+    /**
+     * Returns the cached root ID for the key, or calls the loader and caches its result when there is none or it expired.
+     * Exceptions thrown by the loader reach the caller and nothing is cached.
+     */
+    public static String getRootId(final String key, final Supplier<String> loader) {
+        final String cacheKey = Objects.toString(key, "");
+        final long now = System.currentTimeMillis();
+        final Entry cached = ROOT_IDS.get(cacheKey);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.rootId;
+        }
+        final String rootId = loader.get();
+        if (rootId != null) {
+            ROOT_IDS.put(cacheKey, new Entry(rootId, now + TTL_MILLIS));
+        }
+        return rootId;
+    }
+
+    public static void invalidate(final String key) {
+        ROOT_IDS.remove(Objects.toString(key, ""));
+    }
+
+    public static void invalidateAll() {
+        ROOT_IDS.clear();
+    }
+
+    private static final class Entry {
+        private final String rootId;
+        private final long expiresAt;
+
+        private Entry(final String rootId, final long expiresAt) {
+            this.rootId = rootId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Token bucket bounding how many retries one resource operation may spend, shared between SDK retry attempts inside an
+ * invocation and handler callback retries across invocations. Without it the two layers multiply, so a throttled call can
+ * be attempted around a dozen times and add to organization-wide throttling.
+ * The handler restores the bucket from the callback context, binds it to the invoking thread for the client retry condition
+ * to charge, and writes the remaining tokens back before returning. Tokens refill lazily at a fixed rate up to the capacity.
+ */
+public final class RetryBudget {
+    public static final int CAPACITY = 6;
+    public static final int SDK_RETRY_COST = 1;
+    public static final int HANDLER_RETRY_COST = 2;
+    static final long REFILL_INTERVAL_MILLIS = 10_000L;
+
+    private static final ThreadLocal<RetryBudget> CURRENT = new ThreadLocal<>();
+
+    // Charges the budget bound to the calling thread; calls made outside a handler invocation have none and are not limited
+    private static final RetryCondition SDK_RETRY_CONDITION = retryPolicyContext -> {
+        final RetryBudget budget = CURRENT.get();
+        return budget == null || budget.tryAcquire(SDK_RETRY_COST);
+    };
+
+    private final LongSupplier clock;
+    private int tokens;
+    private long lastRefillMillis;
+
+    private RetryBudget(final int tokens, final long lastRefillMillis, final LongSupplier clock) {
+        this.tokens = tokens;
+        this.lastRefillMillis = lastRefillMillis;
+        this.clock = clock;
+    }
+
+    // A null token count means no budget has been persisted yet, so the operation starts with a full bucket
+    public static RetryBudget restore(final Integer tokens, final long lastRefillMillis) {
+        return restore(tokens, lastRefillMillis, System::currentTimeMillis);
+    }
+
+    static RetryBudget restore(final Integer tokens, final long lastRefillMillis, final LongSupplier clock) {
+        final long now = clock.getAsLong();
+        if (tokens == null || lastRefillMillis <= 0L) {
+            return new RetryBudget(CAPACITY, now, clock);
+        }
+        return new RetryBudget(Math.max(0, Math.min(CAPACITY, tokens)), Math.min(lastRefillMillis, now), clock);
+    }
+
+    public static RetryBudget current() {
+        return CURRENT.get();
+    }
+
+    public static RetryCondition sdkRetryCondition() {
+        return SDK_RETRY_CONDITION;
+    }
+
+    // Wraps a task handed to another thread so it charges the budget bound to the submitting thread
+    public static <T> Supplier<T> propagate(final Supplier<T> task) {
+        final RetryBudget budget = CURRENT.get();
+        return budget == null ? task : () -> budget.runWith(task);
+    }
+
+    public synchronized boolean tryAcquire(final int cost) {
+        refill();
+        if (tokens < cost) {
+            return false;
+        }
+        tokens -= cost;
+        return true;
+    }
+
+    public synchronized int getRemainingTokens() {
+        refill();
+        return tokens;
+    }
+
+    public synchronized long getLastRefillMillis() {
+        return lastRefillMillis;
+    }
+
+    // Runs the action with this budget bound to the current thread, restoring whatever was bound before
+    public <T> T runWith(final Supplier<T> action) {
+        final RetryBudget previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private void refill() {
+        final long now = clock.getAsLong();
+        if (tokens >= CAPACITY) {
+            lastRefillMillis = now;
+            return;
+        }
+        final long intervals = (now - lastRefillMillis) / REFILL_INTERVAL_MILLIS;
+        if (intervals > 0) {
+            tokens = (int) Math.min(CAPACITY, tokens + intervals);
+            lastRefillMillis = tokens >= CAPACITY ? now : lastRefillMillis + intervals * REFILL_INTERVAL_MILLIS;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package software.amazon.organizations.accountbatch;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class AbstractTestBase {
+    // Constants for unit test
+    protected static final String TEST_ACCOUNT_NAME = "TestAccountName";
+    protected static final String TEST_ACCOUNT_EMAIL_DOMAIN = "@example.com";
+    protected static final String TEST_OU_NAME = "workloads";
+    protected static final String ACCOUNT_BATCH_JSON_SCHEMA_FILE_NAME = "aws-organizations-accountbatch.json";
+    protected static final String ACCOUNT_BATCH_SCHEMA_SHA256_HEXSTRING = "2F4C5BB6AD66FA48D904B8F49234443EC81AF84DCA39B8C5ECEA89EBED2B46C1";
+    protected static final Credentials MOCK_CREDENTIALS;
+    protected static final LoggerProxy loggerProxy;
+    protected static final OrgsLoggerWrapper logger;
+
+    static {
+        MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+        loggerProxy = new LoggerProxy();
+        logger = new OrgsLoggerWrapper(loggerProxy);
+    }
+
+    static ProxyClient<OrganizationsClient> MOCK_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new ProxyClient<OrganizationsClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                return proxy.injectCredentialsAndInvokeV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT
+            injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                return proxy.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT, ResponseInputStream<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT, ResponseBytes<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public OrganizationsClient client() {
+                return orgsClient;
+            }
+        };
+    }
+
+    // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+    static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+    }
+
+    // API call budgets of the handler paths for a batch of accountCount accounts, see ApiCallBudgetTest
+    protected static CallBudget readCalls(final int accountCount) {
+        return CallBudget.calls()
+                   .exactly("DescribeAccount", accountCount)
+                   .exactly("ListParents", accountCount)
+                   .exactly("ListTagsForResource", accountCount);
+    }
+
+    protected static CallBudget deleteCalls(final int accountCount) {
+        return CallBudget.calls().exactly("CloseAccount", accountCount);
+    }
+
+    protected static AccountSpec accountSpec(final int index) {
+        return AccountSpec.builder()
+                   .accountName(TEST_ACCOUNT_NAME + index)
+                   .email("account" + index + TEST_ACCOUNT_EMAIL_DOMAIN)
+                   .build();
+    }
+
+    // Creates an account directly in the fake, which completes CreateAccount requests at once unless configured otherwise
+    protected static String createAccount(final FakeOrganizationsClient fakeOrgsClient, final int index) {
+        return fakeOrgsClient.createAccount(CreateAccountRequest.builder()
+                                                .accountName(TEST_ACCOUNT_NAME + index)
+                                                .email("account" + index + TEST_ACCOUNT_EMAIL_DOMAIN)
+                                                .build()).createAccountStatus().accountId();
+    }
+}
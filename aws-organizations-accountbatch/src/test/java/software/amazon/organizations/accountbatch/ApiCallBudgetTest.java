@@ -0,0 +1,120 @@
+package software.amazon.organizations.accountbatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.organizations.utils.CallBudget.calls;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+    private static final int BATCH_SIZE = 4;
+    private static final long CREATE_ACCOUNT_DURATION_MILLIS = 60_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                         .createAccountDurationMillis(CREATE_ACCOUNT_DURATION_MILLIS)
+                                                         .clock(clock::get)
+                                                         .build());
+        proxyClient = COUNTING_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        CreateAccountPollingSchedule.reset();
+    }
+
+    @Test
+    public void create_HalfOfBatchInOrganizationalUnit() {
+        assertThat(create().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // one shared ListAccounts page, one CreateAccount per account and at least one status poll each, the root ID
+        // once for the whole batch, one move per account with a parent, and no Read
+        calls().exactly("ListAccounts", 1)
+            .exactly("CreateAccount", BATCH_SIZE)
+            .between("DescribeCreateAccountStatus", BATCH_SIZE, 2 * BATCH_SIZE)
+            .atMost("ListRoots", 1)
+            .exactly("MoveAccount", BATCH_SIZE / 2)
+            .assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                          .desiredResourceState(ResourceModel.builder().batchId(created.getBatchId()).build())
+                                                          .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        readCalls(BATCH_SIZE).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .desiredResourceState(ResourceModel.builder().batchId(created.getBatchId()).build())
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        deleteCalls(BATCH_SIZE).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create() {
+        final String ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                        .parentId(fakeOrgsClient.getRootId())
+                                                                        .name(TEST_OU_NAME)
+                                                                        .build()).organizationalUnit().id();
+        final List<AccountSpec> accountSpecs = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final AccountSpec accountSpec = accountSpec(i);
+            if (i % 2 == 0) {
+                accountSpec.setParentIds(new HashSet<>(Set.of(ouId)));
+            }
+            accountSpecs.add(accountSpec);
+        }
+        return invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                        .desiredResourceState(ResourceModel.builder().accounts(accountSpecs).build())
+                                                        .build());
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay,
+    // advancing the fake's clock so that the CreateAccount requests in flight complete
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            context.setNextCreateAccountStatusPollTime(0L);
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            clock.addAndGet(CREATE_ACCOUNT_DURATION_MILLIS);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
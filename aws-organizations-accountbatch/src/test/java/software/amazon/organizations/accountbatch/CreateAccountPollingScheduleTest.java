@@ -0,0 +1,58 @@
+package software.amazon.organizations.accountbatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreateAccountPollingScheduleTest {
+
+    @AfterEach
+    public void tear_down() {
+        CreateAccountPollingSchedule.reset();
+    }
+
+    @Test
+    public void nextDelaySeconds_AimsAtExpectedLatency() {
+        // 60s expected latency, 30s elapsed: next poll lands 30s later plus at most 20% jitter
+        final int delay = CreateAccountPollingSchedule.nextDelaySeconds(30_000L);
+        assertThat(delay).isBetween(30, 36);
+    }
+
+    @Test
+    public void nextDelaySeconds_UsesMinimumDelayCloseToExpectedLatency() {
+        final int delay = CreateAccountPollingSchedule.nextDelaySeconds(CreateAccountPollingSchedule.DEFAULT_EXPECTED_LATENCY_MILLIS - 500L);
+        assertThat(delay).isBetween(CreateAccountPollingSchedule.MIN_DELAY_SECONDS, CreateAccountPollingSchedule.MIN_DELAY_SECONDS + 1);
+    }
+
+    @Test
+    public void nextDelaySeconds_BacksOffWhenOverdue() {
+        // 40s past the expected latency backs off by half of that
+        final int delay = CreateAccountPollingSchedule.nextDelaySeconds(CreateAccountPollingSchedule.DEFAULT_EXPECTED_LATENCY_MILLIS + 40_000L);
+        assertThat(delay).isBetween(20, 24);
+    }
+
+    @Test
+    public void nextDelaySeconds_IsCappedAtMaximumDelay() {
+        final int delay = CreateAccountPollingSchedule.nextDelaySeconds(CreateAccountPollingSchedule.MAX_POLLING_DURATION_MILLIS);
+        assertThat(delay).isEqualTo(CreateAccountPollingSchedule.MAX_DELAY_SECONDS);
+    }
+
+    @Test
+    public void recordCreationLatency_MovesExpectedLatencyTowardsObservations() {
+        CreateAccountPollingSchedule.recordCreationLatency(160_000L);
+        assertThat(CreateAccountPollingSchedule.expectedLatencyMillis()).isEqualTo(90_000L);
+
+        CreateAccountPollingSchedule.recordCreationLatency(0L);
+        assertThat(CreateAccountPollingSchedule.expectedLatencyMillis()).isEqualTo(90_000L);
+
+        // a slower organization pushes the first poll further out
+        assertThat(CreateAccountPollingSchedule.nextDelaySeconds(0L)).isEqualTo(CreateAccountPollingSchedule.MAX_DELAY_SECONDS);
+    }
+
+    @Test
+    public void isPollingExpired_AfterMaximumPollingDuration() {
+        assertThat(CreateAccountPollingSchedule.isPollingExpired(CreateAccountPollingSchedule.MAX_POLLING_DURATION_MILLIS - 1)).isFalse();
+        assertThat(CreateAccountPollingSchedule.isPollingExpired(CreateAccountPollingSchedule.MAX_POLLING_DURATION_MILLIS)).isTrue();
+    }
+}
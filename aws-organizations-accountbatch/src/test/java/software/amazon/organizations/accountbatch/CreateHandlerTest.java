@@ -0,0 +1,241 @@
+package software.amazon.organizations.accountbatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CreateHandlerTest extends AbstractTestBase {
+    private static final long CREATE_ACCOUNT_DURATION_MILLIS = 60_000L;
+    private static final int MAX_INVOCATIONS = 20;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        // CreateAccount requests stay IN_PROGRESS until the test advances the fake's clock
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                         .createAccountDurationMillis(CREATE_ACCOUNT_DURATION_MILLIS)
+                                                         .clock(clock::get)
+                                                         .build());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        CreateAccountPollingSchedule.reset();
+    }
+
+    @Test
+    public void handleRequest_PipelinesCreateAccountWithOneScanAndMovesInParallel() {
+        final String ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                        .parentId(fakeOrgsClient.getRootId())
+                                                                        .name(TEST_OU_NAME)
+                                                                        .build()).organizationalUnit().id();
+        final List<AccountSpec> accountSpecs = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            final AccountSpec accountSpec = accountSpec(i);
+            if (i % 2 == 0) {
+                accountSpec.setParentIds(new HashSet<>(Set.of(ouId)));
+            }
+            accountSpecs.add(accountSpec);
+        }
+        final CreateHandler handler = new CreateHandler(BaseHandlerStd.PRE_EXISTENCE_CHECK_TIME_BUDGET_MILLIS, 3);
+        final ResourceHandlerRequest<ResourceModel> request = createRequest(accountSpecs);
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstRound = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+
+        assertThat(firstRound.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstRound.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(fakeOrgsClient.getCallCount("CreateAccount")).isEqualTo(3);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(handler, request, context);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final List<String> accountIds = response.getResourceModel().getAccountIds();
+        assertThat(accountIds).hasSize(7);
+        assertThat(response.getResourceModel().getBatchId()).isEqualTo(String.join("|", accountIds));
+        for (int i = 0; i < accountIds.size(); i++) {
+            assertThat(fakeOrgsClient.describeAccount(DescribeAccountRequest.builder().accountId(accountIds.get(i)).build()).account().email())
+                .isEqualTo(accountSpecs.get(i).getEmail());
+            final String expectedParentId = i % 2 == 0 ? ouId : fakeOrgsClient.getRootId();
+            assertThat(fakeOrgsClient.listParents(ListParentsRequest.builder().childId(accountIds.get(i)).build()).parents().get(0).id())
+                .isEqualTo(expectedParentId);
+        }
+        assertThat(fakeOrgsClient.getCallCount("ListAccounts")).isEqualTo(1);
+        assertThat(fakeOrgsClient.getCallCount("CreateAccount")).isEqualTo(7);
+        assertThat(fakeOrgsClient.getCallCount("ListRoots")).isEqualTo(1);
+        assertThat(fakeOrgsClient.getCallCount("MoveAccount")).isEqualTo(4);
+    }
+
+    @Test
+    public void handleRequest_SharedScanPagesAcrossCallbacks() {
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                         .pageSize(1)
+                                                         .build());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        createAccount(fakeOrgsClient, 100);
+        createAccount(fakeOrgsClient, 101);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(new CreateHandler(0L, 5),
+            createRequest(Arrays.asList(accountSpec(0), accountSpec(1))), new CallbackContext());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the management account and the two accounts created above, one page each
+        assertThat(fakeOrgsClient.getCallCount("ListAccounts")).isEqualTo(3);
+        assertThat(response.getResourceModel().getAccountIds()).hasSize(2);
+    }
+
+    @Test
+    public void handleRequest_FailsWithAllExistingEmails() {
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        createAccount(fakeOrgsClient, 1);
+        createAccount(fakeOrgsClient, 2);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(accountSpec(0), accountSpec(1), accountSpec(2))), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getMessage()).contains(accountSpec(1).getEmail(), accountSpec(2).getEmail());
+        // only the two accounts created by the test
+        assertThat(fakeOrgsClient.getCallCount("CreateAccount")).isEqualTo(2);
+    }
+
+    @Test
+    public void handleRequest_StopsSubmittingAfterFailureAndReportsCreatedAccounts() {
+        final CreateHandler handler = new CreateHandler(BaseHandlerStd.PRE_EXISTENCE_CHECK_TIME_BUDGET_MILLIS, 1);
+        final ResourceHandlerRequest<ResourceModel> request = createRequest(Arrays.asList(accountSpec(0), accountSpec(1), accountSpec(2)));
+        final CallbackContext context = new CallbackContext();
+
+        assertThat(handler.handleRequest(awsClientProxy, request, context, proxyClient, logger).getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        // the email of the second account is taken after the pre-existence check passed
+        final String requestId = fakeOrgsClient.createAccount(CreateAccountRequest.builder()
+                                                                  .accountName(TEST_ACCOUNT_NAME)
+                                                                  .email(accountSpec(1).getEmail())
+                                                                  .build()).createAccountStatus().id();
+        clock.addAndGet(CREATE_ACCOUNT_DURATION_MILLIS);
+        fakeOrgsClient.describeCreateAccountStatus(DescribeCreateAccountStatusRequest.builder().createAccountRequestId(requestId).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(handler, request, context);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(response.getMessage()).contains("EMAIL_ALREADY_EXISTS", context.getAccountIds().get(accountSpec(0).getEmail()));
+        // the third account is never submitted once the second one failed
+        assertThat(fakeOrgsClient.getCallCount("CreateAccount")).isEqualTo(3);
+        assertThat(context.getCreateAccountRequestIds()).doesNotContainKey(accountSpec(2).getEmail());
+    }
+
+    @Test
+    public void handleRequest_RetriesThrottledCreateAccountInNextRound() {
+        final FakeOrganizationsClient spyOrgsClient = spy(fakeOrgsClient);
+        doThrow(TooManyRequestsException.builder().message("Rate exceeded").build())
+            .doCallRealMethod()
+            .when(spyOrgsClient).createAccount(any(CreateAccountRequest.class));
+        proxyClient = MOCK_PROXY(awsClientProxy, spyOrgsClient);
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeUntilDone(new CreateHandler(),
+            createRequest(Arrays.asList(accountSpec(0), accountSpec(1))), context);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAccountIds()).hasSize(2);
+        verify(spyOrgsClient, times(3)).createAccount(any(CreateAccountRequest.class));
+        assertThat(context.getFailureReasons()).isEmpty();
+    }
+
+    @Test
+    public void handleRequest_DuplicateEmailsAreInvalid() {
+        final AccountSpec duplicate = accountSpec(1);
+        duplicate.setEmail(accountSpec(0).getEmail().toUpperCase());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(accountSpec(0), duplicate)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(fakeOrgsClient.getTotalCallCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void handleRequest_MoreThanOneParentIsInvalid() {
+        final AccountSpec accountSpec = accountSpec(0);
+        accountSpec.setParentIds(new HashSet<>(Set.of(fakeOrgsClient.getRootId(), "ou-abc1-abcd1234")));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(accountSpec)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(fakeOrgsClient.getTotalCallCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void handleRequest_EmptyBatchIsInvalid() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(new ArrayList<>()), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> createRequest(final List<AccountSpec> accountSpecs) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder().accounts(accountSpecs).build())
+                   .build();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay,
+    // advancing the fake's clock so that the CreateAccount requests in flight complete
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final CreateHandler handler, final ResourceHandlerRequest<ResourceModel> request,
+                                                                         final CallbackContext context) {
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            // the test does not wait out the callback delay, so start the next round right away
+            context.setNextCreateAccountStatusPollTime(0L);
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            clock.addAndGet(CREATE_ACCOUNT_DURATION_MILLIS);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
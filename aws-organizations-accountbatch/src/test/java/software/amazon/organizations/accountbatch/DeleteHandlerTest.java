@@ -0,0 +1,186 @@
+package software.amazon.organizations.accountbatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccountStatus;
+import software.amazon.awssdk.services.organizations.model.CloseAccountRequest;
+import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DeleteHandlerTest extends AbstractTestBase {
+    private final DeleteHandler handler = new DeleteHandler();
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_ClosesAllAccounts() {
+        final String firstAccountId = createAccount(fakeOrgsClient, 1);
+        final String secondAccountId = createAccount(fakeOrgsClient, 2);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(firstAccountId + "|" + secondAccountId), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(accountStatus(firstAccountId)).isEqualTo(AccountStatus.SUSPENDED);
+        assertThat(accountStatus(secondAccountId)).isEqualTo(AccountStatus.SUSPENDED);
+        assertThat(fakeOrgsClient.getCallCount("CloseAccount")).isEqualTo(2);
+    }
+
+    @Test
+    public void handleRequest_AccountAlreadyClosedStillSucceeds() {
+        final String firstAccountId = createAccount(fakeOrgsClient, 1);
+        final String secondAccountId = createAccount(fakeOrgsClient, 2);
+        fakeOrgsClient.closeAccount(CloseAccountRequest.builder().accountId(firstAccountId).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(firstAccountId + "|" + secondAccountId), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(accountStatus(secondAccountId)).isEqualTo(AccountStatus.SUSPENDED);
+    }
+
+    @Test
+    public void handleRequest_SecondDeleteIsNotFound() {
+        final String accountId = createAccount(fakeOrgsClient, 1);
+        handler.handleRequest(awsClientProxy, deleteRequest(accountId), new CallbackContext(), proxyClient, logger);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(accountId), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_InvalidBatchIdIsNotFound() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest("123|456"), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(fakeOrgsClient.getTotalCallCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void handleRequest_ClosesAtMostMaxConcurrentAccountsAtATime() {
+        final List<String> accountIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            accountIds.add(createAccount(fakeOrgsClient, i));
+        }
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final FakeOrganizationsClient spyOrgsClient = spy(fakeOrgsClient);
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                return invocation.callRealMethod();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }).when(spyOrgsClient).closeAccount(any(CloseAccountRequest.class));
+        proxyClient = MOCK_PROXY(awsClientProxy, spyOrgsClient);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(String.join("|", accountIds)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(maxInFlight.get()).isBetween(1, BaseHandlerStd.MAX_CONCURRENT_CLOSE_ACCOUNT_REQUESTS);
+        verify(spyOrgsClient, times(5)).closeAccount(any(CloseAccountRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RequestsLimitExceededBacksOffAndResumes() {
+        final String firstAccountId = createAccount(fakeOrgsClient, 1);
+        final String secondAccountId = createAccount(fakeOrgsClient, 2);
+        final String thirdAccountId = createAccount(fakeOrgsClient, 3);
+        final FakeOrganizationsClient spyOrgsClient = spy(fakeOrgsClient);
+        doCallRealMethod()
+            .doCallRealMethod()
+            .doThrow(closeAccountRequestsLimitExceeded())
+            .doCallRealMethod()
+            .when(spyOrgsClient).closeAccount(any(CloseAccountRequest.class));
+        proxyClient = MOCK_PROXY(awsClientProxy, spyOrgsClient);
+        final CallbackContext context = new CallbackContext();
+        final ResourceHandlerRequest<ResourceModel> request = deleteRequest(firstAccountId + "|" + secondAccountId + "|" + thirdAccountId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> backOff = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+
+        assertThat(backOff.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(backOff.getCallbackDelaySeconds()).isBetween(BaseHandlerStd.BASE_DELAY, BaseHandlerStd.MAX_CLOSE_ACCOUNT_BACKOFF_SECONDS);
+        assertThat(context.getClosedAccountIds()).containsExactlyInAnyOrder(firstAccountId, secondAccountId);
+        assertThat(context.getCloseAccountBackoffAttempt()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(accountStatus(thirdAccountId)).isEqualTo(AccountStatus.SUSPENDED);
+        assertThat(context.getCloseAccountBackoffAttempt()).isEqualTo(0);
+        // the accounts closed before the back off are not closed again
+        verify(spyOrgsClient, times(4)).closeAccount(any(CloseAccountRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RequestsLimitStillExceededAfterMaxBackOffsFails() {
+        final String accountId = createAccount(fakeOrgsClient, 1);
+        final FakeOrganizationsClient spyOrgsClient = spy(fakeOrgsClient);
+        doThrow(closeAccountRequestsLimitExceeded()).when(spyOrgsClient).closeAccount(any(CloseAccountRequest.class));
+        proxyClient = MOCK_PROXY(awsClientProxy, spyOrgsClient);
+        final CallbackContext context = new CallbackContext();
+        context.setCloseAccountBackoffAttempt(BaseHandlerStd.MAX_CLOSE_ACCOUNT_BACKOFF_ATTEMPTS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(accountId), context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+    }
+
+    private static ConstraintViolationException closeAccountRequestsLimitExceeded() {
+        return ConstraintViolationException.builder()
+                   .reason(BaseHandlerStd.CLOSE_ACCOUNT_FAILURE_REASON_REQUESTS_LIMIT_EXCEEDED)
+                   .message("You have exceeded close account request limit.")
+                   .build();
+    }
+
+    private AccountStatus accountStatus(final String accountId) {
+        return fakeOrgsClient.describeAccount(DescribeAccountRequest.builder().accountId(accountId).build()).account().status();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> deleteRequest(final String batchId) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder().batchId(batchId).build())
+                   .build();
+    }
+}
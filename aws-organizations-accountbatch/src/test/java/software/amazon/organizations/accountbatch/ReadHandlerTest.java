@@ -0,0 +1,133 @@
+package software.amazon.organizations.accountbatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CloseAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadHandlerTest extends AbstractTestBase {
+    private static final String TEST_TAG_KEY = "team";
+    private static final String TEST_TAG_VALUE = "payments";
+
+    private final ReadHandler handler = new ReadHandler();
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_ReturnsAccountsInBatchOrder() {
+        final String firstAccountId = createAccount(fakeOrgsClient, 1);
+        final String secondAccountId = createAccount(fakeOrgsClient, 2);
+        final String ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                        .parentId(fakeOrgsClient.getRootId())
+                                                                        .name(TEST_OU_NAME)
+                                                                        .build()).organizationalUnit().id();
+        fakeOrgsClient.moveAccount(MoveAccountRequest.builder()
+                                       .accountId(secondAccountId)
+                                       .sourceParentId(fakeOrgsClient.getRootId())
+                                       .destinationParentId(ouId)
+                                       .build());
+        fakeOrgsClient.tagResource(TagResourceRequest.builder()
+                                       .resourceId(secondAccountId)
+                                       .tags(software.amazon.awssdk.services.organizations.model.Tag.builder().key(TEST_TAG_KEY).value(TEST_TAG_VALUE).build())
+                                       .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(secondAccountId + "|" + firstAccountId), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ResourceModel model = response.getResourceModel();
+        assertThat(model.getBatchId()).isEqualTo(secondAccountId + "|" + firstAccountId);
+        assertThat(model.getAccountIds()).containsExactly(secondAccountId, firstAccountId);
+        assertThat(model.getAccounts()).hasSize(2);
+        assertThat(model.getAccounts().get(0).getEmail()).isEqualTo(accountSpec(2).getEmail());
+        assertThat(model.getAccounts().get(0).getAccountName()).isEqualTo(accountSpec(2).getAccountName());
+        assertThat(model.getAccounts().get(0).getParentIds()).containsExactly(ouId);
+        assertThat(model.getAccounts().get(0).getTags()).containsExactly(Tag.builder().key(TEST_TAG_KEY).value(TEST_TAG_VALUE).build());
+        assertThat(model.getAccounts().get(1).getEmail()).isEqualTo(accountSpec(1).getEmail());
+        assertThat(model.getAccounts().get(1).getParentIds()).containsExactly(fakeOrgsClient.getRootId());
+        assertThat(fakeOrgsClient.getCallCount("DescribeAccount")).isEqualTo(2);
+    }
+
+    @Test
+    public void handleRequest_ReportsClosedAccountsWhileOneIsActive() {
+        final String firstAccountId = createAccount(fakeOrgsClient, 1);
+        final String secondAccountId = createAccount(fakeOrgsClient, 2);
+        fakeOrgsClient.closeAccount(CloseAccountRequest.builder().accountId(firstAccountId).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(firstAccountId + "|" + secondAccountId), new CallbackContext(), proxyClient, logger);
+
+        // the model still matches the one the batch was created with, so the closed account is not drift
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAccountIds()).isEqualTo(Arrays.asList(firstAccountId, secondAccountId));
+        assertThat(response.getResourceModel().getAccounts()).hasSize(2);
+        assertThat(response.getResourceModel().getAccounts().get(0).getEmail()).isEqualTo(accountSpec(1).getEmail());
+        assertThat(response.getResourceModel().getAccounts().get(1).getEmail()).isEqualTo(accountSpec(2).getEmail());
+    }
+
+    @Test
+    public void handleRequest_LeavesOutAccountsThatLeftTheOrganization() {
+        final String accountId = createAccount(fakeOrgsClient, 1);
+        // an ID of the right shape that the organization does not know
+        final String goneAccountId = "999999999999";
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(goneAccountId + "|" + accountId), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAccountIds()).isEqualTo(Arrays.asList(goneAccountId, accountId));
+        assertThat(response.getResourceModel().getAccounts()).hasSize(1);
+        assertThat(response.getResourceModel().getAccounts().get(0).getEmail()).isEqualTo(accountSpec(1).getEmail());
+    }
+
+    @Test
+    public void handleRequest_AllAccountsClosedIsNotFound() {
+        final String accountId = createAccount(fakeOrgsClient, 1);
+        fakeOrgsClient.closeAccount(CloseAccountRequest.builder().accountId(accountId).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(accountId), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_InvalidBatchIdIsNotFound() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest("not-a-batch"), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(fakeOrgsClient.getTotalCallCount()).isEqualTo(0);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> readRequest(final String batchId) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder().batchId(batchId).build())
+                   .build();
+    }
+}
@@ -0,0 +1,64 @@
+package software.amazon.organizations.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class InstrumentedProxyClientTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Mock
+    private ProxyClient<OrganizationsClient> delegate;
+    @Mock
+    private OrganizationsClient orgsClient;
+
+    @Test
+    public void injectCredentialsAndInvokeV2_RecordsCallByOperation() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics("AWS::Organizations::Account", "READ");
+        final ListRootsResponse response = ListRootsResponse.builder().build();
+        when(delegate.injectCredentialsAndInvokeV2(any(ListRootsRequest.class), any())).thenReturn(response);
+        final InstrumentedProxyClient<OrganizationsClient> proxyClient = new InstrumentedProxyClient<>(delegate, metrics);
+
+        assertThat(proxyClient.injectCredentialsAndInvokeV2(ListRootsRequest.builder().build(), orgsClient::listRoots)).isSameAs(response);
+
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.get("Operation").asText()).isEqualTo("ListRoots");
+        assertThat(record.get("CallCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_RecordsFailureAndRethrows() throws Exception {
+        final InvocationMetrics metrics = new InvocationMetrics("AWS::Organizations::Account", "READ");
+        when(delegate.injectCredentialsAndInvokeV2(any(ListRootsRequest.class), any()))
+            .thenThrow(TooManyRequestsException.builder().message("Rate exceeded").build());
+        final InstrumentedProxyClient<OrganizationsClient> proxyClient = new InstrumentedProxyClient<>(delegate, metrics);
+
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(ListRootsRequest.builder().build(), orgsClient::listRoots))
+            .isInstanceOf(TooManyRequestsException.class);
+
+        final JsonNode record = MAPPER.readTree(metrics.toEmf().get(0));
+        assertThat(record.get("ErrorCount").asInt()).isEqualTo(1);
+        assertThat(record.get("ThrottleCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void client_ReturnsDelegateClient() {
+        when(delegate.client()).thenReturn(orgsClient);
+
+        assertThat(new InstrumentedProxyClient<>(delegate, new InvocationMetrics("AWS::Organizations::Account", "READ")).client()).isSameAs(orgsClient);
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryBudgetTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    public void restore_WithoutPersistedState_StartsFull() {
+        final RetryBudget budget = RetryBudget.restore(null, 0L, now::get);
+
+        assertThat(budget.getRemainingTokens()).isEqualTo(RetryBudget.CAPACITY);
+        assertThat(budget.getLastRefillMillis()).isEqualTo(now.get());
+    }
+
+    @Test
+    public void tryAcquire_FailsOnceBudgetIsExhausted() {
+        final RetryBudget budget = RetryBudget.restore(null, 0L, now::get);
+
+        assertThat(budget.tryAcquire(RetryBudget.HANDLER_RETRY_COST)).isTrue();
+        assertThat(budget.tryAcquire(RetryBudget.HANDLER_RETRY_COST)).isTrue();
+        assertThat(budget.tryAcquire(RetryBudget.HANDLER_RETRY_COST)).isTrue();
+        assertThat(budget.tryAcquire(RetryBudget.SDK_RETRY_COST)).isFalse();
+        assertThat(budget.getRemainingTokens()).isZero();
+    }
+
+    @Test
+    public void tryAcquire_RefillsOverTimeUpToCapacity() {
+        final RetryBudget budget = RetryBudget.restore(0, now.get(), now::get);
+        assertThat(budget.tryAcquire(RetryBudget.SDK_RETRY_COST)).isFalse();
+
+        now.addAndGet(RetryBudget.REFILL_INTERVAL_MILLIS * 2 + 1);
+        assertThat(budget.tryAcquire(RetryBudget.HANDLER_RETRY_COST)).isTrue();
+        assertThat(budget.tryAcquire(RetryBudget.SDK_RETRY_COST)).isFalse();
+
+        now.addAndGet(RetryBudget.REFILL_INTERVAL_MILLIS * 100);
+        assertThat(budget.getRemainingTokens()).isEqualTo(RetryBudget.CAPACITY);
+    }
+
+    @Test
+    public void restore_CarriesPersistedTokensAcrossInvocations() {
+        final RetryBudget first = RetryBudget.restore(null, 0L, now::get);
+        first.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        first.tryAcquire(RetryBudget.SDK_RETRY_COST);
+
+        final RetryBudget second = RetryBudget.restore(first.getRemainingTokens(), first.getLastRefillMillis(), now::get);
+
+        assertThat(second.getRemainingTokens()).isEqualTo(RetryBudget.CAPACITY - RetryBudget.HANDLER_RETRY_COST - RetryBudget.SDK_RETRY_COST);
+    }
+
+    @Test
+    public void sdkRetryCondition_ChargesBoundBudgetOnly() {
+        assertThat(RetryBudget.current()).isNull();
+        assertThat(RetryBudget.sdkRetryCondition().shouldRetry(null)).isTrue();
+
+        final RetryBudget budget = RetryBudget.restore(1, now.get(), now::get);
+        final boolean[] decisions = budget.runWith(() -> new boolean[] {
+            RetryBudget.sdkRetryCondition().shouldRetry(null),
+            RetryBudget.sdkRetryCondition().shouldRetry(null)
+        });
+
+        assertThat(decisions).containsExactly(true, false);
+        assertThat(RetryBudget.current()).isNull();
+    }
+
+    @Test
+    public void propagate_BindsSubmittingThreadsBudgetOnWorker() {
+        final RetryBudget budget = RetryBudget.restore(null, 0L, now::get);
+
+        final Boolean bound = budget.runWith(() -> ConcurrentInvoker.submit(() -> RetryBudget.current() == budget).join());
+
+        assertThat(bound).isTrue();
+    }
+}
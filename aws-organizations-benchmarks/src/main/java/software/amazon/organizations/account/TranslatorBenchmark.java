@@ -0,0 +1,93 @@
+package software.amazon.organizations.account;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.AccountStatus;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.benchmarks.TagFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building and response translation in the account Translator with the maximum number of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int LIST_PAGE_SIZE = 20;
+
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private List<Tag> sdkTags;
+    private ListTagsForResourceResponse listTagsForResourceResponse;
+    private ListAccountsResponse listAccountsResponse;
+
+    @Setup
+    public void setup() {
+        sdkTags = new ArrayList<>(TagFixtures.resourceTags(TagFixtures.MAX_TAGS_PER_RESOURCE));
+        model = ResourceModel.builder()
+                    .accountId("123456789012")
+                    .accountName("workload-prod")
+                    .email("workload-prod@example.com")
+                    .roleName("OrganizationAccountAccessRole")
+                    .parentIds(Set.of("ou-abcd-11111111"))
+                    .tags(Translator.translateTagsFromSdkResponse(sdkTags))
+                    .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                      .desiredResourceState(model)
+                      .desiredResourceTags(TagFixtures.stackTags(5))
+                      .build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(sdkTags).build();
+        final List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < LIST_PAGE_SIZE; i++) {
+            accounts.add(Account.builder()
+                             .id(String.format("%012d", i))
+                             .name("account-" + i)
+                             .email("account-" + i + "@example.com")
+                             .status(i % 10 == 0 ? AccountStatus.SUSPENDED : AccountStatus.ACTIVE)
+                             .build());
+        }
+        listAccountsResponse = ListAccountsResponse.builder().accounts(accounts).nextToken("next").build();
+    }
+
+    @Benchmark
+    public CreateAccountRequest translateToCreateAccountRequest() {
+        return Translator.translateToCreateAccountRequest(model, request);
+    }
+
+    @Benchmark
+    public MoveAccountRequest translateToMoveAccountRequest() {
+        return Translator.translateToMoveAccountRequest(model, "ou-abcd-22222222", "ou-abcd-11111111");
+    }
+
+    @Benchmark
+    public ResourceModel translateFromAllDescribeResponse() {
+        return Translator.translateFromAllDescribeResponse(model, listTagsForResourceResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateListAccountsResponseToResourceModel() {
+        return Translator.translateListAccountsResponseToResourceModel(listAccountsResponse);
+    }
+}
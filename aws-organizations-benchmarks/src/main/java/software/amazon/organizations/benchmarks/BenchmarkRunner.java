@@ -0,0 +1,30 @@
+package software.amazon.organizations.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the regular JMH command line options, but writes the results as JSON to
+ * target/jmh-result.json unless -rf or -rff say otherwise, so runs can be compared to spot regressions.
+ */
+public final class BenchmarkRunner {
+    static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        final Options options = new OptionsBuilder()
+                                    .parent(commandLineOptions)
+                                    .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                                    .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                                    .build();
+        new Runner(options).run();
+    }
+}
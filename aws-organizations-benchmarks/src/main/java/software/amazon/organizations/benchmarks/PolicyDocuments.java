@@ -0,0 +1,139 @@
+package software.amazon.organizations.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Builds realistic policy documents of a requested serialized size. Each policy type repeats its own kind of entry,
+ * SCP statements, tag policy keys, backup plans or declarative image criteria, until the JSON reaches the target length.
+ */
+public final class PolicyDocuments {
+    public static final String SERVICE_CONTROL_POLICY = "SERVICE_CONTROL_POLICY";
+    public static final String TAG_POLICY = "TAG_POLICY";
+    public static final String BACKUP_POLICY = "BACKUP_POLICY";
+    public static final String DECLARATIVE_POLICY_EC2 = "DECLARATIVE_POLICY_EC2";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int SAMPLE_ENTRIES = 16;
+
+    private PolicyDocuments() {
+    }
+
+    /**
+     * Returns a document of the given policy type whose JSON form is at least targetLength characters long, as the
+     * Map a CloudFormation template hands to the Translator.
+     */
+    public static Map<String, Object> document(final String policyType, final int targetLength) {
+        final IntFunction<Map<String, Object>> builder = builderFor(policyType);
+        // size a sample first, then build once with enough entries instead of growing one entry at a time
+        final int sampleLength = toJson(builder.apply(SAMPLE_ENTRIES)).length();
+        int entries = Math.max(1, (int) Math.ceil((double) SAMPLE_ENTRIES * targetLength / sampleLength));
+        Map<String, Object> document = builder.apply(entries);
+        while (toJson(document).length() < targetLength) {
+            entries++;
+            document = builder.apply(entries);
+        }
+        return document;
+    }
+
+    public static String toJson(final Object document) {
+        try {
+            return MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IntFunction<Map<String, Object>> builderFor(final String policyType) {
+        switch (policyType) {
+            case SERVICE_CONTROL_POLICY:
+                return PolicyDocuments::serviceControlPolicy;
+            case TAG_POLICY:
+                return PolicyDocuments::tagPolicy;
+            case BACKUP_POLICY:
+                return PolicyDocuments::backupPolicy;
+            case DECLARATIVE_POLICY_EC2:
+                return PolicyDocuments::declarativePolicy;
+            default:
+                throw new IllegalArgumentException("Unknown policy type " + policyType);
+        }
+    }
+
+    private static Map<String, Object> serviceControlPolicy(final int entries) {
+        final List<Object> statements = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            final Map<String, Object> statement = new LinkedHashMap<>();
+            statement.put("Sid", "DenyOutsideApprovedRegions" + i);
+            statement.put("Effect", "Deny");
+            statement.put("Action", Arrays.asList("s3:DeleteBucket", "ec2:TerminateInstances", "iam:DeleteRole", "kms:ScheduleKeyDeletion"));
+            statement.put("Resource", "*");
+            statement.put("Condition", Map.of(
+                "StringNotEquals", Map.of("aws:RequestedRegion", Arrays.asList("us-east-1", "eu-west-1")),
+                "ArnNotLike", Map.of("aws:PrincipalARN", "arn:aws:iam::*:role/BreakGlass" + i)));
+            statements.add(statement);
+        }
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put("Version", "2012-10-17");
+        document.put("Statement", statements);
+        return document;
+    }
+
+    private static Map<String, Object> tagPolicy(final int entries) {
+        final Map<String, Object> tags = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            final Map<String, Object> tag = new LinkedHashMap<>();
+            tag.put("tag_key", assign("CostCenter" + i));
+            tag.put("tag_value", assign(Arrays.asList("100", "200", "300*")));
+            tag.put("enforced_for", assign(Arrays.asList("ec2:instance", "ec2:volume", "s3:bucket")));
+            tags.put("costcenter" + i, tag);
+        }
+        return Map.of("tags", tags);
+    }
+
+    private static Map<String, Object> backupPolicy(final int entries) {
+        final Map<String, Object> plans = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            final Map<String, Object> rule = new LinkedHashMap<>();
+            rule.put("schedule_expression", assign("cron(0 5 ? * * *)"));
+            rule.put("target_backup_vault_name", assign("Vault" + i));
+            rule.put("lifecycle", Map.of("delete_after_days", assign("35")));
+            final Map<String, Object> selection = new LinkedHashMap<>();
+            selection.put("iam_role_arn", assign("arn:aws:iam::$account:role/BackupRole"));
+            selection.put("tag_key", assign("backup"));
+            selection.put("tag_value", assign(Arrays.asList("daily", "plan" + i)));
+            final Map<String, Object> plan = new LinkedHashMap<>();
+            plan.put("regions", assign(Arrays.asList("us-east-1", "eu-west-1")));
+            plan.put("rules", Map.of("daily", rule));
+            plan.put("selections", Map.of("tags", Map.of("selection" + i, selection)));
+            plans.put("plan" + i, plan);
+        }
+        return Map.of("plans", plans);
+    }
+
+    private static Map<String, Object> declarativePolicy(final int entries) {
+        final Map<String, Object> criteria = new LinkedHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            criteria.put("criteria_" + i, Map.of("allowed_image_providers",
+                Map.of("@@append", Arrays.asList("amazon", String.format("%012d", i)))));
+        }
+        final Map<String, Object> allowedImages = new LinkedHashMap<>();
+        allowedImages.put("state", assign("enabled"));
+        allowedImages.put("image_criteria", criteria);
+        final Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("image_block_public_access", Map.of("state", assign("block_new_sharing")));
+        attributes.put("allowed_images_settings", allowedImages);
+        return Map.of("ec2_attributes", attributes);
+    }
+
+    private static Map<String, Object> assign(final Object value) {
+        return Map.of("@@assign", value);
+    }
+}
@@ -0,0 +1,61 @@
+package software.amazon.organizations.benchmarks;
+
+import software.amazon.awssdk.services.organizations.model.Tag;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tag sets for the TagsHelper and Translator benchmarks. Organizations allows 50 tags per resource, so that is the
+ * default size, and the updated set changes values, drops keys and adds keys the way a typical stack update does.
+ */
+public final class TagFixtures {
+    public static final int MAX_TAGS_PER_RESOURCE = 50;
+
+    private TagFixtures() {
+    }
+
+    public static Set<Tag> resourceTags(final int count) {
+        final Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(Tag.builder().key(key(i)).value(value(i, 0)).build());
+        }
+        return tags;
+    }
+
+    /**
+     * The tags after an update of resourceTags(count): the first fifth keep their keys with new values, the last tenth
+     * is dropped and the same number of new keys is added.
+     */
+    public static Set<Tag> updatedResourceTags(final int count) {
+        final int changed = count / 5;
+        final int replaced = count / 10;
+        final Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count - replaced; i++) {
+            tags.add(Tag.builder().key(key(i)).value(value(i, i < changed ? 1 : 0)).build());
+        }
+        for (int i = count; i < count + replaced; i++) {
+            tags.add(Tag.builder().key(key(i)).value(value(i, 0)).build());
+        }
+        return tags;
+    }
+
+    // stack level tags, which CloudFormation passes as a map next to the resource model
+    public static Map<String, String> stackTags(final int count) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put("stack-tag-" + i, "stack-value-" + i);
+        }
+        return tags;
+    }
+
+    private static String key(final int index) {
+        return "team-resource-tag-" + index;
+    }
+
+    private static String value(final int index, final int revision) {
+        return "value-" + index + "-revision-" + revision;
+    }
+}
@@ -0,0 +1,53 @@
+package software.amazon.organizations.organization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The OrganizationsClient of an invocation: built from scratch, as every invocation did before the ClientBuilder kept one
+ * per warm container, or served by getClient() from the cached holder. The fresh client is closed again, like the one
+ * an invocation used to drop; the shared HTTP client stays open either way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientBuilderBenchmark {
+    private static final String REGION = "us-east-1";
+
+    @Setup
+    public void setup() {
+        ClientBuilder.getClient(REGION);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ClientBuilder.invalidateClient();
+    }
+
+    @Benchmark
+    public OrganizationsClient newClient() {
+        final OrganizationsClient client = ClientBuilder.newClient(REGION);
+        client.close();
+        return client;
+    }
+
+    @Benchmark
+    public OrganizationsClient cachedClient() {
+        return ClientBuilder.getClient(REGION);
+    }
+}
@@ -0,0 +1,45 @@
+package software.amazon.organizations.organization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First requests of a fresh container, with and without the SnapStart priming pass. Each fork is a new JVM that times a
+ * single run of the handlers against PrimingHttpClient: cold, or after the pass already ran in setup, as it does before
+ * the snapshot, which is what a restored container sees. The network round trips are left out of both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+    @Param({"false", "true"})
+    public boolean primed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (primed) {
+            Priming.prime();
+            Priming.afterRestore();
+        }
+    }
+
+    @Benchmark
+    public int firstRequests() {
+        return Priming.prime();
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.organizations.organization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.Organization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building and response translation in the organization Translator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private ResourceModel model;
+    private DescribeOrganizationResponse describeOrganizationResponse;
+
+    @Setup
+    public void setup() {
+        model = ResourceModel.builder()
+                    .featureSet("ALL")
+                    .rootId("r-abcd")
+                    .build();
+        describeOrganizationResponse = DescribeOrganizationResponse.builder()
+                                           .organization(Organization.builder()
+                                                             .id("o-exampleorgid")
+                                                             .arn("arn:aws:organizations::111111111111:organization/o-exampleorgid")
+                                                             .featureSet("ALL")
+                                                             .masterAccountId("111111111111")
+                                                             .masterAccountArn("arn:aws:organizations::111111111111:account/o-exampleorgid/111111111111")
+                                                             .masterAccountEmail("management@example.com")
+                                                             .build())
+                                           .build();
+    }
+
+    @Benchmark
+    public CreateOrganizationRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(describeOrganizationResponse, model);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translatetoListReadResponse() {
+        return Translator.translatetoListReadResponse(describeOrganizationResponse, model, new ArrayList<>());
+    }
+}
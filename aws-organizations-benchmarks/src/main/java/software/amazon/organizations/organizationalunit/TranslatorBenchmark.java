@@ -0,0 +1,85 @@
+package software.amazon.organizations.organizationalunit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.benchmarks.TagFixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building and response translation in the organizational unit Translator with the maximum number of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int LIST_PAGE_SIZE = 20;
+
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private ListTagsForResourceResponse listTagsForResourceResponse;
+    private ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParentResponse;
+
+    @Setup
+    public void setup() {
+        final List<Tag> sdkTags = new ArrayList<>(TagFixtures.resourceTags(TagFixtures.MAX_TAGS_PER_RESOURCE));
+        model = ResourceModel.builder()
+                    .id("ou-abcd-11111111")
+                    .arn("arn:aws:organizations::111111111111:ou/o-exampleorgid/ou-abcd-11111111")
+                    .name("workloads")
+                    .parentId("r-abcd")
+                    .tags(Translator.translateTagsFromSdkResponse(sdkTags))
+                    .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                      .desiredResourceState(model)
+                      .desiredResourceTags(TagFixtures.stackTags(5))
+                      .build();
+        listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(sdkTags).build();
+        final List<OrganizationalUnit> organizationalUnits = new ArrayList<>();
+        for (int i = 0; i < LIST_PAGE_SIZE; i++) {
+            organizationalUnits.add(OrganizationalUnit.builder()
+                                        .id("ou-abcd-" + String.format("%08d", i))
+                                        .arn("arn:aws:organizations::111111111111:ou/o-exampleorgid/ou-abcd-" + String.format("%08d", i))
+                                        .name("ou-" + i)
+                                        .build());
+        }
+        listOrganizationalUnitsForParentResponse = ListOrganizationalUnitsForParentResponse.builder()
+                                                       .organizationalUnits(organizationalUnits)
+                                                       .nextToken("next")
+                                                       .build();
+    }
+
+    @Benchmark
+    public CreateOrganizationalUnitRequest translateToCreateOrganizationalUnitRequest() {
+        return Translator.translateToCreateOrganizationalUnitRequest(model, request);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromDescribeResponse() {
+        return Translator.translateFromDescribeResponse(model, listTagsForResourceResponse);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateListAccountsResponseToResourceModel() {
+        return Translator.translateListAccountsResponseToResourceModel(listOrganizationalUnitsForParentResponse);
+    }
+}
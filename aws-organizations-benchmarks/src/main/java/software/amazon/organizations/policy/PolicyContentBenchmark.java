@@ -0,0 +1,61 @@
+package software.amazon.organizations.policy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.organizations.benchmarks.PolicyDocuments;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON conversion of policy content in Translator. Sizes go from a typical SCP up to the 1,000,000 character maximum
+ * of the Content property in aws-organizations-policy.json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyContentBenchmark {
+
+    @Param({PolicyDocuments.SERVICE_CONTROL_POLICY, PolicyDocuments.TAG_POLICY, PolicyDocuments.BACKUP_POLICY, PolicyDocuments.DECLARATIVE_POLICY_EC2})
+    public String policyType;
+
+    @Param({"1000", "5000", "100000", "1000000"})
+    public int contentLength;
+
+    private Map<String, Object> document;
+    private String json;
+
+    @Setup
+    public void setup() {
+        document = PolicyDocuments.document(policyType, contentLength);
+        json = PolicyDocuments.toJson(document);
+    }
+
+    @Benchmark
+    public String convertObjectToString() {
+        return Translator.convertObjectToString(document);
+    }
+
+    @Benchmark
+    public Object convertStringToObject() {
+        return Translator.convertStringToObject(json);
+    }
+
+    // what a Create or Update followed by its Read does with the content
+    @Benchmark
+    public Object roundTrip() {
+        return Translator.convertStringToObject(Translator.convertObjectToString(document));
+    }
+}
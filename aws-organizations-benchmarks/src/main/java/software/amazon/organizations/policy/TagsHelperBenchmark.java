@@ -0,0 +1,72 @@
+package software.amazon.organizations.policy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.organizations.benchmarks.TagFixtures;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tag merging and diffing that every Update handler runs. The TagsHelper copies in the other modules are identical,
+ * so the policy one stands for all of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagsHelperBenchmark {
+
+    @Param({"10", "50"})
+    public int tagCount;
+
+    private Set<Tag> previousTags;
+    private Set<Tag> desiredTags;
+    private Set<software.amazon.organizations.policy.Tag> modelTags;
+    private Map<String, String> stackTags;
+
+    @Setup
+    public void setup() {
+        previousTags = TagFixtures.resourceTags(tagCount);
+        desiredTags = TagFixtures.updatedResourceTags(tagCount);
+        modelTags = Translator.translateTagsFromSdkResponse(List.copyOf(desiredTags));
+        stackTags = TagFixtures.stackTags(tagCount / 5);
+    }
+
+    @Benchmark
+    public Set<Tag> mergeTags() {
+        return TagsHelper.mergeTags(TagsHelper.convertPolicyTagToOrganizationTag(modelTags), stackTags);
+    }
+
+    // Sets.difference returns a lazy view, copying it makes the benchmark pay for the diff itself
+    @Benchmark
+    public void diffTags(final Blackhole blackhole) {
+        blackhole.consume(new HashSet<>(TagsHelper.getTagsToAddOrUpdate(previousTags, desiredTags)));
+        blackhole.consume(new HashSet<>(TagsHelper.getTagKeysToRemove(previousTags, desiredTags)));
+    }
+
+    // the complete tag handling of an Update: merge both sides, then diff them
+    @Benchmark
+    public void mergeAndDiffTags(final Blackhole blackhole) {
+        final Set<Tag> existing = TagsHelper.mergeTags(previousTags, stackTags);
+        final Set<Tag> requested = TagsHelper.mergeTags(TagsHelper.convertPolicyTagToOrganizationTag(modelTags), stackTags);
+        blackhole.consume(new HashSet<>(TagsHelper.getTagsToAddOrUpdate(existing, requested)));
+        blackhole.consume(new HashSet<>(TagsHelper.getTagKeysToRemove(existing, requested)));
+    }
+}
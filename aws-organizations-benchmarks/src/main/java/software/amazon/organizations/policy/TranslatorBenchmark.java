@@ -0,0 +1,102 @@
+package software.amazon.organizations.policy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
+import software.amazon.awssdk.services.organizations.model.UpdatePolicyRequest;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.benchmarks.PolicyDocuments;
+import software.amazon.organizations.benchmarks.TagFixtures;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building in the policy Translator for a service control policy of typical size with the maximum number of tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int TYPICAL_POLICY_LENGTH = 5000;
+    private static final int LIST_PAGE_SIZE = 20;
+
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private List<Tag> sdkTags;
+    private Set<Tag> tagsToAdd;
+    private ListPoliciesResponse listPoliciesResponse;
+
+    @Setup
+    public void setup() {
+        sdkTags = new ArrayList<>(TagFixtures.resourceTags(TagFixtures.MAX_TAGS_PER_RESOURCE));
+        tagsToAdd = new HashSet<>(sdkTags);
+        model = ResourceModel.builder()
+                    .id("p-1a2b3c4d")
+                    .name("deny-outside-approved-regions")
+                    .description("Denies destructive actions outside the approved regions")
+                    .type(PolicyDocuments.SERVICE_CONTROL_POLICY)
+                    .content(PolicyDocuments.document(PolicyDocuments.SERVICE_CONTROL_POLICY, TYPICAL_POLICY_LENGTH))
+                    .tags(Translator.translateTagsFromSdkResponse(sdkTags))
+                    .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                      .desiredResourceState(model)
+                      .desiredResourceTags(TagFixtures.stackTags(5))
+                      .build();
+        final List<PolicySummary> policies = new ArrayList<>();
+        for (int i = 0; i < LIST_PAGE_SIZE; i++) {
+            policies.add(PolicySummary.builder()
+                             .id("p-" + i)
+                             .arn("arn:aws:organizations::111111111111:policy/o-exampleorgid/service_control_policy/p-" + i)
+                             .name("policy-" + i)
+                             .description("Policy number " + i)
+                             .type(PolicyDocuments.SERVICE_CONTROL_POLICY)
+                             .awsManaged(false)
+                             .build());
+        }
+        listPoliciesResponse = ListPoliciesResponse.builder().policies(policies).nextToken("next").build();
+    }
+
+    @Benchmark
+    public CreatePolicyRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, request);
+    }
+
+    @Benchmark
+    public UpdatePolicyRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public TagResourceRequest translateToTagResourceRequest() {
+        return Translator.translateToTagResourceRequest(tagsToAdd, model.getId());
+    }
+
+    @Benchmark
+    public Set<software.amazon.organizations.policy.Tag> translateTagsFromSdkResponse() {
+        return Translator.translateTagsFromSdkResponse(sdkTags);
+    }
+
+    @Benchmark
+    public List<ResourceModel> translateListPoliciesResponseToResourceModels() {
+        return Translator.translateListPoliciesResponseToResourceModels(listPoliciesResponse);
+    }
+}
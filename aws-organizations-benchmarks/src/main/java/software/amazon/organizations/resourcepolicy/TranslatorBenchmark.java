@@ -0,0 +1,80 @@
+package software.amazon.organizations.resourcepolicy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.organizations.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.benchmarks.PolicyDocuments;
+import software.amazon.organizations.benchmarks.TagFixtures;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building and content conversion in the resource policy Translator. A resource policy is an IAM style
+ * document, so it is sized like a typical service control policy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+    private static final int TYPICAL_POLICY_LENGTH = 5000;
+
+    private ResourceModel model;
+    private ResourceHandlerRequest<ResourceModel> request;
+    private List<Tag> sdkTags;
+    private String json;
+    // conversion only logs on failure, which these benchmarks never hit
+    private final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(message -> { });
+
+    @Setup
+    public void setup() {
+        sdkTags = new ArrayList<>(TagFixtures.resourceTags(TagFixtures.MAX_TAGS_PER_RESOURCE));
+        final Map<String, Object> content = PolicyDocuments.document(PolicyDocuments.SERVICE_CONTROL_POLICY, TYPICAL_POLICY_LENGTH);
+        json = PolicyDocuments.toJson(content);
+        model = ResourceModel.builder()
+                    .id("rp-1a2b3c4d")
+                    .content(content)
+                    .tags(Translator.translateTagsFromSdkResponse(sdkTags))
+                    .build();
+        request = ResourceHandlerRequest.<ResourceModel>builder()
+                      .desiredResourceState(model)
+                      .desiredResourceTags(TagFixtures.stackTags(5))
+                      .build();
+    }
+
+    @Benchmark
+    public PutResourcePolicyRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(model, request);
+    }
+
+    @Benchmark
+    public PutResourcePolicyRequest translateToUpdateRequest() {
+        return Translator.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public Object convertStringToObject() {
+        return Translator.convertStringToObject(json, logger);
+    }
+
+    @Benchmark
+    public Object translateTagsFromSdkResponse() {
+        return Translator.translateTagsFromSdkResponse(sdkTags);
+    }
+}
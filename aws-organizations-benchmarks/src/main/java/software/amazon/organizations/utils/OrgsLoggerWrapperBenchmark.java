@@ -0,0 +1,68 @@
+package software.amazon.organizations.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.organizations.benchmarks.PolicyDocuments;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The entry log line of the policy Create and Update handlers, built eagerly with String.format as before and with the
+ * lazy, truncating OrgsLoggerWrapper at INFO and with the content line at a disabled DEBUG level.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrgsLoggerWrapperBenchmark {
+    private static final String CLIENT_REQUEST_TOKEN = "e2f3c1a4-0000-4b4b-9c9c-123456789abc";
+
+    @Param({"5000", "1000000"})
+    public int contentLength;
+
+    private String content;
+    private OrgsLoggerWrapper infoLogger;
+    private OrgsLoggerWrapper debugLogger;
+    // written by the loggers so the built lines are not optimized away
+    private int loggedLength;
+
+    @Setup
+    public void setup() {
+        content = PolicyDocuments.toJson(PolicyDocuments.document(PolicyDocuments.SERVICE_CONTROL_POLICY, contentLength));
+        infoLogger = new OrgsLoggerWrapper(this::consume, CLIENT_REQUEST_TOKEN, OrgsLoggerWrapper.Level.INFO);
+        debugLogger = new OrgsLoggerWrapper(this::consume, CLIENT_REQUEST_TOKEN, OrgsLoggerWrapper.Level.DEBUG);
+    }
+
+    @Benchmark
+    public void eagerFormat() {
+        consume(String.format("[%s] Entered %s create handler with account Id [%s], with Content [%s], Description [%s], Name [%s], Type [%s]",
+            CLIENT_REQUEST_TOKEN, "AWS::Organizations::Policy", "111111111111", content, "description", "policy", "SERVICE_CONTROL_POLICY"));
+    }
+
+    @Benchmark
+    public void lazyInfo() {
+        infoLogger.info("Entered {} create handler with account Id [{}], Description [{}], Name [{}], Type [{}]",
+            "AWS::Organizations::Policy", "111111111111", "description", "policy", "SERVICE_CONTROL_POLICY");
+        infoLogger.debug("Policy [{}] content [{}]", "policy", content);
+    }
+
+    @Benchmark
+    public void truncatedDebug() {
+        debugLogger.debug("Policy [{}] content [{}]", "policy", content);
+    }
+
+    private void consume(final String line) {
+        loggedLength += line.length();
+    }
+}
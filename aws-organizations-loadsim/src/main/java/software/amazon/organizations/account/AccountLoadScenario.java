@@ -0,0 +1,92 @@
+package software.amazon.organizations.account;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.organizations.loadsim.HandlerInvoker;
+import software.amazon.organizations.loadsim.Phase;
+import software.amazon.organizations.loadsim.ResourceScenario;
+import software.amazon.organizations.loadsim.SimulatedOrganization;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Every stack creates a tagged account in a shared OU, replaces its tags and moves it to the root, then closes it.
+ * Each Create scans ListAccounts for the email before CreateAccount and polls DescribeCreateAccountStatus until the
+ * account is created, so the pre-existence scans grow with the number of stacks.
+ */
+public class AccountLoadScenario implements ResourceScenario<ResourceModel, CallbackContext> {
+    private String ouId;
+
+    @Override
+    public String getName() {
+        return "Account";
+    }
+
+    @Override
+    public void prepare(final SimulatedOrganization organization) {
+        ouId = organization.getClient().createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                     .parentId(organization.getClient().getRootId())
+                                                                     .name("loadsim-accounts")
+                                                                     .build()).organizationalUnit().id();
+    }
+
+    @Override
+    public HandlerInvoker<ResourceModel, CallbackContext> handler(final Phase phase) {
+        switch (phase) {
+            case CREATE:
+                return (proxy, request, callbackContext, logger) -> new CreateHandler().handleRequest(proxy, request, callbackContext, logger);
+            case READ:
+                return (proxy, request, callbackContext, logger) -> new ReadHandler().handleRequest(proxy, request, callbackContext, logger);
+            case UPDATE:
+                return (proxy, request, callbackContext, logger) -> new UpdateHandler().handleRequest(proxy, request, callbackContext, logger);
+            default:
+                return (proxy, request, callbackContext, logger) -> new DeleteHandler().handleRequest(proxy, request, callbackContext, logger);
+        }
+    }
+
+    @Override
+    public ResourceModel desiredModel(final int stack, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .accountName("loadsim-" + stack)
+                   .email("loadsim+" + stack + "@example.com")
+                   .parentIds(new HashSet<>(Collections.singletonList(ouId)))
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("owner").value("loadsim").build())))
+                   .build();
+    }
+
+    // moving back to the root is expressed by dropping the parent ids
+    @Override
+    public ResourceModel updatedModel(final int stack, final ResourceModel current, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .accountId(current.getAccountId())
+                   .accountName(current.getAccountName())
+                   .email(current.getEmail())
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("phase").value("updated").build())))
+                   .build();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> contextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public void rewindClock(final CallbackContext callbackContext, final long millis) {
+        if (callbackContext.getRetryBudgetRefilledAt() > 0) {
+            callbackContext.setRetryBudgetRefilledAt(callbackContext.getRetryBudgetRefilledAt() - millis);
+        }
+        if (callbackContext.getCreateAccountFirstSeenTime() > 0) {
+            callbackContext.setCreateAccountFirstSeenTime(callbackContext.getCreateAccountFirstSeenTime() - millis);
+        }
+        if (callbackContext.getNextCreateAccountStatusPollTime() > 0) {
+            callbackContext.setNextCreateAccountStatusPollTime(callbackContext.getNextCreateAccountStatusPollTime() - millis);
+        }
+    }
+}
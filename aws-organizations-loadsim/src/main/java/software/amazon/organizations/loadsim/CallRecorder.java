@@ -0,0 +1,46 @@
+package software.amazon.organizations.loadsim;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the API calls and throttles of one phase of a scenario, keyed by API operation, e.g. "AttachPolicy". Handlers
+ * fan calls out to the ConcurrentInvoker pool, so counts are recorded by the ProxyClient of the invocation rather than
+ * by the thread that made the call.
+ */
+final class CallRecorder {
+    private final ConcurrentHashMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> throttles = new ConcurrentHashMap<>();
+
+    void recordCall(final String operation) {
+        calls.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    void recordThrottle(final String operation) {
+        throttles.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    Map<String, Long> getCalls() {
+        return snapshot(calls);
+    }
+
+    Map<String, Long> getThrottles() {
+        return snapshot(throttles);
+    }
+
+    long getTotalCalls() {
+        return calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    long getTotalThrottles() {
+        return throttles.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static Map<String, Long> snapshot(final Map<String, LongAdder> counts) {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        counts.forEach((operation, count) -> snapshot.put(operation, count.sum()));
+        return snapshot;
+    }
+}
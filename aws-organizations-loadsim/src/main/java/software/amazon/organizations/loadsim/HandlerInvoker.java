@@ -0,0 +1,19 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * The public entry point of a handler, the same for the handlers of every module. Scenarios create a new handler for
+ * each invocation, as handlers keep per invocation state in fields.
+ */
+@FunctionalInterface
+public interface HandlerInvoker<ModelT, ContextT> {
+    ProgressEvent<ModelT, ContextT> handleRequest(
+        AmazonWebServicesClientProxy proxy,
+        ResourceHandlerRequest<ModelT> request,
+        ContextT callbackContext,
+        Logger logger);
+}
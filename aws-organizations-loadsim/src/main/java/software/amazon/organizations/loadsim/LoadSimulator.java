@@ -0,0 +1,206 @@
+package software.amazon.organizations.loadsim;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.organizations.account.AccountLoadScenario;
+import software.amazon.organizations.organization.OrganizationLoadScenario;
+import software.amazon.organizations.organizationalunit.OrganizationalUnitLoadScenario;
+import software.amazon.organizations.policy.PolicyLoadScenario;
+import software.amazon.organizations.resourcepolicy.ResourcePolicyLoadScenario;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.SharedCaches;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Entry point of loadsim.jar. Runs the Create, Read, Update and Delete handlers of the five handler modules from many
+ * concurrent simulated stacks against an in-process organization, and reports completion time percentiles, API calls
+ * per operation and throttles for each scenario. The report is printed and written as JSON to target/loadsim-result.json
+ * unless --result says otherwise, so runs can be compared.
+ * All stacks share one JVM and so one set of client-side rate limiters, like invocations that land on the same warm
+ * container; every scenario starts from a cold one.
+ */
+public final class LoadSimulator {
+    private static final String USAGE = "usage: java -jar loadsim.jar [--stacks N] [--concurrency N] [--callback-delay-scale F]"
+        + " [--quota-rps F] [--quota-burst F] [--latency-ms N] [--consistency-lag-ms N] [--create-account-seconds N] [--seed N]"
+        + " [--result FILE] [Account|Organization|OrganizationalUnit|Policy|ResourcePolicy ...]";
+
+    private static final List<Supplier<ResourceScenario<?, ?>>> SCENARIOS = Arrays.asList(
+        AccountLoadScenario::new,
+        OrganizationLoadScenario::new,
+        OrganizationalUnitLoadScenario::new,
+        PolicyLoadScenario::new,
+        ResourcePolicyLoadScenario::new);
+
+    private final SimulationOptions options;
+
+    public LoadSimulator(final SimulationOptions options) {
+        this.options = options;
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final SimulationOptions options = parse(args);
+        final List<ScenarioReport> reports = new LoadSimulator(options).run();
+        final File resultFile = new File(options.getResultFile());
+        if (resultFile.getParentFile() != null) {
+            resultFile.getParentFile().mkdirs();
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(resultFile, reports);
+        System.out.println("Results written to " + resultFile.getPath());
+    }
+
+    public List<ScenarioReport> run() throws InterruptedException {
+        final List<ScenarioReport> reports = new ArrayList<>();
+        for (final Supplier<ResourceScenario<?, ?>> scenarioSupplier : SCENARIOS) {
+            final ResourceScenario<?, ?> scenario = scenarioSupplier.get();
+            if (!options.getScenarios().isEmpty() && options.getScenarios().stream().noneMatch(scenario.getName()::equalsIgnoreCase)) {
+                continue;
+            }
+            final ScenarioReport report = runScenario(scenario);
+            System.out.println(format(report));
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    <ModelT, ContextT> ScenarioReport runScenario(final ResourceScenario<ModelT, ContextT> scenario) throws InterruptedException {
+        SharedCaches.reset();
+        final Map<Phase, PhaseStats> stats = new EnumMap<>(Phase.class);
+        for (final Phase phase : Phase.values()) {
+            stats.put(phase, new PhaseStats());
+        }
+
+        // organizations are set up before the first stack starts, setup calls are not part of the report
+        final SimulatedOrganization sharedOrganization = scenario.isOrganizationPerStack() ? null : newOrganization(scenario, 0);
+        final List<StackDriver<ModelT, ContextT>> stacks = new ArrayList<>(options.getStacks());
+        for (int stack = 0; stack < options.getStacks(); stack++) {
+            final SimulatedOrganization organization = sharedOrganization != null ? sharedOrganization : newOrganization(scenario, stack);
+            stacks.add(new StackDriver<>(scenario, organization, stack, stats, options.getCallbackDelayScale()));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, options.getConcurrency()));
+        final long startNanos = System.nanoTime();
+        stacks.forEach(executor::execute);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+        final long wallClockMillis = (System.nanoTime() - startNanos) / 1_000_000L;
+
+        return new ScenarioReport(
+            scenario.getName(),
+            options.getStacks(),
+            options.getConcurrency(),
+            scenario.isOrganizationPerStack(),
+            wallClockMillis,
+            Arrays.stream(Phase.values()).map(phase -> stats.get(phase).report(phase)).collect(Collectors.toList()),
+            AdaptiveRateLimiter.metrics());
+    }
+
+    private SimulatedOrganization newOrganization(final ResourceScenario<?, ?> scenario, final int index) {
+        final FakeOrganizationsClient.Config config = FakeOrganizationsClient.Config.builder()
+                                                          .latency(options.getLatencyMillis() > 0
+                                                              ? FakeOrganizationsClient.LatencyDistribution.logNormal(options.getLatencyMillis(), 0.5)
+                                                              : FakeOrganizationsClient.LatencyDistribution.none())
+                                                          .consistencyLagMillis(options.getConsistencyLagMillis())
+                                                          .createAccountDurationMillis(Math.round(options.getCreateAccountSeconds() * 1000L * options.getCallbackDelayScale()))
+                                                          .organizationExists(scenario.isOrganizationCreated())
+                                                          // caches are keyed by account, so every organization gets its own management account
+                                                          .managementAccountId(String.format("%012d", 111111111111L + index))
+                                                          .seed(options.getSeed() + index)
+                                                          .build();
+        final SimulatedOrganization organization = new SimulatedOrganization(config,
+            new ServiceQuota(options.getQuotaRequestsPerSecond(), options.getQuotaBurst()));
+        scenario.prepare(organization);
+        return organization;
+    }
+
+    static String format(final ScenarioReport report) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "%n== %s: %d stacks, %d at a time, %s, %.1f s%n",
+            report.getScenario(), report.getStacks(), report.getConcurrency(),
+            report.isOrganizationPerStack() ? "one organization per stack" : "one shared organization",
+            report.getWallClockMillis() / 1000.0));
+        builder.append(String.format(Locale.ROOT, "%-7s %8s %8s %8s %8s %12s %10s %10s  %s%n",
+            "phase", "p50 ms", "p95 ms", "p99 ms", "max ms", "invocations", "API calls", "throttles", "outcomes"));
+        for (final PhaseReport phase : report.getPhases()) {
+            builder.append(String.format(Locale.ROOT, "%-7s %8d %8d %8d %8d %12.1f %10.1f %10d  %s%n",
+                phase.getPhase(), phase.getP50Millis(), phase.getP95Millis(), phase.getP99Millis(), phase.getMaxMillis(),
+                phase.getInvocationsPerOperation(), phase.getApiCallsPerOperation(), phase.getThrottles(), phase.getOutcomes()));
+        }
+        for (final PhaseReport phase : report.getPhases()) {
+            if (phase.getCallsByApi().isEmpty()) {
+                continue;
+            }
+            builder.append(String.format(Locale.ROOT, "%-7s calls %s", phase.getPhase(), phase.getCallsByApi()));
+            if (!phase.getThrottlesByApi().isEmpty()) {
+                builder.append(String.format(Locale.ROOT, ", throttled %s", phase.getThrottlesByApi()));
+            }
+            builder.append(System.lineSeparator());
+        }
+        builder.append("client-side limits ").append(report.getRateLimiters().stream()
+            .map(metrics -> String.format(Locale.ROOT, "%s=%.1f/s", metrics.getOperation(), metrics.getPermitsPerSecond()))
+            .collect(Collectors.joining(", ", "{", "}")));
+        return builder.toString();
+    }
+
+    static SimulationOptions parse(final String[] args) {
+        final SimulationOptions.SimulationOptionsBuilder builder = SimulationOptions.builder();
+        final List<String> scenarios = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                scenarios.add(args[i]);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of " + args[i] + System.lineSeparator() + USAGE);
+            }
+            final String value = args[++i];
+            switch (args[i - 1]) {
+                case "--stacks":
+                    builder.stacks(Integer.parseInt(value));
+                    break;
+                case "--concurrency":
+                    builder.concurrency(Integer.parseInt(value));
+                    break;
+                case "--callback-delay-scale":
+                    builder.callbackDelayScale(Double.parseDouble(value));
+                    break;
+                case "--quota-rps":
+                    builder.quotaRequestsPerSecond(Double.parseDouble(value));
+                    break;
+                case "--quota-burst":
+                    builder.quotaBurst(Double.parseDouble(value));
+                    break;
+                case "--latency-ms":
+                    builder.latencyMillis(Long.parseLong(value));
+                    break;
+                case "--consistency-lag-ms":
+                    builder.consistencyLagMillis(Long.parseLong(value));
+                    break;
+                case "--create-account-seconds":
+                    builder.createAccountSeconds(Long.parseLong(value));
+                    break;
+                case "--seed":
+                    builder.seed(Long.parseLong(value));
+                    break;
+                case "--result":
+                    builder.resultFile(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i - 1] + System.lineSeparator() + USAGE);
+            }
+        }
+        return builder.scenarios(scenarios).build();
+    }
+}
@@ -0,0 +1,9 @@
+package software.amazon.organizations.loadsim;
+
+// The handler operations a simulated stack runs, in order
+public enum Phase {
+    CREATE,
+    READ,
+    UPDATE,
+    DELETE
+}
@@ -0,0 +1,24 @@
+package software.amazon.organizations.loadsim;
+
+import java.util.Map;
+
+/**
+ * Summary of one phase of a scenario. Completion times include the full callback delays the handler asked for and are
+ * taken over the stacks that succeeded; invocations and API calls are averaged over every stack that ran the phase.
+ */
+@lombok.Value
+public class PhaseReport {
+    Phase phase;
+    long operations;
+    // SUCCESS, FAILED:<HandlerErrorCode>, TIMED_OUT or EXCEPTION:<exception> to the number of stacks
+    Map<String, Integer> outcomes;
+    long p50Millis;
+    long p95Millis;
+    long p99Millis;
+    long maxMillis;
+    double invocationsPerOperation;
+    double apiCallsPerOperation;
+    long throttles;
+    Map<String, Long> callsByApi;
+    Map<String, Long> throttlesByApi;
+}
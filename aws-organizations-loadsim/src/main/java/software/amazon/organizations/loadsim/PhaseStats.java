@@ -0,0 +1,66 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.cloudformation.proxy.OperationStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Results of one phase across all stacks of a scenario: the outcome, completion time and number of invocations of every
+ * stack, and the API calls made for them.
+ */
+final class PhaseStats {
+    private final CallRecorder recorder = new CallRecorder();
+    private final List<Long> successMillis = new ArrayList<>();
+    private final Map<String, Integer> outcomes = new TreeMap<>();
+    private long operations;
+    private long invocations;
+
+    CallRecorder getRecorder() {
+        return recorder;
+    }
+
+    synchronized void record(final String outcome, final long completionMillis, final int invocationCount) {
+        operations++;
+        invocations += invocationCount;
+        outcomes.merge(outcome, 1, Integer::sum);
+        if (OperationStatus.SUCCESS.toString().equals(outcome)) {
+            successMillis.add(completionMillis);
+        }
+    }
+
+    // Percentiles are over the stacks that succeeded, failures return early and would make the phase look faster
+    synchronized PhaseReport report(final Phase phase) {
+        final List<Long> sorted = new ArrayList<>(successMillis);
+        Collections.sort(sorted);
+        return new PhaseReport(
+            phase,
+            operations,
+            new TreeMap<>(outcomes),
+            percentile(sorted, 50.0),
+            percentile(sorted, 95.0),
+            percentile(sorted, 99.0),
+            sorted.isEmpty() ? 0L : sorted.get(sorted.size() - 1),
+            perOperation(invocations),
+            perOperation(recorder.getTotalCalls()),
+            recorder.getTotalThrottles(),
+            recorder.getCalls(),
+            recorder.getThrottles());
+    }
+
+    // Nearest rank percentile of sorted values, 0 when there are none
+    static long percentile(final List<Long> sorted, final double percentile) {
+        if (sorted.isEmpty()) {
+            return 0L;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(rank, 1) - 1);
+    }
+
+    private double perOperation(final long total) {
+        return operations == 0 ? 0.0 : (double) total / operations;
+    }
+}
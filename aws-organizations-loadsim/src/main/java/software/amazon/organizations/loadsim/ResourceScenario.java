@@ -0,0 +1,43 @@
+package software.amazon.organizations.loadsim;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * What the simulator needs to know about one resource type to run its handlers from many stacks: the models each stack
+ * creates and updates to, the handler of each phase and how to read its CallbackContext.
+ * Implementations live in the package of their handler module, so they can reach package-private handler constructors.
+ */
+public interface ResourceScenario<ModelT, ContextT> {
+    // The name used in the report and on the command line, e.g. "Policy"
+    String getName();
+
+    // Organizations that only hold one of the resource, like the organization itself, give every stack its own organization
+    default boolean isOrganizationPerStack() {
+        return false;
+    }
+
+    // Whether the organization exists before the stacks start
+    default boolean isOrganizationCreated() {
+        return true;
+    }
+
+    // Creates what every stack of the organization depends on, e.g. the OU accounts are created in
+    default void prepare(SimulatedOrganization organization) {
+    }
+
+    HandlerInvoker<ModelT, ContextT> handler(Phase phase);
+
+    ModelT desiredModel(int stack, SimulatedOrganization organization);
+
+    // The model the stack updates to, given the model Read returned
+    ModelT updatedModel(int stack, ModelT current, SimulatedOrganization organization);
+
+    // CloudFormation passes the CallbackContext between invocations as JSON, so it is read back with this type
+    TypeReference<ContextT> contextType();
+
+    /**
+     * Moves the wall clock timestamps of the context back by the part of the callback delay the simulator did not wait,
+     * so handlers that schedule their next step by the clock see the full delay as passed.
+     */
+    void rewindClock(ContextT callbackContext, long millis);
+}
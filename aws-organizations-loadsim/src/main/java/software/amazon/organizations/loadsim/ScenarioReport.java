@@ -0,0 +1,19 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+
+import java.util.List;
+
+/**
+ * Summary of one scenario: how it was run, each phase, and the client-side rate limiters as the scenario left them.
+ */
+@lombok.Value
+public class ScenarioReport {
+    String scenario;
+    int stacks;
+    int concurrency;
+    boolean organizationPerStack;
+    long wallClockMillis;
+    List<PhaseReport> phases;
+    List<AdaptiveRateLimiter.Metrics> rateLimiters;
+}
@@ -0,0 +1,73 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket request quota of one simulated organization, kept per API operation. Organizations throttles the calls of
+ * every caller in the organization against the same quota, so unlike the random throttling of FakeOrganizationsClient
+ * the throttle rate here grows with the number of stacks calling at once.
+ */
+final class ServiceQuota {
+    private final double requestsPerSecond;
+    private final double burst;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    ServiceQuota(final double requestsPerSecond, final double burst) {
+        this(requestsPerSecond, burst, System::currentTimeMillis);
+    }
+
+    ServiceQuota(final double requestsPerSecond, final double burst, final LongSupplier clock) {
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.clock = clock;
+    }
+
+    // Takes a token for the operation, or fails the call the way the service does when none is left; a quota of zero
+    // requests per second never throttles
+    void acquire(final String operation) {
+        if (requestsPerSecond <= 0.0) {
+            return;
+        }
+        if (!buckets.computeIfAbsent(operation, key -> new Bucket(burst, clock.getAsLong())).tryTake(clock.getAsLong())) {
+            throw throttled(operation);
+        }
+    }
+
+    private static TooManyRequestsException throttled(final String operation) {
+        final String message = String.format("Rate exceeded for %s.", operation);
+        final AwsServiceException exception = TooManyRequestsException.builder().message(message).statusCode(400).build();
+        return (TooManyRequestsException) exception.toBuilder()
+                                              .awsErrorDetails(AwsErrorDetails.builder()
+                                                                   .errorCode("TooManyRequestsException")
+                                                                   .errorMessage(message)
+                                                                   .serviceName("Organizations")
+                                                                   .build())
+                                              .build();
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(final double tokens, final long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        synchronized boolean tryTake(final long now) {
+            tokens = Math.min(burst, tokens + (now - refilledAt) * requestsPerSecond / 1000.0);
+            refilledAt = now;
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The client proxy CloudFormation hands to one handler invocation, with the Organizations client of ClientBuilder
+ * replaced by the simulated organization. Handlers are driven through their public entry point, so the rate limiter,
+ * retry budget and metrics decorators BaseHandlerStd wraps around the ProxyClient all take part in the simulation.
+ */
+final class SimulatedClientProxy extends AmazonWebServicesClientProxy {
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+    // the Lambda timeout of a handler invocation
+    private static final long REMAINING_TIME_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    private final SimulatedOrganization organization;
+    private final CallRecorder recorder;
+
+    SimulatedClientProxy(final LoggerProxy loggerProxy, final SimulatedOrganization organization, final CallRecorder recorder) {
+        super(loggerProxy, CREDENTIALS, () -> REMAINING_TIME_MILLIS);
+        this.organization = organization;
+        this.recorder = recorder;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ClientT> ProxyClient<ClientT> newProxy(final Supplier<ClientT> client) {
+        final ProxyClient<OrganizationsClient> delegate = super.newProxy(organization::getClient);
+        return (ProxyClient<ClientT>) new RecordingProxyClient(delegate, organization.getQuota(), recorder);
+    }
+
+    /**
+     * Charges every call against the quota of the organization and records it, throttled or not. Handlers only make
+     * synchronous calls, the other kinds are passed through uncounted.
+     */
+    private static final class RecordingProxyClient implements ProxyClient<OrganizationsClient> {
+        private final ProxyClient<OrganizationsClient> delegate;
+        private final ServiceQuota quota;
+        private final CallRecorder recorder;
+
+        RecordingProxyClient(final ProxyClient<OrganizationsClient> delegate, final ServiceQuota quota, final CallRecorder recorder) {
+            this.delegate = delegate;
+            this.quota = quota;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+        injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+            final String operation = AdaptiveRateLimiter.operationOf(request);
+            recorder.recordCall(operation);
+            try {
+                quota.acquire(operation);
+                return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            } catch (RuntimeException e) {
+                if (AdaptiveRateLimiter.isThrottle(e)) {
+                    recorder.recordThrottle(operation);
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+        injectCredentialsAndInvokeV2Async(final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+        injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+            return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+        injectCredentialsAndInvokeV2InputStream(final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+        injectCredentialsAndInvokeV2Bytes(final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+        }
+
+        @Override
+        public OrganizationsClient client() {
+            return delegate.client();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+/**
+ * One organization of a simulation: the in-process Organizations stand-in that holds its state and the request quota
+ * every stack calling into it competes for.
+ */
+public final class SimulatedOrganization {
+    private final FakeOrganizationsClient client;
+    private final ServiceQuota quota;
+    private final String managementAccountId;
+
+    SimulatedOrganization(final FakeOrganizationsClient.Config config, final ServiceQuota quota) {
+        this.client = new FakeOrganizationsClient(config);
+        this.quota = quota;
+        this.managementAccountId = config.getManagementAccountId();
+    }
+
+    // Calls made on the client directly are setup: they bypass the quota and are not counted in the report
+    public FakeOrganizationsClient getClient() {
+        return client;
+    }
+
+    public String getManagementAccountId() {
+        return managementAccountId;
+    }
+
+    ServiceQuota getQuota() {
+        return quota;
+    }
+}
@@ -0,0 +1,43 @@
+package software.amazon.organizations.loadsim;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Settings of a simulation run. Durations of the simulated service are real time, except the CreateAccount duration,
+ * which is scaled like the callback delays so an account takes as many polls to create as it would against the service.
+ */
+@lombok.Builder(toBuilder = true)
+@lombok.Getter
+public class SimulationOptions {
+    static final String DEFAULT_RESULT_FILE = "target/loadsim-result.json";
+
+    // stacks per scenario, each runs Create, Read, Update and Delete of one resource
+    @lombok.Builder.Default
+    private final int stacks = 100;
+    // stacks running at once, CloudFormation starts the instances of a StackSets operation together
+    @lombok.Builder.Default
+    private final int concurrency = 100;
+    // share of each callbackDelaySeconds actually waited, 0.01 turns a 15 second retry delay into 150 milliseconds
+    @lombok.Builder.Default
+    private final double callbackDelayScale = 0.01;
+    // per API operation request quota of each organization; 0 disables throttling
+    @lombok.Builder.Default
+    private final double quotaRequestsPerSecond = 10.0;
+    @lombok.Builder.Default
+    private final double quotaBurst = 20.0;
+    // median API latency, long tailed; 0 for none
+    @lombok.Builder.Default
+    private final long latencyMillis = 100L;
+    @lombok.Builder.Default
+    private final long consistencyLagMillis = 0L;
+    @lombok.Builder.Default
+    private final long createAccountSeconds = 60L;
+    @lombok.Builder.Default
+    private final long seed = 42L;
+    // names of the scenarios to run, all of them when empty
+    @lombok.Builder.Default
+    private final List<String> scenarios = Collections.emptyList();
+    @lombok.Builder.Default
+    private final String resultFile = DEFAULT_RESULT_FILE;
+}
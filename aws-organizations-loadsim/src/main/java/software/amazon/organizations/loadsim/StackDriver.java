@@ -0,0 +1,147 @@
+package software.amazon.organizations.loadsim;
+
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One simulated stack: creates, reads, updates and deletes a resource the way CloudFormation drives a handler. Every
+ * phase is re-invoked while the handler returns IN_PROGRESS, after the callbackDelaySeconds it asked for, with the
+ * CallbackContext round tripped through JSON and the returned model as the new desired state.
+ * Callback delays are waited out scaled down by callbackDelayScale; the reported completion time counts them in full.
+ */
+final class StackDriver<ModelT, ContextT> implements Runnable {
+    // CloudFormation fails a handler that is still IN_PROGRESS at its timeout, this bounds a stack that never settles
+    static final int MAX_INVOCATIONS = 200;
+    static final String TIMED_OUT = "TIMED_OUT";
+
+    private static final LoggerProxy LOGGER_PROXY = new LoggerProxy();
+    private static final Serializer SERIALIZER = new Serializer();
+
+    private final ResourceScenario<ModelT, ContextT> scenario;
+    private final SimulatedOrganization organization;
+    private final int stack;
+    private final Map<Phase, PhaseStats> stats;
+    private final double callbackDelayScale;
+
+    StackDriver(
+        final ResourceScenario<ModelT, ContextT> scenario,
+        final SimulatedOrganization organization,
+        final int stack,
+        final Map<Phase, PhaseStats> stats,
+        final double callbackDelayScale) {
+        this.scenario = scenario;
+        this.organization = organization;
+        this.stack = stack;
+        this.stats = stats;
+        this.callbackDelayScale = callbackDelayScale;
+    }
+
+    @Override
+    public void run() {
+        final ModelT created = runPhase(Phase.CREATE, null, scenario.desiredModel(stack, organization));
+        if (created == null) {
+            return;
+        }
+        final ModelT read = runPhase(Phase.READ, null, created);
+        final ModelT current = read != null ? read : created;
+        final ModelT updated = runPhase(Phase.UPDATE, current, scenario.updatedModel(stack, current, organization));
+        // a failed update leaves the resource as it was, it is still deleted so the organization ends up empty
+        runPhase(Phase.DELETE, null, updated != null ? updated : current);
+    }
+
+    // Returns the model of the last progress event on SUCCESS and null otherwise
+    private ModelT runPhase(final Phase phase, final ModelT previousModel, final ModelT desiredModel) {
+        final HandlerInvoker<ModelT, ContextT> handler = scenario.handler(phase);
+        final PhaseStats phaseStats = stats.get(phase);
+        final String clientRequestToken = UUID.randomUUID().toString();
+        final long startNanos = System.nanoTime();
+        long unwaitedMillis = 0L;
+        ModelT model = desiredModel;
+        ContextT callbackContext = null;
+        int invocations = 0;
+        ProgressEvent<ModelT, ContextT> progressEvent;
+        try {
+            while (true) {
+                final ResourceHandlerRequest<ModelT> request = ResourceHandlerRequest.<ModelT>builder()
+                                                                   .awsAccountId(organization.getManagementAccountId())
+                                                                   .awsPartition("aws")
+                                                                   .clientRequestToken(clientRequestToken)
+                                                                   .logicalResourceIdentifier(scenario.getName() + stack)
+                                                                   .previousResourceState(previousModel)
+                                                                   .desiredResourceState(model)
+                                                                   .build();
+                invocations++;
+                progressEvent = handler.handleRequest(new SimulatedClientProxy(LOGGER_PROXY, organization, phaseStats.getRecorder()),
+                    request, callbackContext, LOGGER_PROXY);
+                if (progressEvent.getStatus() != OperationStatus.IN_PROGRESS || invocations >= MAX_INVOCATIONS) {
+                    break;
+                }
+                final long delayMillis = progressEvent.getCallbackDelaySeconds() * 1000L;
+                final long waitMillis = Math.round(delayMillis * callbackDelayScale);
+                sleep(waitMillis);
+                unwaitedMillis += delayMillis - waitMillis;
+                callbackContext = roundTrip(progressEvent.getCallbackContext());
+                if (callbackContext != null) {
+                    scenario.rewindClock(callbackContext, delayMillis - waitMillis);
+                }
+                if (progressEvent.getResourceModel() != null) {
+                    model = progressEvent.getResourceModel();
+                }
+            }
+        } catch (RuntimeException e) {
+            // CloudFormation reports an exception escaping the handler as an InternalFailure
+            phaseStats.record("EXCEPTION:" + e.getClass().getSimpleName(), completionMillis(startNanos, unwaitedMillis), invocations);
+            return null;
+        }
+
+        phaseStats.record(outcomeOf(progressEvent), completionMillis(startNanos, unwaitedMillis), invocations);
+        if (progressEvent.getStatus() != OperationStatus.SUCCESS) {
+            return null;
+        }
+        return progressEvent.getResourceModel() != null ? progressEvent.getResourceModel() : model;
+    }
+
+    private ContextT roundTrip(final ContextT callbackContext) {
+        if (callbackContext == null) {
+            return null;
+        }
+        try {
+            return SERIALIZER.deserialize(SERIALIZER.serialize(callbackContext), scenario.contextType());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String outcomeOf(final ProgressEvent<?, ?> progressEvent) {
+        if (progressEvent.getStatus() == OperationStatus.IN_PROGRESS) {
+            return TIMED_OUT;
+        }
+        if (progressEvent.getStatus() == OperationStatus.FAILED) {
+            return OperationStatus.FAILED + ":" + progressEvent.getErrorCode();
+        }
+        return progressEvent.getStatus().toString();
+    }
+
+    private static long completionMillis(final long startNanos, final long unwaitedMillis) {
+        return (System.nanoTime() - startNanos) / 1_000_000L + unwaitedMillis;
+    }
+
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.organizations.organization;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.organizations.loadsim.HandlerInvoker;
+import software.amazon.organizations.loadsim.Phase;
+import software.amazon.organizations.loadsim.ResourceScenario;
+import software.amazon.organizations.loadsim.SimulatedOrganization;
+
+/**
+ * Every stack creates an organization with all features, updates it without a change and deletes it. A management
+ * account has one organization, so every stack gets a management account of its own.
+ */
+public class OrganizationLoadScenario implements ResourceScenario<ResourceModel, CallbackContext> {
+    private static final String FEATURE_SET_ALL = "ALL";
+
+    @Override
+    public String getName() {
+        return "Organization";
+    }
+
+    @Override
+    public boolean isOrganizationPerStack() {
+        return true;
+    }
+
+    @Override
+    public boolean isOrganizationCreated() {
+        return false;
+    }
+
+    @Override
+    public HandlerInvoker<ResourceModel, CallbackContext> handler(final Phase phase) {
+        switch (phase) {
+            case CREATE:
+                return (proxy, request, callbackContext, logger) -> new CreateHandler().handleRequest(proxy, request, callbackContext, logger);
+            case READ:
+                return (proxy, request, callbackContext, logger) -> new ReadHandler().handleRequest(proxy, request, callbackContext, logger);
+            case UPDATE:
+                return (proxy, request, callbackContext, logger) -> new UpdateHandler().handleRequest(proxy, request, callbackContext, logger);
+            default:
+                return (proxy, request, callbackContext, logger) -> new DeleteHandler().handleRequest(proxy, request, callbackContext, logger);
+        }
+    }
+
+    @Override
+    public ResourceModel desiredModel(final int stack, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .featureSet(FEATURE_SET_ALL)
+                   .build();
+    }
+
+    @Override
+    public ResourceModel updatedModel(final int stack, final ResourceModel current, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .id(current.getId())
+                   .arn(current.getArn())
+                   .featureSet(FEATURE_SET_ALL)
+                   .managementAccountArn(current.getManagementAccountArn())
+                   .managementAccountId(current.getManagementAccountId())
+                   .managementAccountEmail(current.getManagementAccountEmail())
+                   .rootId(current.getRootId())
+                   .build();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> contextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public void rewindClock(final CallbackContext callbackContext, final long millis) {
+        if (callbackContext.getRetryBudgetRefilledAt() > 0) {
+            callbackContext.setRetryBudgetRefilledAt(callbackContext.getRetryBudgetRefilledAt() - millis);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package software.amazon.organizations.organizationalunit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.organizations.loadsim.HandlerInvoker;
+import software.amazon.organizations.loadsim.Phase;
+import software.amazon.organizations.loadsim.ResourceScenario;
+import software.amazon.organizations.loadsim.SimulatedOrganization;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Every stack creates a tagged OU under the root, renames it and replaces its tags, then deletes it. All OUs are
+ * siblings, so each Create scans the same parent for a duplicate name.
+ */
+public class OrganizationalUnitLoadScenario implements ResourceScenario<ResourceModel, CallbackContext> {
+    private String rootId;
+
+    @Override
+    public String getName() {
+        return "OrganizationalUnit";
+    }
+
+    @Override
+    public void prepare(final SimulatedOrganization organization) {
+        rootId = organization.getClient().getRootId();
+    }
+
+    @Override
+    public HandlerInvoker<ResourceModel, CallbackContext> handler(final Phase phase) {
+        switch (phase) {
+            case CREATE:
+                return (proxy, request, callbackContext, logger) -> new CreateHandler().handleRequest(proxy, request, callbackContext, logger);
+            case READ:
+                return (proxy, request, callbackContext, logger) -> new ReadHandler().handleRequest(proxy, request, callbackContext, logger);
+            case UPDATE:
+                return (proxy, request, callbackContext, logger) -> new UpdateHandler().handleRequest(proxy, request, callbackContext, logger);
+            default:
+                return (proxy, request, callbackContext, logger) -> new DeleteHandler().handleRequest(proxy, request, callbackContext, logger);
+        }
+    }
+
+    @Override
+    public ResourceModel desiredModel(final int stack, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .name("loadsim-ou-" + stack)
+                   .parentId(rootId)
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("owner").value("loadsim").build())))
+                   .build();
+    }
+
+    @Override
+    public ResourceModel updatedModel(final int stack, final ResourceModel current, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .id(current.getId())
+                   .arn(current.getArn())
+                   .name("loadsim-ou-" + stack + "-updated")
+                   .parentId(current.getParentId())
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("phase").value("updated").build())))
+                   .build();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> contextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public void rewindClock(final CallbackContext callbackContext, final long millis) {
+        if (callbackContext.getRetryBudgetRefilledAt() > 0) {
+            callbackContext.setRetryBudgetRefilledAt(callbackContext.getRetryBudgetRefilledAt() - millis);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.organizations.policy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.organizations.loadsim.HandlerInvoker;
+import software.amazon.organizations.loadsim.Phase;
+import software.amazon.organizations.loadsim.ResourceScenario;
+import software.amazon.organizations.loadsim.SimulatedOrganization;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Every stack creates a service control policy attached to the root and a shared OU, renames it, changes its content
+ * and tags and detaches it from the root, then deletes it. All stacks attach to the same targets.
+ */
+public class PolicyLoadScenario implements ResourceScenario<ResourceModel, CallbackContext> {
+    private static final String CONTENT = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":[\"s3:*\"],\"Resource\":[\"*\"]}]}";
+    private static final String UPDATED_CONTENT = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Deny\",\"Action\":[\"s3:DeleteBucket\"],\"Resource\":[\"*\"]}]}";
+
+    private String rootId;
+    private String ouId;
+
+    @Override
+    public String getName() {
+        return "Policy";
+    }
+
+    @Override
+    public void prepare(final SimulatedOrganization organization) {
+        rootId = organization.getClient().getRootId();
+        ouId = organization.getClient().createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                     .parentId(rootId)
+                                                                     .name("loadsim-policies")
+                                                                     .build()).organizationalUnit().id();
+    }
+
+    @Override
+    public HandlerInvoker<ResourceModel, CallbackContext> handler(final Phase phase) {
+        switch (phase) {
+            case CREATE:
+                return (proxy, request, callbackContext, logger) -> new CreateHandler().handleRequest(proxy, request, callbackContext, logger);
+            case READ:
+                return (proxy, request, callbackContext, logger) -> new ReadHandler().handleRequest(proxy, request, callbackContext, logger);
+            case UPDATE:
+                return (proxy, request, callbackContext, logger) -> new UpdateHandler().handleRequest(proxy, request, callbackContext, logger);
+            default:
+                return (proxy, request, callbackContext, logger) -> new DeleteHandler().handleRequest(proxy, request, callbackContext, logger);
+        }
+    }
+
+    @Override
+    public ResourceModel desiredModel(final int stack, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .name("loadsim-policy-" + stack)
+                   .description("Load simulation policy of stack " + stack)
+                   .type(PolicyConstants.PolicyType.SERVICE_CONTROL_POLICY.toString())
+                   .content(CONTENT)
+                   .targetIds(new HashSet<>(Arrays.asList(rootId, ouId)))
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("owner").value("loadsim").build())))
+                   .build();
+    }
+
+    @Override
+    public ResourceModel updatedModel(final int stack, final ResourceModel current, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .id(current.getId())
+                   .arn(current.getArn())
+                   .awsManaged(current.getAwsManaged())
+                   .name("loadsim-policy-" + stack + "-updated")
+                   .description("Load simulation policy of stack " + stack)
+                   .type(current.getType())
+                   .content(UPDATED_CONTENT)
+                   .targetIds(new HashSet<>(Collections.singletonList(ouId)))
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("phase").value("updated").build())))
+                   .build();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> contextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public void rewindClock(final CallbackContext callbackContext, final long millis) {
+        if (callbackContext.getRetryBudgetRefilledAt() > 0) {
+            callbackContext.setRetryBudgetRefilledAt(callbackContext.getRetryBudgetRefilledAt() - millis);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package software.amazon.organizations.resourcepolicy;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.organizations.loadsim.HandlerInvoker;
+import software.amazon.organizations.loadsim.Phase;
+import software.amazon.organizations.loadsim.ResourceScenario;
+import software.amazon.organizations.loadsim.SimulatedOrganization;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Every stack puts a tagged resource policy, replaces its content and tags, then deletes it. An organization has one
+ * resource policy, so every stack gets an organization of its own.
+ */
+public class ResourcePolicyLoadScenario implements ResourceScenario<ResourceModel, CallbackContext> {
+    private static final String CONTENT = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Sid\":\"AllowDescribe\",\"Effect\":\"Allow\","
+        + "\"Principal\":{\"AWS\":\"arn:aws:iam::222222222222:root\"},\"Action\":[\"organizations:Describe*\"],\"Resource\":\"*\"}]}";
+    private static final String UPDATED_CONTENT = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Sid\":\"AllowDescribeAndList\",\"Effect\":\"Allow\","
+        + "\"Principal\":{\"AWS\":\"arn:aws:iam::222222222222:root\"},\"Action\":[\"organizations:Describe*\",\"organizations:List*\"],\"Resource\":\"*\"}]}";
+
+    @Override
+    public String getName() {
+        return "ResourcePolicy";
+    }
+
+    @Override
+    public boolean isOrganizationPerStack() {
+        return true;
+    }
+
+    @Override
+    public HandlerInvoker<ResourceModel, CallbackContext> handler(final Phase phase) {
+        switch (phase) {
+            case CREATE:
+                return (proxy, request, callbackContext, logger) -> new CreateHandler().handleRequest(proxy, request, callbackContext, logger);
+            case READ:
+                return (proxy, request, callbackContext, logger) -> new ReadHandler().handleRequest(proxy, request, callbackContext, logger);
+            case UPDATE:
+                return (proxy, request, callbackContext, logger) -> new UpdateHandler().handleRequest(proxy, request, callbackContext, logger);
+            default:
+                return (proxy, request, callbackContext, logger) -> new DeleteHandler().handleRequest(proxy, request, callbackContext, logger);
+        }
+    }
+
+    @Override
+    public ResourceModel desiredModel(final int stack, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .content(CONTENT)
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("owner").value("loadsim").build())))
+                   .build();
+    }
+
+    @Override
+    public ResourceModel updatedModel(final int stack, final ResourceModel current, final SimulatedOrganization organization) {
+        return ResourceModel.builder()
+                   .id(current.getId())
+                   .arn(current.getArn())
+                   .content(UPDATED_CONTENT)
+                   .tags(new HashSet<>(Arrays.asList(
+                       Tag.builder().key("stack").value(String.valueOf(stack)).build(),
+                       Tag.builder().key("phase").value("updated").build())))
+                   .build();
+    }
+
+    @Override
+    public TypeReference<CallbackContext> contextType() {
+        return new TypeReference<CallbackContext>() {
+        };
+    }
+
+    @Override
+    public void rewindClock(final CallbackContext callbackContext, final long millis) {
+        if (callbackContext.getRetryBudgetRefilledAt() > 0) {
+            callbackContext.setRetryBudgetRefilledAt(callbackContext.getRetryBudgetRefilledAt() - millis);
+        }
+    }
+}
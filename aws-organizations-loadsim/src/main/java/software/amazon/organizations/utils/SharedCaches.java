@@ -0,0 +1,19 @@
+package software.amazon.organizations.utils;
+
+/**
+ * Resets the per container state of the handler utilities: rate limiters, the organization root cache and
+ * the organization tree snapshots of the enriched account List.
+ * All simulated stacks share one JVM, so each scenario starts from a cold container instead of inheriting
+ * the limits the previous scenario drove the limiters to.
+ * Lives in the utils package of the handler modules so it can reach the package-private AdaptiveRateLimiter.resetAll.
+ */
+public final class SharedCaches {
+    private SharedCaches() {
+    }
+
+    public static void reset() {
+        AdaptiveRateLimiter.resetAll();
+        OrganizationRootCache.invalidateAll();
+        OrganizationTree.invalidateAll();
+    }
+}
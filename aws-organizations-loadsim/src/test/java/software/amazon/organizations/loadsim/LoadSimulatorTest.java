@@ -0,0 +1,95 @@
+package software.amazon.organizations.loadsim;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoadSimulatorTest {
+    private static final int STACKS = 3;
+
+    // no waiting, no latency and no throttling, so every stack of every scenario has to get through all phases
+    private static final SimulationOptions FAST = SimulationOptions.builder()
+                                                      .stacks(STACKS)
+                                                      .concurrency(STACKS)
+                                                      .callbackDelayScale(0.0)
+                                                      .quotaRequestsPerSecond(0.0)
+                                                      .latencyMillis(0L)
+                                                      .createAccountSeconds(0L)
+                                                      .build();
+
+    @Test
+    public void run_EveryScenarioCompletesEveryPhase() throws InterruptedException {
+        final List<ScenarioReport> reports = new LoadSimulator(FAST).run();
+
+        assertThat(reports).extracting(ScenarioReport::getScenario)
+            .containsExactly("Account", "Organization", "OrganizationalUnit", "Policy", "ResourcePolicy");
+        for (final ScenarioReport report : reports) {
+            assertThat(report.getPhases()).extracting(PhaseReport::getPhase).containsExactly(Phase.values());
+            for (final PhaseReport phase : report.getPhases()) {
+                assertThat(phase.getOutcomes()).as("%s %s", report.getScenario(), phase.getPhase())
+                    .isEqualTo(Collections.singletonMap("SUCCESS", STACKS));
+                assertThat(phase.getThrottles()).isZero();
+                assertThat(phase.getP99Millis()).isGreaterThanOrEqualTo(phase.getP50Millis());
+            }
+        }
+    }
+
+    @Test
+    public void run_CountsCallsAndCallbackDelays() throws InterruptedException {
+        final ScenarioReport report = new LoadSimulator(FAST.toBuilder().scenarios(Collections.singletonList("policy")).build()).run().get(0);
+
+        final PhaseReport create = report.getPhases().get(0);
+        assertThat(create.getCallsByApi().get("CreatePolicy")).isEqualTo(STACKS);
+        // every stack attaches its policy to the root and the shared OU
+        assertThat(create.getCallsByApi().get("AttachPolicy")).isEqualTo(2L * STACKS);
+        // Create asks to be called back after a second for the policy to propagate, the delay counts in full
+        assertThat(create.getInvocationsPerOperation()).isGreaterThan(1.0);
+        assertThat(create.getP50Millis()).isGreaterThanOrEqualTo(1000L);
+    }
+
+    @Test
+    public void run_SharedQuotaThrottlesConcurrentStacks() throws InterruptedException {
+        final SimulationOptions options = FAST.toBuilder()
+                                              .stacks(10)
+                                              .concurrency(10)
+                                              .quotaRequestsPerSecond(1.0)
+                                              .quotaBurst(1.0)
+                                              .scenarios(Collections.singletonList("OrganizationalUnit"))
+                                              .build();
+
+        final ScenarioReport report = new LoadSimulator(options).run().get(0);
+
+        final PhaseReport create = report.getPhases().get(0);
+        assertThat(create.getThrottles()).isPositive();
+        assertThat(create.getThrottlesByApi()).isNotEmpty();
+        assertThat(report.getRateLimiters()).isNotEmpty();
+    }
+
+    @Test
+    public void percentile_UsesNearestRank() {
+        final List<Long> sorted = Arrays.asList(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+
+        assertThat(PhaseStats.percentile(sorted, 50.0)).isEqualTo(50L);
+        assertThat(PhaseStats.percentile(sorted, 95.0)).isEqualTo(100L);
+        assertThat(PhaseStats.percentile(sorted, 99.0)).isEqualTo(100L);
+        assertThat(PhaseStats.percentile(Collections.singletonList(7L), 50.0)).isEqualTo(7L);
+        assertThat(PhaseStats.percentile(Collections.emptyList(), 99.0)).isZero();
+    }
+
+    @Test
+    public void parse_ReadsOptionsAndScenarios() {
+        final SimulationOptions options = LoadSimulator.parse(new String[] {
+            "--stacks", "300", "--concurrency", "50", "--quota-rps", "5", "--callback-delay-scale", "0.1", "Policy", "Account"});
+
+        assertThat(options.getStacks()).isEqualTo(300);
+        assertThat(options.getConcurrency()).isEqualTo(50);
+        assertThat(options.getQuotaRequestsPerSecond()).isEqualTo(5.0);
+        assertThat(options.getCallbackDelayScale()).isEqualTo(0.1);
+        assertThat(options.getScenarios()).containsExactly("Policy", "Account");
+        assertThat(options.getResultFile()).isEqualTo(SimulationOptions.DEFAULT_RESULT_FILE);
+    }
+}
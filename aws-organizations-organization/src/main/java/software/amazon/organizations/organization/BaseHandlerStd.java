@@ -20,9 +20,17 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InstrumentedProxyClient;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Locale;
 import java.util.Random;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -30,21 +38,52 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     private static final int BASE_DELAY = 15; //in seconds
     private static final int MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION = 2;
 
+    // callback delay once the read-after-write ConsistencyProbe has given up
     protected static final int EVENTUAL_CONSISTENCY_DELAY_SECONDS = 1; //in seconds
 
+    // registers the SnapStart priming pass and warms up the connection to the endpoint, the handlers are constructed
+    // in the init phase before the snapshot, which restores without open connections
+    static {
+        Priming.register();
+        if (!ConnectionWarmUp.isSnapStartInit()) {
+            ClientBuilder.warmUpConnection();
+        }
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                new OrgsLoggerWrapper(logger)
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RetryBudget retryBudget = restoreRetryBudget(context);
+        final InvocationMetrics metrics = new InvocationMetrics(ResourceModel.TYPE_NAME, handlerNameOf(getClass()));
+        // metrics sit inside the rate limiter, so recorded latency is the API call itself and not the time spent waiting for a permit
+        final RateLimitedProxyClient<OrganizationsClient> orgsClient = new RateLimitedProxyClient<>(
+                new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), metrics));
+        final OrgsLoggerWrapper orgsLogger = new OrgsLoggerWrapper(logger, request.getClientRequestToken());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = metrics.runWith(() -> retryBudget.runWith(() -> handleRequest(
+                    proxy,
+                    request,
+                    context,
+                    orgsClient,
+                    orgsLogger
+            )));
+            saveRetryBudget(context, retryBudget);
+            if (orgsClient.getThrottledCalls() > 0) {
+                orgsLogger.warn("Throttled {} time(s), client-side rate limits now {}.", orgsClient.getThrottledCalls(), AdaptiveRateLimiter.metrics());
+            }
+            return progressEvent;
+        } finally {
+            metrics.flush(logger);
+        }
+    }
+
+    // CreateHandler -> CREATE, matching the names of OrganizationConstants.Handler
+    private static String handlerNameOf(final Class<?> handlerClass) {
+        return handlerClass.getSimpleName().replaceFirst("Handler$", "").toUpperCase(Locale.ROOT);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -80,6 +119,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         if (e instanceof AlreadyInOrganizationException) {
             errorCode = HandlerErrorCode.AlreadyExists;
         } else if (e instanceof AwsOrganizationsNotInUseException) {
+            // the organization is gone, so drop any root ID cached for it
+            OrganizationRootCache.invalidateAll();
             errorCode = HandlerErrorCode.NotFound;
         } else if (e instanceof AccessDeniedException || e instanceof AccessDeniedForDependencyException) {
             errorCode = HandlerErrorCode.AccessDenied;
@@ -95,7 +136,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             errorCode = HandlerErrorCode.Throttling;
         }
         String orgInfo = resourceModel.getId() == null ? handlerRequest.getLogicalResourceIdentifier() : resourceModel.getId();
-        logger.log(String.format("[Exception] Failed with exception: [%s]. Message: %s, ErrorCode: [%s] for Organization [%s]. ", e.getClass().getSimpleName(), e.getMessage(), errorCode, orgInfo));
+        logger.error("[Exception] Failed with exception: [{}]. Message: {}, ErrorCode: [{}] for Organization [{}]. ", e.getClass().getSimpleName(), e.getMessage(), errorCode, orgInfo);
         return ProgressEvent.failed(resourceModel, callbackContext, errorCode, e.getMessage());
     }
 
@@ -117,6 +158,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final OrganizationConstants.Action actionName,
             final OrganizationConstants.Handler handlerName
     ) {
+        InvocationMetrics.recordHandlerError(handlerName.toString(), actionName.toString(), e);
         if ((handlerName != OrganizationConstants.Handler.READ && handlerName != OrganizationConstants.Handler.LIST)
                 && isRetriableException(e)) {
             return handleRetriableException(request, handlerRequest, proxyClient, callbackContext, logger, e, resourceModel, actionName, handlerName);
@@ -145,16 +187,39 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         String orgInfo = model.getId() == null ? handlerRequest.getLogicalResourceIdentifier() : model.getId();
         if (actionName != OrganizationConstants.Action.CREATE_ORG) {
             int currentAttempt = context.getCurrentRetryAttempt(actionName, handlerName);
-            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION) {
+            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION && acquireHandlerRetry(context, logger)) {
                 context.setCurrentRetryAttempt(actionName, handlerName);
+                InvocationMetrics.recordHandlerRetry(handlerName.toString(), actionName.toString());
                 int callbackDelaySeconds = computeDelayBeforeNextRetry(currentAttempt);
-                logger.log(String.format("Got %s when calling %s for "
-                                + "organization [%s]. Retrying %s of %s with callback delay %s seconds.",
-                        e.getClass().getName(), organizationsRequest.getClass().getName(), orgInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds));
+                logger.warn("Got {} when calling {} for "
+                                + "organization [{}]. Retrying {} of {} with callback delay {} seconds.",
+                        e.getClass().getName(), organizationsRequest.getClass().getName(), orgInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds);
                 return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
             }
         }
-        logger.log(String.format("All retry exhausted. Return exception to CloudFormation for Organization [%s].", orgInfo));
+        logger.warn("All retry exhausted. Return exception to CloudFormation for Organization [{}].", orgInfo);
         return handleError(organizationsRequest, e, handlerRequest, proxyClient, model, context, logger);
     }
+
+    // Restores the retry budget persisted by an earlier invocation of this operation, or a full one on the first invocation
+    private static RetryBudget restoreRetryBudget(final CallbackContext context) {
+        return RetryBudget.restore(context.getRetryBudgetTokens(), context.getRetryBudgetRefilledAt());
+    }
+
+    private static void saveRetryBudget(final CallbackContext context, final RetryBudget retryBudget) {
+        context.setRetryBudgetTokens(retryBudget.getRemainingTokens());
+        context.setRetryBudgetRefilledAt(retryBudget.getLastRefillMillis());
+    }
+
+    // A callback retry is only scheduled while the budget shared with SDK retries lasts, otherwise the error is returned right away
+    private static boolean acquireHandlerRetry(final CallbackContext context, final OrgsLoggerWrapper logger) {
+        final RetryBudget boundRetryBudget = RetryBudget.current();
+        final RetryBudget retryBudget = boundRetryBudget != null ? boundRetryBudget : restoreRetryBudget(context);
+        final boolean acquired = retryBudget.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        saveRetryBudget(context, retryBudget);
+        if (!acquired) {
+            logger.warn("Retry budget for this operation is exhausted, skipping callback retry.");
+        }
+        return acquired;
+    }
 }
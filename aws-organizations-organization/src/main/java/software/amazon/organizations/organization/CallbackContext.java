@@ -12,10 +12,13 @@ import java.util.Map;
 public class CallbackContext extends StdCallbackContext {
     private Map<String, Integer> actionToRetryAttemptMap = new HashMap<>();
 
-    // Used to set Propagation Delay in the CreateHandler call chain.
+    // Set once the Read after create fell back to a callback because the organization was not visible yet.
     public boolean propagationDelay = false;
     // used in CREATE handler re-invoking
     private boolean orgCreated = false;
+    // RetryBudget state shared by SDK and callback retries of this operation, refill time is epoch milliseconds
+    private Integer retryBudgetTokens;
+    private long retryBudgetRefilledAt = 0L;
 
     public int getCurrentRetryAttempt(final OrganizationConstants.Action actionName, final OrganizationConstants.Handler handlerName) {
         String key = actionName.toString() + handlerName.toString();
@@ -4,19 +4,28 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
 import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
 import software.amazon.awssdk.core.retry.conditions.OrRetryCondition;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.core.retry.conditions.RetryOnExceptionsCondition;
+import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.regions.RegionMetadata;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 
 import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.RetryBudget;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.Objects;
 
 public class ClientBuilder {
     private ClientBuilder() {
@@ -41,23 +50,111 @@ public class ClientBuilder {
             RetryOnExceptionsCondition.create(Collections.singleton(ServiceException.class))
     );
 
+    // SDK retries draw from the same per-operation RetryBudget as handler callback retries, throttled attempts
+    // lower the AdaptiveRateLimiter rate of their operation, and retries that go ahead are counted in InvocationMetrics
     private static final RetryPolicy ORGANIZATIONS_RETRY_POLICY =
             RetryPolicy.builder()
                     .numRetries(MAX_ERROR_RETRY)
-                    .retryCondition(retryCondition)
+                    .retryCondition(AndRetryCondition.create(AdaptiveRateLimiter.throttleObserver(), retryCondition, RetryBudget.sdkRetryCondition(),
+                            InvocationMetrics.sdkRetryObserver()))
                     .backoffStrategy(BACKOFF_STRATEGY)
                     .throttlingBackoffStrategy(THROTTLE_BACKOFF_STRATEGY)
                     .build();
 
+    // Building an OrganizationsClient resolves region, endpoint and retry configuration, so it is done once per
+    // warm container and re-used across invocations. The client is only rebuilt if the region or partition changes.
+    private static final Object CLIENT_LOCK = new Object();
+    // with ConnectionWarmUp enabled the clients share a pool whose connections outlive the callback delays
+    private static final SdkHttpClient HTTP_CLIENT = ConnectionWarmUp.isEnabled() ? ConnectionWarmUp.newHttpClient() : LambdaWrapper.HTTP_CLIENT;
+    private static volatile CachedClient cachedClient;
+    // set only while the SnapStart priming pass runs the handlers against a stub, see Priming
+    private static volatile OrganizationsClient pinnedClient;
+
     public static OrganizationsClient getClient() {
-        String region = System.getenv("AWS_REGION");
+        final OrganizationsClient pinned = pinnedClient;
+        return pinned != null ? pinned : getClient(System.getenv("AWS_REGION"));
+    }
+
+    static OrganizationsClient getClient(final String region) {
+        final String partition = resolvePartition(region);
+        CachedClient current = cachedClient;
+        if (current == null || !current.matches(region, partition)) {
+            synchronized (CLIENT_LOCK) {
+                current = cachedClient;
+                if (current == null || !current.matches(region, partition)) {
+                    current = new CachedClient(region, partition, newClient(region));
+                    cachedClient = current;
+                }
+            }
+        }
+        return current.client;
+    }
+
+    static OrganizationsClient newClient(final String region) {
+        return newClient(region, HTTP_CLIENT);
+    }
 
+    static OrganizationsClient newClient(final String region, final SdkHttpClient httpClient) {
         return OrganizationsClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .httpClient(httpClient)
                 .overrideConfiguration(ClientOverrideConfiguration.builder()
                         .retryPolicy(ORGANIZATIONS_RETRY_POLICY)
                         .build())
                 .region(Region.of(region))
                 .build();
     }
+
+    // Serves every getClient() call from the given client until invalidateClient()
+    static void pinClient(final OrganizationsClient client) {
+        synchronized (CLIENT_LOCK) {
+            pinnedClient = client;
+        }
+    }
+
+    static void invalidateClient() {
+        synchronized (CLIENT_LOCK) {
+            cachedClient = null;
+            pinnedClient = null;
+        }
+    }
+
+    // The endpoint a client built for the region sends its requests to
+    static URI endpointOf(final String region) {
+        return URI.create("https://" + OrganizationsClient.serviceMetadata().endpointFor(Region.of(region)));
+    }
+
+    // Opens a pooled connection to the endpoint getClient() targets, false if warm-up is disabled or did not connect
+    static boolean warmUpConnection() {
+        final String region = System.getenv("AWS_REGION");
+        if (!ConnectionWarmUp.isEnabled() || region == null) {
+            return false;
+        }
+        try {
+            return ConnectionWarmUp.warmUp(HTTP_CLIENT, endpointOf(region));
+        } catch (final RuntimeException e) {
+            // a region without endpoint metadata only loses the warm-up
+            return false;
+        }
+    }
+
+    private static String resolvePartition(final String region) {
+        final RegionMetadata regionMetadata = Region.of(region).metadata();
+        return regionMetadata == null ? null : regionMetadata.partition().id();
+    }
+
+    private static final class CachedClient {
+        private final String region;
+        private final String partition;
+        private final OrganizationsClient client;
+
+        private CachedClient(final String region, final String partition, final OrganizationsClient client) {
+            this.region = region;
+            this.partition = partition;
+            this.client = client;
+        }
+
+        private boolean matches(final String otherRegion, final String otherPartition) {
+            return Objects.equals(region, otherRegion) && Objects.equals(partition, otherPartition);
+        }
+    }
 }
@@ -8,6 +8,8 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConsistencyProbe;
+import software.amazon.organizations.utils.InvocationMetrics;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class CreateHandler extends BaseHandlerStd {
@@ -26,12 +28,12 @@ public class CreateHandler extends BaseHandlerStd {
         if (request.getDesiredResourceState().getFeatureSet() == null) {
             model.setFeatureSet("ALL");
         }
-        logger.log(String.format("Entered %s create handler with account Id [%s] and feature set: [%s]", ResourceModel.TYPE_NAME, request.getAwsAccountId(), model.getFeatureSet()));
+        logger.info("Entered {} create handler with account Id [{}] and feature set: [{}]", ResourceModel.TYPE_NAME, request.getAwsAccountId(), model.getFeatureSet());
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> {
                             if (progress.getCallbackContext().isOrgCreated()) {
-                                log.log(String.format("Organization has already been created in previous handler invoke with org ID: [%s] , skip create organization", model.getId()));
+                                log.info("Organization has already been created in previous handler invoke with org ID: [{}] , skip create organization", model.getId());
                                 return ProgressEvent.progress(model, callbackContext);
                             }
                             return awsClientProxy.initiate("AWS-Organizations-Organization::CreateOrganization", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -41,29 +43,35 @@ public class CreateHandler extends BaseHandlerStd {
                                             organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.CREATE_ORG, OrganizationConstants.Handler.CREATE))
 
                                     .done(createOrganizationResponse -> {
-                                        logger.log(String.format("Created Organization with Id: [%s].", createOrganizationResponse.organization().id()));
+                                        logger.info("Created Organization with Id: [{}].", createOrganizationResponse.organization().id());
                                         model.setId(createOrganizationResponse.organization().id());
                                         progress.getCallbackContext().setOrgCreated(true);
                                         return ProgressEvent.progress(model, callbackContext);
                                     });
                         }
                 )
-                // After the create succeeds, Read calls which immediately follow are failing intermittently due
-                // to Propagation Delays.
-                // Hence, introducing a wait of 1 second.
+                // After the create succeeds, Read calls which immediately follow can fail with NotFound until the
+                // organization has propagated. The Read is probed within this invoke and falls back to a callback once
+                // if the organization is still not visible at the end of the probe window.
                 .then(progress -> {
-                    if (progress.getCallbackContext().isPropagationDelay()) {
-                        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+                    final boolean mayDefer = !progress.getCallbackContext().isPropagationDelay();
+                    // a read that is deferred to the callback is not a handler error either
+                    final ProgressEvent<ResourceModel, CallbackContext> readProgress = InvocationMetrics.recordHandlerErrorsUnless(
+                            () -> ConsistencyProbe.awaitVisible(
+                                    () -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger)),
+                            readAttempt -> mayDefer && ConsistencyProbe.isNotFound(readAttempt));
+                    if (!mayDefer || !ConsistencyProbe.isNotFound(readProgress)) {
+                        return readProgress;
                     }
+                    log.info("Organization [{}] is not visible yet, waiting [{}] seconds before reading it again.", model.getId(), EVENTUAL_CONSISTENCY_DELAY_SECONDS);
                     progress.getCallbackContext().setPropagationDelay(true);
                     return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(),
                             EVENTUAL_CONSISTENCY_DELAY_SECONDS, progress.getResourceModel());
-                })
-                .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+                });
     }
 
     protected CreateOrganizationResponse createOrganization(final CreateOrganizationRequest createOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Start creating organization."));
+        log.info("Start creating organization.");
         final CreateOrganizationResponse createOrganizationResponse = orgsClient.injectCredentialsAndInvokeV2(createOrganizationRequest, orgsClient.client()::createOrganization);
         return createOrganizationResponse;
     }
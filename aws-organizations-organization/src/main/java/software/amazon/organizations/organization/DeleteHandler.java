@@ -24,7 +24,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
         this.log = logger;
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Entered %s delete handler with organization Id: [%s]", ResourceModel.TYPE_NAME, model.getId()));
+        logger.info("Entered {} delete handler with organization Id: [{}]", ResourceModel.TYPE_NAME, model.getId());
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
@@ -37,7 +37,7 @@ public class DeleteHandler extends BaseHandlerStd {
     }
 
     protected DeleteOrganizationResponse deleteOrganization(final DeleteOrganizationRequest deleteOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Attempt to delete organization."));
+        log.info("Attempt to delete organization.");
         final DeleteOrganizationResponse deleteOrganizationResponse = orgsClient.injectCredentialsAndInvokeV2(deleteOrganizationRequest, orgsClient.client()::deleteOrganization);
         return deleteOrganizationResponse;
     }
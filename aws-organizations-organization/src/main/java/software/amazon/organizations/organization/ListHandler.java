@@ -27,7 +27,7 @@ public class ListHandler extends BaseHandlerStd {
             final OrgsLoggerWrapper logger) {
 
         this.log = logger;
-        logger.log(String.format("Entered %s list handler with account Id [%s].", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
+        logger.info("Entered {} list handler with account Id [{}].", ResourceModel.TYPE_NAME, request.getAwsAccountId());
 
         final ResourceModel model = request.getDesiredResourceState();
         if (model == null) {
@@ -43,7 +43,7 @@ public class ListHandler extends BaseHandlerStd {
                 .makeServiceCall(this::describeOrganization)
                 .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
                     if (e instanceof AwsOrganizationsNotInUseException) {
-                        logger.log(String.format("Caught AwsOrganizationsNotInUseException for accountId [%s], continue to return model with null objects.", request.getAwsAccountId()));
+                        logger.info("Caught AwsOrganizationsNotInUseException for accountId [{}], continue to return model with null objects.", request.getAwsAccountId());
 
                         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                                 .resourceModels(models)
@@ -62,7 +62,7 @@ public class ListHandler extends BaseHandlerStd {
     }
 
     protected DescribeOrganizationResponse describeOrganization(final DescribeOrganizationRequest describeOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Retrieving organization details."));
+        log.info("Retrieving organization details.");
         final DescribeOrganizationResponse response = orgsClient.injectCredentialsAndInvokeV2(describeOrganizationRequest, orgsClient.client()::describeOrganization);
         return response;
     }
@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.stream.Collectors;
@@ -25,37 +26,40 @@ public class ReadHandler extends BaseHandlerStd {
             final OrgsLoggerWrapper logger) {
 
         this.log = logger;
-        logger.log(String.format("Entered %s read handler for Organization resource type with account Id [%s].", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
+        logger.info("Entered {} read handler for Organization resource type with account Id [{}].", ResourceModel.TYPE_NAME, request.getAwsAccountId());
 
         final ResourceModel model = request.getDesiredResourceState();
+        // DescribeOrganization runs on every read since it is what tells us the organization still exists. The root of an
+        // organization never changes, so its ID is cached per organization ID and ListRoots only runs on a cache miss.
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> awsClientProxy.initiate("AWS-Organizations-Organization::Read::GetRootId", orgsClient, model, callbackContext)
-                        .translateToServiceRequest(t -> Translator.translateToListRootsRequest())
-                        .makeServiceCall(this::listRoots)
-                        .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(
-                                organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.GETROOT_ID, OrganizationConstants.Handler.READ))
-                        .done(listRootsResponse -> {
-                            model.setRootId(listRootsResponse.roots().stream().map(Root::id).collect(Collectors.toList()).get(0));
-                            return ProgressEvent.progress(model, callbackContext);
-                        })
-                )
                 .then(progress -> awsClientProxy.initiate("AWS-Organizations-Organization::Read::DescribeOrganization", orgsClient, model, callbackContext)
                         .translateToServiceRequest(t -> Translator.translateToReadRequest())
                         .makeServiceCall(this::describeOrganization)
                         .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(
                                 organizationsRequest, e, request, proxyClient1, model1, context, logger, OrganizationConstants.Action.DESCRIBE_ORG, OrganizationConstants.Handler.READ))
-                        .done(describeOrganizationResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(describeOrganizationResponse, model)))
-                );
+                        .done(describeOrganizationResponse -> ProgressEvent.progress(Translator.translateFromReadResponse(describeOrganizationResponse, model), callbackContext))
+                )
+                .then(progress -> {
+                    final ResourceModel organizationModel = progress.getResourceModel();
+                    try {
+                        organizationModel.setRootId(OrganizationRootCache.getRootId(organizationModel.getId(),
+                                () -> listRoots(Translator.translateToListRootsRequest(), orgsClient).roots().stream().map(Root::id).collect(Collectors.toList()).get(0)));
+                    } catch (Exception e) {
+                        return handleErrorInGeneral(Translator.translateToListRootsRequest(), e, request, orgsClient, organizationModel, callbackContext, logger,
+                                OrganizationConstants.Action.GETROOT_ID, OrganizationConstants.Handler.READ);
+                    }
+                    return ProgressEvent.defaultSuccessHandler(organizationModel);
+                });
     }
 
     protected DescribeOrganizationResponse describeOrganization(final DescribeOrganizationRequest describeOrganizationRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Retrieving organization details."));
+        log.info("Retrieving organization details.");
         final DescribeOrganizationResponse response = orgsClient.injectCredentialsAndInvokeV2(describeOrganizationRequest, orgsClient.client()::describeOrganization);
         return response;
     }
 
     protected ListRootsResponse listRoots(final ListRootsRequest listRootsRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Retrieving root id."));
+        log.info("Retrieving root id.");
         final ListRootsResponse response = orgsClient.injectCredentialsAndInvokeV2(listRootsRequest, orgsClient.client()::listRoots);
         return response;
     }
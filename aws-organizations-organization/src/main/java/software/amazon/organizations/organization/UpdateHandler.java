@@ -19,7 +19,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<OrganizationsClient> orgsClient,
             final OrgsLoggerWrapper logger) {
 
-        logger.log(String.format("Entered %s update handler for Organization resource type with account Id [%s].", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
+        logger.info("Entered {} update handler for Organization resource type with account Id [{}].", ResourceModel.TYPE_NAME, request.getAwsAccountId());
 
         final ResourceModel previousModel = request.getPreviousResourceState();
         final ResourceModel model = request.getDesiredResourceState();
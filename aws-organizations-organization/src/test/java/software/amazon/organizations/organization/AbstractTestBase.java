@@ -14,6 +14,8 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class AbstractTestBase {
@@ -27,6 +29,13 @@ public class AbstractTestBase {
     protected static final String ORGANIZATION_JSON_SCHEMA_FILE_NAME = "aws-organizations-organization.json";
     protected static final String ORGANIZATION_SCHEMA_SHA256_HEXSTRING = "1D6786A2B2BE9829B33830959949B37CB89AD49C1D3980C4ABBA280772EC322D";
     protected static final String CONSOLIDATED_BILLING = "CONSOLIDATED_BILLING";
+    // API call budgets of the handler paths, see ApiCallBudgetTest; the root ID is cached per organization
+    protected static final CallBudget READ_CALLS = CallBudget.calls()
+                                                       .exactly("DescribeOrganization", 1)
+                                                       .atMost("ListRoots", 1);
+    protected static final CallBudget CREATE_CALLS = CallBudget.calls().exactly("CreateOrganization", 1);
+    protected static final CallBudget DELETE_CALLS = CallBudget.calls().exactly("DeleteOrganization", 1);
+
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy loggerProxy;
     protected static final OrgsLoggerWrapper logger;
@@ -81,6 +90,13 @@ public class AbstractTestBase {
         };
     }
 
+    // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+    static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+    }
+
     protected ResourceModel generateResourceModel() {
         ResourceModel model = ResourceModel.builder()
                 .featureSet(TEST_FEATURE_SET)
@@ -0,0 +1,105 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.organizations.utils.CallBudget.calls;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = COUNTING_PROXY(awsClientProxy, new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                                                     .organizationExists(false)
+                                                                                     .build()));
+    }
+
+    @Test
+    public void create() {
+        assertThat(create().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // CreateOrganization, then the Read after the propagation delay
+        CREATE_CALLS.plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read_RootIdCached() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ReadHandler(), readRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the Read that completed the create cached the root ID
+        calls().exactly("DescribeOrganization", 1).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_MakesNoCalls() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .previousResourceState(created)
+                                                            .desiredResourceState(created)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), readRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        DELETE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void list() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ListHandler(), readRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().exactly("DescribeOrganization", 1).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create() {
+        return invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                        .desiredResourceState(ResourceModel.builder().build())
+                                                        .build());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> readRequest(final ResourceModel created) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder().id(created.getId()).build())
+                   .build();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -43,6 +45,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        OrganizationRootCache.invalidateAll();
     }
 
     @AfterEach
@@ -113,6 +116,39 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client()).createOrganization(any(CreateOrganizationRequest.class));
     }
 
+    @Test
+    public void handleRequest_OrganizationNotVisibleYet_ReadProbedWithinInvoke() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().featureSet(TEST_FEATURE_SET).build())
+                .build();
+
+        final Organization organization = Organization.builder()
+                .id(TEST_ORG_ID)
+                .arn(TEST_ORG_ARN)
+                .featureSet(TEST_FEATURE_SET)
+                .masterAccountArn(TEST_MANAGEMENT_ACCOUNT_ARN)
+                .masterAccountId(TEST_MANAGEMENT_ACCOUNT_ID)
+                .masterAccountEmail(TEST_MANAGEMENT_ACCOUNT_EMAIL)
+                .build();
+        when(mockProxyClient.client().createOrganization(any(CreateOrganizationRequest.class)))
+                .thenReturn(CreateOrganizationResponse.builder().organization(organization).build());
+        // the first read after the create does not see the organization yet
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class)))
+                .thenThrow(AwsOrganizationsNotInUseException.class)
+                .thenReturn(DescribeOrganizationResponse.builder().organization(organization).build());
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class)))
+                .thenReturn(ListRootsResponse.builder().roots(software.amazon.awssdk.services.organizations.model.Root.builder().id(TEST_ROOT_ID).build()).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(generateResourceModel());
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+
+        verify(mockProxyClient.client()).createOrganization(any(CreateOrganizationRequest.class));
+        verify(mockProxyClient.client(), times(2)).describeOrganization(any(DescribeOrganizationRequest.class));
+    }
+
     @Test
     public void handleRequest_Fails_With_CfnAlreadyExistsException() {
         final ResourceModel model = ResourceModel.builder().build();
@@ -0,0 +1,78 @@
+package software.amazon.organizations.organization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the handlers end to end against the in-memory FakeOrganizationsClient instead of per-call mocks
+public class FakeOrganizationsLifecycleTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                         .organizationExists(false)
+                                                         .build());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_CreateReadListDelete() {
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(ResourceModel.builder().build())
+                                                                                                               .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getFeatureSet()).isEqualTo(TEST_FEATURE_SET);
+        assertThat(created.getResourceModel().getRootId()).isEqualTo(fakeOrgsClient.getRootId());
+        final String organizationId = created.getResourceModel().getId();
+
+        final ResourceHandlerRequest<ResourceModel> readRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                      .desiredResourceState(ResourceModel.builder().id(organizationId).build())
+                                                                      .build();
+        final ProgressEvent<ResourceModel, CallbackContext> read = invokeUntilDone(new ReadHandler(), readRequest);
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel().getManagementAccountId()).isEqualTo(FakeOrganizationsClient.Config.builder().build().getManagementAccountId());
+        // the root ID was cached by the read that completed the create
+        assertThat(fakeOrgsClient.getCallCount("ListRoots")).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = invokeUntilDone(new ListHandler(), readRequest);
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getId).containsExactly(organizationId);
+
+        assertThat(invokeUntilDone(new DeleteHandler(), readRequest).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readAfterDelete = invokeUntilDone(new ReadHandler(), readRequest);
+        assertThat(readAfterDelete.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(readAfterDelete.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(invokeUntilDone(new ListHandler(), readRequest).getResourceModels()).isEmpty();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        OrganizationRootCache.invalidateAll();
     }
 
     @AfterEach
@@ -92,6 +94,44 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         verify(mockProxyClient.client()).describeOrganization(any(DescribeOrganizationRequest.class));
     }
+    @Test
+    public void handleRequest_ReusesCachedRootId() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().featureSet(TEST_FEATURE_SET).build())
+                .build();
+
+        final ListRootsResponse listRootsResponse = ListRootsResponse.builder().roots(
+                software.amazon.awssdk.services.organizations.model.Root.builder()
+                        .id(TEST_ROOT_ID)
+                        .build()).build();
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
+
+        final DescribeOrganizationResponse describeOrganizationResponse = DescribeOrganizationResponse.builder().organization(
+                        Organization.builder()
+                                .arn(TEST_ORG_ARN)
+                                .featureSet(TEST_FEATURE_SET)
+                                .id(TEST_ORG_ID)
+                                .masterAccountArn(TEST_MANAGEMENT_ACCOUNT_ARN)
+                                .masterAccountEmail(TEST_MANAGEMENT_ACCOUNT_EMAIL)
+                                .masterAccountId(TEST_MANAGEMENT_ACCOUNT_ID).build())
+                .build();
+        when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class)))
+                .thenReturn(describeOrganizationResponse)
+                .thenReturn(describeOrganizationResponse)
+                .thenThrow(AwsOrganizationsNotInUseException.class)
+                .thenReturn(describeOrganizationResponse);
+
+        assertThat(readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger).getResourceModel()).isEqualTo(generateResourceModel());
+        assertThat(readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger).getResourceModel()).isEqualTo(generateResourceModel());
+
+        // a read that finds no organization drops the cached root
+        assertThat(readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger).getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger).getResourceModel()).isEqualTo(generateResourceModel());
+
+        verify(mockProxyClient.client(), times(4)).describeOrganization(any(DescribeOrganizationRequest.class));
+        verify(mockProxyClient.client(), times(2)).listRoots(any(ListRootsRequest.class));
+    }
+
     @Test
     protected void handleRequest_Fails_With_CfnNotFoundException() {
 
@@ -103,12 +143,6 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
-        final ListRootsResponse listRootsResponse = ListRootsResponse.builder().roots(
-                software.amazon.awssdk.services.organizations.model.Root.builder()
-                        .id(TEST_ROOT_ID)
-                        .build()).build();
-
-        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
         when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(AwsOrganizationsNotInUseException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -129,12 +163,6 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
-        final ListRootsResponse listRootsResponse = ListRootsResponse.builder().roots(
-                software.amazon.awssdk.services.organizations.model.Root.builder()
-                        .id(TEST_ROOT_ID)
-                        .build()).build();
-
-        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(listRootsResponse);
         when(mockProxyClient.client().describeOrganization(any(DescribeOrganizationRequest.class))).thenThrow(ServiceException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = readHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
@@ -0,0 +1,118 @@
+package software.amazon.organizations.utils;
+
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpClient;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Warms up against a local HTTPS stand-in for the Organizations endpoint, its certificate is self-signed for localhost
+public class ConnectionWarmUpTest {
+    private static final String KEY_STORE = "/warm-up-stand-in.p12";
+    private static final char[] KEY_STORE_PASSWORD = "warm-up".toCharArray();
+    private static final byte[] RESPONSE_BODY = "{\"__type\":\"UnknownOperationException\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private HttpsServer server;
+    private SdkHttpClient httpClient;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        final KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream inputStream = ConnectionWarmUpTest.class.getResourceAsStream(KEY_STORE)) {
+            keyStore.load(inputStream, KEY_STORE_PASSWORD);
+        }
+        final KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, KEY_STORE_PASSWORD);
+        final SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        server = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+            exchange.sendResponseHeaders(404, RESPONSE_BODY.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(RESPONSE_BODY);
+            }
+        });
+        server.start();
+
+        final TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+        httpClient = ConnectionWarmUp.newHttpClientBuilder()
+                         .tlsTrustManagersProvider(trustManagerFactory::getTrustManagers)
+                         .build();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void isEnabled_OffByDefault() {
+        assertThat(ConnectionWarmUp.isEnabled()).isFalse();
+        assertThat(ConnectionWarmUp.isSnapStartInit()).isFalse();
+    }
+
+    @Test
+    public void warmUp_CompletesHandshakeOnErrorResponse() {
+        assertThat(ConnectionWarmUp.warmUp(httpClient, standInEndpoint())).isTrue();
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    public void warmUp_LeavesConnectionInPool() {
+        assertThat(ConnectionWarmUp.warmUp(httpClient, standInEndpoint())).isTrue();
+        assertThat(ConnectionWarmUp.warmUp(httpClient, standInEndpoint())).isTrue();
+
+        // the second request went over the connection the first one opened
+        assertThat(clientPorts).hasSize(2);
+        assertThat(clientPorts.get(1)).isEqualTo(clientPorts.get(0));
+    }
+
+    @Test
+    public void warmUp_FailsSilentlyWhenNothingListens() throws Exception {
+        final int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        assertThat(ConnectionWarmUp.warmUp(httpClient, URI.create("https://localhost:" + closedPort))).isFalse();
+    }
+
+    @Test
+    public void warmUp_FailsSilentlyWhenEndpointDoesNotResolve() {
+        assertThat(ConnectionWarmUp.warmUp(httpClient, URI.create("https://organizations.invalid"))).isFalse();
+    }
+
+    @Test
+    public void warmUp_FailsSilentlyWhenCertificateIsNotTrusted() {
+        try (SdkHttpClient defaultTrustClient = ConnectionWarmUp.newHttpClient()) {
+            assertThat(ConnectionWarmUp.warmUp(defaultTrustClient, standInEndpoint())).isFalse();
+        }
+    }
+
+    private URI standInEndpoint() {
+        return URI.create("https://localhost:" + server.getAddress().getPort());
+    }
+}
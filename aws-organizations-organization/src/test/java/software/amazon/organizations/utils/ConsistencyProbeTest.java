@@ -0,0 +1,122 @@
+package software.amazon.organizations.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsistencyProbeTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final List<Long> sleeps = new ArrayList<>();
+    private final ConsistencyProbe probe = new ConsistencyProbe(now::get, millis -> {
+        sleeps.add(millis);
+        now.addAndGet(millis);
+    });
+
+    @Test
+    public void probe_VisibleOnFirstRead_DoesNotWait() {
+        final AtomicInteger reads = new AtomicInteger();
+
+        final ProgressEvent<String, Void> result = probe.probe(() -> {
+            reads.incrementAndGet();
+            return ProgressEvent.defaultSuccessHandler("model");
+        }, ConsistencyProbe::isNotFound);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void probe_RetriesWithSubSecondBackoffUntilVisible() {
+        final AtomicInteger reads = new AtomicInteger();
+
+        final ProgressEvent<String, Void> result = probe.probe(() -> reads.incrementAndGet() <= 3
+            ? ProgressEvent.failed("model", null, HandlerErrorCode.NotFound, "not visible yet")
+            : ProgressEvent.defaultSuccessHandler("model"), ConsistencyProbe::isNotFound);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(reads.get()).isEqualTo(4);
+        assertThat(sleeps).containsExactly(100L, 200L, 400L);
+    }
+
+    @Test
+    public void probe_GivesUpAtTheEndOfTheWindow() {
+        final AtomicInteger reads = new AtomicInteger();
+
+        final ProgressEvent<String, Void> result = probe.probe(() -> {
+            reads.incrementAndGet();
+            return ProgressEvent.failed("model", null, HandlerErrorCode.NotFound, "not visible yet");
+        }, ConsistencyProbe::isNotFound);
+
+        assertThat(ConsistencyProbe.isNotFound(result)).isTrue();
+        assertThat(sleeps).allMatch(millis -> millis <= ConsistencyProbe.MAX_BACKOFF_MILLIS);
+        assertThat(sleeps.stream().mapToLong(Long::longValue).sum()).isEqualTo(ConsistencyProbe.PROBE_WINDOW_MILLIS);
+        assertThat(reads.get()).isEqualTo(sleeps.size() + 1);
+    }
+
+    @Test
+    public void probe_ClockMovingOnBetweenReads_NeverSleepsPastTheDeadline() {
+        // every read of the clock happens 900 ms after the previous one, as if each check took that long
+        final ConsistencyProbe slowProbe = new ConsistencyProbe(() -> now.getAndAdd(900L), millis -> {
+            sleeps.add(millis);
+            now.addAndGet(millis);
+        });
+        final AtomicInteger reads = new AtomicInteger();
+
+        final ProgressEvent<String, Void> result = slowProbe.probe(() -> {
+            reads.incrementAndGet();
+            return ProgressEvent.failed("model", null, HandlerErrorCode.NotFound, "not visible yet");
+        }, ConsistencyProbe::isNotFound);
+
+        assertThat(ConsistencyProbe.isNotFound(result)).isTrue();
+        assertThat(sleeps).containsExactly(100L, 200L);
+        assertThat(reads.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void probe_OtherFailuresAreReturnedRightAway() {
+        final AtomicInteger reads = new AtomicInteger();
+
+        final ProgressEvent<String, Void> result = probe.probe(() -> {
+            reads.incrementAndGet();
+            return ProgressEvent.failed("model", null, HandlerErrorCode.AccessDenied, "denied");
+        }, ConsistencyProbe::isNotFound);
+
+        assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void probe_OnlyErrorsOfTheReturnedReadAreRecorded() throws Exception {
+        final InvocationMetrics visibleLater = new InvocationMetrics("AWS::Organizations::Test", "CREATE");
+        final AtomicInteger reads = new AtomicInteger();
+        visibleLater.runWith(() -> probe.<ProgressEvent<String, Void>>probe(() -> {
+            if (reads.incrementAndGet() <= 2) {
+                InvocationMetrics.recordHandlerError("READ", "DESCRIBE", new IllegalStateException("not visible yet"));
+                return ProgressEvent.failed("model", null, HandlerErrorCode.NotFound, "not visible yet");
+            }
+            return ProgressEvent.defaultSuccessHandler("model");
+        }, ConsistencyProbe::isNotFound));
+
+        assertThat(reads.get()).isEqualTo(3);
+        assertThat(visibleLater.isEmpty()).isTrue();
+
+        final InvocationMetrics neverVisible = new InvocationMetrics("AWS::Organizations::Test", "CREATE");
+        neverVisible.runWith(() -> probe.<ProgressEvent<String, Void>>probe(() -> {
+            InvocationMetrics.recordHandlerError("READ", "DESCRIBE", new IllegalStateException("not visible yet"));
+            return ProgressEvent.failed("model", null, HandlerErrorCode.NotFound, "not visible yet");
+        }, ConsistencyProbe::isNotFound));
+
+        assertThat(new ObjectMapper().readTree(neverVisible.toEmf().get(0)).get("HandlerErrorCount").asInt()).isEqualTo(1);
+    }
+}
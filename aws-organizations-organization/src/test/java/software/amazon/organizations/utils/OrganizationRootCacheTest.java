@@ -0,0 +1,50 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OrganizationRootCacheTest {
+
+    @AfterEach
+    public void tear_down() {
+        OrganizationRootCache.invalidateAll();
+    }
+
+    @Test
+    public void getRootId_LoadsOncePerKey() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertThat(OrganizationRootCache.getRootId("key-1", () -> "r-" + loads.incrementAndGet())).isEqualTo("r-1");
+        assertThat(OrganizationRootCache.getRootId("key-1", () -> "r-" + loads.incrementAndGet())).isEqualTo("r-1");
+        assertThat(OrganizationRootCache.getRootId("key-2", () -> "r-" + loads.incrementAndGet())).isEqualTo("r-2");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getRootId_NullKeyIsCached() {
+        assertThat(OrganizationRootCache.getRootId(null, () -> "r-1")).isEqualTo("r-1");
+        assertThat(OrganizationRootCache.getRootId(null, () -> "r-2")).isEqualTo("r-1");
+    }
+
+    @Test
+    public void invalidate_ReloadsOnNextCall() {
+        OrganizationRootCache.getRootId("key-1", () -> "r-1");
+        OrganizationRootCache.invalidate("key-1");
+
+        assertThat(OrganizationRootCache.getRootId("key-1", () -> "r-2")).isEqualTo("r-2");
+    }
+
+    @Test
+    public void getRootId_LoaderFailure_IsNotCached() {
+        assertThatThrownBy(() -> OrganizationRootCache.getRootId("key-1", () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(OrganizationRootCache.getRootId("key-1", () -> "r-1")).isEqualTo("r-1");
+    }
+}
@@ -9,6 +9,7 @@ import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotIn
 import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
 import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
 import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationalUnitRequest;
 import software.amazon.awssdk.services.organizations.model.DuplicateOrganizationalUnitException;
 import software.amazon.awssdk.services.organizations.model.InvalidInputException;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotEmptyException;
@@ -27,9 +28,16 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InstrumentedProxyClient;
+import software.amazon.organizations.utils.InvocationMetrics;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -41,19 +49,52 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String ALREADY_EXISTS_ERROR_CODE = "AlreadyExists";
     protected static final String ENTITY_ALREADY_EXISTS_ERROR_CODE = "EntityAlreadyExists";
 
+    // set to true to return the model just written from Create and Update instead of reading the OU back
+    public static final String WRITE_THROUGH_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_WRITE_THROUGH";
+
+    // registers the SnapStart priming pass and warms up the connection to the endpoint, the handlers are constructed
+    // in the init phase before the snapshot, which restores without open connections
+    static {
+        Priming.register();
+        if (!ConnectionWarmUp.isSnapStartInit()) {
+            ClientBuilder.warmUpConnection();
+        }
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
-            return handleRequest(
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RetryBudget retryBudget = restoreRetryBudget(context);
+        final InvocationMetrics metrics = new InvocationMetrics(ResourceModel.TYPE_NAME, handlerNameOf(getClass()));
+        // metrics sit inside the rate limiter, so recorded latency is the API call itself and not the time spent waiting for a permit
+        final RateLimitedProxyClient<OrganizationsClient> orgsClient = new RateLimitedProxyClient<>(
+            new InstrumentedProxyClient<>(awsClientProxy.newProxy(ClientBuilder::getClient), metrics));
+        final OrgsLoggerWrapper orgsLogger = new OrgsLoggerWrapper(logger, request.getClientRequestToken());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = metrics.runWith(() -> retryBudget.runWith(() -> handleRequest(
                 awsClientProxy,
                 request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                awsClientProxy.newProxy(ClientBuilder::getClient),
-                new OrgsLoggerWrapper(logger)
-        );
+                context,
+                orgsClient,
+                orgsLogger
+            )));
+            saveRetryBudget(context, retryBudget);
+            if (orgsClient.getThrottledCalls() > 0) {
+                orgsLogger.warn("Throttled {} time(s), client-side rate limits now {}.", orgsClient.getThrottledCalls(), AdaptiveRateLimiter.metrics());
+            }
+            return progressEvent;
+        } finally {
+            metrics.flush(logger);
+        }
+    }
+
+    // CreateHandler -> CREATE, matching the names of Constants.Handler
+    private static String handlerNameOf(final Class<?> handlerClass) {
+        return handlerClass.getSimpleName().replaceFirst("Handler$", "").toUpperCase(Locale.ROOT);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -64,6 +105,36 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final OrgsLoggerWrapper logger
     );
 
+    protected static boolean isWriteThroughEnabled() {
+        return Boolean.parseBoolean(System.getenv(WRITE_THROUGH_ENVIRONMENT_VARIABLE));
+    }
+
+    /**
+     * Completes a write without the ReadHandler round trip. Name, ParentId and Tags are the values the handler just sent;
+     * only the Arn is derived by the service. It comes from the write response or the previous model, and a single
+     * DescribeOrganizationalUnit fills it in when neither had it.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> writeThroughModel(
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger,
+        final Constants.Handler handlerName
+    ) {
+        if (model.getArn() == null) {
+            logger.info("Arn of OU [{}] is not known from the write, describing the OU.", model.getId());
+            final DescribeOrganizationalUnitRequest describeOrganizationalUnitRequest = Translator.translateToDescribeOrganizationalUnitRequest(model);
+            try {
+                model.setArn(orgsClient.injectCredentialsAndInvokeV2(describeOrganizationalUnitRequest, orgsClient.client()::describeOrganizationalUnit)
+                                 .organizationalUnit().arn());
+            } catch (Exception e) {
+                return handleErrorInGeneral(describeOrganizationalUnitRequest, e, orgsClient, model, callbackContext, logger, Constants.Action.DESCRIBE_OU, handlerName);
+            }
+        }
+        logger.info("Returning the written model of OU [{}] without reading it back.", model.getId());
+        return ProgressEvent.defaultSuccessHandler(model);
+    }
+
     public ProgressEvent<ResourceModel, CallbackContext> handleError(
         final OrganizationsRequest request,
         final Exception e,
@@ -104,8 +175,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           errorCode = HandlerErrorCode.Throttling;
         }
         String ouInfo = resourceModel.getId() == null ? resourceModel.getName() : resourceModel.getId();
-        logger.log(String.format("[Exception] Failed with exception: [%s]. Message: [%s], ErrorCode: [%s] for OrganizationalUnit [%s].",
-            e.getClass().getSimpleName(), e.getMessage(), errorCode, ouInfo));
+        logger.error("[Exception] Failed with exception: [{}]. Message: [{}], ErrorCode: [{}] for OrganizationalUnit [{}].",
+            e.getClass().getSimpleName(), e.getMessage(), errorCode, ouInfo);
         return ProgressEvent.failed(resourceModel, callbackContext, errorCode, e.getMessage());
     }
 
@@ -119,6 +190,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final Constants.Action actionName,
         final Constants.Handler handlerName
     ) {
+        InvocationMetrics.recordHandlerError(handlerName.toString(), actionName.toString(), e);
         if ((handlerName != Constants.Handler.READ && handlerName != Constants.Handler.LIST)
             && isRetriableException(e)) {
             return handleRetriableException(request, proxyClient, callbackContext, logger, e, resourceModel, actionName, handlerName);
@@ -179,17 +251,40 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         String ouInfo = model.getId() == null ? model.getName() : model.getId();
         if (actionName != Constants.Action.CREATE_OU) {
             int currentAttempt = context.getCurrentRetryAttempt(actionName, handlerName);
-            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION) {
+            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION && acquireHandlerRetry(context, logger)) {
                 context.setCurrentRetryAttempt(actionName, handlerName);
+                InvocationMetrics.recordHandlerRetry(handlerName.toString(), actionName.toString());
                 int callbackDelaySeconds = computeDelayBeforeNextRetry(currentAttempt);
-                logger.log(String.format("Got %s when calling %s for "
-                                + "organizational unit [%s]. Retrying %s of %s with callback delay %s seconds.",
-                        e.getClass().getName(), organizationsRequest.getClass().getName(), ouInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds));
+                logger.warn("Got {} when calling {} for "
+                                + "organizational unit [{}]. Retrying {} of {} with callback delay {} seconds.",
+                        e.getClass().getName(), organizationsRequest.getClass().getName(), ouInfo, currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds);
                 return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
             }
         }
-        logger.log(String.format("All retry exhausted. Return exception to CloudFormation for ou [%s].", ouInfo));
+        logger.warn("All retry exhausted. Return exception to CloudFormation for ou [{}].", ouInfo);
         return handleError(organizationsRequest, e, proxyClient, model, context, logger);
     }
 
+    // Restores the retry budget persisted by an earlier invocation of this operation, or a full one on the first invocation
+    private static RetryBudget restoreRetryBudget(final CallbackContext context) {
+        return RetryBudget.restore(context.getRetryBudgetTokens(), context.getRetryBudgetRefilledAt());
+    }
+
+    private static void saveRetryBudget(final CallbackContext context, final RetryBudget retryBudget) {
+        context.setRetryBudgetTokens(retryBudget.getRemainingTokens());
+        context.setRetryBudgetRefilledAt(retryBudget.getLastRefillMillis());
+    }
+
+    // A callback retry is only scheduled while the budget shared with SDK retries lasts, otherwise the error is returned right away
+    private static boolean acquireHandlerRetry(final CallbackContext context, final OrgsLoggerWrapper logger) {
+        final RetryBudget boundRetryBudget = RetryBudget.current();
+        final RetryBudget retryBudget = boundRetryBudget != null ? boundRetryBudget : restoreRetryBudget(context);
+        final boolean acquired = retryBudget.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        saveRetryBudget(context, retryBudget);
+        if (!acquired) {
+            logger.warn("Retry budget for this operation is exhausted, skipping callback retry.");
+        }
+        return acquired;
+    }
+
 }
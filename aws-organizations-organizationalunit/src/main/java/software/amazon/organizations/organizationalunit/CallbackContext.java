@@ -19,8 +19,13 @@ public class CallbackContext extends StdCallbackContext {
         String key = actionName.toString() + handlerName.toString();
         this.actionToRetryAttemptMap.put(key, getCurrentRetryAttempt(actionName, handlerName)+1);
     }
+    // RetryBudget state shared by SDK and callback retries of this operation, refill time is epoch milliseconds
+    private Integer retryBudgetTokens;
+    private long retryBudgetRefilledAt = 0L;
     // used in CREATE handler
     private boolean preExistenceCheckComplete = false;
     private boolean resourceAlreadyExists = false;
     private boolean ouCreated = false;
+    // set once the read after create fell back to a callback because the OU was not visible yet
+    private boolean readAfterCreateDeferred = false;
 }
@@ -11,7 +11,8 @@ public class Constants {
         DESCRIBE_OU,
         LIST_PARENTS,
         LIST_TAGS_FOR_OU,
-        LIST_OU_FOR_PARENT
+        LIST_OU_FOR_PARENT,
+        LIST_ROOTS
     }
 
     public enum Handler {
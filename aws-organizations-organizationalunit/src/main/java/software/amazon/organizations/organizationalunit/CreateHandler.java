@@ -12,6 +12,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConsistencyProbe;
+import software.amazon.organizations.utils.InvocationMetrics;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.Arrays;
@@ -20,6 +22,15 @@ import java.util.Optional;
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
     private static final int CALLBACK_DELAY = 1;
+    private final boolean writeThrough;
+
+    public CreateHandler() {
+        this(isWriteThroughEnabled());
+    }
+
+    CreateHandler(final boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -35,7 +46,7 @@ public class CreateHandler extends BaseHandlerStd {
         String name = model.getName();
         String parentId = model.getParentId();
 
-        logger.log(String.format("Requesting CreateOrganizationalUnit w/ name: %s and parentId: %s.", name, parentId));
+        logger.info("Requesting CreateOrganizationalUnit w/ name: {} and parentId: {}.", name, parentId);
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> callbackContext.isPreExistenceCheckComplete() ? progress : checkIfOrganizationalUnitExists(awsClientProxy, progress, orgsClient))
                 .then(progress -> {
@@ -46,7 +57,7 @@ public class CreateHandler extends BaseHandlerStd {
                     }
                     if (progress.getCallbackContext().isOuCreated()) {
                         // skip to read handler
-                        log.log(String.format("OrganizationalUnit has already been created in previous handler invoke, ou id: [%s]. Skip to read handler.", model.getId()));
+                        log.info("OrganizationalUnit has already been created in previous handler invoke, ou id: [{}]. Skip to read handler.", model.getId());
                         return ProgressEvent.progress(model, callbackContext);
                     }
                     return awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::CreateOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -56,12 +67,37 @@ public class CreateHandler extends BaseHandlerStd {
                             .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                                     handleErrorOnCreate(organizationsRequest, e, proxyClient1, model1, context, logger, Arrays.asList(ALREADY_EXISTS_ERROR_CODE, ENTITY_ALREADY_EXISTS_ERROR_CODE)))
                             .done(CreateOrganizationalUnitResponse -> {
-                                logger.log(String.format("Created OrganizationalUnit with Id: [%s]", CreateOrganizationalUnitResponse.organizationalUnit().id()));
+                                logger.info("Created OrganizationalUnit with Id: [{}]", CreateOrganizationalUnitResponse.organizationalUnit().id());
                                 progress.getCallbackContext().setOuCreated(true);
-                                return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, model);
+                                return ProgressEvent.progress(model, callbackContext);
                             });
                 })
-                .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+                .then(progress -> readAfterCreate(awsClientProxy, request, callbackContext, orgsClient, logger));
+    }
+
+    // The OU can be reported as not found right after the create, so the read is probed within this invoke and falls
+    // back to a callback once if the OU is still not visible at the end of the probe window
+    private ProgressEvent<ResourceModel, CallbackContext> readAfterCreate(
+            final AmazonWebServicesClientProxy awsClientProxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<OrganizationsClient> orgsClient,
+            final OrgsLoggerWrapper logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        final boolean mayDefer = !callbackContext.isReadAfterCreateDeferred();
+        // a read that is deferred to the callback is not a handler error either
+        final ProgressEvent<ResourceModel, CallbackContext> readProgress = InvocationMetrics.recordHandlerErrorsUnless(
+            () -> ConsistencyProbe.awaitVisible(() -> writeThrough
+                ? writeThroughModel(model, callbackContext, orgsClient, logger, Constants.Handler.CREATE)
+                : new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger)),
+            progress -> mayDefer && ConsistencyProbe.isNotFound(progress));
+        if (!mayDefer || !ConsistencyProbe.isNotFound(readProgress)) {
+            return readProgress;
+        }
+        log.info("OrganizationalUnit [{}] is not visible yet, waiting [{}] seconds before reading it again.", model.getId(), CALLBACK_DELAY);
+        callbackContext.setReadAfterCreateDeferred(true);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, model);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkIfOrganizationalUnitExists(
@@ -90,7 +126,7 @@ public class CreateHandler extends BaseHandlerStd {
                     if (existingOU.isPresent()) {
                         model.setId(existingOU.get().id());
                         context.setResourceAlreadyExists(true);
-                        log.log(String.format("OrganizationalUnit [%s] already exists with Id: [%s]", model.getName(), model.getId()));
+                        log.info("OrganizationalUnit [{}] already exists with Id: [{}]", model.getName(), model.getId());
                     }
 
                     context.setPreExistenceCheckComplete(true);
@@ -107,23 +143,17 @@ public class CreateHandler extends BaseHandlerStd {
         } while (nextToken != null && !context.isResourceAlreadyExists());
 
         context.setPreExistenceCheckComplete(true);
-        int callbackDelaySeconds = 0;
         if (context.isResourceAlreadyExists()) {
             log.log("PreExistenceCheck complete! Requested resource was found.");
         } else {
-            callbackDelaySeconds = CALLBACK_DELAY;
             log.log("PreExistenceCheck complete! Requested resource was not found.");
         }
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModel(model)
-                .callbackContext(context)
-                .callbackDelaySeconds(callbackDelaySeconds)
-                .status(OperationStatus.IN_PROGRESS)
-                .build();
+        // no callback delay, so the create continues in this invoke
+        return ProgressEvent.progress(model, context);
     }
 
     protected CreateOrganizationalUnitResponse createOrganizationalUnit(final CreateOrganizationalUnitRequest createOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling createOrganizationalUnit API for OU [%s].", createOrganizationalUnitRequest.name()));
+        log.info("Calling createOrganizationalUnit API for OU [{}].", createOrganizationalUnitRequest.name());
         final CreateOrganizationalUnitResponse createOrganizationalUnitResponse = orgsClient.injectCredentialsAndInvokeV2(createOrganizationalUnitRequest, orgsClient.client()::createOrganizationalUnit);
         return createOrganizationalUnitResponse;
     }
@@ -131,6 +161,7 @@ public class CreateHandler extends BaseHandlerStd {
     private Boolean stabilized(CreateOrganizationalUnitRequest createOrganizationalUnitRequest, CreateOrganizationalUnitResponse createOrganizationalUnitResponse, ProxyClient<OrganizationsClient> orgsClient, ResourceModel model, CallbackContext callbackContext) {
         if (!StringUtils.isNullOrEmpty(createOrganizationalUnitResponse.organizationalUnit().id())) {
             model.setId(createOrganizationalUnitResponse.organizationalUnit().id());
+            model.setArn(createOrganizationalUnitResponse.organizationalUnit().arn());
             return true;
         }
         return false;
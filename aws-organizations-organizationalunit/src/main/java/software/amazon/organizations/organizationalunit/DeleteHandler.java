@@ -26,7 +26,7 @@ public class DeleteHandler extends BaseHandlerStd {
         String ouId = model.getId();
 
         // Call DeleteOrganizationalUnit API
-        logger.log(String.format("Requesting DeleteOrganizationalUnit w/ id: %s.%n", ouId));
+        logger.info("Requesting DeleteOrganizationalUnit w/ id: {}.", ouId);
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
                 awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::DeleteOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -38,7 +38,7 @@ public class DeleteHandler extends BaseHandlerStd {
     }
 
     protected DeleteOrganizationalUnitResponse deleteOrganizationalUnit(final DeleteOrganizationalUnitRequest deleteOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling deleteOrganizationalUnit API for OU [%s].", deleteOrganizationalUnitRequest.organizationalUnitId()));
+        log.info("Calling deleteOrganizationalUnit API for OU [{}].", deleteOrganizationalUnitRequest.organizationalUnitId());
         final DeleteOrganizationalUnitResponse deleteOrganizationalUnitResponse = orgsClient.injectCredentialsAndInvokeV2(deleteOrganizationalUnitRequest, orgsClient.client()::deleteOrganizationalUnit);
         return deleteOrganizationalUnitResponse;
     }
@@ -1,22 +1,44 @@
 package software.amazon.organizations.organizationalunit;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.ParentNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ListHandler extends BaseHandlerStd {
+    // a recursive page stops collecting once it has this many OUs; the last batch of calls can take it past this
+    static final int DEFAULT_RECURSIVE_PAGE_SIZE = 100;
+    private static final String ORGANIZATIONAL_UNIT_ID_PREFIX = "ou-";
+
+    private final int recursivePageSize;
     private OrgsLoggerWrapper log;
 
+    public ListHandler() {
+        this(DEFAULT_RECURSIVE_PAGE_SIZE);
+    }
+
+    ListHandler(final int recursivePageSize) {
+        this.recursivePageSize = recursivePageSize;
+    }
+
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -27,15 +49,14 @@ public class ListHandler extends BaseHandlerStd {
 
         this.log = logger;
 
-        // Call ListOrganizationalUnitsForParent API
-        logger.log("Requesting ListOrganizationalUnitsForParent");
-
         final ResourceModel model = request.getDesiredResourceState();
         if (model == null || model.getParentId() == null) {
-            return ProgressEvent.failed(ResourceModel.builder().build(), callbackContext, HandlerErrorCode.InvalidRequest,
-                "Organizational Units cannot be listed without specifying a ParentId in the provided resource model for the ListOrganizationalUnitsForParent request");
+            return listRecursively(request, callbackContext, orgsClient, logger);
         }
 
+        // Call ListOrganizationalUnitsForParent API
+        logger.log("Requesting ListOrganizationalUnitsForParent");
+
         ListOrganizationalUnitsForParentRequest listOrganizationalUnitsForParentRequest =
             Translator.translateToListOrganizationalUnitsForParentRequest(request.getNextToken(), model);
 
@@ -56,6 +77,94 @@ public class ListHandler extends BaseHandlerStd {
 
     }
 
+    /**
+     * Lists every OU of the organization when no ParentId is given, walking the hierarchy breadth first from the root.
+     * Each round fetches one page for up to ConcurrentInvoker.MAX_THREADS pending parents concurrently. An OU found is
+     * returned with its ParentId and queued as a parent itself, and a parent with more pages is queued again with its
+     * token. Once a page of OUs is collected the queue is handed back as the nextToken, so the walk resumes there.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listRecursively(
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final ResourceModel model = ResourceModel.builder().build();
+        final Deque<RecursiveListCursor.Entry> pending;
+        if (request.getNextToken() == null) {
+            logger.info("Requesting ListRoots to list Organizational Units recursively");
+            final String rootId;
+            try {
+                rootId = OrganizationRootCache.getRootId(request.getAwsAccountId(), () -> {
+                    final ListRootsResponse listRootsResponse = orgsClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToListRootsRequest(), orgsClient.client()::listRoots);
+                    return listRootsResponse.roots().iterator().next().id();
+                });
+            } catch (Exception e) {
+                return handleErrorInGeneral(Translator.translateToListRootsRequest(), e, orgsClient, model, callbackContext, logger, Constants.Action.LIST_ROOTS, Constants.Handler.LIST);
+            }
+            pending = new ArrayDeque<>();
+            pending.add(new RecursiveListCursor.Entry(rootId, null));
+        } else {
+            try {
+                pending = RecursiveListCursor.decode(request.getNextToken());
+            } catch (IllegalArgumentException e) {
+                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                    "The nextToken is not valid for listing Organizational Units without a ParentId.");
+            }
+        }
+
+        final List<ResourceModel> models = new ArrayList<>();
+        while (!pending.isEmpty() && models.size() < recursivePageSize) {
+            final List<RecursiveListCursor.Entry> batch = new ArrayList<>();
+            while (!pending.isEmpty() && batch.size() < ConcurrentInvoker.MAX_THREADS) {
+                batch.add(pending.poll());
+            }
+            logger.info("Requesting ListOrganizationalUnitsForParent for {} parent(s), {} parent(s) still pending", batch.size(), pending.size());
+
+            final List<ListOrganizationalUnitsForParentRequest> listRequests = new ArrayList<>(batch.size());
+            final List<CompletableFuture<ListOrganizationalUnitsForParentResponse>> futures = new ArrayList<>(batch.size());
+            for (final RecursiveListCursor.Entry entry : batch) {
+                final ListOrganizationalUnitsForParentRequest listRequest =
+                    Translator.translateToListOrganizationalUnitsForParentRequest(entry.getPageToken(), entry.getParentId());
+                listRequests.add(listRequest);
+                futures.add(ConcurrentInvoker.submit(() -> orgsClient.injectCredentialsAndInvokeV2(
+                    listRequest, orgsClient.client()::listOrganizationalUnitsForParent)));
+            }
+            ConcurrentInvoker.awaitAll(futures.toArray(new CompletableFuture<?>[0]));
+
+            for (int i = 0; i < batch.size(); i++) {
+                final String parentId = batch.get(i).getParentId();
+                final Exception failure = ConcurrentInvoker.failureOf(futures.get(i));
+                if (failure instanceof ParentNotFoundException && parentId.startsWith(ORGANIZATIONAL_UNIT_ID_PREFIX)) {
+                    // the OU was deleted after it was listed, so it has nothing left to list
+                    logger.info("Skipping Organizational Unit [{}] which no longer exists", parentId);
+                    continue;
+                }
+                if (failure != null) {
+                    if (failure instanceof ParentNotFoundException || failure instanceof AwsOrganizationsNotInUseException) {
+                        OrganizationRootCache.invalidate(request.getAwsAccountId());
+                    }
+                    return handleErrorInGeneral(listRequests.get(i), failure, orgsClient, model, callbackContext, logger, Constants.Action.LIST_OU_FOR_PARENT, Constants.Handler.LIST);
+                }
+                final ListOrganizationalUnitsForParentResponse listResponse = futures.get(i).join();
+                for (final OrganizationalUnit organizationalUnit : listResponse.organizationalUnits()) {
+                    models.add(Translator.getResourceModelFromOrganizationalUnit(organizationalUnit, parentId));
+                    pending.add(new RecursiveListCursor.Entry(organizationalUnit.id(), null));
+                }
+                if (listResponse.nextToken() != null) {
+                    pending.add(new RecursiveListCursor.Entry(parentId, listResponse.nextToken()));
+                }
+            }
+        }
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(models)
+                .nextToken(pending.isEmpty() ? null : RecursiveListCursor.encode(pending))
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
     private ListOrganizationalUnitsForParentResponse listOrganizationalUnits(ListOrganizationalUnitsForParentRequest listOrganizationalUnitsForParentRequest, ProxyClient<OrganizationsClient> orgsClient) {
         log.log("Start calling listOrganizationalUnits");
         return orgsClient.injectCredentialsAndInvokeV2(
@@ -0,0 +1,87 @@
+package software.amazon.organizations.organizationalunit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Traversal state of a recursive OU list, carried between List invocations in the nextToken.
+ * It is the queue of parents whose OUs are still to be listed, each with the ListOrganizationalUnitsForParent token of
+ * its next page. The queue is deflated and Base64url encoded, so a wide frontier of OU IDs stays a compact token.
+ */
+final class RecursiveListCursor {
+    static final String PREFIX = "ou-tree.v1.";
+
+    private RecursiveListCursor() {
+    }
+
+    static String encode(final Deque<Entry> pending) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(pending.size());
+            for (final Entry entry : pending) {
+                out.writeUTF(entry.getParentId());
+                out.writeBoolean(entry.getPageToken() != null);
+                if (entry.getPageToken() != null) {
+                    out.writeUTF(entry.getPageToken());
+                }
+            }
+        } catch (IOException e) {
+            // only written to memory
+            throw new UncheckedIOException(e);
+        }
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    // Throws IllegalArgumentException for a token that was not produced by encode
+    static Deque<Entry> decode(final String nextToken) {
+        if (nextToken == null || !nextToken.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Not a recursive list token.");
+        }
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+            new ByteArrayInputStream(Base64.getUrlDecoder().decode(nextToken.substring(PREFIX.length())))))) {
+            final int size = in.readInt();
+            if (size < 0) {
+                throw new IllegalArgumentException("Malformed recursive list token.");
+            }
+            final Deque<Entry> pending = new ArrayDeque<>();
+            for (int i = 0; i < size; i++) {
+                final String parentId = in.readUTF();
+                pending.add(new Entry(parentId, in.readBoolean() ? in.readUTF() : null));
+            }
+            // reading to the end verifies the deflate checksum, so a truncated token fails too
+            if (in.read() != -1) {
+                throw new IllegalArgumentException("Malformed recursive list token.");
+            }
+            return pending;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed recursive list token.", e);
+        }
+    }
+
+    static final class Entry {
+        private final String parentId;
+        private final String pageToken;
+
+        Entry(final String parentId, final String pageToken) {
+            this.parentId = parentId;
+            this.pageToken = pageToken;
+        }
+
+        String getParentId() {
+            return parentId;
+        }
+
+        String getPageToken() {
+            return pageToken;
+        }
+    }
+}
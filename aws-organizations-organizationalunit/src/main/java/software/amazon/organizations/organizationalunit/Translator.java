@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.organizations.model.DescribeOrganizationa
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
 import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
@@ -14,6 +15,7 @@ import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
 import software.amazon.awssdk.services.organizations.model.UntagResourceRequest;
 import software.amazon.awssdk.services.organizations.model.UpdateOrganizationalUnitRequest;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ListPageSize;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -55,11 +57,20 @@ public class Translator {
     }
 
     static ListOrganizationalUnitsForParentRequest translateToListOrganizationalUnitsForParentRequest(String nextToken, final ResourceModel model) {
-        // Max results set to 20 (the upper limit) to list out all items
+        return translateToListOrganizationalUnitsForParentRequest(nextToken, model.getParentId());
+    }
+
+    static ListOrganizationalUnitsForParentRequest translateToListOrganizationalUnitsForParentRequest(String nextToken, final String parentId) {
+        // Max results default to 20 (the upper limit) to list out all items
         return ListOrganizationalUnitsForParentRequest.builder()
-                .maxResults(20)
+                .maxResults(ListPageSize.get())
                 .nextToken(nextToken)
-                .parentId(model.getParentId())
+                .parentId(parentId)
+                .build();
+    }
+
+    static ListRootsRequest translateToListRootsRequest() {
+        return ListRootsRequest.builder()
                 .build();
     }
 
@@ -115,6 +126,17 @@ public class Translator {
         return model;
     }
 
+    static ResourceModel getResourceModelFromOrganizationalUnit(
+            final OrganizationalUnit organizationalUnit, final String parentId) {
+
+        return ResourceModel.builder()
+            .arn(organizationalUnit.arn())
+            .id(organizationalUnit.id())
+            .name(organizationalUnit.name())
+            .parentId(parentId)
+            .build();
+    }
+
     static ResourceModel translateFromDescribeResponse(final ResourceModel model, final ListTagsForResourceResponse listTagsForResourceResponse) {
         return ResourceModel.builder()
             .arn(model.getArn())
@@ -18,6 +18,15 @@ import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final boolean writeThrough;
+
+    public UpdateHandler() {
+        this(isWriteThroughEnabled());
+    }
+
+    UpdateHandler(final boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -59,7 +68,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 request.getDesiredResourceTags());
 
         // Call UpdateOrganizationalUnit API
-        logger.log(String.format("Requesting UpdateOrganizationalUnit w/ id: %s and name: %s.%n", ouId, name));
+        logger.info("Requesting UpdateOrganizationalUnit w/ id: {} and name: {}.", ouId, name);
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
                 awsClientProxy.initiate("AWS-Organizations-OrganizationalUnit::UpdateOrganizationalUnit", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -69,11 +78,20 @@ public class UpdateHandler extends BaseHandlerStd {
                 .progress()
             )
             .then(progress -> handleTagging(awsClientProxy, model, callbackContext, allNewTags, allPreviousTags, ouId, orgsClient, logger))
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> {
+                if (!writeThrough) {
+                    return new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger);
+                }
+                // the Arn does not change on update
+                if (model.getArn() == null && previousModel != null) {
+                    model.setArn(previousModel.getArn());
+                }
+                return writeThroughModel(model, callbackContext, orgsClient, logger, Constants.Handler.UPDATE);
+            });
     }
 
     protected UpdateOrganizationalUnitResponse updateOrganizationalUnit(final UpdateOrganizationalUnitRequest updateOrganizationalUnitRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling updateOrganizationalUnit API for OU [%s].", updateOrganizationalUnitRequest.organizationalUnitId()));
+        log.info("Calling updateOrganizationalUnit API for OU [{}].", updateOrganizationalUnitRequest.organizationalUnitId());
         final UpdateOrganizationalUnitResponse updateOrganizationalUnitResponse = orgsClient.injectCredentialsAndInvokeV2(updateOrganizationalUnitRequest, orgsClient.client()::updateOrganizationalUnit);
         return updateOrganizationalUnitResponse;
     }
@@ -97,10 +115,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Delete tags only if tagsToRemove is not empty
         if (!tagsToRemove.isEmpty()) {
-            logger.log(String.format("Calling untagResource API for OU [%s].", model.getName()));
+            logger.info("Calling untagResource API for OU [{}].", model.getName());
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, organizationalUnitId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
+                orgsClient.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(untagResourceRequest, e, orgsClient, model, callbackContext, logger, Constants.Action.UNTAG_RESOURCE, Constants.Handler.UPDATE);
             }
@@ -108,10 +126,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Add tags only if tagsToAddOrUpdate is not empty.
         if (!tagsToAddOrUpdate.isEmpty()) {
-            logger.log(String.format("Calling tagResource API for OU [%s].", model.getName()));
+            logger.info("Calling tagResource API for OU [{}].", model.getName());
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAddOrUpdate, organizationalUnitId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
+                orgsClient.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
             } catch(Exception e) {
                 return handleErrorInGeneral(tagResourceRequest, e, orgsClient, model, callbackContext, logger, Constants.Action.TAG_RESOURCE, Constants.Handler.UPDATE);
             }
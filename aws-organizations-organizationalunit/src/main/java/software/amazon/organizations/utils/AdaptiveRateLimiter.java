@@ -0,0 +1,152 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Client-side AIMD rate limiter for one Organizations API operation. The service quotas are shared by every caller in the
+ * organization, so the permitted rate is halved when TooManyRequestsException is seen and raised by a small step on every
+ * success, letting handlers slow down before the service throttles them instead of after.
+ * Limiters are kept per warm container and keyed by operation name, e.g. "AttachPolicy".
+ */
+public final class AdaptiveRateLimiter {
+    // permits per second
+    static final double MAX_RATE = 20.0;
+    static final double MIN_RATE = 0.5;
+    static final double ADDITIVE_INCREASE = 0.2;
+    static final double MULTIPLICATIVE_DECREASE = 0.5;
+    // throttles of calls already in flight when the rate was cut are one congestion event, not several
+    static final long DECREASE_COOLDOWN_MILLIS = 1_000L;
+    // a handler never stalls longer than this for a permit, so it cannot run past its own timeout
+    static final long MAX_WAIT_MILLIS = 5_000L;
+    // returned by reserve when the next free permit is further away than MAX_WAIT_MILLIS
+    static final long NO_PERMIT = -1L;
+
+    private static final String REQUEST_SUFFIX = "Request";
+    private static final ConcurrentHashMap<String, AdaptiveRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    // Feeds throttles the SDK retries internally into the limiter; never vetoes a retry itself
+    private static final RetryCondition THROTTLE_OBSERVER = retryPolicyContext -> {
+        if (isThrottle(retryPolicyContext.exception()) && retryPolicyContext.originalRequest() != null) {
+            forOperation(operationOf(retryPolicyContext.originalRequest())).onThrottle();
+        }
+        return true;
+    };
+
+    private final String operation;
+    private final LongSupplier clock;
+    private double permitsPerSecond = MAX_RATE;
+    private long nextPermitMillis;
+    private long lastDecreaseMillis;
+    private long throttleCount;
+    private long successCount;
+    private long totalWaitMillis;
+
+    AdaptiveRateLimiter(final String operation, final LongSupplier clock) {
+        this.operation = operation;
+        this.clock = clock;
+    }
+
+    public static AdaptiveRateLimiter forOperation(final String operation) {
+        return LIMITERS.computeIfAbsent(operation, key -> new AdaptiveRateLimiter(key, System::currentTimeMillis));
+    }
+
+    public static String operationOf(final Object request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+
+    public static boolean isThrottle(final Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TooManyRequestsException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static RetryCondition throttleObserver() {
+        return THROTTLE_OBSERVER;
+    }
+
+    // Current state of every limiter in this container, ordered by operation
+    public static List<Metrics> metrics() {
+        return LIMITERS.values().stream()
+                   .map(AdaptiveRateLimiter::snapshot)
+                   .sorted(Comparator.comparing(Metrics::getOperation))
+                   .collect(Collectors.toList());
+    }
+
+    static void resetAll() {
+        LIMITERS.clear();
+    }
+
+    // Blocks until a permit is available. When none is free within MAX_WAIT_MILLIS the call is throttled on the client side
+    // with TooManyRequestsException, which handlers already back off from through a callback.
+    public void acquire() {
+        final long waitMillis = reserve();
+        if (waitMillis == NO_PERMIT) {
+            throw TooManyRequestsException.builder()
+                      .message(String.format("No %s permit is free within %d ms at the current rate.", operation, MAX_WAIT_MILLIS))
+                      .build();
+        }
+        if (waitMillis > 0) {
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Reserves the next permit and returns how long the caller has to wait for it, or NO_PERMIT without reserving one.
+    // Permits are spaced from the previous one, so waiters queued behind each other are released one interval apart.
+    synchronized long reserve() {
+        final long now = clock.getAsLong();
+        final long permitMillis = Math.max(nextPermitMillis, now);
+        final long waitMillis = permitMillis - now;
+        if (waitMillis > MAX_WAIT_MILLIS) {
+            return NO_PERMIT;
+        }
+        nextPermitMillis = permitMillis + (long) Math.ceil(1000.0 / permitsPerSecond);
+        totalWaitMillis += waitMillis;
+        return waitMillis;
+    }
+
+    public synchronized void onSuccess() {
+        successCount++;
+        permitsPerSecond = Math.min(MAX_RATE, permitsPerSecond + ADDITIVE_INCREASE);
+    }
+
+    public synchronized void onThrottle() {
+        throttleCount++;
+        final long now = clock.getAsLong();
+        if (now - lastDecreaseMillis >= DECREASE_COOLDOWN_MILLIS) {
+            permitsPerSecond = Math.max(MIN_RATE, permitsPerSecond * MULTIPLICATIVE_DECREASE);
+            lastDecreaseMillis = now;
+        }
+    }
+
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public synchronized Metrics snapshot() {
+        return new Metrics(operation, permitsPerSecond, throttleCount, successCount, totalWaitMillis);
+    }
+
+    @lombok.Value
+    public static class Metrics {
+        String operation;
+        double permitsPerSecond;
+        long throttleCount;
+        long successCount;
+        long totalWaitMillis;
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Read-after-write consistency probe. A resource that was just created can be reported as not found for a short while,
+ * so instead of yielding to a callback before the follow-up read, the probe runs the read right away and repeats it with
+ * sub-second backoff while the resource is not visible. Handler errors of the reads that are repeated are not recorded in
+ * the InvocationMetrics. A read that still does not see it after PROBE_WINDOW_MILLIS is returned as it is, and the handler
+ * falls back to a callback.
+ */
+public final class ConsistencyProbe {
+    static final long INITIAL_BACKOFF_MILLIS = 100L;
+    static final long MAX_BACKOFF_MILLIS = 800L;
+    // creates are usually visible within a few hundred milliseconds, past this window a callback is cheaper than waiting
+    static final long PROBE_WINDOW_MILLIS = 3_000L;
+
+    private static final ConsistencyProbe PROBE = new ConsistencyProbe(System::currentTimeMillis, ConsistencyProbe::sleep);
+
+    private final LongSupplier clock;
+    private final LongConsumer sleeper;
+
+    ConsistencyProbe(final LongSupplier clock, final LongConsumer sleeper) {
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    // Probes until the read no longer fails with NotFound
+    public static <ModelT, ContextT> ProgressEvent<ModelT, ContextT> awaitVisible(final Supplier<ProgressEvent<ModelT, ContextT>> read) {
+        return PROBE.probe(read, ConsistencyProbe::isNotFound);
+    }
+
+    public static <T> T awaitVisible(final Supplier<T> read, final Predicate<T> isNotVisible) {
+        return PROBE.probe(read, isNotVisible);
+    }
+
+    public static boolean isNotFound(final ProgressEvent<?, ?> progress) {
+        return progress.isFailed() && progress.getErrorCode() == HandlerErrorCode.NotFound;
+    }
+
+    <T> T probe(final Supplier<T> read, final Predicate<T> isNotVisible) {
+        final long deadline = clock.getAsLong() + PROBE_WINDOW_MILLIS;
+        long backoffMillis = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            final boolean[] readAgain = new boolean[1];
+            // the clock is read once per attempt, so the sleep is bounded by the same instant the deadline was checked at
+            final long[] now = new long[1];
+            // an attempt that is read again is propagation delay, not an error of the handler, so its errors are dropped
+            final T result = InvocationMetrics.recordHandlerErrorsUnless(read, attempt -> {
+                now[0] = clock.getAsLong();
+                return readAgain[0] = isNotVisible.test(attempt) && now[0] < deadline;
+            });
+            if (!readAgain[0]) {
+                return result;
+            }
+            sleeper.accept(Math.max(0L, Math.min(backoffMillis, deadline - now[0])));
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,17 +2,122 @@ package software.amazon.organizations.utils;
 
 import software.amazon.cloudformation.proxy.Logger;
 
-import java.util.UUID;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
+/**
+ * Prefixes every line with a correlation ID and drops lines below the configured level. Messages use {} placeholders
+ * and are only built when the level is enabled; each argument is rendered with String.valueOf, capped at
+ * MAX_FIELD_LENGTH characters, and a Supplier argument is only evaluated then. The correlation ID is the client
+ * request token, which CloudFormation keeps the same across all callbacks of one resource operation.
+ */
 public class OrgsLoggerWrapper {
-    private String requestId;
-    private Logger logger;
+    public enum Level {
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR
+    }
+
+    public static final String LOG_LEVEL_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_LOG_LEVEL";
+    // policy and resource policy documents can be up to a megabyte, only their start is worth a log line
+    static final int MAX_FIELD_LENGTH = 1024;
+    private static final Level DEFAULT_LEVEL = parseLevel(System.getenv(LOG_LEVEL_ENVIRONMENT_VARIABLE));
+
+    private final Logger logger;
+    private final String prefix;
+    private final Level minLevel;
+
+    public OrgsLoggerWrapper(Logger logger) {
+        this(logger, null);
+    }
+
+    public OrgsLoggerWrapper(Logger logger, String correlationId) {
+        this(logger, correlationId, DEFAULT_LEVEL);
+    }
 
-    public OrgsLoggerWrapper(Logger logger){
-        this.requestId = UUID.randomUUID().toString();
+    OrgsLoggerWrapper(Logger logger, String correlationId, Level minLevel) {
         this.logger = logger;
+        this.prefix = "[" + (correlationId == null || correlationId.isEmpty() ? randomCorrelationId() : correlationId) + "] ";
+        this.minLevel = minLevel;
     }
+
+    // Logs a message that is already built, at INFO
     public void log(String s) {
-        logger.log(String.format("[%s] %s", requestId, s));
+        if (isEnabled(Level.INFO)) {
+            logger.log(prefix + s);
+        }
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.compareTo(minLevel) >= 0;
+    }
+
+    public void debug(String template, Object... args) {
+        log(Level.DEBUG, template, args);
+    }
+
+    public void info(String template, Object... args) {
+        log(Level.INFO, template, args);
+    }
+
+    public void warn(String template, Object... args) {
+        log(Level.WARN, template, args);
+    }
+
+    public void error(String template, Object... args) {
+        log(Level.ERROR, template, args);
+    }
+
+    public void log(Level level, String template, Object... args) {
+        if (isEnabled(level)) {
+            logger.log(format(prefix, template, args));
+        }
+    }
+
+    // Substitutes the arguments for {} placeholders in order; placeholders without an argument are kept as they are
+    static String format(String prefix, String template, Object... args) {
+        final StringBuilder builder = new StringBuilder(prefix.length() + template.length() + 16 * args.length);
+        builder.append(prefix);
+        int argIndex = 0;
+        int start = 0;
+        int placeholder = template.indexOf("{}");
+        while (placeholder >= 0 && argIndex < args.length) {
+            builder.append(template, start, placeholder);
+            appendField(builder, args[argIndex++]);
+            start = placeholder + 2;
+            placeholder = template.indexOf("{}", start);
+        }
+        builder.append(template, start, template.length());
+        return builder.toString();
+    }
+
+    private static void appendField(StringBuilder builder, Object arg) {
+        final String value = String.valueOf(arg instanceof Supplier ? ((Supplier<?>) arg).get() : arg);
+        if (value.length() <= MAX_FIELD_LENGTH) {
+            builder.append(value);
+        } else {
+            builder.append(value, 0, MAX_FIELD_LENGTH)
+                .append("...(truncated, ")
+                .append(value.length())
+                .append(" chars)");
+        }
+    }
+
+    static Level parseLevel(String level) {
+        if (level != null) {
+            for (Level candidate : Level.values()) {
+                if (candidate.name().equals(level.trim().toUpperCase(Locale.ROOT))) {
+                    return candidate;
+                }
+            }
+        }
+        return Level.INFO;
+    }
+
+    // Only used when a request has no client token; it correlates lines, so it does not need SecureRandom like UUID.randomUUID
+    private static String randomCorrelationId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
     }
 }
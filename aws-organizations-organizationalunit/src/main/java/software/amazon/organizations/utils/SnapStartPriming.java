@@ -0,0 +1,49 @@
+package software.amazon.organizations.utils;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hooks a priming pass into the CRaC checkpoint that Lambda SnapStart takes after the init phase, so the snapshot
+ * already holds the classes and warmed code of a first request, and resets container state after each restore.
+ * Without a CRaC runtime the org.crac facade ignores the registration, so handlers register unconditionally.
+ */
+public final class SnapStartPriming implements Resource {
+    // the global CRaC context only holds weak references to its resources
+    private static final List<SnapStartPriming> REGISTERED = new CopyOnWriteArrayList<>();
+
+    private final Runnable prime;
+    private final Runnable afterRestore;
+
+    private SnapStartPriming(final Runnable prime, final Runnable afterRestore) {
+        this.prime = prime;
+        this.afterRestore = afterRestore;
+    }
+
+    public static void register(final Runnable prime, final Runnable afterRestore) {
+        final SnapStartPriming priming = new SnapStartPriming(prime, afterRestore);
+        REGISTERED.add(priming);
+        Core.getGlobalContext().register(priming);
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        try {
+            prime.run();
+        } catch (RuntimeException e) {
+            // a failed priming pass only costs the warm-up, it must never fail the snapshot
+        }
+        // the limiters only saw priming calls, restored containers start from the configured rates
+        AdaptiveRateLimiter.resetAll();
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        AdaptiveRateLimiter.resetAll();
+        afterRestore.run();
+    }
+}
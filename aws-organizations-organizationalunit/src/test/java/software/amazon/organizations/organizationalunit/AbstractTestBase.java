@@ -14,6 +14,8 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class AbstractTestBase {
@@ -24,9 +26,23 @@ public class AbstractTestBase {
     protected static final String TEST_OU_ID_CHANGED = "4321dcba";
     protected static final String TEST_PARENT_ID = "r-hhhu";
     protected static final String OU_JSON_SCHEMA_FILE_NAME = "aws-organizations-organizationalunit.json";
-    protected static final String OU_SCHEMA_SHA256_HEXSTRING = "CD9565D9E0859B36109E6106F61BFA9781C0366DD054511D31F30765FEC1933E";
+    protected static final String OU_SCHEMA_SHA256_HEXSTRING = "422F5B725A55DFEFEA63CD57E141201304EB9366517A8206D20E8DD2C18DA0CA";
     protected static final int CALLBACK_DELAY = 1;
 
+    // API call budgets of the handler paths, see ApiCallBudgetTest
+    protected static final CallBudget READ_CALLS = CallBudget.calls()
+                                                       .exactly("DescribeOrganizationalUnit", 1)
+                                                       .exactly("ListParents", 1)
+                                                       .exactly("ListTagsForResource", 1);
+    protected static final CallBudget CREATE_CALLS = CallBudget.calls()
+                                                         .exactly("ListOrganizationalUnitsForParent", 1)
+                                                         .exactly("CreateOrganizationalUnit", 1);
+    protected static final CallBudget UPDATE_CALLS = CallBudget.calls()
+                                                         .exactly("UpdateOrganizationalUnit", 1)
+                                                         .atMost("UntagResource", 1)
+                                                         .atMost("TagResource", 1);
+    protected static final CallBudget DELETE_CALLS = CallBudget.calls().exactly("DeleteOrganizationalUnit", 1);
+
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy loggerProxy;
     protected static final OrgsLoggerWrapper logger;
@@ -79,4 +95,11 @@ public class AbstractTestBase {
             }
         };
     }
+
+    // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+    static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+    }
 }
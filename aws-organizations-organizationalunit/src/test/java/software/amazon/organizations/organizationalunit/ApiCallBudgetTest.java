@@ -0,0 +1,146 @@
+package software.amazon.organizations.organizationalunit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.organizations.utils.CallBudget.calls;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+    private String rootId;
+
+    @BeforeEach
+    public void setup() {
+        OrganizationRootCache.invalidateAll();
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = COUNTING_PROXY(awsClientProxy, fakeOrgsClient);
+        rootId = fakeOrgsClient.getRootId();
+    }
+
+    @Test
+    public void create() {
+        assertThat(create(new CreateHandler(false)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // one page of the parent's OUs, CreateOrganizationalUnit, then the Read
+        CREATE_CALLS.plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void create_WriteThroughSkipsRead() {
+        assertThat(create(new CreateHandler(true)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        CREATE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                          .desiredResourceState(ResourceModel.builder().id(created.getId()).build())
+                                                          .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        READ_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_RenameAndRetag() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(false), updateRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        UPDATE_CALLS.plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_WriteThroughSkipsRead() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(true), updateRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        UPDATE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .desiredResourceState(created)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        DELETE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void list_OneParent() {
+        create(new CreateHandler(true));
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ListHandler(ListHandler.DEFAULT_RECURSIVE_PAGE_SIZE, false), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                         .desiredResourceState(ResourceModel.builder().parentId(rootId).build())
+                                                                                                         .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().exactly("ListOrganizationalUnitsForParent", 1).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void list_Recursively() {
+        create(new CreateHandler(true));
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ListHandler(ListHandler.DEFAULT_RECURSIVE_PAGE_SIZE, false), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                         .desiredResourceState(ResourceModel.builder().build())
+                                                                                                         .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // one page for the root and one for the OU found in it
+        calls().atMost("ListRoots", 1).exactly("ListOrganizationalUnitsForParent", 2).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final CreateHandler handler) {
+        return invokeUntilDone(handler, ResourceHandlerRequest.<ResourceModel>builder()
+                                            .desiredResourceState(ResourceModel.builder()
+                                                                      .name(TEST_OU_NAME)
+                                                                      .parentId(rootId)
+                                                                      .tags(TagTestResourcesHelper.translateOrganizationTagsToOrganizationalUnitTags(TagTestResourcesHelper.defaultTags))
+                                                                      .build())
+                                            .build());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> updateRequest(final ResourceModel previousModel) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .previousResourceState(previousModel)
+                   .desiredResourceState(ResourceModel.builder()
+                                             .id(previousModel.getId())
+                                             .name(TEST_OU_UPDATED_NAME)
+                                             .parentId(previousModel.getParentId())
+                                             .tags(TagTestResourcesHelper.translateOrganizationTagsToOrganizationalUnitTags(TagTestResourcesHelper.updatedTags))
+                                             .build())
+                   .build();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
@@ -17,6 +17,7 @@ import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRe
 import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
 import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotFoundException;
 import software.amazon.awssdk.services.organizations.model.Parent;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.awssdk.services.organizations.model.Tag;
@@ -197,6 +198,35 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client(), times(0)).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
     }
 
+    @Test
+    public void handleRequest_OrganizationalUnitNotVisibleYet_ReadProbedWithinInvoke() {
+        final ResourceModel model = generateCreateResourceModelWithoutTags();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class)))
+                .thenReturn(ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(Collections.emptyList()).build());
+        when(mockProxyClient.client().createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class))).thenReturn(getCreateOrganizationalUnitResponse());
+        // the first read after the create does not see the OU yet
+        when(mockProxyClient.client().describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class)))
+                .thenThrow(OrganizationalUnitNotFoundException.class)
+                .thenReturn(getDescribeOrganizationalUnitResponse());
+        when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(getListParentsResponse());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourcesHelper.buildEmptyTagsResponse());
+
+        // the pre-existence check, the create and the probed read complete in one invoke
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_OU_ID);
+        assertThat(response.getCallbackContext().isReadAfterCreateDeferred()).isFalse();
+
+        verify(mockProxyClient.client()).createOrganizationalUnit(any(CreateOrganizationalUnitRequest.class));
+        verify(mockProxyClient.client(), times(2)).describeOrganizationalUnit(any(DescribeOrganizationalUnitRequest.class));
+    }
+
     @Test
     public void handleRequest_OrganizationalUnitAlreadyExists() {
         final ResourceModel model = generateCreateResourceModel();
@@ -257,16 +287,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(mockProxyClient.client().listParents(any(ListParentsRequest.class))).thenReturn(listParentsResponse);
         when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
-        ProgressEvent<ResourceModel, CallbackContext> response = null;
-        do {
-            final CallbackContext callbackContext = (response == null) ? new CallbackContext() : response.getCallbackContext();
-            response = createHandler.handleRequest(mockAwsClientProxy, request, callbackContext, mockProxyClient, logger);
-
-            if (response.getStatus().equals(OperationStatus.IN_PROGRESS)) {
-                assertThat(response.getCallbackDelaySeconds()).isEqualTo(CALLBACK_DELAY);
-            }
-
-        } while (response.getStatus().equals(OperationStatus.IN_PROGRESS));
+        // a pre-existence check that finds nothing continues to the create in the same invoke
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
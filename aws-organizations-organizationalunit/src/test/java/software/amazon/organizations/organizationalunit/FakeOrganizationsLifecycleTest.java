@@ -0,0 +1,136 @@
+package software.amazon.organizations.organizationalunit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the handlers end to end against the in-memory FakeOrganizationsClient instead of per-call mocks
+public class FakeOrganizationsLifecycleTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_CreateReadUpdateListDelete() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final ResourceModel desiredModel = ResourceModel.builder()
+                                               .name(TEST_OU_NAME)
+                                               .parentId(rootId)
+                                               .tags(TagTestResourcesHelper.translateOrganizationTagsToOrganizationalUnitTags(TagTestResourcesHelper.defaultTags))
+                                               .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(desiredModel)
+                                                                                                               .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final String ouId = created.getResourceModel().getId();
+        assertThat(created.getResourceModel().getName()).isEqualTo(TEST_OU_NAME);
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(ouId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourcesHelper.defaultTags);
+
+        final ResourceModel updatedModel = ResourceModel.builder()
+                                               .id(ouId)
+                                               .name(TEST_OU_UPDATED_NAME)
+                                               .parentId(rootId)
+                                               .tags(TagTestResourcesHelper.translateOrganizationTagsToOrganizationalUnitTags(TagTestResourcesHelper.updatedTags))
+                                               .build();
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .previousResourceState(created.getResourceModel())
+                                                                                                               .desiredResourceState(updatedModel)
+                                                                                                               .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getName()).isEqualTo(TEST_OU_UPDATED_NAME);
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(ouId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourcesHelper.updatedTags);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = invokeUntilDone(new ListHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                           .desiredResourceState(ResourceModel.builder().parentId(rootId).build())
+                                                                                                           .build());
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getId).containsExactly(ouId);
+
+        final ResourceHandlerRequest<ResourceModel> deleteRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                        .desiredResourceState(updated.getResourceModel())
+                                                                        .build();
+        assertThat(invokeUntilDone(new DeleteHandler(), deleteRequest).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readAfterDelete = invokeUntilDone(new ReadHandler(), deleteRequest);
+        assertThat(readAfterDelete.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(readAfterDelete.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_WriteThroughCreateAndUpdateSkipReadBack() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final ResourceModel desiredModel = ResourceModel.builder()
+                                               .name(TEST_OU_NAME)
+                                               .parentId(rootId)
+                                               .tags(TagTestResourcesHelper.translateOrganizationTagsToOrganizationalUnitTags(TagTestResourcesHelper.defaultTags))
+                                               .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(true), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                                   .desiredResourceState(desiredModel)
+                                                                                                                   .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getArn()).isNotNull();
+        assertThat(created.getResourceModel().getParentId()).isEqualTo(rootId);
+        // the Arn came from the CreateOrganizationalUnit response, nothing was read back
+        assertThat(fakeOrgsClient.getCallCount("DescribeOrganizationalUnit")).isZero();
+        assertThat(fakeOrgsClient.getCallCount("ListParents")).isZero();
+        assertThat(fakeOrgsClient.getCallCount("ListTagsForResource")).isZero();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                                                .id(created.getResourceModel().getId())
+                                                .name(TEST_OU_NAME)
+                                                .parentId(rootId)
+                                                .build();
+        final ResourceModel updatedModel = ResourceModel.builder()
+                                               .id(created.getResourceModel().getId())
+                                               .name(TEST_OU_UPDATED_NAME)
+                                               .parentId(rootId)
+                                               .build();
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(true), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                                   .previousResourceState(previousModel)
+                                                                                                                   .desiredResourceState(updatedModel)
+                                                                                                                   .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getName()).isEqualTo(TEST_OU_UPDATED_NAME);
+        // neither model carried the Arn, so only DescribeOrganizationalUnit was called to fill it in
+        assertThat(updated.getResourceModel().getArn()).isEqualTo(created.getResourceModel().getArn());
+        assertThat(fakeOrgsClient.getCallCount("DescribeOrganizationalUnit")).isEqualTo(1);
+        assertThat(fakeOrgsClient.getCallCount("ListParents")).isZero();
+        assertThat(fakeOrgsClient.getCallCount("ListTagsForResource")).isZero();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
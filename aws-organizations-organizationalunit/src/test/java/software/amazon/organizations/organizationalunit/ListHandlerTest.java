@@ -3,9 +3,14 @@ package software.amazon.organizations.organizationalunit;
 import java.time.Duration;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
 import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
 import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.Root;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -13,6 +18,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrganizationRootCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,9 +27,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +48,8 @@ public class ListHandlerTest extends AbstractTestBase {
     @Mock
     OrganizationsClient mockOrgsClient;
 
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> fakeProxyClient;
     private ListHandler listHandler;
 
     @BeforeEach
@@ -46,6 +58,10 @@ public class ListHandlerTest extends AbstractTestBase {
         mockAwsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         mockOrgsClient = mock(OrganizationsClient.class);
         mockProxyClient = MOCK_PROXY(mockAwsClientProxy, mockOrgsClient);
+        fakeOrgsClient = new FakeOrganizationsClient();
+        fakeProxyClient = MOCK_PROXY(mockAwsClientProxy, fakeOrgsClient);
+        // recursive listing caches the root ID per account, and every test has its own organization
+        OrganizationRootCache.invalidateAll();
     }
 
     @Test
@@ -91,31 +107,127 @@ public class ListHandlerTest extends AbstractTestBase {
     }
 
     @Test
-    public void handleRequest_NullDesiredModel_Fails_With_CfnInvalidRequest() {
+    public void handleRequest_NullDesiredModel_ListsRecursivelyFromRoot() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final String workloads = createOrganizationalUnit(rootId, "workloads");
+        final String prod = createOrganizationalUnit(workloads, "prod");
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .build();
 
-        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), fakeProxyClient, logger);
+
+        verifySuccessResponse(response);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId, ResourceModel::getParentId, ResourceModel::getName)
+            .containsExactly(tuple(workloads, rootId, "workloads"), tuple(prod, workloads, "prod"));
+    }
+
+    @Test
+    public void handleRequest_NullDesiredModelParentId_ListsRecursivelyFromRoot() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final String security = createOrganizationalUnit(rootId, "security");
+        final String sandbox = createOrganizationalUnit(rootId, "sandbox");
+        final String audit = createOrganizationalUnit(security, "audit");
+        final String logArchive = createOrganizationalUnit(audit, "log-archive");
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), fakeProxyClient, logger);
+
+        verifySuccessResponse(response);
+        assertThat(response.getNextToken()).isNull();
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId, ResourceModel::getParentId)
+            .containsExactlyInAnyOrder(tuple(security, rootId), tuple(sandbox, rootId), tuple(audit, security), tuple(logArchive, audit));
+        // the root and every OU are listed once, and ListRoots is not repeated while the root ID is cached
+        assertThat(fakeOrgsClient.getCallCount("ListOrganizationalUnitsForParent")).isEqualTo(5);
+        assertThat(fakeOrgsClient.getCallCount("ListRoots")).isEqualTo(1);
+
+        listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), fakeProxyClient, logger);
+
+        assertThat(fakeOrgsClient.getCallCount("ListRoots")).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_Recursive_ResumesFromNextToken() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final Set<String> expected = new HashSet<>();
+        // more OUs under the root than one ListOrganizationalUnitsForParent page holds
+        for (int i = 0; i < 25; i++) {
+            expected.add(createOrganizationalUnit(rootId, "team-" + i));
+        }
+        final String workloads = createOrganizationalUnit(rootId, "workloads");
+        expected.add(workloads);
+        expected.add(createOrganizationalUnit(workloads, "prod"));
+        final ListHandler pagedListHandler = new ListHandler(3);
+
+        final List<ResourceModel> listed = new ArrayList<>();
+        String nextToken = null;
+        int invocations = 0;
+        do {
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .nextToken(nextToken)
+                .build();
+            final ProgressEvent<ResourceModel, CallbackContext> response = pagedListHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), fakeProxyClient, logger);
+            verifySuccessResponse(response);
+            listed.addAll(response.getResourceModels());
+            nextToken = response.getNextToken();
+            invocations++;
+        } while (nextToken != null);
+
+        assertThat(invocations).isGreaterThan(1);
+        assertThat(listed).extracting(ResourceModel::getId).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void handleRequest_Recursive_SkipsOrganizationalUnitDeletedBetweenPages() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final String workloads = createOrganizationalUnit(rootId, "workloads");
+        final ListHandler pagedListHandler = new ListHandler(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = pagedListHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().build(), new CallbackContext(), fakeProxyClient, logger);
+        assertThat(firstPage.getResourceModels()).extracting(ResourceModel::getId).containsExactly(workloads);
+        assertThat(firstPage.getNextToken()).isNotNull();
+        fakeOrgsClient.deleteOrganizationalUnit(DeleteOrganizationalUnitRequest.builder().organizationalUnitId(workloads).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = pagedListHandler.handleRequest(mockAwsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder().nextToken(firstPage.getNextToken()).build(), new CallbackContext(), fakeProxyClient, logger);
+
+        verifySuccessResponse(secondPage);
+        assertThat(secondPage.getResourceModels()).isEmpty();
+        assertThat(secondPage.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_Recursive_InvalidNextToken_Fails_With_CfnInvalidRequest() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .nextToken("20")
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), fakeProxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(fakeOrgsClient.getTotalCallCount()).isZero();
     }
 
     @Test
-    public void handleRequest_NullDesiredModelParentId_Fails_With_CfnInvalidRequest() {
-        final ResourceModel model = ResourceModel.builder().build();
-        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-            .desiredResourceState(model)
-            .build();
+    public void handleRequest_Recursive_ServiceException_Fails() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder().build();
+        when(mockProxyClient.client().listRoots(any(ListRootsRequest.class))).thenReturn(ListRootsResponse.builder()
+            .roots(Root.builder().id(TEST_PARENT_ID).build())
+            .build());
+        when(mockProxyClient.client().listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class))).thenThrow(ServiceException.class);
 
         final ProgressEvent<ResourceModel, CallbackContext> response = listHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
-        assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
+        verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
     }
 
     @Test
@@ -134,4 +246,9 @@ public class ListHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceInternalError);
         verify(mockProxyClient.client()).listOrganizationalUnitsForParent(any(ListOrganizationalUnitsForParentRequest.class));
     }
+
+    private String createOrganizationalUnit(final String parentId, final String name) {
+        return fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder().parentId(parentId).name(name).build())
+            .organizationalUnit().id();
+    }
 }
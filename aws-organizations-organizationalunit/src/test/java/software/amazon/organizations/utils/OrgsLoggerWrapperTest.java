@@ -0,0 +1,99 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrgsLoggerWrapperTest {
+    private static final String CLIENT_TOKEN = "e2f3c1a4-0000-4b4b-9c9c-123456789abc";
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void log_PrefixesClientRequestToken() {
+        final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(lines::add, CLIENT_TOKEN, OrgsLoggerWrapper.Level.INFO);
+
+        logger.log("Entered create handler.");
+
+        assertThat(lines).containsExactly("[" + CLIENT_TOKEN + "] Entered create handler.");
+    }
+
+    @Test
+    public void log_GeneratesCorrelationIdWithoutClientRequestToken() {
+        final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(lines::add, null, OrgsLoggerWrapper.Level.INFO);
+
+        logger.log("first");
+        logger.log("second");
+
+        assertThat(lines.get(0)).matches("\\[[0-9a-f]+\\] first");
+        assertThat(lines.get(1).substring(0, lines.get(1).indexOf(']')))
+            .isEqualTo(lines.get(0).substring(0, lines.get(0).indexOf(']')));
+    }
+
+    @Test
+    public void info_SubstitutesPlaceholdersInOrder() {
+        final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(lines::add, CLIENT_TOKEN, OrgsLoggerWrapper.Level.INFO);
+
+        logger.info("Policy [{}] attached to {} target(s), last {}.", "p-12345678", 3, null);
+        logger.info("No arguments for {} here.");
+
+        assertThat(lines).containsExactly(
+            "[" + CLIENT_TOKEN + "] Policy [p-12345678] attached to 3 target(s), last null.",
+            "[" + CLIENT_TOKEN + "] No arguments for {} here.");
+    }
+
+    @Test
+    public void debug_SkippedBelowLevelWithoutEvaluatingArguments() {
+        final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(lines::add, CLIENT_TOKEN, OrgsLoggerWrapper.Level.INFO);
+        final int[] evaluations = new int[1];
+        final Supplier<String> content = () -> {
+            evaluations[0]++;
+            return "{}";
+        };
+
+        logger.debug("Policy content [{}]", content);
+        logger.warn("Policy content [{}]", content);
+
+        assertThat(logger.isEnabled(OrgsLoggerWrapper.Level.DEBUG)).isFalse();
+        assertThat(evaluations[0]).isEqualTo(1);
+        assertThat(lines).containsExactly("[" + CLIENT_TOKEN + "] Policy content [{}]");
+    }
+
+    @Test
+    public void error_LoggedAtEveryLevel() {
+        final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(lines::add, CLIENT_TOKEN, OrgsLoggerWrapper.Level.ERROR);
+
+        logger.log("skipped");
+        logger.warn("skipped");
+        logger.error("Failed with [{}].", "AccessDeniedException");
+
+        assertThat(lines).containsExactly("[" + CLIENT_TOKEN + "] Failed with [AccessDeniedException].");
+    }
+
+    @Test
+    public void info_TruncatesLargeFields() {
+        final OrgsLoggerWrapper logger = new OrgsLoggerWrapper(lines::add, CLIENT_TOKEN, OrgsLoggerWrapper.Level.INFO);
+        final StringBuilder content = new StringBuilder();
+        while (content.length() < OrgsLoggerWrapper.MAX_FIELD_LENGTH * 4) {
+            content.append("{\"Effect\":\"Allow\"}");
+        }
+
+        logger.info("content [{}] end", content.toString());
+
+        final String expectedField = content.substring(0, OrgsLoggerWrapper.MAX_FIELD_LENGTH)
+            + "...(truncated, " + content.length() + " chars)";
+        assertThat(lines).containsExactly("[" + CLIENT_TOKEN + "] content [" + expectedField + "] end");
+    }
+
+    @Test
+    public void parseLevel_DefaultsToInfo() {
+        assertThat(OrgsLoggerWrapper.parseLevel("debug")).isEqualTo(OrgsLoggerWrapper.Level.DEBUG);
+        assertThat(OrgsLoggerWrapper.parseLevel(" WARN ")).isEqualTo(OrgsLoggerWrapper.Level.WARN);
+        assertThat(OrgsLoggerWrapper.parseLevel("verbose")).isEqualTo(OrgsLoggerWrapper.Level.INFO);
+        assertThat(OrgsLoggerWrapper.parseLevel(null)).isEqualTo(OrgsLoggerWrapper.Level.INFO);
+    }
+}
@@ -8,6 +8,7 @@ import software.amazon.awssdk.services.organizations.model.AccessDeniedException
 import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
 import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
 import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
 import software.amazon.awssdk.services.organizations.model.DuplicatePolicyException;
 import software.amazon.awssdk.services.organizations.model.InvalidInputException;
@@ -17,21 +18,30 @@ import software.amazon.awssdk.services.organizations.model.PolicyChangesInProgre
 import software.amazon.awssdk.services.organizations.model.PolicyInUseException;
 import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
 import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
 import software.amazon.awssdk.services.organizations.model.PolicyTypeNotAvailableForOrganizationException;
 import software.amazon.awssdk.services.organizations.model.PolicyTypeNotEnabledException;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
 import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
 import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
 import software.amazon.awssdk.services.organizations.model.UnsupportedApiEndpointException;
+import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InstrumentedProxyClient;
+import software.amazon.organizations.utils.InvocationMetrics;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 
 
@@ -46,19 +56,52 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String ALREADY_EXISTS_ERROR_CODE = "AlreadyExists";
     protected static final String ENTITY_ALREADY_EXISTS_ERROR_CODE = "EntityAlreadyExists";
 
+    // set to true to return the model just written from Create and Update instead of reading the policy back
+    public static final String WRITE_THROUGH_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_WRITE_THROUGH";
+
+    // registers the SnapStart priming pass and warms up the connection to the endpoint, the handlers are constructed
+    // in the init phase before the snapshot, which restores without open connections
+    static {
+        Priming.register();
+        if (!ConnectionWarmUp.isSnapStartInit()) {
+            ClientBuilder.warmUpConnection();
+        }
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
-        return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            new OrgsLoggerWrapper(logger)
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RetryBudget retryBudget = restoreRetryBudget(context);
+        final InvocationMetrics metrics = new InvocationMetrics(ResourceModel.TYPE_NAME, handlerNameOf(getClass()));
+        // metrics sit inside the rate limiter, so recorded latency is the API call itself and not the time spent waiting for a permit
+        final RateLimitedProxyClient<OrganizationsClient> orgsClient = new RateLimitedProxyClient<>(
+            new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), metrics));
+        final OrgsLoggerWrapper orgsLogger = new OrgsLoggerWrapper(logger, request.getClientRequestToken());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = metrics.runWith(() -> retryBudget.runWith(() -> handleRequest(
+                proxy,
+                request,
+                context,
+                orgsClient,
+                orgsLogger
+            )));
+            saveRetryBudget(context, retryBudget);
+            if (orgsClient.getThrottledCalls() > 0) {
+                orgsLogger.warn("Throttled {} time(s), client-side rate limits now {}.", orgsClient.getThrottledCalls(), AdaptiveRateLimiter.metrics());
+            }
+            return progressEvent;
+        } finally {
+            metrics.flush(logger);
+        }
+    }
+
+    // CreateHandler -> CREATE, matching the names of PolicyConstants.Handler
+    private static String handlerNameOf(final Class<?> handlerClass) {
+        return handlerClass.getSimpleName().replaceFirst("Handler$", "").toUpperCase(Locale.ROOT);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -69,6 +112,46 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final OrgsLoggerWrapper logger
     );
 
+    protected static boolean isWriteThroughEnabled() {
+        return Boolean.parseBoolean(System.getenv(WRITE_THROUGH_ENVIRONMENT_VARIABLE));
+    }
+
+    /**
+     * Completes a write without the ReadHandler round trip. Name, Description, Type, Content, TargetIds and Tags are the
+     * values the handler just sent; only Arn and AwsManaged are derived by the service. They come from the write response
+     * or the previous model, and a single DescribePolicy fills them in when neither had them.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> writeThroughModel(
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger,
+        final PolicyConstants.Handler handlerName
+    ) {
+        try {
+            model.setContent(Translator.convertStringToObject(Translator.convertObjectToString(model.getContent())));
+        } catch (CfnHandlerInternalFailureException e) {
+            String errorMessage = String.format("[Exception] Failed with exception: [%s]. Message: [%s], ErrorCode: [%s] for policy [%s].",
+                e.getClass().getSimpleName(), e.getMessage(), HandlerErrorCode.InternalFailure, model.getId());
+            logger.log(errorMessage);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure, errorMessage);
+        }
+        if (model.getArn() == null || model.getAwsManaged() == null) {
+            logger.info("Arn of policy [{}] is not known from the write, describing the policy.", model.getId());
+            final DescribePolicyRequest describePolicyRequest = Translator.translateToReadRequest(model);
+            try {
+                final PolicySummary policySummary = orgsClient.injectCredentialsAndInvokeV2(describePolicyRequest, orgsClient.client()::describePolicy)
+                    .policy().policySummary();
+                model.setArn(policySummary.arn());
+                model.setAwsManaged(policySummary.awsManaged());
+            } catch (Exception e) {
+                return handleErrorInGeneral(describePolicyRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.DESCRIBE_POLICY, handlerName);
+            }
+        }
+        logger.info("Returning the written model of policy [{}] without reading it back.", model.getId());
+        return ProgressEvent.defaultSuccessHandler(model);
+    }
+
     public ProgressEvent<ResourceModel, CallbackContext> handleError(
         final OrganizationsRequest request,
         final Exception e,
@@ -101,8 +184,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             errorCode = HandlerErrorCode.InternalFailure;
         }
         String policyInfo = resourceModel.getId() == null ? resourceModel.getName() : resourceModel.getId();
-        logger.log(String.format("[Exception] Failed with exception: [%s]. Message: [%s], ErrorCode: [%s] for policy [%s].",
-            e.getClass().getSimpleName(), e.getMessage(), errorCode, policyInfo));
+        logger.error("[Exception] Failed with exception: [{}]. Message: [{}], ErrorCode: [{}] for policy [{}].",
+            e.getClass().getSimpleName(), e.getMessage(), errorCode, policyInfo);
         return ProgressEvent.failed(resourceModel, callbackContext, errorCode,e.getMessage());
     }
 
@@ -117,6 +200,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final PolicyConstants.Action actionName,
         final PolicyConstants.Handler handlerName
     ) {
+        InvocationMetrics.recordHandlerError(handlerName.toString(), actionName.toString(), e);
         if ((handlerName != PolicyConstants.Handler.READ && handlerName != PolicyConstants.Handler.LIST)
             && isRetriableException(e)) {
             return handleRetriableException(request, proxyClient, callbackContext, logger, e, resourceModel, actionName, handlerName);
@@ -177,16 +261,39 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     ) {
         if (actionName != PolicyConstants.Action.CREATE_POLICY) {
             int currentAttempt = context.getCurrentRetryAttempt(actionName, handlerName);
-            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION) {
+            if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION && acquireHandlerRetry(context, logger)) {
                 context.setCurrentRetryAttempt(actionName, handlerName);
+                InvocationMetrics.recordHandlerRetry(handlerName.toString(), actionName.toString());
                 int callbackDelaySeconds = computeDelayBeforeNextRetry(currentAttempt);
-                logger.log(String.format("Got %s when calling %s for "
-                                + "policy [%s]. Retrying %s of %s with callback delay %s seconds.",
-                        e.getClass().getName(), organizationsRequest.getClass().getName(), model.getName(), currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds));
+                logger.warn("Got {} when calling {} for "
+                                + "policy [{}]. Retrying {} of {} with callback delay {} seconds.",
+                        e.getClass().getName(), organizationsRequest.getClass().getName(), model.getName(), currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds);
                 return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
             }
         }
-        logger.log(String.format("All retry attempts exhausted for policy [%s], return CloudFormation exception.", model.getName()));
+        logger.warn("All retry attempts exhausted for policy [{}], return CloudFormation exception.", model.getName());
         return handleError(organizationsRequest, e, proxyClient, model, context, logger);
     }
+
+    // Restores the retry budget persisted by an earlier invocation of this operation, or a full one on the first invocation
+    private static RetryBudget restoreRetryBudget(final CallbackContext context) {
+        return RetryBudget.restore(context.getRetryBudgetTokens(), context.getRetryBudgetRefilledAt());
+    }
+
+    private static void saveRetryBudget(final CallbackContext context, final RetryBudget retryBudget) {
+        context.setRetryBudgetTokens(retryBudget.getRemainingTokens());
+        context.setRetryBudgetRefilledAt(retryBudget.getLastRefillMillis());
+    }
+
+    // A callback retry is only scheduled while the budget shared with SDK retries lasts, otherwise the error is returned right away
+    private static boolean acquireHandlerRetry(final CallbackContext context, final OrgsLoggerWrapper logger) {
+        final RetryBudget boundRetryBudget = RetryBudget.current();
+        final RetryBudget retryBudget = boundRetryBudget != null ? boundRetryBudget : restoreRetryBudget(context);
+        final boolean acquired = retryBudget.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        saveRetryBudget(context, retryBudget);
+        if (!acquired) {
+            logger.warn("Retry budget for this operation is exhausted, skipping callback retry.");
+        }
+        return acquired;
+    }
 }
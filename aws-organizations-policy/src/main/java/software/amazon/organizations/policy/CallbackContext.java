@@ -3,7 +3,9 @@ package software.amazon.organizations.policy;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 @lombok.Getter
 @lombok.Setter
@@ -19,12 +21,22 @@ public class CallbackContext extends StdCallbackContext {
         String key = actionName.toString() + handlerName.toString();
         this.actionToRetryAttemptMap.put(key, getCurrentRetryAttempt(actionName, handlerName)+1);
     }
+    // RetryBudget state shared by SDK and callback retries of this operation, refill time is epoch milliseconds
+    private Integer retryBudgetTokens;
+    private long retryBudgetRefilledAt = 0L;
     // used in CREATE handler re-invoking
     private boolean policyCreated = false;
     private boolean preExistenceCheckComplete = false;
     private boolean resourceAlreadyExists = false;
+    // set once the attach or the read after create fell back to a callback because the policy was not visible yet,
+    // each of them falls back once
+    private boolean attachAfterCreateDeferred = false;
+    private boolean readAfterCreateDeferred = false;
     // used in DELETE handler re-invoking
     private boolean policyDetachedInDelete = false;
     // used in UPDATE handler re-invoking
     private boolean policyUpdated = false;
+    // used in CREATE and UPDATE handler re-invoking, targets the policy was already attached to or detached from
+    private Set<String> attachedTargetIds = new HashSet<>();
+    private Set<String> detachedTargetIds = new HashSet<>();
 }
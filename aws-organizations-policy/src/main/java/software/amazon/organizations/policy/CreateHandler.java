@@ -2,12 +2,10 @@ package software.amazon.organizations.policy;
 
 import org.apache.commons.collections4.CollectionUtils;
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
-import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
-import software.amazon.awssdk.services.organizations.model.AttachPolicyResponse;
 import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.CreatePolicyResponse;
-import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
 import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
 import software.amazon.awssdk.services.organizations.model.PolicySummary;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -16,15 +14,28 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConsistencyProbe;
+import software.amazon.organizations.utils.InvocationMetrics;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
     private static final int CALLBACK_DELAY = 1;
+    private final PolicyAttachmentEngine attachmentEngine = new PolicyAttachmentEngine();
+    private final boolean writeThrough;
+
+    public CreateHandler() {
+        this(isWriteThroughEnabled());
+    }
+
+    CreateHandler(final boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -45,13 +56,14 @@ public class CreateHandler extends BaseHandlerStd {
         try {
             content = Translator.convertObjectToString(model.getContent());
         } catch (CfnInvalidRequestException e){
-            logger.log(String.format("The policy content did not include a valid JSON. This is an InvalidRequest for management account Id [%s]", request.getAwsAccountId()));
+            logger.info("The policy content did not include a valid JSON. This is an InvalidRequest for management account Id [{}]", request.getAwsAccountId());
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Policy content had invalid JSON!");
         }
 
-        logger.log(String.format("Entered %s create handler with account Id [%s], with Content [%s], Description [%s], Name [%s], Type [%s]",
-            ResourceModel.TYPE_NAME, request.getAwsAccountId(), content, model.getDescription(), model.getName(), model.getType()));
+        logger.info("Entered {} create handler with account Id [{}], Description [{}], Name [{}], Type [{}]",
+            ResourceModel.TYPE_NAME, request.getAwsAccountId(), model.getDescription(), model.getName(), model.getType());
+        logger.debug("Policy [{}] content [{}]", model.getName(), content);
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> callbackContext.isPreExistenceCheckComplete() ? progress : checkIfPolicyExists(awsClientProxy, progress, orgsClient))
             .then(progress -> {
@@ -62,7 +74,7 @@ public class CreateHandler extends BaseHandlerStd {
                 }
                 if (progress.getCallbackContext().isPolicyCreated()) {
                     // skip to attach policy
-                    log.log(String.format("Policy has already been created in previous handler invoke, policy id: [%s]. Skip to attach policy.", model.getId()));
+                    log.info("Policy has already been created in previous handler invoke, policy id: [{}]. Skip to attach policy.", model.getId());
                     return ProgressEvent.progress(model, callbackContext);
                 }
                 return awsClientProxy.initiate("AWS-Organizations-Policy::CreatePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -71,15 +83,46 @@ public class CreateHandler extends BaseHandlerStd {
                     .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                             handleErrorOnCreate(organizationsRequest, e, proxyClient1, model1, context, logger, Arrays.asList(ALREADY_EXISTS_ERROR_CODE, ENTITY_ALREADY_EXISTS_ERROR_CODE)))
                     .done(CreatePolicyResponse -> {
-                        logger.log(String.format("Created policy with Id: [%s] for policy name [%s].", CreatePolicyResponse.policy().policySummary().id(), model.getName()));
+                        logger.info("Created policy with Id: [{}] for policy name [{}].", CreatePolicyResponse.policy().policySummary().id(), model.getName());
                         model.setId(CreatePolicyResponse.policy().policySummary().id());
+                        model.setArn(CreatePolicyResponse.policy().policySummary().arn());
+                        model.setAwsManaged(CreatePolicyResponse.policy().policySummary().awsManaged());
                         progress.getCallbackContext().setPolicyCreated(true);
-                        return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, model);
+                        return ProgressEvent.progress(model, callbackContext);
                     });
                 }
             )
             .then(progress -> attachPolicyToTargets(awsClientProxy, request, model, callbackContext, orgsClient, logger))
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> readAfterCreate(awsClientProxy, request, model, callbackContext, orgsClient, logger));
+    }
+
+    // The policy can be reported as not found right after the create, so the read is probed within this invoke and
+    // falls back to a callback once if the policy is still not visible at the end of the probe window
+    private ProgressEvent<ResourceModel, CallbackContext> readAfterCreate(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        final boolean mayDefer = !callbackContext.isReadAfterCreateDeferred();
+        // a read that is deferred to the callback is not a handler error either
+        final ProgressEvent<ResourceModel, CallbackContext> readProgress = InvocationMetrics.recordHandlerErrorsUnless(
+            () -> ConsistencyProbe.awaitVisible(() -> writeThrough
+                ? writeThroughModel(model, callbackContext, orgsClient, logger, PolicyConstants.Handler.CREATE)
+                : new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger)),
+            progress -> mayDefer && ConsistencyProbe.isNotFound(progress));
+        if (!mayDefer || !ConsistencyProbe.isNotFound(readProgress)) {
+            return readProgress;
+        }
+        callbackContext.setReadAfterCreateDeferred(true);
+        return deferUntilVisible(model, callbackContext);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> deferUntilVisible(final ResourceModel model, final CallbackContext callbackContext) {
+        log.info("Policy [{}] is not visible yet, waiting [{}] seconds before trying again.", model.getId(), CALLBACK_DELAY);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, CALLBACK_DELAY, model);
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> checkIfPolicyExists(
@@ -109,8 +152,8 @@ public class CreateHandler extends BaseHandlerStd {
                         if (existingPolicy.isPresent()) {
                             model.setId(existingPolicy.get().id());
                             context.setResourceAlreadyExists(true);
-                            log.log(String.format("Failing PreExistenceCheck: Policy [%s] already exists with Id: [%s]",
-                                    model.getName(), model.getId()));
+                            log.info("Failing PreExistenceCheck: Policy [{}] already exists with Id: [{}]",
+                                    model.getName(), model.getId());
                         }
 
                         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -126,23 +169,17 @@ public class CreateHandler extends BaseHandlerStd {
         } while (nextToken != null && !context.isResourceAlreadyExists());
 
         context.setPreExistenceCheckComplete(true);
-        int callbackDelaySeconds = 0;
         if (context.isResourceAlreadyExists()) {
             log.log("PreExistenceCheck complete! Requested resource was found.");
         } else {
-            callbackDelaySeconds = CALLBACK_DELAY;
             log.log("PreExistenceCheck complete! Requested resource was not found.");
         }
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModel(model)
-                .callbackContext(context)
-                .callbackDelaySeconds(callbackDelaySeconds)
-                .status(OperationStatus.IN_PROGRESS)
-                .build();
+        // no callback delay, so the create continues in this invoke
+        return ProgressEvent.progress(model, context);
     }
 
     protected CreatePolicyResponse createPolicy(final CreatePolicyRequest createPolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Start creating policy for policy name [%s].", createPolicyRequest.name()));
+        log.info("Start creating policy for policy name [{}].", createPolicyRequest.name());
         final CreatePolicyResponse createPolicyResponse = orgsClient.injectCredentialsAndInvokeV2(createPolicyRequest, orgsClient.client()::createPolicy);
         return createPolicyResponse;
     }
@@ -158,36 +195,24 @@ public class CreateHandler extends BaseHandlerStd {
         Set<String> targets = model.getTargetIds();
         String policyName = model.getName();
         if (CollectionUtils.isEmpty(targets)) {
-            logger.log(String.format("No target id found in request for policy [%s]. Skip attaching policy.", policyName));
+            logger.info("No target id found in request for policy [{}]. Skip attaching policy.", policyName);
             return ProgressEvent.progress(model, callbackContext);
         }
-        logger.log(String.format("Target Ids found in request for policy [%s]. Start attaching policy to provided targets.", policyName));
-        for (final String targetId : targets) {
-            logger.log(String.format("Start attaching policy to targetId [%s] for policy [%s].", targetId, policyName));
-            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = awsClientProxy
-                .initiate("AWS-Organizations-Policy::AttachPolicy", orgsClient, model, callbackContext)
-                .translateToServiceRequest((resourceModel) -> Translator.translateToAttachRequest(model.getId(), targetId))
-                .makeServiceCall(this::attachPolicy)
-                .handleError((organizationsRequest, e, proxyClient1, model1, context) -> {
-                    if (e instanceof DuplicatePolicyAttachmentException) {
-                        log.log(String.format("Got %s when calling attachPolicy for "
-                                                     + "policy name [%s], targetId [%s]. Continuing with attach...",
-                            e.getClass().getName(), policyName, targetId));
-                        return ProgressEvent.progress(model1,context);
-                    } else {
-                        return handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.ATTACH_POLICY, PolicyConstants.Handler.CREATE);
-                    }
-                })
-                .success();
-            if (!progressEvent.isSuccess()) {
-                return progressEvent;
+        logger.info("Target Ids found in request for policy [{}]. Start attaching policy to provided targets.", policyName);
+        // AttachPolicy can fail with PolicyNotFound right after the create, those attempts are probed like the read
+        final PolicyAttachmentEngine.Result result = ConsistencyProbe.awaitVisible(() -> {
+            final PolicyAttachmentEngine.Result attempt = attachmentEngine.attach(model.getId(), targets, callbackContext.getAttachedTargetIds(), orgsClient, logger);
+            // checkpoint finished targets so a retry only attaches the remaining ones
+            callbackContext.setAttachedTargetIds(new HashSet<>(attempt.getCompletedTargetIds()));
+            return attempt;
+        }, attempt -> attempt.getFailure() instanceof PolicyNotFoundException);
+        if (!result.isSuccess()) {
+            if (result.getFailure() instanceof PolicyNotFoundException && !callbackContext.isAttachAfterCreateDeferred()) {
+                callbackContext.setAttachAfterCreateDeferred(true);
+                return deferUntilVisible(model, callbackContext);
             }
+            return handleErrorInGeneral(result.getFailedRequest(), result.getFailure(), orgsClient, model, callbackContext, logger, PolicyConstants.Action.ATTACH_POLICY, PolicyConstants.Handler.CREATE);
         }
         return ProgressEvent.progress(model, callbackContext);
     }
-
-    protected AttachPolicyResponse attachPolicy(final AttachPolicyRequest attachPolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        final AttachPolicyResponse attachPolicyResponse = orgsClient.injectCredentialsAndInvokeV2(attachPolicyRequest, orgsClient.client()::attachPolicy);
-        return attachPolicyResponse;
-    }
 }
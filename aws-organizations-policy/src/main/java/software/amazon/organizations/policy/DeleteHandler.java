@@ -28,7 +28,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
         this.log = logger;
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Entered %s delete handler with policy Id: [%s].", ResourceModel.TYPE_NAME, model.getId()));
+        logger.info("Entered {} delete handler with policy Id: [{}].", ResourceModel.TYPE_NAME, model.getId());
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> detachPolicyFromTargets(awsClientProxy, request, model, callbackContext, orgsClient, logger))
@@ -36,7 +36,7 @@ public class DeleteHandler extends BaseHandlerStd {
     }
 
     protected DeletePolicyResponse deletePolicy(final DeletePolicyRequest deletePolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Attempt to delete policy for [%s].", deletePolicyRequest.policyId()));
+        log.info("Attempt to delete policy for [{}].", deletePolicyRequest.policyId());
         final DeletePolicyResponse deletePolicyResponse = orgsClient.injectCredentialsAndInvokeV2(deletePolicyRequest, orgsClient.client()::deletePolicy);
         return deletePolicyResponse;
     }
@@ -72,24 +72,24 @@ public class DeleteHandler extends BaseHandlerStd {
         Set<String> targets = model.getTargetIds();
         String policyId = model.getId();
         if (CollectionUtils.isEmpty(targets)) {
-            logger.log(String.format("No target id found in request. Skip detaching policy for [%s].", policyId));
+            logger.info("No target id found in request. Skip detaching policy for [{}].", policyId);
             return ProgressEvent.progress(model, callbackContext);
         }
         if (callbackContext.isPolicyDetachedInDelete()){
-            logger.log(String.format("All policy detached from previous invoke. Skip to delete policy for policy [%s].", policyId));
+            logger.info("All policy detached from previous invoke. Skip to delete policy for policy [{}].", policyId);
             return ProgressEvent.progress(model, callbackContext);
         }
-        logger.log(String.format("Target Ids found in request for policy [%s]. Start detaching policy to provided targets.", policyId));
+        logger.info("Target Ids found in request for policy [{}]. Start detaching policy to provided targets.", policyId);
         for (final String targetId : targets) {
-            logger.log(String.format("Start detaching policy from targetId [%s] for policy [%s].", targetId, policyId));
+            logger.info("Start detaching policy from targetId [{}] for policy [{}].", targetId, policyId);
             DetachPolicyRequest detachPolicyRequest = Translator.translateToDetachRequest(model.getId(), targetId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(detachPolicyRequest, orgsClient.client()::detachPolicy);
+                orgsClient.injectCredentialsAndInvokeV2(detachPolicyRequest, orgsClient.client()::detachPolicy);
             } catch (Exception e) {
                 if (e instanceof PolicyNotAttachedException || e instanceof TargetNotFoundException) {
-                    logger.log(String.format("Got %s when calling detachPolicy for "
-                        + "policyId [%s], targetId [%s]. Continuing with delete...",
-                        e.getClass().getName(), model.getId(), targetId));
+                    logger.info("Got {} when calling detachPolicy for "
+                        + "policyId [{}], targetId [{}]. Continuing with delete...",
+                        e.getClass().getName(), model.getId(), targetId);
                 } else {
                     return handleErrorInGeneral(detachPolicyRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.DETACH_POLICY, PolicyConstants.Handler.DELETE);
                 }
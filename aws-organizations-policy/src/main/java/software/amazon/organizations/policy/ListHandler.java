@@ -27,7 +27,7 @@ public class ListHandler extends BaseHandlerStd {
         final OrgsLoggerWrapper logger) {
 
         this.log = logger;
-        logger.log(String.format("Entered %s list handler with accountId [%s]", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
+        logger.info("Entered {} list handler with accountId [{}]", ResourceModel.TYPE_NAME, request.getAwsAccountId());
 
         final ResourceModel model = request.getDesiredResourceState();
         if (model == null || model.getType() == null) {
@@ -0,0 +1,211 @@
+package software.amazon.organizations.policy;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.OrganizationsRequest;
+import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RetryBudget;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Attaches or detaches a policy across many targets with bounded parallelism.
+ * Targets already recorded as completed are skipped, so a handler re-invoked after a failure only calls the remaining ones.
+ * Calls are paced by the AdaptiveRateLimiter of their operation through the handler's RateLimitedProxyClient, so a
+ * TooManyRequestsException slows every attachment in the container down, and the throttled target is queued again up to
+ * MAX_THROTTLE_RETRIES_PER_TARGET times before the failure is returned. Every requeue is charged to the RetryBudget of the
+ * invocation, so once it is spent the throttle goes back to the handler instead.
+ * The number of concurrent calls is read once per container from ORGANIZATIONS_ATTACHMENT_CONCURRENCY and defaults to 4.
+ */
+public class PolicyAttachmentEngine {
+    public static final String MAX_CONCURRENCY_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_ATTACHMENT_CONCURRENCY";
+    static final int DEFAULT_MAX_CONCURRENCY = 4;
+    static final int MAX_THROTTLE_RETRIES_PER_TARGET = 2;
+
+    private static final int CONFIGURED_MAX_CONCURRENCY = parseMaxConcurrency(System.getenv(MAX_CONCURRENCY_ENVIRONMENT_VARIABLE));
+
+    private final int maxConcurrency;
+
+    public PolicyAttachmentEngine() {
+        this(CONFIGURED_MAX_CONCURRENCY);
+    }
+
+    PolicyAttachmentEngine(final int maxConcurrency) {
+        // workers run on the shared invoker pool, so more of them than its threads would only queue
+        this.maxConcurrency = Math.max(1, Math.min(maxConcurrency, ConcurrentInvoker.MAX_THREADS));
+    }
+
+    // Falls back to the default for values that are missing, not a number or below 1, the constructor caps the rest
+    static int parseMaxConcurrency(final String maxConcurrency) {
+        if (maxConcurrency != null) {
+            try {
+                final int value = Integer.parseInt(maxConcurrency.trim());
+                if (value >= 1) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the default
+            }
+        }
+        return DEFAULT_MAX_CONCURRENCY;
+    }
+
+    public Result attach(
+        final String policyId,
+        final Collection<String> targetIds,
+        final Set<String> completedTargetIds,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        return this.<AttachPolicyRequest>run(targetIds, completedTargetIds,
+            targetId -> Translator.translateToAttachRequest(policyId, targetId),
+            attachPolicyRequest -> orgsClient.injectCredentialsAndInvokeV2(attachPolicyRequest, orgsClient.client()::attachPolicy),
+            DuplicatePolicyAttachmentException.class, "attachPolicy", policyId, logger);
+    }
+
+    public Result detach(
+        final String policyId,
+        final Collection<String> targetIds,
+        final Set<String> completedTargetIds,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        return this.<DetachPolicyRequest>run(targetIds, completedTargetIds,
+            targetId -> Translator.translateToDetachRequest(policyId, targetId),
+            detachPolicyRequest -> orgsClient.injectCredentialsAndInvokeV2(detachPolicyRequest, orgsClient.client()::detachPolicy),
+            PolicyNotAttachedException.class, "detachPolicy", policyId, logger);
+    }
+
+    private <RequestT extends OrganizationsRequest> Result run(
+        final Collection<String> targetIds,
+        final Set<String> completedTargetIds,
+        final Function<String, RequestT> requestTranslator,
+        final Consumer<RequestT> serviceCall,
+        final Class<? extends Exception> alreadyDoneException,
+        final String apiName,
+        final String policyId,
+        final OrgsLoggerWrapper logger) {
+
+        final Set<String> completed = ConcurrentHashMap.newKeySet();
+        completed.addAll(completedTargetIds);
+        final Queue<PendingTarget> pending = new ConcurrentLinkedQueue<>();
+        for (final String targetId : targetIds) {
+            if (!completed.contains(targetId)) {
+                pending.add(new PendingTarget(targetId));
+            }
+        }
+        if (pending.isEmpty()) {
+            return new Result(completed, null, null);
+        }
+        logger.info("Calling {} API for {} remaining targets of policy [{}] with up to {} concurrent calls.",
+            apiName, pending.size(), policyId, Math.min(maxConcurrency, pending.size()));
+
+        final AtomicReference<Result> failure = new AtomicReference<>();
+        final List<CompletableFuture<Void>> workers = new ArrayList<>();
+        final int workerCount = Math.min(maxConcurrency, pending.size());
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(ConcurrentInvoker.submit(() -> {
+                drain(pending, completed, failure, requestTranslator, serviceCall, alreadyDoneException, apiName, policyId, logger);
+                return null;
+            }));
+        }
+        ConcurrentInvoker.awaitAll(workers.toArray(new CompletableFuture<?>[0]));
+
+        for (final CompletableFuture<Void> worker : workers) {
+            final Exception workerFailure = ConcurrentInvoker.failureOf(worker);
+            if (workerFailure != null) {
+                failure.compareAndSet(null, new Result(completed, null, workerFailure));
+            }
+        }
+        final Result failed = failure.get();
+        return failed == null ? new Result(completed, null, null) : new Result(completed, failed.getFailedRequest(), failed.getFailure());
+    }
+
+    private <RequestT extends OrganizationsRequest> void drain(
+        final Queue<PendingTarget> pending,
+        final Set<String> completed,
+        final AtomicReference<Result> failure,
+        final Function<String, RequestT> requestTranslator,
+        final Consumer<RequestT> serviceCall,
+        final Class<? extends Exception> alreadyDoneException,
+        final String apiName,
+        final String policyId,
+        final OrgsLoggerWrapper logger) {
+
+        PendingTarget target = pending.poll();
+        // stop taking new targets as soon as any worker hit a failure that has to go back to the handler
+        while (target != null && failure.get() == null) {
+            final RequestT request = requestTranslator.apply(target.targetId);
+            try {
+                serviceCall.accept(request);
+                completed.add(target.targetId);
+            } catch (Exception e) {
+                if (alreadyDoneException.isInstance(e)) {
+                    logger.info("Got {} when calling {} for policy [{}], targetId [{}]. Continuing with remaining targets...",
+                        e.getClass().getName(), apiName, policyId, target.targetId);
+                    completed.add(target.targetId);
+                } else if (AdaptiveRateLimiter.isThrottle(e) && target.throttleRetries < MAX_THROTTLE_RETRIES_PER_TARGET && chargeRetryBudget()) {
+                    target.throttleRetries++;
+                    logger.info("Got {} when calling {} for policy [{}], targetId [{}]. Queueing target again, retry {} of {}.",
+                        e.getClass().getName(), apiName, policyId, target.targetId, target.throttleRetries, MAX_THROTTLE_RETRIES_PER_TARGET);
+                    pending.add(target);
+                } else {
+                    failure.compareAndSet(null, new Result(completed, request, e));
+                }
+            }
+            target = pending.poll();
+        }
+    }
+
+    // a requeue is a retry within this invoke like an SDK retry, so it draws from the same budget
+    private static boolean chargeRetryBudget() {
+        final RetryBudget budget = RetryBudget.current();
+        return budget == null || budget.tryAcquire(RetryBudget.SDK_RETRY_COST);
+    }
+
+    private static final class PendingTarget {
+        private final String targetId;
+        private int throttleRetries;
+
+        private PendingTarget(final String targetId) {
+            this.targetId = targetId;
+        }
+    }
+
+    /**
+     * Targets that are attached or detached after a run, including the ones completed in earlier invokes, and the
+     * first failure that stopped the run if there was one.
+     */
+    @lombok.Getter
+    public static final class Result {
+        private final Set<String> completedTargetIds;
+        private final OrganizationsRequest failedRequest;
+        private final Exception failure;
+
+        Result(final Set<String> completedTargetIds, final OrganizationsRequest failedRequest, final Exception failure) {
+            this.completedTargetIds = completedTargetIds;
+            this.failedRequest = failedRequest;
+            this.failure = failure;
+        }
+
+        public boolean isSuccess() {
+            return failure == null;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureExcept
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ListPageSize;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -140,7 +141,7 @@ public class Translator {
     }
 
     static ListPoliciesRequest translateToListPoliciesRequest(final ResourceModel model, final String nextToken) {
-        return ListPoliciesRequest.builder().filter(model.getType()).nextToken(nextToken).build();
+        return ListPoliciesRequest.builder().filter(model.getType()).maxResults(ListPageSize.get()).nextToken(nextToken).build();
     }
 
     static List<ResourceModel> translateListPoliciesResponseToResourceModels(final ListPoliciesResponse pageResponse) {
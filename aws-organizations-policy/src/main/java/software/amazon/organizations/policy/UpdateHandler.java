@@ -1,10 +1,6 @@
 package software.amazon.organizations.policy;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
-import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
-import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
-import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
-import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
 import software.amazon.awssdk.services.organizations.model.Tag;
 import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
 import software.amazon.awssdk.services.organizations.model.UntagResourceRequest;
@@ -18,13 +14,26 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.PolicyContentDigest;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 public class UpdateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final PolicyAttachmentEngine attachmentEngine = new PolicyAttachmentEngine();
+    private final boolean writeThrough;
+
+    public UpdateHandler() {
+        this(isWriteThroughEnabled());
+    }
+
+    UpdateHandler(final boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -54,13 +63,14 @@ public class UpdateHandler extends BaseHandlerStd {
         try {
             content = Translator.convertObjectToString(model.getContent());
         } catch (CfnInvalidRequestException e){
-            logger.log(String.format("The policy content did not include a valid JSON. This is an InvalidRequest for management account Id [%s]", request.getAwsAccountId()));
+            logger.info("The policy content did not include a valid JSON. This is an InvalidRequest for management account Id [{}]", request.getAwsAccountId());
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "Policy content had invalid JSON!");
         }
 
-        logger.log(String.format("Entered %s update handler with account Id [%s], with Content [%s], Description [%s], Name [%s], Type [%s]",
-            ResourceModel.TYPE_NAME, request.getAwsAccountId(), content, model.getDescription(), model.getName(), model.getType()));
+        logger.info("Entered {} update handler with account Id [{}], Description [{}], Name [{}], Type [{}]",
+            ResourceModel.TYPE_NAME, request.getAwsAccountId(), model.getDescription(), model.getName(), model.getType());
+        logger.debug("Policy [{}] content [{}]", model.getName(), content);
 
         Set<software.amazon.organizations.policy.Tag> previousTags = previousModel.getTags();
         Set<Tag> allPreviousTags = TagsHelper.mergeTags(
@@ -75,17 +85,23 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->{
                     if (progress.getCallbackContext().isPolicyUpdated()) {
-                        log.log(String.format("UpdatePolicy has been entered in previous handler invoke for policy [%s]. Skip to next step.", model.getId()));
+                        log.info("UpdatePolicy has been entered in previous handler invoke for policy [{}]. Skip to next step.", model.getId());
+                        return ProgressEvent.progress(model, callbackContext);
+                    }
+                    if (isPolicyUnchanged(previousModel, model)) {
+                        log.info("Name, description and content of policy [{}] are unchanged. Skip calling UpdatePolicy.", policyId);
                         return ProgressEvent.progress(model, callbackContext);
                     }
                     // call UpdatePolicy API
-                    logger.log(String.format("Requesting UpdatePolicy w/ id: %s", policyId));
+                    logger.info("Requesting UpdatePolicy w/ id: {}", policyId);
                     return awsClientProxy.initiate("AWS-Organizations-Policy::UpdatePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                                .translateToServiceRequest(Translator::translateToUpdateRequest)
                                .makeServiceCall(this::updatePolicy)
                                .handleError((organizationsRequest, e, proxyClient1, model1, context) -> handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, PolicyConstants.Action.UPDATE_POLICY, PolicyConstants.Handler.UPDATE))
                                .done(UpdatePolicyResponse -> {
                                    progress.getCallbackContext().setPolicyUpdated(true);
+                                   model.setArn(UpdatePolicyResponse.policy().policySummary().arn());
+                                   model.setAwsManaged(UpdatePolicyResponse.policy().policySummary().awsManaged());
                                    return ProgressEvent.progress(model, callbackContext);
                                });
                 }
@@ -93,11 +109,30 @@ public class UpdateHandler extends BaseHandlerStd {
             )
             .then(progress -> handleTargets(request, awsClientProxy, model, callbackContext, request.getDesiredResourceState().getTargetIds(), request.getPreviousResourceState().getTargetIds(), policyId, orgsClient, logger))
             .then(progress -> handleTagging(awsClientProxy, model, callbackContext, allNewTags, allPreviousTags, policyId, orgsClient, logger))
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> {
+                if (!writeThrough) {
+                    return new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger);
+                }
+                // Arn and AwsManaged do not change on update
+                if (model.getArn() == null) {
+                    model.setArn(previousModel.getArn());
+                }
+                if (model.getAwsManaged() == null) {
+                    model.setAwsManaged(previousModel.getAwsManaged());
+                }
+                return writeThroughModel(model, callbackContext, orgsClient, logger, PolicyConstants.Handler.UPDATE);
+            });
+    }
+
+    // content is compared by canonical JSON digest, so reordered keys or reformatted whitespace do not count as a change
+    private boolean isPolicyUnchanged(final ResourceModel previousModel, final ResourceModel model) {
+        return Objects.equals(previousModel.getName(), model.getName())
+            && Objects.equals(previousModel.getDescription(), model.getDescription())
+            && PolicyContentDigest.isSameContent(previousModel.getContent(), model.getContent());
     }
 
     protected UpdatePolicyResponse updatePolicy(final UpdatePolicyRequest updatePolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling updatePolicy API for policy [%s].", updatePolicyRequest.policyId()));
+        log.info("Calling updatePolicy API for policy [{}].", updatePolicyRequest.policyId());
         final UpdatePolicyResponse response = orgsClient.injectCredentialsAndInvokeV2(updatePolicyRequest, orgsClient.client()::updatePolicy);
         return response;
     }
@@ -133,41 +168,20 @@ public class UpdateHandler extends BaseHandlerStd {
             }
         }
 
-        // make the calls to attach to new targets
+        // attach to new targets before detaching from old ones, so the policy never leaves a target that keeps it
         if (!CollectionUtils.isNullOrEmpty(targetsToAttach)) {
-            for (String attachTargetId : targetsToAttach) {
-                logger.log(String.format("Calling attachPolicy API with targetId: [%s] for policy [%s]", attachTargetId, model.getName()));
-                AttachPolicyRequest attachPolicyRequest = Translator.translateToAttachRequest(policyId, attachTargetId);
-                try {
-                    awsClientProxy.injectCredentialsAndInvokeV2(attachPolicyRequest, orgsClient.client()::attachPolicy);
-                } catch (Exception e) {
-                    if (e instanceof DuplicatePolicyAttachmentException) {
-                        logger.log(String.format("Got %s when calling attachPolicy for "
-                            + "policyId [%s], targetId [%s]. Continuing with update...",
-                            e.getClass().getName(), policyId, attachTargetId));
-                    } else {
-                        return handleErrorInGeneral(attachPolicyRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.ATTACH_POLICY, PolicyConstants.Handler.UPDATE);
-                    }
-                }
+            final PolicyAttachmentEngine.Result attachResult = attachmentEngine.attach(policyId, targetsToAttach, callbackContext.getAttachedTargetIds(), orgsClient, logger);
+            callbackContext.setAttachedTargetIds(new HashSet<>(attachResult.getCompletedTargetIds()));
+            if (!attachResult.isSuccess()) {
+                return handleErrorInGeneral(attachResult.getFailedRequest(), attachResult.getFailure(), orgsClient, model, callbackContext, logger, PolicyConstants.Action.ATTACH_POLICY, PolicyConstants.Handler.UPDATE);
             }
         }
 
-        // make calls to detach from old targets
         if (!CollectionUtils.isNullOrEmpty(targetsToRemove)) {
-            for (String removeTargetId : targetsToRemove) {
-                logger.log(String.format("Calling detachPolicy API with targetId: [%s] for policy [%s]", removeTargetId, model.getName()));
-                DetachPolicyRequest detachPolicyRequest = Translator.translateToDetachRequest(policyId, removeTargetId);
-                try {
-                    awsClientProxy.injectCredentialsAndInvokeV2(detachPolicyRequest, orgsClient.client()::detachPolicy);
-                } catch (Exception e) {
-                    if (e instanceof PolicyNotAttachedException) {
-                        logger.log(String.format("Got %s when calling detachPolicy for "
-                            + "policyId [%s], targetId [%s]. Continuing with update...",
-                            e.getClass().getName(), policyId, removeTargetId));
-                    } else {
-                        return handleErrorInGeneral(detachPolicyRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.DETACH_POLICY, PolicyConstants.Handler.UPDATE);
-                    }
-                }
+            final PolicyAttachmentEngine.Result detachResult = attachmentEngine.detach(policyId, targetsToRemove, callbackContext.getDetachedTargetIds(), orgsClient, logger);
+            callbackContext.setDetachedTargetIds(new HashSet<>(detachResult.getCompletedTargetIds()));
+            if (!detachResult.isSuccess()) {
+                return handleErrorInGeneral(detachResult.getFailedRequest(), detachResult.getFailure(), orgsClient, model, callbackContext, logger, PolicyConstants.Action.DETACH_POLICY, PolicyConstants.Handler.UPDATE);
             }
         }
 
@@ -193,10 +207,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Delete tags only if tagsToRemove is not empty
         if (!tagsToRemove.isEmpty()) {
-            logger.log(String.format("Calling untagResource API for policy [%s].", model.getName()));
+            logger.info("Calling untagResource API for policy [{}].", model.getName());
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, policyId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
+                orgsClient.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(untagResourceRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.UNTAG_RESOURCE, PolicyConstants.Handler.UPDATE);
             }
@@ -204,10 +218,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Add tags only if tagsToAddOrUpdate is not empty.
         if (!tagsToAddOrUpdate.isEmpty()) {
-            logger.log(String.format("Calling tagResource API for policy [%s].", model.getName()));
+            logger.info("Calling tagResource API for policy [{}].", model.getName());
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAddOrUpdate, policyId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
+                orgsClient.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(tagResourceRequest, e, orgsClient, model, callbackContext, logger, PolicyConstants.Action.TAG_RESOURCE, PolicyConstants.Handler.UPDATE);
             }
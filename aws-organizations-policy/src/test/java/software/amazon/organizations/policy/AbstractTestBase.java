@@ -25,6 +25,8 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class AbstractTestBase {
@@ -54,6 +56,20 @@ public class AbstractTestBase {
     protected static final int CALLBACK_DELAY = 1;
     protected static final int MAX_RETRY_ATTEMPT = 2;
 
+    // API call budgets of the handler paths, see ApiCallBudgetTest
+    protected static final CallBudget READ_CALLS = CallBudget.calls()
+                                                       .exactly("DescribePolicy", 1)
+                                                       .exactly("ListTargetsForPolicy", 1)
+                                                       .exactly("ListTagsForResource", 1);
+    protected static final CallBudget CREATE_CALLS = CallBudget.calls()
+                                                         .exactly("ListPolicies", 1)
+                                                         .exactly("CreatePolicy", 1);
+    protected static final CallBudget UPDATE_CALLS = CallBudget.calls()
+                                                         .exactly("UpdatePolicy", 1)
+                                                         .atMost("UntagResource", 1)
+                                                         .atMost("TagResource", 1);
+    protected static final CallBudget DELETE_CALLS = CallBudget.calls().exactly("DeletePolicy", 1);
+
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy loggerProxy;
     protected static final OrgsLoggerWrapper logger;
@@ -107,6 +123,23 @@ public class AbstractTestBase {
         };
     }
 
+    // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+    static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+    }
+
+    // one AttachPolicy per target
+    static CallBudget attachCalls(final int targets) {
+        return CallBudget.calls().exactly("AttachPolicy", targets);
+    }
+
+    // one DetachPolicy per target
+    static CallBudget detachCalls(final int targets) {
+        return CallBudget.calls().exactly("DetachPolicy", targets);
+    }
+
     // recommended content type is JSON
     static ResourceModel generateInitialResourceModel(boolean hasTargets, boolean hasTags) {
         return ResourceModel.builder()
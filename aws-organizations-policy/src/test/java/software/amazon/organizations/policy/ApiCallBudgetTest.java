@@ -0,0 +1,150 @@
+package software.amazon.organizations.policy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.organizations.utils.CallBudget.calls;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+    private String rootId;
+    private String ouId;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = COUNTING_PROXY(awsClientProxy, fakeOrgsClient);
+        rootId = fakeOrgsClient.getRootId();
+        ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                           .parentId(rootId)
+                                                           .name("workloads")
+                                                           .build()).organizationalUnit().id();
+    }
+
+    @Test
+    public void create_WithTwoTargets() {
+        assertThat(create(new CreateHandler(false)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // one ListPolicies page, CreatePolicy, one AttachPolicy per target, then the Read
+        CREATE_CALLS.plus(attachCalls(2)).plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void create_WriteThroughSkipsRead() {
+        assertThat(create(new CreateHandler(true)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        CREATE_CALLS.plus(attachCalls(2)).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                          .desiredResourceState(ResourceModel.builder().id(created.getId()).build())
+                                                          .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        READ_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_ChangeContentTagsAndTargets() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(false), updateRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        UPDATE_CALLS.plus(detachCalls(1)).plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_WriteThroughSkipsRead() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(true), updateRequest(created)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        UPDATE_CALLS.plus(detachCalls(1)).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_UnchangedPolicySkipsUpdatePolicy() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(true), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                .previousResourceState(created)
+                                                                .desiredResourceState(created)
+                                                                .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete_WithTwoTargets() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .desiredResourceState(created)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        detachCalls(2).plus(DELETE_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void list_OnePage() {
+        create(new CreateHandler(true));
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ListHandler(false), ResourceHandlerRequest.<ResourceModel>builder()
+                                                               .desiredResourceState(ResourceModel.builder().type(TEST_TYPE).build())
+                                                               .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().exactly("ListPolicies", 1).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final CreateHandler handler) {
+        final ResourceModel desiredModel = generateInitialResourceModel(false, true);
+        desiredModel.setTargetIds(new HashSet<>(Set.of(rootId, ouId)));
+        return invokeUntilDone(handler, ResourceHandlerRequest.<ResourceModel>builder()
+                                            .desiredResourceState(desiredModel)
+                                            .build());
+    }
+
+    // renames the policy, changes its content and tags, and detaches it from the OU
+    private ResourceHandlerRequest<ResourceModel> updateRequest(final ResourceModel previousModel) {
+        final ResourceModel updatedModel = generateUpdatedResourceModel(false, true);
+        updatedModel.setId(previousModel.getId());
+        updatedModel.setArn(previousModel.getArn());
+        updatedModel.setTargetIds(new HashSet<>(Set.of(rootId)));
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .previousResourceState(previousModel)
+                   .desiredResourceState(updatedModel)
+                   .build();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
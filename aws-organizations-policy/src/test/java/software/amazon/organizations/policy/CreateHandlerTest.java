@@ -23,6 +23,7 @@ import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRe
 import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
 import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
 import software.amazon.awssdk.services.organizations.model.Policy;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
 import software.amazon.awssdk.services.organizations.model.PolicySummary;
 import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
 import software.amazon.awssdk.services.organizations.model.ServiceException;
@@ -43,9 +44,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atMost;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -98,16 +101,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildEmptyTagsResponse();
         when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
 
-        ProgressEvent<ResourceModel, CallbackContext> response = null;
-        do {
-            final CallbackContext callbackContext = (response == null) ? new CallbackContext() : response.getCallbackContext();
-            response = createHandler.handleRequest(mockAwsClientProxy, request, callbackContext, mockProxyClient, logger);
-
-            if (response.getStatus().equals(OperationStatus.IN_PROGRESS)) {
-                assertThat(response.getCallbackDelaySeconds()).isEqualTo(CALLBACK_DELAY);
-            }
-
-        } while (response.getStatus().equals(OperationStatus.IN_PROGRESS));
+        // a pre-existence check that finds nothing continues to the create in the same invoke
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
 
         final ResourceModel finalModel = ResourceModel.builder()
             .targetIds(new HashSet<>())
@@ -381,7 +376,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
 
         ProgressEvent<ResourceModel, CallbackContext> response = null;
-        int expectedRetryCount = 0;
+        // the create does not yield before attaching, so the first response after it is already the first retry
+        int expectedRetryCount = 1;
         do {
             final CallbackContext callbackContext = (response == null) ? context : response.getCallbackContext();
             response = createHandler.handleRequest(mockAwsClientProxy, request, callbackContext, mockProxyClient, logger);
@@ -410,6 +406,92 @@ public class CreateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_WithTargets_ConcurrentModificationExceptionInAttachPolicy_shouldOnlyRetryRemainingTargets() {
+        final ResourceModel model = generateInitialResourceModel(true, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
+                .thenReturn(ListPoliciesResponse.builder()
+                        .policies(Collections.<PolicySummary>emptyList())
+                        .build());
+
+        final CreatePolicyResponse createPolicyResponse = getCreatePolicyResponse();
+        when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(createPolicyResponse);
+
+        when(mockProxyClient.client().attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_ROOT_ID.equals(attachRequest.targetId()))))
+            .thenReturn(AttachPolicyResponse.builder().build());
+        when(mockProxyClient.client().attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_OU_ID.equals(attachRequest.targetId()))))
+            .thenThrow(ConcurrentModificationException.class)
+            .thenReturn(AttachPolicyResponse.builder().build());
+
+        final DescribePolicyResponse describePolicyResponse = getDescribePolicyResponse();
+        when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenReturn(describePolicyResponse);
+
+        final ListTargetsForPolicyResponse listTargetsResponse = ListTargetsForPolicyResponse.builder()
+            .targets(Arrays.asList(getPolicyTargetSummaryWithTargetId(TEST_TARGET_ROOT_ID), getPolicyTargetSummaryWithTargetId(TEST_TARGET_OU_ID)))
+            .nextToken(null)
+            .build();
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(listTargetsResponse);
+
+        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildEmptyTagsResponse();
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
+
+        ProgressEvent<ResourceModel, CallbackContext> response = null;
+        do {
+            final CallbackContext callbackContext = (response == null) ? new CallbackContext() : response.getCallbackContext();
+            response = createHandler.handleRequest(mockAwsClientProxy, request, callbackContext, mockProxyClient, logger);
+        } while (response.getStatus().equals(OperationStatus.IN_PROGRESS));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().getAttachedTargetIds()).containsExactlyInAnyOrderElementsOf(TEST_TARGET_IDS);
+
+        // the root was attached before the conflict and is not attached again when the handler retries
+        verify(mockProxyClient.client(), times(1)).createPolicy(any(CreatePolicyRequest.class));
+        verify(mockProxyClient.client(), times(1)).attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_ROOT_ID.equals(attachRequest.targetId())));
+        verify(mockProxyClient.client(), times(2)).attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_OU_ID.equals(attachRequest.targetId())));
+    }
+
+    @Test
+    public void handleRequest_WithTargets_PolicyNotVisibleYet_AttachProbedWithinInvoke() {
+        final ResourceModel model = generateInitialResourceModel(true, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(mockProxyClient.client().listPolicies(any(ListPoliciesRequest.class)))
+                .thenReturn(ListPoliciesResponse.builder().policies(Collections.<PolicySummary>emptyList()).build());
+        when(mockProxyClient.client().createPolicy(any(CreatePolicyRequest.class))).thenReturn(getCreatePolicyResponse());
+        // the first attach right after the create does not see the policy yet
+        when(mockProxyClient.client().attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_ROOT_ID.equals(attachRequest.targetId()))))
+            .thenThrow(PolicyNotFoundException.class)
+            .thenReturn(AttachPolicyResponse.builder().build());
+        when(mockProxyClient.client().attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_OU_ID.equals(attachRequest.targetId()))))
+            .thenReturn(AttachPolicyResponse.builder().build());
+        when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenReturn(getDescribePolicyResponse());
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(ListTargetsForPolicyResponse.builder()
+            .targets(Arrays.asList(getPolicyTargetSummaryWithTargetId(TEST_TARGET_ROOT_ID), getPolicyTargetSummaryWithTargetId(TEST_TARGET_OU_ID)))
+            .build());
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(TagTestResourceHelper.buildEmptyTagsResponse());
+
+        // the pre-existence check, the create, the attach and the read complete in one invoke
+        final ProgressEvent<ResourceModel, CallbackContext> response = createHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().getAttachedTargetIds()).containsExactlyInAnyOrderElementsOf(TEST_TARGET_IDS);
+        assertThat(response.getCallbackContext().isReadAfterCreateDeferred()).isFalse();
+        assertThat(response.getCallbackContext().isAttachAfterCreateDeferred()).isFalse();
+
+        verify(mockProxyClient.client(), times(1)).createPolicy(any(CreatePolicyRequest.class));
+        verify(mockProxyClient.client(), times(2)).attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_ROOT_ID.equals(attachRequest.targetId())));
+        verify(mockProxyClient.client(), times(1)).attachPolicy(argThat((AttachPolicyRequest attachRequest) -> attachRequest != null && TEST_TARGET_OU_ID.equals(attachRequest.targetId())));
+        verify(mockProxyClient.client(), times(1)).describePolicy(any(DescribePolicyRequest.class));
+    }
+
     @Test
     public void handleRequest_MissingRequiredValueName_Fails_With_InvalidRequest() {
         final ResourceModel model = ResourceModel.builder()
@@ -503,7 +585,8 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
         verify(mockProxyClient.client()).createPolicy(any(CreatePolicyRequest.class));
-        verify(mockProxyClient.client()).attachPolicy(any(AttachPolicyRequest.class));
+        // targets are attached concurrently, so the second one may already be in flight when the first fails
+        verify(mockProxyClient.client(), atMost(2)).attachPolicy(any(AttachPolicyRequest.class));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -17,6 +17,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.RetryBudget;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -231,6 +232,28 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(mockProxyClient.client(), atLeast(3)).deletePolicy(any(DeletePolicyRequest.class));
     }
 
+    @Test
+    public void handleRequest_DeletePolicyFailsWithConcurrentModificationException_RetryBudgetExhausted_FailsFast() {
+        final ResourceModel model = generateFinalResourceModel(false, false);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                  .desiredResourceState(model)
+                                                                  .build();
+
+        when(mockProxyClient.client().deletePolicy(any(DeletePolicyRequest.class))).thenThrow(ConcurrentModificationException.class);
+
+        // budget already spent by earlier SDK and callback retries of this operation
+        CallbackContext context = new CallbackContext();
+        context.setRetryBudgetTokens(RetryBudget.HANDLER_RETRY_COST - 1);
+        context.setRetryBudgetRefilledAt(System.currentTimeMillis());
+        ProgressEvent<ResourceModel, CallbackContext> response = deleteHandler.handleRequest(mockAwsClientProxy, request, context, mockProxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+        assertThat(context.getCurrentRetryAttempt(PolicyConstants.Action.DELETE_POLICY, PolicyConstants.Handler.DELETE)).isZero();
+        verify(mockProxyClient.client(), atLeastOnce()).deletePolicy(any(DeletePolicyRequest.class));
+    }
+
     @Test
     public void deleteHandleRequest_Fails_With_CfnNotFoundException() {
         final ResourceModel model = generateFinalResourceModel(true, true);
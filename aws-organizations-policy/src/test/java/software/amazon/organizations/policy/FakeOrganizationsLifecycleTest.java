@@ -0,0 +1,126 @@
+package software.amazon.organizations.policy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the handlers end to end against the in-memory FakeOrganizationsClient instead of per-call mocks
+public class FakeOrganizationsLifecycleTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_CreateReadUpdateListDelete() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final String ouId = fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                        .parentId(rootId)
+                                                                        .name("workloads")
+                                                                        .build()).organizationalUnit().id();
+        final ResourceModel desiredModel = generateInitialResourceModel(false, true);
+        desiredModel.setTargetIds(new HashSet<>(Set.of(rootId, ouId)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(desiredModel)
+                                                                                                               .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final String policyId = created.getResourceModel().getId();
+        assertThat(created.getResourceModel().getTargetIds()).containsExactlyInAnyOrder(rootId, ouId);
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(policyId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourceHelper.defaultTags);
+
+        final ResourceModel updatedModel = generateUpdatedResourceModel(false, true);
+        updatedModel.setId(policyId);
+        updatedModel.setTargetIds(new HashSet<>(Set.of(rootId)));
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .previousResourceState(created.getResourceModel())
+                                                                                                               .desiredResourceState(updatedModel)
+                                                                                                               .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getName()).isEqualTo(TEST_POLICY_UPDATED_NAME);
+        assertThat(updated.getResourceModel().getTargetIds()).containsExactly(rootId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = invokeUntilDone(new ListHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                           .desiredResourceState(ResourceModel.builder().type(TEST_TYPE).build())
+                                                                                                           .build());
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getId).containsExactly(policyId);
+
+        final ResourceHandlerRequest<ResourceModel> deleteRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                        .desiredResourceState(updated.getResourceModel())
+                                                                        .build();
+        assertThat(invokeUntilDone(new DeleteHandler(), deleteRequest).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readAfterDelete = invokeUntilDone(new ReadHandler(), deleteRequest);
+        assertThat(readAfterDelete.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(readAfterDelete.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_WriteThroughCreateAndUpdateSkipReadBack() {
+        final String rootId = fakeOrgsClient.getRootId();
+        final ResourceModel desiredModel = generateInitialResourceModel(false, true);
+        desiredModel.setTargetIds(new HashSet<>(Set.of(rootId)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(true), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                                   .desiredResourceState(desiredModel)
+                                                                                                                   .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ResourceModel createdModel = created.getResourceModel();
+        assertThat(createdModel.getArn()).isNotNull();
+        assertThat(createdModel.getAwsManaged()).isFalse();
+        assertThat(createdModel.getTargetIds()).containsExactly(rootId);
+        assertThat(createdModel.getContent()).isEqualTo(TEST_POLICY_CONTENT_JSON);
+
+        final ResourceModel updatedModel = generateUpdatedResourceModel(false, true);
+        updatedModel.setId(createdModel.getId());
+        updatedModel.setArn(null);
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(true), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                                   .previousResourceState(createdModel)
+                                                                                                                   .desiredResourceState(updatedModel)
+                                                                                                                   .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getName()).isEqualTo(TEST_POLICY_UPDATED_NAME);
+        assertThat(updated.getResourceModel().getArn()).isEqualTo(createdModel.getArn());
+
+        // Arn and AwsManaged came from the CreatePolicy and UpdatePolicy responses, nothing was read back
+        assertThat(fakeOrgsClient.getCallCount("DescribePolicy")).isZero();
+        assertThat(fakeOrgsClient.getCallCount("ListTargetsForPolicy")).isZero();
+        assertThat(fakeOrgsClient.getCallCount("ListTagsForResource")).isZero();
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
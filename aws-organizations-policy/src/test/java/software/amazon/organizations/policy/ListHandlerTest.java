@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ListPageSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -67,7 +68,8 @@ public class ListHandlerTest extends AbstractTestBase {
 
         verifySuccessResponse(response);
 
-        verify(mockProxyClient.client()).listPolicies(any(ListPoliciesRequest.class));
+        verify(mockProxyClient.client()).listPolicies(argThat((ListPoliciesRequest listRequest) ->
+            listRequest != null && listRequest.maxResults() == ListPageSize.get()));
         verify(mockOrgsClient, atLeastOnce()).serviceName();
         verifyNoMoreInteractions(mockOrgsClient);
     }
@@ -0,0 +1,162 @@
+package software.amazon.organizations.policy;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PolicyAttachmentEngineTest extends AbstractTestBase {
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+    private PolicyAttachmentEngine engine;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(awsClientProxy, mockOrgsClient);
+        engine = new PolicyAttachmentEngine(PolicyAttachmentEngine.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void attach_AttachesAllTargets() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenReturn(AttachPolicyResponse.builder().build());
+
+        final PolicyAttachmentEngine.Result result = engine.attach(TEST_POLICY_ID, TEST_UPDATED_TARGET_IDS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCompletedTargetIds()).containsExactlyInAnyOrderElementsOf(TEST_UPDATED_TARGET_IDS);
+        verify(mockOrgsClient, times(2)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void attach_SkipsCompletedTargets() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenReturn(AttachPolicyResponse.builder().build());
+
+        final PolicyAttachmentEngine.Result result = engine.attach(TEST_POLICY_ID, TEST_TARGET_IDS,
+            new HashSet<>(Collections.singleton(TEST_TARGET_ROOT_ID)), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCompletedTargetIds()).containsExactlyInAnyOrderElementsOf(TEST_TARGET_IDS);
+        verify(mockOrgsClient, never()).attachPolicy(argThat((AttachPolicyRequest request) -> request != null && TEST_TARGET_ROOT_ID.equals(request.targetId())));
+        verify(mockOrgsClient).attachPolicy(argThat((AttachPolicyRequest request) -> request != null && TEST_TARGET_OU_ID.equals(request.targetId())));
+    }
+
+    @Test
+    public void attach_DuplicatePolicyAttachment_CountsAsCompleted() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenThrow(DuplicatePolicyAttachmentException.class);
+
+        final PolicyAttachmentEngine.Result result = engine.attach(TEST_POLICY_ID, TEST_TARGET_IDS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCompletedTargetIds()).containsExactlyInAnyOrderElementsOf(TEST_TARGET_IDS);
+    }
+
+    @Test
+    public void attach_Throttled_RetriesTargetAndSlowsDownSharedLimiter() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class)))
+            .thenThrow(TooManyRequestsException.class)
+            .thenReturn(AttachPolicyResponse.builder().build());
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.forOperation("AttachPolicy");
+        final long throttlesBefore = limiter.snapshot().getThrottleCount();
+
+        final PolicyAttachmentEngine.Result result = engine.attach(TEST_POLICY_ID, Collections.singleton(TEST_TARGET_OU_ID), new HashSet<>(), new RateLimitedProxyClient<>(mockProxyClient), logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCompletedTargetIds()).containsExactly(TEST_TARGET_OU_ID);
+        assertThat(limiter.snapshot().getThrottleCount()).isEqualTo(throttlesBefore + 1);
+        verify(mockOrgsClient, times(2)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void attach_ThrottledPastRetryLimit_ReturnsFailure() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenThrow(TooManyRequestsException.class);
+
+        final PolicyAttachmentEngine.Result result = engine.attach(TEST_POLICY_ID, Collections.singleton(TEST_TARGET_OU_ID), new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).isInstanceOf(TooManyRequestsException.class);
+        assertThat(result.getCompletedTargetIds()).isEmpty();
+        verify(mockOrgsClient, times(PolicyAttachmentEngine.MAX_THROTTLE_RETRIES_PER_TARGET + 1)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void attach_ThrottledWithRetryBudgetSpent_ReturnsFailure() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenThrow(TooManyRequestsException.class);
+        // one token left, enough for a single requeue
+        final RetryBudget retryBudget = RetryBudget.restore(RetryBudget.SDK_RETRY_COST, System.currentTimeMillis());
+
+        final PolicyAttachmentEngine.Result result = retryBudget.runWith(() -> engine.attach(TEST_POLICY_ID, Collections.singleton(TEST_TARGET_OU_ID), new HashSet<>(), mockProxyClient, logger));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).isInstanceOf(TooManyRequestsException.class);
+        assertThat(result.getCompletedTargetIds()).isEmpty();
+        assertThat(retryBudget.getRemainingTokens()).isZero();
+        verify(mockOrgsClient, times(2)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void parseMaxConcurrency_FallsBackToDefault() {
+        assertThat(PolicyAttachmentEngine.parseMaxConcurrency("8")).isEqualTo(8);
+        assertThat(PolicyAttachmentEngine.parseMaxConcurrency(" 2 ")).isEqualTo(2);
+        assertThat(PolicyAttachmentEngine.parseMaxConcurrency(null)).isEqualTo(PolicyAttachmentEngine.DEFAULT_MAX_CONCURRENCY);
+        assertThat(PolicyAttachmentEngine.parseMaxConcurrency("0")).isEqualTo(PolicyAttachmentEngine.DEFAULT_MAX_CONCURRENCY);
+        assertThat(PolicyAttachmentEngine.parseMaxConcurrency("many")).isEqualTo(PolicyAttachmentEngine.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void attach_NonRetriableFailure_ReturnsFailedRequest() {
+        when(mockOrgsClient.attachPolicy(argThat((AttachPolicyRequest request) -> request != null && TEST_TARGET_ROOT_ID.equals(request.targetId()))))
+            .thenReturn(AttachPolicyResponse.builder().build());
+        when(mockOrgsClient.attachPolicy(argThat((AttachPolicyRequest request) -> request != null && TEST_TARGET_OU_ID.equals(request.targetId()))))
+            .thenThrow(TargetNotFoundException.class);
+
+        final PolicyAttachmentEngine.Result result = new PolicyAttachmentEngine(1)
+            .attach(TEST_POLICY_ID, Arrays.asList(TEST_TARGET_ROOT_ID, TEST_TARGET_OU_ID), new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).isInstanceOf(TargetNotFoundException.class);
+        assertThat(result.getFailedRequest()).isEqualTo(Translator.translateToAttachRequest(TEST_POLICY_ID, TEST_TARGET_OU_ID));
+        assertThat(result.getCompletedTargetIds()).containsExactly(TEST_TARGET_ROOT_ID);
+    }
+
+    @Test
+    public void detach_PolicyNotAttached_CountsAsCompleted() {
+        when(mockOrgsClient.detachPolicy(argThat((DetachPolicyRequest request) -> request != null && TEST_TARGET_ROOT_ID.equals(request.targetId()))))
+            .thenReturn(DetachPolicyResponse.builder().build());
+        when(mockOrgsClient.detachPolicy(argThat((DetachPolicyRequest request) -> request != null && TEST_TARGET_OU_ID.equals(request.targetId()))))
+            .thenThrow(PolicyNotAttachedException.class);
+
+        final PolicyAttachmentEngine.Result result = engine.detach(TEST_POLICY_ID, TEST_TARGET_IDS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCompletedTargetIds()).containsExactlyInAnyOrderElementsOf(TEST_TARGET_IDS);
+    }
+}
@@ -43,6 +43,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -116,6 +117,45 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_ContentOnlyReformatted_SkipsUpdatePolicy() {
+        final ResourceModel initialResourceModel = generateFinalResourceModel(false, false);
+        final ResourceModel updatedResourceModel = generateFinalResourceModel(false, false);
+        // same statement as TEST_POLICY_CONTENT with reordered keys and extra whitespace
+        updatedResourceModel.setContent("{ \"Statement\": [ { \"Resource\": [\"*\"], \"Action\": [\"s3:*\"], \"Effect\": \"Allow\" } ],\n  \"Version\": \"2012-10-17\" }");
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+
+        final DescribePolicyResponse describePolicyResponse = getDescribePolicyResponse();
+        when(mockProxyClient.client().describePolicy(any(DescribePolicyRequest.class))).thenReturn(describePolicyResponse);
+
+        final ListTargetsForPolicyResponse listTargetsResponse = ListTargetsForPolicyResponse.builder()
+            .targets(new ArrayList<>())
+            .nextToken(null)
+            .build();
+
+        when(mockProxyClient.client().listTargetsForPolicy(any(ListTargetsForPolicyRequest.class))).thenReturn(listTargetsResponse);
+
+        final ListTagsForResourceResponse listTagsResponse = TagTestResourceHelper.buildEmptyTagsResponse();
+        when(mockProxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandlerToTest.handleRequest(mockAwsClientproxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(mockProxyClient.client(), never()).updatePolicy(any(UpdatePolicyRequest.class));
+        verify(mockProxyClient.client()).describePolicy(any(DescribePolicyRequest.class));
+        verify(mockProxyClient.client()).listTargetsForPolicy(any(ListTargetsForPolicyRequest.class));
+        verify(mockProxyClient.client()).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
     @Test
     public void handleRequest_WithJsonContent_SimpleSuccess() {
         final ResourceModel initialResourceModel = generateFinalResourceModel(false, false);
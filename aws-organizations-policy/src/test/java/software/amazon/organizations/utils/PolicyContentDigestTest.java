@@ -0,0 +1,58 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PolicyContentDigestTest {
+    private static final String CONTENT = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":[\"s3:*\"],\"Resource\":[\"*\"]}]}";
+
+    @Test
+    public void canonicalize_SortsKeysAndStripsWhitespace() {
+        final String reformatted = "{\n  \"Statement\" : [ { \"Resource\" : [ \"*\" ], \"Effect\" : \"Allow\", \"Action\" : [ \"s3:*\" ] } ],\n  \"Version\" : \"2012-10-17\"\n}";
+
+        assertThat(PolicyContentDigest.canonicalize(reformatted))
+            .isEqualTo("{\"Statement\":[{\"Action\":[\"s3:*\"],\"Effect\":\"Allow\",\"Resource\":[\"*\"]}],\"Version\":\"2012-10-17\"}");
+        assertThat(PolicyContentDigest.digest(reformatted)).isEqualTo(PolicyContentDigest.digest(CONTENT));
+    }
+
+    @Test
+    public void digest_SameForStringAndObjectContent() {
+        final Map<String, Object> statement = new LinkedHashMap<>();
+        statement.put("Resource", Arrays.asList("*"));
+        statement.put("Action", Arrays.asList("s3:*"));
+        statement.put("Effect", "Allow");
+        final Map<String, Object> content = new LinkedHashMap<>();
+        content.put("Statement", Arrays.asList(statement));
+        content.put("Version", "2012-10-17");
+
+        assertThat(PolicyContentDigest.isSameContent(CONTENT, content)).isTrue();
+    }
+
+    @Test
+    public void canonicalize_NormalizesNumbers() {
+        assertThat(PolicyContentDigest.canonicalize("{\"a\":1.0,\"b\":1e2,\"c\":-0.50}")).isEqualTo("{\"a\":1,\"b\":100,\"c\":-0.5}");
+    }
+
+    @Test
+    public void isSameContent_DetectsSemanticChanges() {
+        final String denied = CONTENT.replace("Allow", "Deny");
+        final String reorderedArray = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":[\"s3:*\"],\"Resource\":[\"*\"]}],\"Extra\":[2,1]}";
+
+        assertThat(PolicyContentDigest.isSameContent(CONTENT, denied)).isFalse();
+        // array order is significant
+        assertThat(PolicyContentDigest.isSameContent(reorderedArray, reorderedArray.replace("[2,1]", "[1,2]"))).isFalse();
+        assertThat(PolicyContentDigest.isSameContent(CONTENT, null)).isFalse();
+        assertThat(PolicyContentDigest.isSameContent(null, null)).isTrue();
+    }
+
+    @Test
+    public void canonicalize_InvalidJson_ReturnsContentAsIs() {
+        assertThat(PolicyContentDigest.canonicalize("{not json")).isEqualTo("{not json");
+        assertThat(PolicyContentDigest.isSameContent("{not json", "{not json ")).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.organizations.policyattachmentset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The AttachPolicy and DetachPolicy calls that take a set of policy attachments from one state to another.
+ * Only policy-target pairs that differ between the two states are planned, so adding one account to one policy of a
+ * large set costs one call instead of a call per policy and target.
+ */
+@lombok.Getter
+public final class AttachmentPlan {
+    private final List<Attachment> toAttach;
+    private final List<Attachment> toDetach;
+
+    private AttachmentPlan(final List<Attachment> toAttach, final List<Attachment> toDetach) {
+        this.toAttach = toAttach;
+        this.toDetach = toDetach;
+    }
+
+    static AttachmentPlan between(final List<PolicyAttachment> previous, final List<PolicyAttachment> desired) {
+        final Set<Attachment> previousAttachments = new LinkedHashSet<>(attachmentsOf(previous));
+        final Set<Attachment> desiredAttachments = new LinkedHashSet<>(attachmentsOf(desired));
+        final List<Attachment> toAttach = new ArrayList<>();
+        for (final Attachment attachment : desiredAttachments) {
+            if (!previousAttachments.contains(attachment)) {
+                toAttach.add(attachment);
+            }
+        }
+        final List<Attachment> toDetach = new ArrayList<>();
+        for (final Attachment attachment : previousAttachments) {
+            if (!desiredAttachments.contains(attachment)) {
+                toDetach.add(attachment);
+            }
+        }
+        return new AttachmentPlan(toAttach, toDetach);
+    }
+
+    // every policy-target pair of the attachments, policy by policy and with sorted targets so a retried invoke plans the same order
+    static List<Attachment> attachmentsOf(final List<PolicyAttachment> policyAttachments) {
+        if (policyAttachments == null) {
+            return Collections.emptyList();
+        }
+        final List<Attachment> attachments = new ArrayList<>();
+        for (final PolicyAttachment policyAttachment : policyAttachments) {
+            if (policyAttachment.getTargetIds() == null) {
+                continue;
+            }
+            for (final String targetId : new TreeSet<>(policyAttachment.getTargetIds())) {
+                attachments.add(new Attachment(policyAttachment.getPolicyId(), targetId));
+            }
+        }
+        return attachments;
+    }
+
+    public boolean isEmpty() {
+        return toAttach.isEmpty() && toDetach.isEmpty();
+    }
+
+    /**
+     * One policy attached to one target, the unit AttachPolicy and DetachPolicy work on.
+     */
+    @lombok.Getter
+    @lombok.EqualsAndHashCode
+    @lombok.ToString
+    public static final class Attachment {
+        private static final String KEY_SEPARATOR = ":";
+
+        private final String policyId;
+        private final String targetId;
+
+        Attachment(final String policyId, final String targetId) {
+            this.policyId = policyId;
+            this.targetId = targetId;
+        }
+
+        // recorded in the callback context once the pair is attached or detached
+        public String key() {
+            return policyId + KEY_SEPARATOR + targetId;
+        }
+    }
+}
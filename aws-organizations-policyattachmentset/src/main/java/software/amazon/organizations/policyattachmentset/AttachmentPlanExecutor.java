@@ -0,0 +1,223 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.OrganizationsRequest;
+import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RetryBudget;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs the attach or detach half of an AttachmentPlan across all policies of the set with bounded parallelism.
+ * The pairs of every policy go through one queue, so a set of many small policies keeps as many calls in flight as one
+ * large policy. Pairs already recorded as completed are skipped, which lets a handler re-invoked after a failure continue
+ * from its checkpoint. Calls are paced by the AdaptiveRateLimiter of their operation through the handler's
+ * RateLimitedProxyClient, and a throttled pair is queued again up to MAX_THROTTLE_RETRIES_PER_ATTACHMENT times before the
+ * failure is returned. Every requeue is charged to the RetryBudget of the invocation, so once it is spent the throttle goes
+ * back to the handler instead.
+ * The number of concurrent calls is read once per container from ORGANIZATIONS_ATTACHMENT_CONCURRENCY and defaults to 4.
+ */
+public class AttachmentPlanExecutor {
+    public static final String MAX_CONCURRENCY_ENVIRONMENT_VARIABLE = "ORGANIZATIONS_ATTACHMENT_CONCURRENCY";
+    static final int DEFAULT_MAX_CONCURRENCY = 4;
+    static final int MAX_THROTTLE_RETRIES_PER_ATTACHMENT = 2;
+
+    private static final int CONFIGURED_MAX_CONCURRENCY = parseMaxConcurrency(System.getenv(MAX_CONCURRENCY_ENVIRONMENT_VARIABLE));
+
+    private final int maxConcurrency;
+
+    public AttachmentPlanExecutor() {
+        this(CONFIGURED_MAX_CONCURRENCY);
+    }
+
+    AttachmentPlanExecutor(final int maxConcurrency) {
+        // workers run on the shared invoker pool, so more of them than its threads would only queue
+        this.maxConcurrency = Math.max(1, Math.min(maxConcurrency, ConcurrentInvoker.MAX_THREADS));
+    }
+
+    // Falls back to the default for values that are missing, not a number or below 1, the constructor caps the rest
+    static int parseMaxConcurrency(final String maxConcurrency) {
+        if (maxConcurrency != null) {
+            try {
+                final int value = Integer.parseInt(maxConcurrency.trim());
+                if (value >= 1) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the default
+            }
+        }
+        return DEFAULT_MAX_CONCURRENCY;
+    }
+
+    public Result attach(
+        final Collection<AttachmentPlan.Attachment> attachments,
+        final Set<String> completedKeys,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        return this.<AttachPolicyRequest>run(attachments, completedKeys,
+            attachment -> Translator.translateToAttachRequest(attachment.getPolicyId(), attachment.getTargetId()),
+            attachPolicyRequest -> orgsClient.injectCredentialsAndInvokeV2(attachPolicyRequest, orgsClient.client()::attachPolicy),
+            Collections.singletonList(DuplicatePolicyAttachmentException.class), "attachPolicy", logger);
+    }
+
+    // a pair whose policy or target is gone counts as detached
+    public Result detach(
+        final Collection<AttachmentPlan.Attachment> attachments,
+        final Set<String> completedKeys,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        return this.<DetachPolicyRequest>run(attachments, completedKeys,
+            attachment -> Translator.translateToDetachRequest(attachment.getPolicyId(), attachment.getTargetId()),
+            detachPolicyRequest -> orgsClient.injectCredentialsAndInvokeV2(detachPolicyRequest, orgsClient.client()::detachPolicy),
+            Arrays.asList(PolicyNotAttachedException.class, PolicyNotFoundException.class, TargetNotFoundException.class), "detachPolicy", logger);
+    }
+
+    private <RequestT extends OrganizationsRequest> Result run(
+        final Collection<AttachmentPlan.Attachment> attachments,
+        final Set<String> completedKeys,
+        final Function<AttachmentPlan.Attachment, RequestT> requestTranslator,
+        final Consumer<RequestT> serviceCall,
+        final List<Class<? extends Exception>> alreadyDoneExceptions,
+        final String apiName,
+        final OrgsLoggerWrapper logger) {
+
+        final Set<String> completed = ConcurrentHashMap.newKeySet();
+        completed.addAll(completedKeys);
+        final AtomicInteger changed = new AtomicInteger();
+        final Queue<PendingAttachment> pending = new ConcurrentLinkedQueue<>();
+        for (final AttachmentPlan.Attachment attachment : attachments) {
+            if (!completed.contains(attachment.key())) {
+                pending.add(new PendingAttachment(attachment));
+            }
+        }
+        if (pending.isEmpty()) {
+            return new Result(completed, 0, null, null);
+        }
+        logger.info("Calling {} API for {} remaining policy attachments with up to {} concurrent calls.",
+            apiName, pending.size(), Math.min(maxConcurrency, pending.size()));
+
+        final AtomicReference<Result> failure = new AtomicReference<>();
+        final List<CompletableFuture<Void>> workers = new ArrayList<>();
+        final int workerCount = Math.min(maxConcurrency, pending.size());
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(ConcurrentInvoker.submit(() -> {
+                drain(pending, completed, changed, failure, requestTranslator, serviceCall, alreadyDoneExceptions, apiName, logger);
+                return null;
+            }));
+        }
+        ConcurrentInvoker.awaitAll(workers.toArray(new CompletableFuture<?>[0]));
+
+        for (final CompletableFuture<Void> worker : workers) {
+            final Exception workerFailure = ConcurrentInvoker.failureOf(worker);
+            if (workerFailure != null) {
+                failure.compareAndSet(null, new Result(completed, 0, null, workerFailure));
+            }
+        }
+        final Result failed = failure.get();
+        return failed == null
+            ? new Result(completed, changed.get(), null, null)
+            : new Result(completed, changed.get(), failed.getFailedRequest(), failed.getFailure());
+    }
+
+    private <RequestT extends OrganizationsRequest> void drain(
+        final Queue<PendingAttachment> pending,
+        final Set<String> completed,
+        final AtomicInteger changed,
+        final AtomicReference<Result> failure,
+        final Function<AttachmentPlan.Attachment, RequestT> requestTranslator,
+        final Consumer<RequestT> serviceCall,
+        final List<Class<? extends Exception>> alreadyDoneExceptions,
+        final String apiName,
+        final OrgsLoggerWrapper logger) {
+
+        PendingAttachment pendingAttachment = pending.poll();
+        // stop taking new pairs as soon as any worker hit a failure that has to go back to the handler
+        while (pendingAttachment != null && failure.get() == null) {
+            final AttachmentPlan.Attachment attachment = pendingAttachment.attachment;
+            final RequestT request = requestTranslator.apply(attachment);
+            try {
+                serviceCall.accept(request);
+                completed.add(attachment.key());
+                changed.incrementAndGet();
+            } catch (Exception e) {
+                if (alreadyDoneExceptions.stream().anyMatch(alreadyDone -> alreadyDone.isInstance(e))) {
+                    logger.info("Got {} when calling {} for policy [{}], targetId [{}]. Continuing with remaining attachments...",
+                        e.getClass().getName(), apiName, attachment.getPolicyId(), attachment.getTargetId());
+                    completed.add(attachment.key());
+                } else if (AdaptiveRateLimiter.isThrottle(e) && pendingAttachment.throttleRetries < MAX_THROTTLE_RETRIES_PER_ATTACHMENT && chargeRetryBudget()) {
+                    pendingAttachment.throttleRetries++;
+                    logger.info("Got {} when calling {} for policy [{}], targetId [{}]. Queueing attachment again, retry {} of {}.",
+                        e.getClass().getName(), apiName, attachment.getPolicyId(), attachment.getTargetId(),
+                        pendingAttachment.throttleRetries, MAX_THROTTLE_RETRIES_PER_ATTACHMENT);
+                    pending.add(pendingAttachment);
+                } else {
+                    failure.compareAndSet(null, new Result(completed, 0, request, e));
+                }
+            }
+            pendingAttachment = pending.poll();
+        }
+    }
+
+    // a requeue is a retry within this invoke like an SDK retry, so it draws from the same budget
+    private static boolean chargeRetryBudget() {
+        final RetryBudget budget = RetryBudget.current();
+        return budget == null || budget.tryAcquire(RetryBudget.SDK_RETRY_COST);
+    }
+
+    private static final class PendingAttachment {
+        private final AttachmentPlan.Attachment attachment;
+        private int throttleRetries;
+
+        private PendingAttachment(final AttachmentPlan.Attachment attachment) {
+            this.attachment = attachment;
+        }
+    }
+
+    /**
+     * Keys of the pairs that are attached or detached after a run, including the ones completed in earlier invokes,
+     * how many calls of this run took effect, and the first failure that stopped the run if there was one.
+     */
+    @lombok.Getter
+    public static final class Result {
+        private final Set<String> completedKeys;
+        private final int changedCount;
+        private final OrganizationsRequest failedRequest;
+        private final Exception failure;
+
+        Result(final Set<String> completedKeys, final int changedCount, final OrganizationsRequest failedRequest, final Exception failure) {
+            this.completedKeys = completedKeys;
+            this.changedCount = changedCount;
+            this.failedRequest = failedRequest;
+            this.failure = failure;
+        }
+
+        public boolean isSuccess() {
+            return failure == null;
+        }
+    }
+}
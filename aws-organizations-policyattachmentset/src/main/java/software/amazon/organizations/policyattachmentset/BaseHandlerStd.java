@@ -0,0 +1,317 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AccessDeniedException;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyException;
+import software.amazon.awssdk.services.organizations.model.InvalidInputException;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.MalformedPolicyDocumentException;
+import software.amazon.awssdk.services.organizations.model.OrganizationsRequest;
+import software.amazon.awssdk.services.organizations.model.PolicyChangesInProgressException;
+import software.amazon.awssdk.services.organizations.model.PolicyInUseException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeNotAvailableForOrganizationException;
+import software.amazon.awssdk.services.organizations.model.PolicyTypeNotEnabledException;
+import software.amazon.awssdk.services.organizations.model.ServiceException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.awssdk.services.organizations.model.UnsupportedApiEndpointException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.ConnectionWarmUp;
+import software.amazon.organizations.utils.InstrumentedProxyClient;
+import software.amazon.organizations.utils.InvocationMetrics;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+// Placeholder for the functionality that could be shared across Create/Read/Update/Delete Handlers
+
+public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    // ExponentialBackoffJitter Constants
+    private static final double RANDOMIZATION_FACTOR = 0.5;
+    private static final int BASE_DELAY = 15; // in seconds
+    private static final int MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION = 2;
+
+    // registers the SnapStart priming pass and warms up the connection to the endpoint, the handlers are constructed
+    // in the init phase before the snapshot, which restores without open connections
+    static {
+        Priming.register();
+        if (!ConnectionWarmUp.isSnapStartInit()) {
+            ClientBuilder.warmUpConnection();
+        }
+    }
+
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final Logger logger) {
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final RetryBudget retryBudget = restoreRetryBudget(context);
+        final InvocationMetrics metrics = new InvocationMetrics(ResourceModel.TYPE_NAME, handlerNameOf(getClass()));
+        // metrics sit inside the rate limiter, so recorded latency is the API call itself and not the time spent waiting for a permit
+        final RateLimitedProxyClient<OrganizationsClient> orgsClient = new RateLimitedProxyClient<>(
+            new InstrumentedProxyClient<>(proxy.newProxy(ClientBuilder::getClient), metrics));
+        final OrgsLoggerWrapper orgsLogger = new OrgsLoggerWrapper(logger, request.getClientRequestToken());
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> progressEvent = metrics.runWith(() -> retryBudget.runWith(() -> handleRequest(
+                proxy,
+                request,
+                context,
+                orgsClient,
+                orgsLogger
+            )));
+            saveRetryBudget(context, retryBudget);
+            if (orgsClient.getThrottledCalls() > 0) {
+                orgsLogger.warn("Throttled {} time(s), client-side rate limits now {}.", orgsClient.getThrottledCalls(), AdaptiveRateLimiter.metrics());
+            }
+            return progressEvent;
+        } finally {
+            metrics.flush(logger);
+        }
+    }
+
+    // CreateHandler -> CREATE, matching the names of PolicyAttachmentSetConstants.Handler
+    private static String handlerNameOf(final Class<?> handlerClass) {
+        return handlerClass.getSimpleName().replaceFirst("Handler$", "").toUpperCase(Locale.ROOT);
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final OrgsLoggerWrapper logger
+    );
+
+    public ProgressEvent<ResourceModel, CallbackContext> handleError(
+        final OrganizationsRequest request,
+        final Exception e,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final OrgsLoggerWrapper logger
+    ) {
+        HandlerErrorCode errorCode = HandlerErrorCode.GeneralServiceException;
+        if (e instanceof DuplicatePolicyException) {
+            errorCode = HandlerErrorCode.AlreadyExists;
+        } else if (e instanceof AwsOrganizationsNotInUseException || e instanceof PolicyNotFoundException
+            || e instanceof TargetNotFoundException) {
+            errorCode = HandlerErrorCode.NotFound;
+        } else if (e instanceof AccessDeniedException) {
+            errorCode = HandlerErrorCode.AccessDenied;
+        } else if (e instanceof ConcurrentModificationException || e instanceof PolicyChangesInProgressException) {
+            errorCode = HandlerErrorCode.ResourceConflict;
+        } else if (e instanceof ConstraintViolationException) {
+            errorCode = HandlerErrorCode.ServiceLimitExceeded;
+        } else if (e instanceof InvalidInputException || e instanceof MalformedPolicyDocumentException
+            || e instanceof PolicyTypeNotAvailableForOrganizationException || e instanceof PolicyTypeNotEnabledException
+            || e instanceof PolicyInUseException || e instanceof UnsupportedApiEndpointException) {
+            errorCode = HandlerErrorCode.InvalidRequest;
+        } else if (e instanceof ServiceException || e instanceof SdkClientException) {
+            errorCode = HandlerErrorCode.ServiceInternalError;
+        } else if (e instanceof TooManyRequestsException) {
+            errorCode = HandlerErrorCode.Throttling;
+        } else if (e instanceof DuplicatePolicyAttachmentException || e instanceof PolicyNotAttachedException) {
+            errorCode = HandlerErrorCode.InternalFailure;
+        }
+        logger.error("[Exception] Failed with exception: [{}]. Message: [{}], ErrorCode: [{}] for policy attachment set [{}].",
+            e.getClass().getSimpleName(), e.getMessage(), errorCode, attachmentSetInfo(resourceModel));
+        return ProgressEvent.failed(resourceModel, callbackContext, errorCode,e.getMessage());
+    }
+
+    // combines handle of retriable exception and non-retriable exception
+    public ProgressEvent<ResourceModel, CallbackContext> handleErrorInGeneral(
+        final OrganizationsRequest request,
+        final Exception e,
+        final ProxyClient<OrganizationsClient> proxyClient,
+        final ResourceModel resourceModel,
+        final CallbackContext callbackContext,
+        final OrgsLoggerWrapper logger,
+        final PolicyAttachmentSetConstants.Action actionName,
+        final PolicyAttachmentSetConstants.Handler handlerName
+    ) {
+        InvocationMetrics.recordHandlerError(handlerName.toString(), actionName.toString(), e);
+        if (handlerName != PolicyAttachmentSetConstants.Handler.READ
+            && isRetriableException(e)) {
+            return handleRetriableException(request, proxyClient, callbackContext, logger, e, resourceModel, actionName, handlerName);
+        }
+        return handleError(request, e, proxyClient, resourceModel, callbackContext, logger);
+    }
+
+    // attaches before detaching, so a plan that moves a target from one policy to another never leaves it with neither, e.g. with no SCP
+    protected ProgressEvent<ResourceModel, CallbackContext> applyPlan(
+        final AttachmentPlan plan,
+        final AttachmentPlanExecutor executor,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger,
+        final PolicyAttachmentSetConstants.Handler handlerName
+    ) {
+        logger.info("Planned {} attach and {} detach call(s) for policy attachment set [{}].",
+            plan.getToAttach().size(), plan.getToDetach().size(), attachmentSetInfo(model));
+        if (!plan.getToAttach().isEmpty()) {
+            final AttachmentPlanExecutor.Result attachResult = executor.attach(plan.getToAttach(), callbackContext.getAttachedKeys(), orgsClient, logger);
+            callbackContext.setAttachedKeys(new HashSet<>(attachResult.getCompletedKeys()));
+            if (!attachResult.isSuccess()) {
+                return handleErrorInGeneral(attachResult.getFailedRequest(), attachResult.getFailure(), orgsClient, model, callbackContext, logger, PolicyAttachmentSetConstants.Action.ATTACH_POLICY, handlerName);
+            }
+        }
+        if (!plan.getToDetach().isEmpty()) {
+            final AttachmentPlanExecutor.Result detachResult = executor.detach(plan.getToDetach(), callbackContext.getDetachedKeys(), orgsClient, logger);
+            callbackContext.setDetachedKeys(new HashSet<>(detachResult.getCompletedKeys()));
+            if (detachResult.getChangedCount() > 0) {
+                callbackContext.setAttachmentsDetached(true);
+            }
+            if (!detachResult.isSuccess()) {
+                return handleErrorInGeneral(detachResult.getFailedRequest(), detachResult.getFailure(), orgsClient, model, callbackContext, logger, PolicyAttachmentSetConstants.Action.DETACH_POLICY, handlerName);
+            }
+        }
+        return ProgressEvent.progress(model, callbackContext);
+    }
+
+    // returns the error message for attachments a handler cannot plan, or null
+    protected static String validateAttachments(final List<PolicyAttachment> attachments) {
+        if (attachments == null || attachments.isEmpty()) {
+            return "Policy attachment set cannot be created without attachments!";
+        }
+        final Set<String> policyIds = new HashSet<>();
+        for (final PolicyAttachment attachment : attachments) {
+            if (attachment.getPolicyId() == null) {
+                return "Policy attachment cannot be specified without policy id!";
+            }
+            if (!policyIds.add(attachment.getPolicyId())) {
+                return String.format("Policy [%s] is specified for more than one attachment of the set.", attachment.getPolicyId());
+            }
+        }
+        return null;
+    }
+
+    public final int computeDelayBeforeNextRetry(int retryAttempt) {
+        Random random = new Random();
+        int exponentialBackoff = (int) Math.pow(2, retryAttempt) * BASE_DELAY;
+        int jitter = random.nextInt((int) Math.ceil(exponentialBackoff * RANDOMIZATION_FACTOR));
+        return exponentialBackoff + jitter;
+    }
+
+    public final boolean isRetriableException (Exception e){
+        return (e instanceof ConcurrentModificationException
+            || e instanceof PolicyChangesInProgressException
+            || e instanceof TooManyRequestsException
+            || e instanceof ServiceException);
+    }
+
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRetriableException(
+            final OrganizationsRequest organizationsRequest,
+            final ProxyClient<OrganizationsClient> proxyClient,
+            final CallbackContext context,
+            final OrgsLoggerWrapper logger,
+            final Exception e,
+            final ResourceModel model,
+            final PolicyAttachmentSetConstants.Action actionName,
+            final PolicyAttachmentSetConstants.Handler handlerName
+    ) {
+        int currentAttempt = context.getCurrentRetryAttempt(actionName, handlerName);
+        if (currentAttempt < MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION && acquireHandlerRetry(context, logger)) {
+            context.setCurrentRetryAttempt(actionName, handlerName);
+            InvocationMetrics.recordHandlerRetry(handlerName.toString(), actionName.toString());
+            int callbackDelaySeconds = computeDelayBeforeNextRetry(currentAttempt);
+            logger.warn("Got {} when calling {} for "
+                            + "policy attachment set [{}]. Retrying {} of {} with callback delay {} seconds.",
+                    e.getClass().getName(), organizationsRequest.getClass().getName(), attachmentSetInfo(model), currentAttempt + 1, MAX_RETRY_ATTEMPT_FOR_RETRIABLE_EXCEPTION, callbackDelaySeconds);
+            // pairs attached or detached so far are kept in the callback context, so the retry only calls the remaining ones
+            return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+        }
+        logger.warn("All retry attempts exhausted for policy attachment set [{}], return CloudFormation exception.", attachmentSetInfo(model));
+        return handleError(organizationsRequest, e, proxyClient, model, context, logger);
+    }
+
+    // the identifier once the set exists, the policy IDs of the model before that
+    protected static String attachmentSetInfo(final ResourceModel model) {
+        if (model.getAttachmentSetId() != null || model.getAttachments() == null) {
+            return model.getAttachmentSetId();
+        }
+        return Translator.translateToAttachmentSetId(model.getAttachments());
+    }
+
+    // one ListTargetsForPolicy sweep per policy: the pages of each policy are fetched in sequence and the policies in
+    // parallel on the ConcurrentInvoker pool, the returned futures are all done
+    protected static Map<String, CompletableFuture<Set<String>>> listTargetsForPolicies(
+        final List<String> policyIds,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final Map<String, CompletableFuture<Set<String>>> futures = new LinkedHashMap<>();
+        for (final String policyId : policyIds) {
+            futures.put(policyId, ConcurrentInvoker.submit(() -> listAllTargetsForPolicy(policyId, orgsClient, logger)));
+        }
+        ConcurrentInvoker.awaitAll(futures.values().toArray(new CompletableFuture<?>[0]));
+        return futures;
+    }
+
+    // Runs on a ConcurrentInvoker thread, pages through all targets of one policy
+    private static Set<String> listAllTargetsForPolicy(final String policyId, final ProxyClient<OrganizationsClient> orgsClient, final OrgsLoggerWrapper logger) {
+        final Set<String> targetIds = new HashSet<>();
+        String nextToken = null;
+        do {
+            final ListTargetsForPolicyRequest listTargetsForPolicyRequest = Translator.translateToListTargetsForPolicyRequest(policyId, nextToken);
+            final ListTargetsForPolicyResponse listTargetsForPolicyResponse =
+                orgsClient.injectCredentialsAndInvokeV2(listTargetsForPolicyRequest, orgsClient.client()::listTargetsForPolicy);
+            for (final PolicyTargetSummary target : listTargetsForPolicyResponse.targets()) {
+                targetIds.add(target.targetId());
+            }
+            nextToken = listTargetsForPolicyResponse.nextToken();
+        } while (nextToken != null);
+        logger.info("Policy [{}] is attached to {} target(s).", policyId, targetIds.size());
+        return targetIds;
+    }
+
+    // Restores the retry budget persisted by an earlier invocation of this operation, or a full one on the first invocation
+    private static RetryBudget restoreRetryBudget(final CallbackContext context) {
+        return RetryBudget.restore(context.getRetryBudgetTokens(), context.getRetryBudgetRefilledAt());
+    }
+
+    private static void saveRetryBudget(final CallbackContext context, final RetryBudget retryBudget) {
+        context.setRetryBudgetTokens(retryBudget.getRemainingTokens());
+        context.setRetryBudgetRefilledAt(retryBudget.getLastRefillMillis());
+    }
+
+    // A callback retry is only scheduled while the budget shared with SDK retries lasts, otherwise the error is returned right away
+    private static boolean acquireHandlerRetry(final CallbackContext context, final OrgsLoggerWrapper logger) {
+        final RetryBudget boundRetryBudget = RetryBudget.current();
+        final RetryBudget retryBudget = boundRetryBudget != null ? boundRetryBudget : restoreRetryBudget(context);
+        final boolean acquired = retryBudget.tryAcquire(RetryBudget.HANDLER_RETRY_COST);
+        saveRetryBudget(context, retryBudget);
+        if (!acquired) {
+            logger.warn("Retry budget for this operation is exhausted, skipping callback retry.");
+        }
+        return acquired;
+    }
+}
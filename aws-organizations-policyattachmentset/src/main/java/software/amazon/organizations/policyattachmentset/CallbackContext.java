@@ -0,0 +1,34 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode(callSuper = true)
+public class CallbackContext extends StdCallbackContext {
+    private Map<String, Integer> actionToRetryAttemptMap = new HashMap<>();
+    public int getCurrentRetryAttempt(final PolicyAttachmentSetConstants.Action actionName, final PolicyAttachmentSetConstants.Handler handlerName) {
+        String key = actionName.toString() + handlerName.toString();
+        return this.actionToRetryAttemptMap.getOrDefault(key, 0);
+    }
+    public void setCurrentRetryAttempt(final PolicyAttachmentSetConstants.Action actionName, final PolicyAttachmentSetConstants.Handler handlerName) {
+        String key = actionName.toString() + handlerName.toString();
+        this.actionToRetryAttemptMap.put(key, getCurrentRetryAttempt(actionName, handlerName)+1);
+    }
+    // RetryBudget state shared by SDK and callback retries of this operation, refill time is epoch milliseconds
+    private Integer retryBudgetTokens;
+    private long retryBudgetRefilledAt = 0L;
+    // used in CREATE handler re-invoking, whether none of the requested policy-target pairs was attached before the create
+    private boolean preExistenceCheckComplete = false;
+    // used in CREATE and DELETE handler re-invoking, keys of the policy-target pairs already attached or detached
+    private Set<String> attachedKeys = new HashSet<>();
+    private Set<String> detachedKeys = new HashSet<>();
+    // used in DELETE handler re-invoking, whether any DetachPolicy call of this delete took effect
+    private boolean attachmentsDetached = false;
+}
@@ -0,0 +1,8 @@
+package software.amazon.organizations.policyattachmentset;
+
+class Configuration extends BaseConfiguration {
+
+    public Configuration() {
+        super("aws-organizations-policyattachmentset.json");
+    }
+}
@@ -0,0 +1,103 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Attaches every policy of the set to its targets in one concurrent run. The model written is the desired state itself,
+ * there is no read back of the targets once all pairs are attached. The identifier records every pair of the set, so a
+ * pair another set or a user already attached fails the create with AlreadyExists before any AttachPolicy call.
+ */
+public class CreateHandler extends BaseHandlerStd {
+    private final AttachmentPlanExecutor attachmentPlanExecutor;
+
+    public CreateHandler() {
+        this(new AttachmentPlanExecutor());
+    }
+
+    CreateHandler(final AttachmentPlanExecutor attachmentPlanExecutor) {
+        this.attachmentPlanExecutor = attachmentPlanExecutor;
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        logger.info("Entered {} create handler with policy attachment set logical resource identifier [{}].",
+            ResourceModel.TYPE_NAME, request.getLogicalResourceIdentifier());
+        final String validationError = validateAttachments(model.getAttachments());
+        if (validationError != null) {
+            logger.log(validationError);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, validationError);
+        }
+        final String attachmentSetId = Translator.translateToAttachmentSetId(model.getAttachments());
+        if (attachmentSetId.length() > Translator.MAX_ATTACHMENT_SET_ID_LENGTH) {
+            String errMsg = String.format("Policy attachment set has too many targets, its identifier would be %d characters long, the limit is %d.",
+                attachmentSetId.length(), Translator.MAX_ATTACHMENT_SET_ID_LENGTH);
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, errMsg);
+        }
+
+        final AttachmentPlan plan = AttachmentPlan.between(null, model.getAttachments());
+        return ProgressEvent.progress(model, callbackContext)
+            .then(progress -> callbackContext.isPreExistenceCheckComplete() ? progress : checkIfPairsAttached(model, callbackContext, orgsClient, logger))
+            .then(progress -> applyPlan(plan, attachmentPlanExecutor, model, callbackContext, orgsClient, logger, PolicyAttachmentSetConstants.Handler.CREATE))
+            .then(progress -> {
+                model.setAttachmentSetId(attachmentSetId);
+                logger.info("Successfully created policy attachment set [{}].", model.getAttachmentSetId());
+                return ProgressEvent.defaultSuccessHandler(model);
+            });
+    }
+
+    // runs once per create, later invocations already attached some of the pairs themselves
+    private ProgressEvent<ResourceModel, CallbackContext> checkIfPairsAttached(
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger
+    ) {
+        final List<String> policyIds = new ArrayList<>();
+        for (final PolicyAttachment attachment : model.getAttachments()) {
+            policyIds.add(attachment.getPolicyId());
+        }
+        final Map<String, CompletableFuture<Set<String>>> futures = listTargetsForPolicies(policyIds, orgsClient, logger);
+        for (final PolicyAttachment attachment : model.getAttachments()) {
+            final CompletableFuture<Set<String>> future = futures.get(attachment.getPolicyId());
+            final Exception exception = ConcurrentInvoker.failureOf(future);
+            if (exception != null) {
+                return handleErrorInGeneral(Translator.translateToListTargetsForPolicyRequest(attachment.getPolicyId(), null), exception, orgsClient, model, callbackContext, logger,
+                    PolicyAttachmentSetConstants.Action.LIST_TARGETS_FOR_POLICY, PolicyAttachmentSetConstants.Handler.CREATE);
+            }
+            if (attachment.getTargetIds() == null) {
+                continue;
+            }
+            for (final String targetId : attachment.getTargetIds()) {
+                if (future.join().contains(targetId)) {
+                    String errMsg = String.format("Policy [%s] is already attached to target [%s], the pair belongs to another policy attachment set or was attached outside of this stack.",
+                        attachment.getPolicyId(), targetId);
+                    logger.log(errMsg);
+                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists, errMsg);
+                }
+            }
+        }
+        callbackContext.setPreExistenceCheckComplete(true);
+        logger.log("PreExistenceCheck complete! None of the requested policy-target pairs is attached.");
+        return ProgressEvent.progress(model, callbackContext);
+    }
+}
@@ -0,0 +1,58 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.List;
+
+/**
+ * Detaches every policy-target pair of the set in one concurrent run. Pairs that are already detached, or whose policy or
+ * target is gone, count as detached; the set is NotFound only when this delete detached none of its pairs.
+ * The pairs are taken from the primary identifier, which records every pair of the set, so targets other stacks or users
+ * attached the same policies to are never detached.
+ */
+public class DeleteHandler extends BaseHandlerStd {
+    private final AttachmentPlanExecutor attachmentPlanExecutor;
+
+    public DeleteHandler() {
+        this(new AttachmentPlanExecutor());
+    }
+
+    DeleteHandler(final AttachmentPlanExecutor attachmentPlanExecutor) {
+        this.attachmentPlanExecutor = attachmentPlanExecutor;
+    }
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        logger.info("Entered {} delete handler with policy attachment set Id: [{}].", ResourceModel.TYPE_NAME, model.getAttachmentSetId());
+        final List<PolicyAttachment> recordedAttachments = Translator.translateFromAttachmentSetId(model.getAttachmentSetId());
+        if (recordedAttachments == null) {
+            String errMsg = String.format("Policy attachment set [%s] is not a valid identifier, return NotFound.", model.getAttachmentSetId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+
+        return ProgressEvent.progress(model, callbackContext)
+            .then(progress -> applyPlan(AttachmentPlan.between(recordedAttachments, null), attachmentPlanExecutor, model, callbackContext,
+                orgsClient, logger, PolicyAttachmentSetConstants.Handler.DELETE))
+            .then(progress -> {
+                if (!callbackContext.isAttachmentsDetached()) {
+                    String errMsg = String.format("All attachments of policy attachment set [%s] are already detached, return NotFound.", model.getAttachmentSetId());
+                    logger.log(errMsg);
+                    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+                }
+                return ProgressEvent.defaultSuccessHandler(null);
+            });
+    }
+}
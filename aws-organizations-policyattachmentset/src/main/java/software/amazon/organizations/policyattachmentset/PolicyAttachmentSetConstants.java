@@ -0,0 +1,17 @@
+package software.amazon.organizations.policyattachmentset;
+
+public class PolicyAttachmentSetConstants {
+
+    // constants used for handleRetriableException
+    public enum Action {
+        ATTACH_POLICY,
+        DETACH_POLICY,
+        LIST_TARGETS_FOR_POLICY
+    }
+
+    public enum Handler {
+        CREATE,
+        DELETE,
+        READ
+    }
+}
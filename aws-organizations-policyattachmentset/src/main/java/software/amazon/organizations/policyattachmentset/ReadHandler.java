@@ -0,0 +1,76 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.ConcurrentInvoker;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Reads back the policy-target pairs recorded in the primary identifier with one ListTargetsForPolicy sweep: the pages
+ * of each policy are fetched in sequence and the policies of the set in parallel on the ConcurrentInvoker pool. Only the
+ * recorded pairs are reported, targets other stacks or users attached the same policies to are not part of the set.
+ * Policies that no longer exist are left out of Attachments, and the set is NotFound once none of its pairs is attached.
+ */
+public class ReadHandler extends BaseHandlerStd {
+
+    protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+        final AmazonWebServicesClientProxy awsClientProxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<OrganizationsClient> orgsClient,
+        final OrgsLoggerWrapper logger) {
+
+        final ResourceModel model = request.getDesiredResourceState();
+        logger.info("Entered {} read handler with policy attachment set Id: [{}].", ResourceModel.TYPE_NAME, model.getAttachmentSetId());
+        final List<PolicyAttachment> recordedAttachments = Translator.translateFromAttachmentSetId(model.getAttachmentSetId());
+        if (recordedAttachments == null) {
+            String errMsg = String.format("Policy attachment set [%s] is not a valid identifier, return NotFound.", model.getAttachmentSetId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+
+        final List<String> policyIds = new ArrayList<>();
+        for (final PolicyAttachment attachment : recordedAttachments) {
+            policyIds.add(attachment.getPolicyId());
+        }
+        final Map<String, CompletableFuture<Set<String>>> futures = listTargetsForPolicies(policyIds, orgsClient, logger);
+
+        final Map<String, Set<String>> targetIdsByPolicy = new HashMap<>();
+        int attachedPairs = 0;
+        for (final PolicyAttachment attachment : recordedAttachments) {
+            final Exception exception = ConcurrentInvoker.failureOf(futures.get(attachment.getPolicyId()));
+            if (exception instanceof PolicyNotFoundException) {
+                logger.info("Policy [{}] of attachment set does not exist anymore, skipping it.", attachment.getPolicyId());
+                continue;
+            }
+            if (exception != null) {
+                return handleErrorInGeneral(Translator.translateToListTargetsForPolicyRequest(attachment.getPolicyId(), null), exception, orgsClient, model, callbackContext, logger,
+                    PolicyAttachmentSetConstants.Action.LIST_TARGETS_FOR_POLICY, PolicyAttachmentSetConstants.Handler.READ);
+            }
+            final Set<String> targetIds = new HashSet<>(attachment.getTargetIds());
+            targetIds.retainAll(futures.get(attachment.getPolicyId()).join());
+            targetIdsByPolicy.put(attachment.getPolicyId(), targetIds);
+            attachedPairs += targetIds.size();
+        }
+
+        if (attachedPairs == 0) {
+            String errMsg = String.format("No policy-target pair of attachment set [%s] is attached anymore, return NotFound.", model.getAttachmentSetId());
+            logger.log(errMsg);
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound, errMsg);
+        }
+        return ProgressEvent.defaultSuccessHandler(Translator.translateToResourceModel(model.getAttachmentSetId(), policyIds, targetIdsByPolicy));
+    }
+}
@@ -0,0 +1,85 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class Translator {
+    static final String ATTACHMENT_SET_ID_SEPARATOR = "|";
+    static final String POLICY_TARGETS_SEPARATOR = "=";
+    static final String TARGET_SEPARATOR = ",";
+    // the longest identifier Cloud Control accepts
+    static final int MAX_ATTACHMENT_SET_ID_LENGTH = 1024;
+    private static final Pattern POLICY_TARGETS_PATTERN = Pattern.compile("^p-[0-9a-zA-Z_]{8,128}=([0-9a-z-]+(,[0-9a-z-]+)*)?$");
+
+    // every policy-target pair of the set, the policies in the order of Attachments and each followed by its sorted targets,
+    // e.g. p-examplepolicy=ou-abcd-11111111,r-abcd, so Read and Delete can work from the primary identifier alone
+    static String translateToAttachmentSetId(final List<PolicyAttachment> attachments) {
+        return attachments.stream()
+                   .map(attachment -> attachment.getPolicyId() + POLICY_TARGETS_SEPARATOR + String.join(TARGET_SEPARATOR,
+                       attachment.getTargetIds() == null ? new TreeSet<>() : new TreeSet<>(attachment.getTargetIds())))
+                   .collect(Collectors.joining(ATTACHMENT_SET_ID_SEPARATOR));
+    }
+
+    // the attachments recorded in the identifier, returns null for an identifier that was not produced by translateToAttachmentSetId
+    static List<PolicyAttachment> translateFromAttachmentSetId(final String attachmentSetId) {
+        if (attachmentSetId == null) {
+            return null;
+        }
+        final List<PolicyAttachment> attachments = new ArrayList<>();
+        for (final String policyTargets : attachmentSetId.split(Pattern.quote(ATTACHMENT_SET_ID_SEPARATOR), -1)) {
+            if (!POLICY_TARGETS_PATTERN.matcher(policyTargets).matches()) {
+                return null;
+            }
+            final String[] parts = policyTargets.split(POLICY_TARGETS_SEPARATOR, 2);
+            attachments.add(PolicyAttachment.builder()
+                                .policyId(parts[0])
+                                .targetIds(parts[1].isEmpty() ? new HashSet<>() : new HashSet<>(Arrays.asList(parts[1].split(TARGET_SEPARATOR))))
+                                .build());
+        }
+        return attachments;
+    }
+
+    static AttachPolicyRequest translateToAttachRequest(final String policyId, final String targetId) {
+        return AttachPolicyRequest.builder().policyId(policyId).targetId(targetId).build();
+    }
+
+    static DetachPolicyRequest translateToDetachRequest(final String policyId, final String targetId) {
+        return DetachPolicyRequest.builder().policyId(policyId).targetId(targetId).build();
+    }
+
+    static ListTargetsForPolicyRequest translateToListTargetsForPolicyRequest(final String policyId, final String nextToken) {
+        return ListTargetsForPolicyRequest.builder()
+            .policyId(policyId)
+            .nextToken(nextToken)
+            .build();
+    }
+
+    // keeps the order of policyIds, policies missing from targetIdsByPolicy no longer exist and are left out
+    static ResourceModel translateToResourceModel(final String attachmentSetId, final List<String> policyIds, final Map<String, Set<String>> targetIdsByPolicy) {
+        final List<PolicyAttachment> attachments = new ArrayList<>();
+        for (final String policyId : policyIds) {
+            final Set<String> targetIds = targetIdsByPolicy.get(policyId);
+            if (targetIds != null) {
+                attachments.add(PolicyAttachment.builder()
+                                    .policyId(policyId)
+                                    .targetIds(new HashSet<>(targetIds))
+                                    .build());
+            }
+        }
+        return ResourceModel.builder()
+                   .attachmentSetId(attachmentSetId)
+                   .attachments(attachments)
+                   .build();
+    }
+}
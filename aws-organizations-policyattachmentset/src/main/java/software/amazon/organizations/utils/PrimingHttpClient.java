@@ -0,0 +1,60 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SdkHttpClient that never opens a connection and answers every request with an AWSOrganizationsNotInUseException.
+ * The SnapStart priming pass runs the handlers against it, so request marshalling, signing, error unmarshalling and the
+ * handlers' error mapping are all loaded before the snapshot without a single network call.
+ */
+public final class PrimingHttpClient implements SdkHttpClient {
+    private static final int STATUS_CODE = 400;
+    private static final byte[] ERROR_BODY =
+        "{\"__type\":\"AWSOrganizationsNotInUseException\",\"Message\":\"Priming request, not sent.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() {
+                requestCount.incrementAndGet();
+                return HttpExecuteResponse.builder()
+                           .response(SdkHttpResponse.builder()
+                                         .statusCode(STATUS_CODE)
+                                         .putHeader("Content-Type", "application/x-amz-json-1.1")
+                                         .putHeader("Content-Length", String.valueOf(ERROR_BODY.length))
+                                         .build())
+                           .responseBody(AbortableInputStream.create(new ByteArrayInputStream(ERROR_BODY)))
+                           .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public String clientName() {
+        return "Priming";
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,77 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * ProxyClient decorator that paces synchronous calls through the AdaptiveRateLimiter of their API operation and reports
+ * the outcome back to it. All other calls are passed through unchanged.
+ */
+public final class RateLimitedProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final AtomicInteger throttledCalls = new AtomicInteger();
+
+    public RateLimitedProxyClient(final ProxyClient<ClientT> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.forOperation(AdaptiveRateLimiter.operationOf(request));
+        limiter.acquire();
+        try {
+            final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+            limiter.onSuccess();
+            return response;
+        } catch (RuntimeException e) {
+            if (AdaptiveRateLimiter.isThrottle(e)) {
+                limiter.onThrottle();
+                throttledCalls.incrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    // Calls made through this client that ended in TooManyRequestsException
+    public int getThrottledCalls() {
+        return throttledCalls.get();
+    }
+}
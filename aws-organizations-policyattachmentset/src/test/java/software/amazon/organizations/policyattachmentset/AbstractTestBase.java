@@ -0,0 +1,138 @@
+package software.amazon.organizations.policyattachmentset;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.PolicyType;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class AbstractTestBase {
+    // Constants for unit test
+    protected static final String TEST_POLICY_ID = "p-1231231231";
+    protected static final String TEST_POLICY_ID_2 = "p-3213213213";
+    protected static final String TEST_POLICY_CONTENT = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Effect\":\"Allow\",\"Action\":[\"s3:*\"],\"Resource\":[\"*\"]}]}";
+    protected static final String TEST_TARGET_ROOT_ID = "r-11111";
+    protected static final String TEST_TARGET_OU_ID = "ou-abc1-abcd1234";
+    protected static final String TEST_TARGET_ACCOUNT_ID = "123456789012";
+    // the management account of FakeOrganizationsClient
+    protected static final String TEST_MANAGEMENT_ACCOUNT_ID = "111111111111";
+    protected static final String TEST_OU_NAME = "workloads";
+    protected static final String POLICY_ATTACHMENT_SET_JSON_SCHEMA_FILE_NAME = "aws-organizations-policyattachmentset.json";
+    protected static final String POLICY_ATTACHMENT_SET_SCHEMA_SHA256_HEXSTRING = "BDA684B106CFB02260C6B4E063273ADF173D760555D92C3A9AF8A9A122BE6331";
+
+    protected static final Credentials MOCK_CREDENTIALS;
+    protected static final LoggerProxy loggerProxy;
+    protected static final OrgsLoggerWrapper logger;
+
+    static {
+        MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+        loggerProxy = new LoggerProxy();
+        logger = new OrgsLoggerWrapper(loggerProxy);
+    }
+
+    static ProxyClient<OrganizationsClient> MOCK_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new ProxyClient<OrganizationsClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                return proxy.injectCredentialsAndInvokeV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(RequestT request, Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT
+            injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                return proxy.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(RequestT requestT, Function<RequestT, ResponseInputStream<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(RequestT requestT, Function<RequestT, ResponseBytes<ResponseT>> function) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public OrganizationsClient client() {
+                return orgsClient;
+            }
+        };
+    }
+
+    // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+    static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+        final AmazonWebServicesClientProxy proxy,
+        final OrganizationsClient orgsClient) {
+        return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+    }
+
+    // API call budgets of the handler paths, see ApiCallBudgetTest; the Read sweep is one page per policy of the set
+    protected static CallBudget readCalls(final int policyCount) {
+        return CallBudget.calls().exactly("ListTargetsForPolicy", policyCount);
+    }
+
+    protected static CallBudget planCalls(final int attachCount, final int detachCount) {
+        return CallBudget.calls()
+                   .exactly("AttachPolicy", attachCount)
+                   .exactly("DetachPolicy", detachCount);
+    }
+
+    protected static PolicyAttachment policyAttachment(final String policyId, final String... targetIds) {
+        return PolicyAttachment.builder()
+                   .policyId(policyId)
+                   .targetIds(new HashSet<>(Arrays.asList(targetIds)))
+                   .build();
+    }
+
+    // the identifier CreateHandler gives a set of these attachments
+    protected static String attachmentSetId(final PolicyAttachment... attachments) {
+        return Translator.translateToAttachmentSetId(Arrays.asList(attachments));
+    }
+
+    // Creates a service control policy directly in the fake, not attached to any target
+    protected static String createPolicy(final FakeOrganizationsClient fakeOrgsClient, final String name) {
+        return fakeOrgsClient.createPolicy(CreatePolicyRequest.builder()
+                                               .name(name)
+                                               .type(PolicyType.SERVICE_CONTROL_POLICY)
+                                               .content(TEST_POLICY_CONTENT)
+                                               .build()).policy().policySummary().id();
+    }
+
+    protected static String createOrganizationalUnit(final FakeOrganizationsClient fakeOrgsClient, final String name) {
+        return fakeOrgsClient.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                           .parentId(fakeOrgsClient.getRootId())
+                                                           .name(name)
+                                                           .build()).organizationalUnit().id();
+    }
+}
@@ -0,0 +1,90 @@
+package software.amazon.organizations.policyattachmentset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+    private String firstPolicyId;
+    private String secondPolicyId;
+    private String rootId;
+    private String ouId;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final FakeOrganizationsClient fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = COUNTING_PROXY(awsClientProxy, fakeOrgsClient);
+        firstPolicyId = createPolicy(fakeOrgsClient, "DenyLeaveOrganization");
+        secondPolicyId = createPolicy(fakeOrgsClient, "DenyRootUser");
+        rootId = fakeOrgsClient.getRootId();
+        ouId = createOrganizationalUnit(fakeOrgsClient, TEST_OU_NAME);
+    }
+
+    @Test
+    public void create_PreExistenceSweepOnly() {
+        assertThat(create().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // one sweep per policy before the first attach and one AttachPolicy per pair, the model written is the desired state
+        readCalls(2).plus(planCalls(3, 0)).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read_OneSweepPerPolicy() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                          .desiredResourceState(ResourceModel.builder().attachmentSetId(created.getAttachmentSetId()).build())
+                                                          .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        readCalls(2).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete_OneDetachPerPair() {
+        final ResourceModel created = create().getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .desiredResourceState(ResourceModel.builder().attachmentSetId(created.getAttachmentSetId()).build())
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        planCalls(0, 3).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create() {
+        return invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                        .desiredResourceState(ResourceModel.builder()
+                                                                                  .attachments(Arrays.asList(
+                                                                                      policyAttachment(firstPolicyId, rootId, ouId),
+                                                                                      policyAttachment(secondPolicyId, ouId)))
+                                                                                  .build())
+                                                        .build());
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
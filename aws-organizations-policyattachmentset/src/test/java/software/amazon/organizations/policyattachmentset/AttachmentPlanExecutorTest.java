@@ -0,0 +1,176 @@
+package software.amazon.organizations.policyattachmentset;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.organizations.utils.AdaptiveRateLimiter;
+import software.amazon.organizations.utils.RateLimitedProxyClient;
+import software.amazon.organizations.utils.RetryBudget;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AttachmentPlanExecutorTest extends AbstractTestBase {
+    private static final AttachmentPlan.Attachment ROOT_ATTACHMENT = new AttachmentPlan.Attachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID);
+    private static final AttachmentPlan.Attachment OU_ATTACHMENT = new AttachmentPlan.Attachment(TEST_POLICY_ID, TEST_TARGET_OU_ID);
+    private static final AttachmentPlan.Attachment SECOND_POLICY_ATTACHMENT = new AttachmentPlan.Attachment(TEST_POLICY_ID_2, TEST_TARGET_ACCOUNT_ID);
+    private static final List<AttachmentPlan.Attachment> ATTACHMENTS = Arrays.asList(ROOT_ATTACHMENT, OU_ATTACHMENT, SECOND_POLICY_ATTACHMENT);
+
+    private OrganizationsClient mockOrgsClient;
+    private ProxyClient<OrganizationsClient> mockProxyClient;
+    private AttachmentPlanExecutor executor;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        mockOrgsClient = mock(OrganizationsClient.class);
+        mockProxyClient = MOCK_PROXY(awsClientProxy, mockOrgsClient);
+        executor = new AttachmentPlanExecutor(AttachmentPlanExecutor.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void attach_AttachesPairsOfAllPolicies() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenReturn(AttachPolicyResponse.builder().build());
+
+        final AttachmentPlanExecutor.Result result = executor.attach(ATTACHMENTS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getChangedCount()).isEqualTo(3);
+        assertThat(result.getCompletedKeys()).containsExactlyInAnyOrder(ROOT_ATTACHMENT.key(), OU_ATTACHMENT.key(), SECOND_POLICY_ATTACHMENT.key());
+        verify(mockOrgsClient).attachPolicy(Translator.translateToAttachRequest(TEST_POLICY_ID_2, TEST_TARGET_ACCOUNT_ID));
+    }
+
+    @Test
+    public void attach_SkipsCompletedPairs() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenReturn(AttachPolicyResponse.builder().build());
+
+        final AttachmentPlanExecutor.Result result = executor.attach(ATTACHMENTS,
+            new HashSet<>(Arrays.asList(ROOT_ATTACHMENT.key(), SECOND_POLICY_ATTACHMENT.key())), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getChangedCount()).isEqualTo(1);
+        assertThat(result.getCompletedKeys()).hasSize(3);
+        verify(mockOrgsClient, times(1)).attachPolicy(any(AttachPolicyRequest.class));
+        verify(mockOrgsClient).attachPolicy(Translator.translateToAttachRequest(TEST_POLICY_ID, TEST_TARGET_OU_ID));
+    }
+
+    @Test
+    public void attach_DuplicatePolicyAttachment_CountsAsCompletedButNotChanged() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenThrow(DuplicatePolicyAttachmentException.class);
+
+        final AttachmentPlanExecutor.Result result = executor.attach(ATTACHMENTS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getChangedCount()).isZero();
+        assertThat(result.getCompletedKeys()).hasSize(3);
+    }
+
+    @Test
+    public void attach_Throttled_RetriesPairAndSlowsDownSharedLimiter() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class)))
+            .thenThrow(TooManyRequestsException.class)
+            .thenReturn(AttachPolicyResponse.builder().build());
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.forOperation("AttachPolicy");
+        final long throttlesBefore = limiter.snapshot().getThrottleCount();
+
+        final AttachmentPlanExecutor.Result result = executor.attach(Collections.singletonList(OU_ATTACHMENT), new HashSet<>(), new RateLimitedProxyClient<>(mockProxyClient), logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getCompletedKeys()).containsExactly(OU_ATTACHMENT.key());
+        assertThat(limiter.snapshot().getThrottleCount()).isEqualTo(throttlesBefore + 1);
+        verify(mockOrgsClient, times(2)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void attach_ThrottledPastRetryLimit_ReturnsFailure() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenThrow(TooManyRequestsException.class);
+
+        final AttachmentPlanExecutor.Result result = executor.attach(Collections.singletonList(OU_ATTACHMENT), new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).isInstanceOf(TooManyRequestsException.class);
+        assertThat(result.getCompletedKeys()).isEmpty();
+        verify(mockOrgsClient, times(AttachmentPlanExecutor.MAX_THROTTLE_RETRIES_PER_ATTACHMENT + 1)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void attach_ThrottledWithRetryBudgetSpent_ReturnsFailure() {
+        when(mockOrgsClient.attachPolicy(any(AttachPolicyRequest.class))).thenThrow(TooManyRequestsException.class);
+        // one token left, enough for a single requeue
+        final RetryBudget retryBudget = RetryBudget.restore(RetryBudget.SDK_RETRY_COST, System.currentTimeMillis());
+
+        final AttachmentPlanExecutor.Result result = retryBudget.runWith(() -> executor.attach(Collections.singletonList(OU_ATTACHMENT), new HashSet<>(), mockProxyClient, logger));
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).isInstanceOf(TooManyRequestsException.class);
+        assertThat(result.getCompletedKeys()).isEmpty();
+        assertThat(retryBudget.getRemainingTokens()).isZero();
+        verify(mockOrgsClient, times(2)).attachPolicy(any(AttachPolicyRequest.class));
+    }
+
+    @Test
+    public void parseMaxConcurrency_FallsBackToDefault() {
+        assertThat(AttachmentPlanExecutor.parseMaxConcurrency("8")).isEqualTo(8);
+        assertThat(AttachmentPlanExecutor.parseMaxConcurrency(" 2 ")).isEqualTo(2);
+        assertThat(AttachmentPlanExecutor.parseMaxConcurrency(null)).isEqualTo(AttachmentPlanExecutor.DEFAULT_MAX_CONCURRENCY);
+        assertThat(AttachmentPlanExecutor.parseMaxConcurrency("0")).isEqualTo(AttachmentPlanExecutor.DEFAULT_MAX_CONCURRENCY);
+        assertThat(AttachmentPlanExecutor.parseMaxConcurrency("many")).isEqualTo(AttachmentPlanExecutor.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void attach_NonRetriableFailure_StopsAndReturnsFailedRequest() {
+        when(mockOrgsClient.attachPolicy(argThat((AttachPolicyRequest request) -> request != null && TEST_TARGET_ROOT_ID.equals(request.targetId()))))
+            .thenReturn(AttachPolicyResponse.builder().build());
+        when(mockOrgsClient.attachPolicy(argThat((AttachPolicyRequest request) -> request != null && TEST_TARGET_OU_ID.equals(request.targetId()))))
+            .thenThrow(TargetNotFoundException.class);
+
+        final AttachmentPlanExecutor.Result result = new AttachmentPlanExecutor(1)
+            .attach(ATTACHMENTS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getFailure()).isInstanceOf(TargetNotFoundException.class);
+        assertThat(result.getFailedRequest()).isEqualTo(Translator.translateToAttachRequest(TEST_POLICY_ID, TEST_TARGET_OU_ID));
+        assertThat(result.getCompletedKeys()).containsExactly(ROOT_ATTACHMENT.key());
+        verify(mockOrgsClient, never()).attachPolicy(Translator.translateToAttachRequest(TEST_POLICY_ID_2, TEST_TARGET_ACCOUNT_ID));
+    }
+
+    @Test
+    public void detach_GoneOrNotAttachedPairs_CountAsCompleted() {
+        when(mockOrgsClient.detachPolicy(argThat((DetachPolicyRequest request) -> request != null && TEST_TARGET_ROOT_ID.equals(request.targetId()))))
+            .thenReturn(DetachPolicyResponse.builder().build());
+        when(mockOrgsClient.detachPolicy(argThat((DetachPolicyRequest request) -> request != null && TEST_TARGET_OU_ID.equals(request.targetId()))))
+            .thenThrow(PolicyNotAttachedException.class);
+        when(mockOrgsClient.detachPolicy(argThat((DetachPolicyRequest request) -> request != null && TEST_TARGET_ACCOUNT_ID.equals(request.targetId()))))
+            .thenThrow(PolicyNotFoundException.class);
+
+        final AttachmentPlanExecutor.Result result = executor.detach(ATTACHMENTS, new HashSet<>(), mockProxyClient, logger);
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getChangedCount()).isEqualTo(1);
+        assertThat(result.getCompletedKeys()).hasSize(3);
+    }
+}
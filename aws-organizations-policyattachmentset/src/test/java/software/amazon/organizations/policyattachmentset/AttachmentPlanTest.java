@@ -0,0 +1,53 @@
+package software.amazon.organizations.policyattachmentset;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AttachmentPlanTest extends AbstractTestBase {
+
+    @Test
+    public void between_PlansOnlyChangedPairs() {
+        final AttachmentPlan plan = AttachmentPlan.between(
+            Arrays.asList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID, TEST_TARGET_OU_ID),
+                policyAttachment(TEST_POLICY_ID_2, TEST_TARGET_OU_ID)),
+            Arrays.asList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID, TEST_TARGET_ACCOUNT_ID),
+                policyAttachment(TEST_POLICY_ID_2, TEST_TARGET_OU_ID)));
+
+        assertThat(plan.getToAttach()).containsExactly(new AttachmentPlan.Attachment(TEST_POLICY_ID, TEST_TARGET_ACCOUNT_ID));
+        assertThat(plan.getToDetach()).containsExactly(new AttachmentPlan.Attachment(TEST_POLICY_ID, TEST_TARGET_OU_ID));
+    }
+
+    @Test
+    public void between_CreateAttachesAndDeleteDetachesEveryPair() {
+        final AttachmentPlan createPlan = AttachmentPlan.between(null,
+            Arrays.asList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID, TEST_TARGET_OU_ID), policyAttachment(TEST_POLICY_ID_2, TEST_TARGET_OU_ID)));
+        final AttachmentPlan deletePlan = AttachmentPlan.between(
+            Arrays.asList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID, TEST_TARGET_OU_ID), policyAttachment(TEST_POLICY_ID_2, TEST_TARGET_OU_ID)), null);
+
+        assertThat(createPlan.getToAttach()).hasSize(3);
+        assertThat(createPlan.getToDetach()).isEmpty();
+        assertThat(deletePlan.getToAttach()).isEmpty();
+        assertThat(deletePlan.getToDetach()).containsExactlyInAnyOrderElementsOf(createPlan.getToAttach());
+    }
+
+    @Test
+    public void between_UnchangedAttachmentsPlanNothing() {
+        final AttachmentPlan plan = AttachmentPlan.between(
+            Collections.singletonList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID)),
+            Collections.singletonList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID)));
+
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void attachmentsOf_OrdersTargetsSoRetriesPlanTheSameWay() {
+        assertThat(AttachmentPlan.attachmentsOf(Collections.singletonList(policyAttachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID, TEST_TARGET_ACCOUNT_ID, TEST_TARGET_OU_ID))))
+            .extracting(AttachmentPlan.Attachment::getTargetId)
+            .containsExactly(TEST_TARGET_ACCOUNT_ID, TEST_TARGET_OU_ID, TEST_TARGET_ROOT_ID);
+        assertThat(new AttachmentPlan.Attachment(TEST_POLICY_ID, TEST_TARGET_ROOT_ID).key()).isEqualTo(TEST_POLICY_ID + ":" + TEST_TARGET_ROOT_ID);
+    }
+}
@@ -0,0 +1,161 @@
+package software.amazon.organizations.policyattachmentset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CreateHandlerTest extends AbstractTestBase {
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+    private String firstPolicyId;
+    private String secondPolicyId;
+    private String rootId;
+    private String ouId;
+    private String accountId;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        firstPolicyId = createPolicy(fakeOrgsClient, "DenyLeaveOrganization");
+        secondPolicyId = createPolicy(fakeOrgsClient, "DenyRootUser");
+        rootId = fakeOrgsClient.getRootId();
+        ouId = createOrganizationalUnit(fakeOrgsClient, TEST_OU_NAME);
+        accountId = TEST_MANAGEMENT_ACCOUNT_ID;
+    }
+
+    @Test
+    public void handleRequest_AttachesAllPairsWithoutReadingBack() {
+        final ResourceHandlerRequest<ResourceModel> request = createRequest(Arrays.asList(
+            policyAttachment(firstPolicyId, rootId, ouId, accountId),
+            policyAttachment(secondPolicyId, ouId)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler()
+            .handleRequest(awsClientProxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAttachmentSetId()).isEqualTo(attachmentSetId(
+            policyAttachment(firstPolicyId, rootId, ouId, accountId), policyAttachment(secondPolicyId, ouId)));
+        assertThat(fakeOrgsClient.getCallCount("AttachPolicy")).isEqualTo(4);
+        // one sweep per policy for the pre-existence check, the model written is the desired state and not read back
+        assertThat(fakeOrgsClient.getCallCount("ListTargetsForPolicy")).isEqualTo(2);
+        assertThat(targetsOf(firstPolicyId)).containsExactlyInAnyOrder(rootId, ouId, accountId);
+        assertThat(targetsOf(secondPolicyId)).containsExactly(ouId);
+    }
+
+    @Test
+    public void handleRequest_RetryResumesFromCheckpoint() {
+        final FakeOrganizationsClient spyOrgsClient = spy(fakeOrgsClient);
+        doThrow(ConcurrentModificationException.builder().message("concurrent modification").build())
+            .doCallRealMethod()
+            .when(spyOrgsClient).attachPolicy(argThat((AttachPolicyRequest attachPolicyRequest) ->
+                attachPolicyRequest != null && ouId.equals(attachPolicyRequest.targetId()) && firstPolicyId.equals(attachPolicyRequest.policyId())));
+        proxyClient = MOCK_PROXY(awsClientProxy, spyOrgsClient);
+        final CreateHandler handler = new CreateHandler(new AttachmentPlanExecutor(1));
+        final ResourceHandlerRequest<ResourceModel> request = createRequest(Arrays.asList(
+            policyAttachment(firstPolicyId, rootId, ouId, accountId),
+            policyAttachment(secondPolicyId, ouId)));
+        final CallbackContext context = new CallbackContext();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isGreaterThan(0);
+        // targets are attached in sorted order, so the account was attached before the OU failed
+        assertThat(context.getAttachedKeys()).containsExactly(new AttachmentPlan.Attachment(firstPolicyId, accountId).key());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(targetsOf(firstPolicyId)).containsExactlyInAnyOrder(rootId, ouId, accountId);
+        assertThat(targetsOf(secondPolicyId)).containsExactly(ouId);
+        verify(spyOrgsClient, times(1)).attachPolicy(Translator.translateToAttachRequest(firstPolicyId, accountId));
+    }
+
+    @Test
+    public void handleRequest_AttachedPairIsAlreadyExists() {
+        // attached by another set or outside of the stack, the delete of this set would detach it
+        fakeOrgsClient.attachPolicy(Translator.translateToAttachRequest(secondPolicyId, ouId));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId))),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AlreadyExists);
+        assertThat(fakeOrgsClient.getCallCount("AttachPolicy")).isEqualTo(1);
+        assertThat(targetsOf(firstPolicyId)).isEmpty();
+    }
+
+    @Test
+    public void handleRequest_TooLongIdentifierIsInvalid() {
+        final String[] accountIds = new String[80];
+        for (int i = 0; i < accountIds.length; i++) {
+            accountIds[i] = String.format("%012d", i);
+        }
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(policyAttachment(firstPolicyId, accountIds))), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(fakeOrgsClient.getTotalCallCount()).isZero();
+    }
+
+    @Test
+    public void handleRequest_PolicyNotFound() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(policyAttachment(TEST_POLICY_ID, rootId))), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_DuplicatePolicyIsInvalid() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler().handleRequest(awsClientProxy,
+            createRequest(Arrays.asList(policyAttachment(firstPolicyId, rootId), policyAttachment(firstPolicyId, ouId))),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(fakeOrgsClient.getCallCount("AttachPolicy")).isZero();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> createRequest(final List<PolicyAttachment> attachments) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder().attachments(attachments).build())
+                   .build();
+    }
+
+    private List<String> targetsOf(final String policyId) {
+        return fakeOrgsClient.listTargetsForPolicy(ListTargetsForPolicyRequest.builder().policyId(policyId).build())
+                   .targets().stream().map(PolicyTargetSummary::targetId).collect(Collectors.toList());
+    }
+}
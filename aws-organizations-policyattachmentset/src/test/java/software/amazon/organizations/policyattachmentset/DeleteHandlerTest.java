@@ -0,0 +1,120 @@
+package software.amazon.organizations.policyattachmentset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeleteHandlerTest extends AbstractTestBase {
+    private final DeleteHandler handler = new DeleteHandler();
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+    private String firstPolicyId;
+    private String secondPolicyId;
+    private String rootId;
+    private String ouId;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        firstPolicyId = createPolicy(fakeOrgsClient, "DenyLeaveOrganization");
+        secondPolicyId = createPolicy(fakeOrgsClient, "DenyRootUser");
+        rootId = fakeOrgsClient.getRootId();
+        ouId = createOrganizationalUnit(fakeOrgsClient, TEST_OU_NAME);
+        attach(firstPolicyId, rootId);
+        attach(firstPolicyId, ouId);
+        attach(secondPolicyId, ouId);
+    }
+
+    @Test
+    public void handleRequest_DetachesAllPairsOfIdentifier() {
+        final List<PolicyAttachment> attachments = Arrays.asList(
+            policyAttachment(firstPolicyId, rootId, ouId),
+            policyAttachment(secondPolicyId, ouId));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(attachments), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(fakeOrgsClient.getCallCount("DetachPolicy")).isEqualTo(3);
+        assertThat(fakeOrgsClient.getCallCount("ListTargetsForPolicy")).isZero();
+        assertThat(targetCount(firstPolicyId)).isZero();
+        assertThat(targetCount(secondPolicyId)).isZero();
+    }
+
+    @Test
+    public void handleRequest_LeavesPairsOutsideOfIdentifierAttached() {
+        // attached by someone else, not part of the set
+        attach(secondPolicyId, rootId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(Arrays.asList(policyAttachment(firstPolicyId, rootId, ouId), policyAttachment(secondPolicyId, ouId))),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeOrgsClient.getCallCount("DetachPolicy")).isEqualTo(3);
+        assertThat(targetCount(secondPolicyId)).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_SecondDeleteIsNotFound() {
+        final List<PolicyAttachment> attachments = Arrays.asList(
+            policyAttachment(firstPolicyId, rootId, ouId),
+            policyAttachment(secondPolicyId, ouId));
+        handler.handleRequest(awsClientProxy, deleteRequest(attachments), new CallbackContext(), proxyClient, logger);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            deleteRequest(attachments), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_InvalidIdentifierIsNotFound() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().attachmentSetId("r-abcd").build())
+                .build(),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(fakeOrgsClient.getCallCount("DetachPolicy")).isZero();
+    }
+
+    private void attach(final String policyId, final String targetId) {
+        fakeOrgsClient.attachPolicy(AttachPolicyRequest.builder().policyId(policyId).targetId(targetId).build());
+    }
+
+    // carries only the primary identifier, the pairs to detach are the ones it records
+    private static ResourceHandlerRequest<ResourceModel> deleteRequest(final List<PolicyAttachment> attachments) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder()
+                                             .attachmentSetId(attachmentSetId(attachments.toArray(new PolicyAttachment[0])))
+                                             .build())
+                   .build();
+    }
+
+    private int targetCount(final String policyId) {
+        return fakeOrgsClient.listTargetsForPolicy(ListTargetsForPolicyRequest.builder().policyId(policyId).build()).targets().size();
+    }
+}
@@ -0,0 +1,56 @@
+package software.amazon.organizations.policyattachmentset;
+
+import java.security.MessageDigest;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.jupiter.api.BeforeAll;
+import software.amazon.organizations.utils.OrgsLoggerWrapper;
+
+import org.apache.commons.codec.binary.Hex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PolicyAttachmentSetSchemaFileCheckSumChangesTest extends AbstractTestBase {
+
+  private byte[] hashedPolicyAttachmentSetSchema;
+  private static byte[] policyAttachmentSetSchema;
+  private static Logger logger = LoggerFactory.getLogger(PolicyAttachmentSetSchemaFileCheckSumChangesTest.class);
+
+  @BeforeAll
+  public static void setup() {
+    // Read the policy attachment set JSON file in a byte array. Since this file is of fixed size, we can read it without looping.
+    try {
+      policyAttachmentSetSchema = Files.readAllBytes(Paths.get(POLICY_ATTACHMENT_SET_JSON_SCHEMA_FILE_NAME));
+    }
+    catch (NoSuchFileException e) {
+      logger.info("PolicyAttachmentSet schema json file not found. {}", e.toString());
+    } catch (IOException e) {
+      logger.info(e.toString());
+    }
+  }
+
+  // This test is to make sure we don't modify the PolicyAttachmentSet resource schema json file. It matches the HEX string of SHA-256
+  // representation of PolicyAttachmentSet schema file. If we ever need to modify the POLICY ATTACHMENT SET schema file, we should calculate the new Hex string.
+  // We can get the string by logging actualHexString variable in test below and update the variable POLICY_ATTACHMENT_SET_SCHEMA_SHA256_HEXSTRING.
+  @Test
+  public void checkIfPolicyAttachmentSetSchemaFileCheckSumMatches() {
+    // Get the SHA-256 representation of PolicyAttachmentSet schema file to a byte array.
+    try {
+      hashedPolicyAttachmentSetSchema = MessageDigest.getInstance("SHA-256").digest(policyAttachmentSetSchema);
+    }
+    catch (NoSuchAlgorithmException e) {
+      logger.info("No such algorithm found. {}", e.toString());
+    }
+    // Convert the byte array to a Hex String for matching.
+    String actualHexString = Hex.encodeHexString(hashedPolicyAttachmentSetSchema, false); // false to return upper case
+    assertThat(actualHexString).isEqualTo(POLICY_ATTACHMENT_SET_SCHEMA_SHA256_HEXSTRING);
+  }
+}
@@ -0,0 +1,172 @@
+package software.amazon.organizations.policyattachmentset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DeletePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReadHandlerTest extends AbstractTestBase {
+    private final ReadHandler handler = new ReadHandler();
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+    private String firstPolicyId;
+    private String secondPolicyId;
+    private String rootId;
+    private String ouId;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().pageSize(1).build());
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+        firstPolicyId = createPolicy(fakeOrgsClient, "DenyLeaveOrganization");
+        secondPolicyId = createPolicy(fakeOrgsClient, "DenyRootUser");
+        rootId = fakeOrgsClient.getRootId();
+        ouId = createOrganizationalUnit(fakeOrgsClient, TEST_OU_NAME);
+    }
+
+    @Test
+    public void handleRequest_ReadsAllPagesOfAllPolicies() {
+        attach(firstPolicyId, rootId);
+        attach(firstPolicyId, ouId);
+        attach(firstPolicyId, TEST_MANAGEMENT_ACCOUNT_ID);
+        attach(secondPolicyId, ouId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(policyAttachment(secondPolicyId, ouId), policyAttachment(firstPolicyId, rootId, ouId, TEST_MANAGEMENT_ACCOUNT_ID)),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAttachmentSetId()).isEqualTo(attachmentSetId(
+            policyAttachment(secondPolicyId, ouId), policyAttachment(firstPolicyId, rootId, ouId, TEST_MANAGEMENT_ACCOUNT_ID)));
+        assertThat(response.getResourceModel().getAttachments()).containsExactly(
+            policyAttachment(secondPolicyId, ouId),
+            policyAttachment(firstPolicyId, rootId, ouId, TEST_MANAGEMENT_ACCOUNT_ID));
+        // one call per page: three pages for the first policy and one for the second
+        assertThat(fakeOrgsClient.getCallCount("ListTargetsForPolicy")).isEqualTo(4);
+    }
+
+    @Test
+    public void handleRequest_ReportsOnlyRecordedPairs() {
+        attach(firstPolicyId, rootId);
+        // attached by someone else, not part of the set
+        attach(firstPolicyId, ouId);
+        attach(secondPolicyId, ouId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAttachments()).containsExactly(
+            policyAttachment(firstPolicyId, rootId),
+            policyAttachment(secondPolicyId, ouId));
+    }
+
+    @Test
+    public void handleRequest_SkipsDeletedPolicy() {
+        attach(firstPolicyId, rootId);
+        attach(secondPolicyId, ouId);
+        fakeOrgsClient.detachPolicy(DetachPolicyRequest.builder().policyId(secondPolicyId).targetId(ouId).build());
+        fakeOrgsClient.deletePolicy(DeletePolicyRequest.builder().policyId(secondPolicyId).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAttachments()).containsExactly(policyAttachment(firstPolicyId, rootId));
+    }
+
+    @Test
+    public void handleRequest_DetachedPairsAreReportedAsDrift() {
+        attach(firstPolicyId, rootId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(policyAttachment(firstPolicyId, rootId, ouId), policyAttachment(secondPolicyId, ouId)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getAttachments()).containsExactly(
+            policyAttachment(firstPolicyId, rootId),
+            policyAttachment(secondPolicyId));
+    }
+
+    @Test
+    public void handleRequest_NoPairLeftIsNotFound() {
+        // the policies still exist, but none of the recorded pairs is attached
+        attach(firstPolicyId, ouId);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_NoPolicyLeftIsNotFound() {
+        fakeOrgsClient.deletePolicy(DeletePolicyRequest.builder().policyId(firstPolicyId).build());
+        fakeOrgsClient.deletePolicy(DeletePolicyRequest.builder().policyId(secondPolicyId).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            readRequest(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId)), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_ReadAfterDeleteIsNotFound() {
+        final ResourceHandlerRequest<ResourceModel> request = readRequest(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId));
+        assertThat(new CreateHandler().handleRequest(awsClientProxy, ResourceHandlerRequest.<ResourceModel>builder()
+                                                                         .desiredResourceState(ResourceModel.builder()
+                                                                                                   .attachments(Arrays.asList(policyAttachment(firstPolicyId, rootId), policyAttachment(secondPolicyId, ouId)))
+                                                                                                   .build())
+                                                                         .build(),
+            new CallbackContext(), proxyClient, logger).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(handler.handleRequest(awsClientProxy, request, new CallbackContext(), proxyClient, logger).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(new DeleteHandler().handleRequest(awsClientProxy, request, new CallbackContext(), proxyClient, logger).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    @Test
+    public void handleRequest_InvalidIdentifierIsNotFound() {
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(awsClientProxy,
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().attachmentSetId("ou-abc1-abcdefgh").build())
+                .build(),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(fakeOrgsClient.getCallCount("ListTargetsForPolicy")).isZero();
+    }
+
+    private void attach(final String policyId, final String targetId) {
+        fakeOrgsClient.attachPolicy(AttachPolicyRequest.builder().policyId(policyId).targetId(targetId).build());
+    }
+
+    // carries only the primary identifier, as a read by identifier from an import or Cloud Control does
+    private static ResourceHandlerRequest<ResourceModel> readRequest(final PolicyAttachment... attachments) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                   .desiredResourceState(ResourceModel.builder().attachmentSetId(attachmentSetId(attachments)).build())
+                   .build();
+    }
+}
@@ -0,0 +1,173 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class AdaptiveRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("AttachPolicy", now::get);
+
+    @AfterEach
+    public void tear_down() {
+        AdaptiveRateLimiter.resetAll();
+    }
+
+    @Test
+    public void onThrottle_HalvesRateOncePerCooldown() {
+        limiter.onThrottle();
+        limiter.onThrottle();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(AdaptiveRateLimiter.MAX_RATE * AdaptiveRateLimiter.MULTIPLICATIVE_DECREASE);
+
+        now.addAndGet(AdaptiveRateLimiter.DECREASE_COOLDOWN_MILLIS);
+        limiter.onThrottle();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(AdaptiveRateLimiter.MAX_RATE / 4);
+        assertThat(limiter.snapshot().getThrottleCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void onThrottle_NeverDropsBelowMinimumRate() {
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(AdaptiveRateLimiter.DECREASE_COOLDOWN_MILLIS);
+            limiter.onThrottle();
+        }
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(AdaptiveRateLimiter.MIN_RATE);
+    }
+
+    @Test
+    public void onSuccess_RaisesRateAdditivelyUpToMaximum() {
+        limiter.onThrottle();
+        final double throttledRate = limiter.getPermitsPerSecond();
+
+        limiter.onSuccess();
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(throttledRate + AdaptiveRateLimiter.ADDITIVE_INCREASE);
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.getPermitsPerSecond()).isEqualTo(AdaptiveRateLimiter.MAX_RATE);
+    }
+
+    @Test
+    public void reserve_SpacesPermitsByCurrentRate() {
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(AdaptiveRateLimiter.DECREASE_COOLDOWN_MILLIS);
+            limiter.onThrottle();
+        }
+        // at the minimum rate of one permit every two seconds
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(2_000L);
+        now.addAndGet(10_000L);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.snapshot().getTotalWaitMillis()).isEqualTo(2_000L);
+    }
+
+    @Test
+    public void reserve_RefusesPermitsPastMaxWait() {
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(AdaptiveRateLimiter.DECREASE_COOLDOWN_MILLIS);
+            limiter.onThrottle();
+        }
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(2_000L);
+        assertThat(limiter.reserve()).isEqualTo(4_000L);
+        // the next permit is 6 seconds away, a refused caller does not push it further out
+        assertThat(limiter.reserve()).isEqualTo(AdaptiveRateLimiter.NO_PERMIT);
+        assertThat(limiter.reserve()).isEqualTo(AdaptiveRateLimiter.NO_PERMIT);
+
+        now.addAndGet(1_000L);
+        assertThat(limiter.reserve()).isEqualTo(AdaptiveRateLimiter.MAX_WAIT_MILLIS);
+    }
+
+    @Test
+    public void reserve_ConcurrentCallersAreReleasedOneIntervalApart() throws Exception {
+        final int callers = 200;
+        final long intervalMillis = (long) Math.ceil(1000.0 / AdaptiveRateLimiter.MAX_RATE);
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Long>> reservations = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                reservations.add(executor.submit(() -> {
+                    start.await();
+                    return limiter.reserve();
+                }));
+            }
+            start.countDown();
+            final List<Long> waits = new ArrayList<>();
+            for (final Future<Long> reservation : reservations) {
+                waits.add(reservation.get(10, TimeUnit.SECONDS));
+            }
+
+            final List<Long> granted = waits.stream().filter(wait -> wait != AdaptiveRateLimiter.NO_PERMIT).sorted().collect(Collectors.toList());
+            final List<Long> expected = LongStream.rangeClosed(0, AdaptiveRateLimiter.MAX_WAIT_MILLIS / intervalMillis)
+                .map(slot -> slot * intervalMillis)
+                .boxed()
+                .collect(Collectors.toList());
+            // every granted permit has a slot of its own, none of them is released together with another
+            assertThat(granted).isEqualTo(expected);
+            assertThat(waits.size() - granted.size()).isEqualTo(callers - expected.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void acquire_ThrottlesOnClientSideWhenNoPermitIsFree() {
+        for (int i = 0; i < 20; i++) {
+            now.addAndGet(AdaptiveRateLimiter.DECREASE_COOLDOWN_MILLIS);
+            limiter.onThrottle();
+        }
+        limiter.reserve();
+        limiter.reserve();
+        limiter.reserve();
+
+        assertThatThrownBy(limiter::acquire).isInstanceOf(TooManyRequestsException.class);
+        assertThat(AdaptiveRateLimiter.isThrottle(catchThrowable(limiter::acquire))).isTrue();
+    }
+
+    @Test
+    public void operationOf_StripsRequestSuffix() {
+        assertThat(AdaptiveRateLimiter.operationOf(AttachPolicyRequest.builder().build())).isEqualTo("AttachPolicy");
+    }
+
+    @Test
+    public void isThrottle_FindsWrappedTooManyRequestsException() {
+        final TooManyRequestsException throttle = TooManyRequestsException.builder().message("Rate exceeded").build();
+
+        assertThat(AdaptiveRateLimiter.isThrottle(throttle)).isTrue();
+        assertThat(AdaptiveRateLimiter.isThrottle(new RuntimeException(throttle))).isTrue();
+        assertThat(AdaptiveRateLimiter.isThrottle(SdkClientException.create("timeout"))).isFalse();
+        assertThat(AdaptiveRateLimiter.isThrottle(null)).isFalse();
+    }
+
+    @Test
+    public void metrics_ReportsEveryOperationInOrder() {
+        AdaptiveRateLimiter.forOperation("ListTargetsForPolicy").onSuccess();
+        AdaptiveRateLimiter.forOperation("AttachPolicy").onThrottle();
+
+        assertThat(AdaptiveRateLimiter.metrics())
+            .extracting(AdaptiveRateLimiter.Metrics::getOperation)
+            .containsExactly("AttachPolicy", "ListTargetsForPolicy");
+        assertThat(AdaptiveRateLimiter.metrics().get(0).getThrottleCount()).isEqualTo(1);
+        assertThat(AdaptiveRateLimiter.metrics().get(1).getSuccessCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrentInvokerTest {
+
+    @Test
+    public void submit_RunsCallsConcurrently() {
+        final CountDownLatch latch = new CountDownLatch(3);
+        final CompletableFuture<Boolean> first = ConcurrentInvoker.submit(() -> countDownAndAwait(latch));
+        final CompletableFuture<Boolean> second = ConcurrentInvoker.submit(() -> countDownAndAwait(latch));
+        final CompletableFuture<Boolean> third = ConcurrentInvoker.submit(() -> countDownAndAwait(latch));
+
+        ConcurrentInvoker.awaitAll(first, second, third);
+
+        // each call only returns true if all three were in flight at the same time
+        assertThat(first.join()).isTrue();
+        assertThat(second.join()).isTrue();
+        assertThat(third.join()).isTrue();
+        assertThat(ConcurrentInvoker.failureOf(first)).isNull();
+    }
+
+    @Test
+    public void failureOf_ReturnsUnwrappedException() {
+        final IllegalStateException exception = new IllegalStateException("failed");
+        final CompletableFuture<String> failed = ConcurrentInvoker.submit(() -> {
+            throw exception;
+        });
+        final CompletableFuture<String> succeeded = ConcurrentInvoker.submit(() -> "ok");
+
+        ConcurrentInvoker.awaitAll(failed, succeeded);
+
+        assertThat(ConcurrentInvoker.failureOf(failed)).isSameAs(exception);
+        assertThat(ConcurrentInvoker.failureOf(succeeded)).isNull();
+    }
+
+    @Test
+    public void failureOf_ReturnsCancellation() {
+        final CompletableFuture<String> cancelled = new CompletableFuture<>();
+        cancelled.cancel(true);
+
+        ConcurrentInvoker.awaitAll(cancelled);
+
+        assertThat(ConcurrentInvoker.failureOf(cancelled)).isInstanceOf(CancellationException.class);
+    }
+
+    @Test
+    public void failureOf_RethrowsErrors() {
+        final CompletableFuture<String> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new AssertionError("fatal"));
+
+        assertThatThrownBy(() -> ConcurrentInvoker.failureOf(failed)).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    public void failureOf_RestoresInterruptFlag() {
+        final CompletableFuture<String> pending = new CompletableFuture<>();
+        Thread.currentThread().interrupt();
+
+        assertThat(ConcurrentInvoker.failureOf(pending)).isInstanceOf(InterruptedException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    private static boolean countDownAndAwait(final CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
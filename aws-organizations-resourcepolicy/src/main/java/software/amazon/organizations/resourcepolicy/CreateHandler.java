@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.organizations.model.DescribeResourcePolic
 import software.amazon.awssdk.services.organizations.model.PutResourcePolicyRequest;
 import software.amazon.awssdk.services.organizations.model.PutResourcePolicyResponse;
 import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnHandlerInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -16,6 +17,15 @@ import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 public class CreateHandler extends BaseHandlerStd {
     private OrgsLoggerWrapper log;
+    private final boolean writeThrough;
+
+    public CreateHandler() {
+        this(isWriteThroughEnabled());
+    }
+
+    CreateHandler(final boolean writeThrough) {
+        this.writeThrough = writeThrough;
+    }
 
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy awsClientProxy,
@@ -28,7 +38,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         if (model.getContent() == null) {
-            logger.log(String.format("The ResourcePolicy create model did not include Content. This is an InvalidRequest for management account Id [%s]", request.getAwsAccountId()));
+            logger.info("The ResourcePolicy create model did not include Content. This is an InvalidRequest for management account Id [{}]", request.getAwsAccountId());
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "ResourcePolicy cannot be created without content!");
         }
@@ -37,12 +47,13 @@ public class CreateHandler extends BaseHandlerStd {
         try {
             content = Translator.convertObjectToString(model.getContent());
         } catch (CfnInvalidRequestException e){
-            logger.log(String.format("The ResourcePolicy content did not include a valid JSON. This is an InvalidRequest for management account Id [%s]", request.getAwsAccountId()));
+            logger.info("The ResourcePolicy content did not include a valid JSON. This is an InvalidRequest for management account Id [{}]", request.getAwsAccountId());
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "ResourcePolicy content had invalid JSON!");
         }
 
-        logger.log(String.format("Requesting PutResourcePolicy w/ content: %s and management account Id [%s]", content, request.getAwsAccountId()));
+        logger.info("Requesting PutResourcePolicy with management account Id [{}]", request.getAwsAccountId());
+        logger.debug("ResourcePolicy content [{}]", content);
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> describeResourcePolicyProgressEvent(awsClientProxy, request, model, callbackContext, orgsClient, logger))
             .then(progress ->
@@ -52,12 +63,39 @@ public class CreateHandler extends BaseHandlerStd {
                     .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                                     handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.CREATE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.CREATE))
                     .done(putResourcePolicyResponse -> {
-                        logger.log(String.format("Created resourcePolicy with Id: [%s].", putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id()));
+                        logger.info("Created resourcePolicy with Id: [{}].", putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id());
                         model.setId(putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id());
+                        if (writeThrough) {
+                            return writeThroughResponse(putResourcePolicyResponse, model, callbackContext, logger);
+                        }
                         return ProgressEvent.progress(model, callbackContext);
                     })
             )
-            .then(progress -> new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger));
+            .then(progress -> {
+                if (writeThrough) {
+                    logger.info("Returning the written model of resourcePolicy [{}] without reading it back.", model.getId());
+                    return ProgressEvent.defaultSuccessHandler(model);
+                }
+                return new ReadHandler().handleRequest(awsClientProxy, request, callbackContext, orgsClient, logger);
+            });
+    }
+
+    // PutResourcePolicy returns the stored content, Id and Arn, and the Tags are the ones just sent, so nothing is left to read back
+    private ProgressEvent<ResourceModel, CallbackContext> writeThroughResponse(
+        final PutResourcePolicyResponse putResourcePolicyResponse,
+        final ResourceModel model,
+        final CallbackContext callbackContext,
+        final OrgsLoggerWrapper logger
+        ) {
+
+        try {
+            model.setContent(Translator.convertStringToObject(putResourcePolicyResponse.resourcePolicy().content(), logger));
+        } catch (CfnHandlerInternalFailureException e) {
+            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InternalFailure,
+                        "Internal handler failure");
+        }
+        model.setArn(putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().arn());
+        return ProgressEvent.progress(model, callbackContext);
     }
 
 
@@ -70,7 +108,7 @@ public class CreateHandler extends BaseHandlerStd {
         final OrgsLoggerWrapper logger
         ) {
 
-        logger.log(String.format("Running describeResourcePolicyProgressEvent to ensure there is not an already existing resourcePolicy in the Organization w/management account Id [%s].", request.getAwsAccountId()));
+        logger.info("Running describeResourcePolicyProgressEvent to ensure there is not an already existing resourcePolicy in the Organization w/management account Id [{}].", request.getAwsAccountId());
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
@@ -86,7 +124,7 @@ public class CreateHandler extends BaseHandlerStd {
                 })
                 .done(describeResourcePolicyResponse -> {
                     if (describeResourcePolicyResponse != null) {
-                        logger.log(String.format("Create resourcePolicy w/management account Id [%s] failed due to an already existing resourcePolicy in the Organization.", request.getAwsAccountId()));
+                        logger.info("Create resourcePolicy w/management account Id [{}] failed due to an already existing resourcePolicy in the Organization.", request.getAwsAccountId());
                         return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.AlreadyExists,
                             "There is already a ResourcePolicy in the Organization!");
                     }
@@ -101,7 +139,7 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     protected PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest putResourcePolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling putResourcePolicy API for ResourcePolicy content [%s].", putResourcePolicyRequest.content()));
+        log.info("Calling putResourcePolicy API for ResourcePolicy content [{}].", putResourcePolicyRequest.content());
         return orgsClient.injectCredentialsAndInvokeV2(putResourcePolicyRequest, orgsClient.client()::putResourcePolicy);
     }
 }
@@ -27,7 +27,7 @@ public class ListHandler extends BaseHandlerStd {
         final OrgsLoggerWrapper logger) {
 
         this.log = logger;
-        logger.log(String.format("Entered %s list handler with accountId [%s]", ResourceModel.TYPE_NAME, request.getAwsAccountId()));
+        logger.info("Entered {} list handler with accountId [{}]", ResourceModel.TYPE_NAME, request.getAwsAccountId());
 
         final ResourceModel model = request.getDesiredResourceState();
         if (model == null) {
@@ -38,7 +38,7 @@ public class ListHandler extends BaseHandlerStd {
         final List<ResourceModel> models = new ArrayList<>();
         String nextToken = null; // DescribeResourcePolicy API - no nextToken generated
 
-        logger.log(String.format("Requesting DescribeResourcePolicy with management account Id [%s] and resourcePolicy Id [%s].", request.getAwsAccountId(), model.getId()));
+        logger.info("Requesting DescribeResourcePolicy with management account Id [{}] and resourcePolicy Id [{}].", request.getAwsAccountId(), model.getId());
         return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::Read::ListResourcePolicy", orgsClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
             .makeServiceCall(this::describeResourcePolicy)
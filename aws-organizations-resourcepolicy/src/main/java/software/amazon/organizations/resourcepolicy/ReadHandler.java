@@ -27,7 +27,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         // Call DescribeResourcePolicy API
-        logger.log(String.format("Requesting DescribeResourcePolicy with management account Id [%s] and resourcePolicy Id [%s].", request.getAwsAccountId(), model.getId()));
+        logger.info("Requesting DescribeResourcePolicy with management account Id [{}] and resourcePolicy Id [{}].", request.getAwsAccountId(), model.getId());
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
                 awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::Read::DescribeResourcePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
@@ -60,7 +60,7 @@ public class ReadHandler extends BaseHandlerStd {
         ) {
 
         String resourcePolicyId = model.getId();
-        logger.log(String.format("Listing tags for resourcePolicyId: %s.", resourcePolicyId));
+        logger.info("Listing tags for resourcePolicyId: {}.", resourcePolicyId);
 
         // ListTags currently returns all (max: 50) tags in a single call, so no need for pagination handling
         return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::ListTagsForResource", orgsClient, model, callbackContext)
@@ -81,7 +81,7 @@ public class ReadHandler extends BaseHandlerStd {
 
     // DescribeResourcePolicy call doesn't return tags on ResourcePolicy so ListTags call needs to be made separately
     protected ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest listTagsForResourceRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling listTagsForResource API for resource [%s].", listTagsForResourceRequest.resourceId()));
+        log.info("Calling listTagsForResource API for resource [{}].", listTagsForResourceRequest.resourceId());
         return orgsClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, orgsClient.client()::listTagsForResource);
     }
 }
@@ -13,6 +13,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
+import software.amazon.organizations.utils.PolicyContentDigest;
 
 import java.util.Set;
 
@@ -36,7 +37,7 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.NotFound,
                 String.format("ResourcePolicy [%s] cannot be updated as no previous ResourcePolicy exists.", resourcePolicyId));
         } else if (model.getContent() == null) {
-            logger.log(String.format("ResourcePolicy [%s] update does not include Content. This is an InvalidRequest [%s]", resourcePolicyId, request.getAwsAccountId()));
+            logger.info("ResourcePolicy [{}] update does not include Content. This is an InvalidRequest [{}]", resourcePolicyId, request.getAwsAccountId());
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "ResourcePolicy cannot be updated without Content!");
         }
@@ -45,7 +46,7 @@ public class UpdateHandler extends BaseHandlerStd {
         try {
             content = Translator.convertObjectToString(model.getContent());
         } catch (CfnInvalidRequestException e){
-            logger.log(String.format("The ResourcePolicy content did not include a valid JSON. This is an InvalidRequest for management account Id [%s]", request.getAwsAccountId()));
+            logger.info("The ResourcePolicy content did not include a valid JSON. This is an InvalidRequest for management account Id [{}]", request.getAwsAccountId());
             return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
                 "ResourcePolicy content had invalid JSON!");
         }
@@ -62,14 +63,20 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress -> {
-                logger.log(String.format("Requesting PutResourcePolicy w/ content: %s and management account Id [%s]", content, request.getAwsAccountId()));
+                // content is compared by canonical JSON digest, so reordered keys or reformatted whitespace do not count as a change
+                if (PolicyContentDigest.isSameContent(previousModel.getContent(), model.getContent())) {
+                    logger.info("Content of ResourcePolicy [{}] is unchanged. Skip calling PutResourcePolicy.", resourcePolicyId);
+                    return ProgressEvent.progress(model, callbackContext);
+                }
+                logger.info("Requesting PutResourcePolicy with management account Id [{}]", request.getAwsAccountId());
+                logger.debug("ResourcePolicy content [{}]", content);
                 return awsClientProxy.initiate("AWS-Organizations-ResourcePolicy::UpdateResourcePolicy", orgsClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToUpdateRequest)
                     .makeServiceCall(this::putResourcePolicy)
                     .handleError((organizationsRequest, e, proxyClient1, model1, context) ->
                                     handleErrorInGeneral(organizationsRequest, e, proxyClient1, model1, context, logger, ResourcePolicyConstants.Action.UPDATE_RESOURCEPOLICY, ResourcePolicyConstants.Handler.UPDATE))
                     .done(putResourcePolicyResponse -> {
-                        logger.log(String.format("Updated ResourcePolicy [%s].", putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id()));
+                        logger.info("Updated ResourcePolicy [{}].", putResourcePolicyResponse.resourcePolicy().resourcePolicySummary().id());
                         return ProgressEvent.progress(model, callbackContext);
                     });
             })
@@ -95,10 +102,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Delete tags only if tagsToRemove is not empty
         if (!tagsToRemove.isEmpty()) {
-            logger.log(String.format("Calling untagResource API for ResourcePolicy [%s].", model.getId()));
+            logger.info("Calling untagResource API for ResourcePolicy [{}].", model.getId());
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, resourcePolicyId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
+                orgsClient.injectCredentialsAndInvokeV2(untagResourceRequest, orgsClient.client()::untagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(untagResourceRequest, e, orgsClient, model, callbackContext, logger, ResourcePolicyConstants.Action.UNTAG_RESOURCE, ResourcePolicyConstants.Handler.UPDATE);
             }
@@ -106,10 +113,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // Add tags only if tagsToAddOrUpdate is not empty.
         if (!tagsToAddOrUpdate.isEmpty()) {
-            logger.log(String.format("Calling tagResource API for ResourcePolicy [%s].", model.getId()));
+            logger.info("Calling tagResource API for ResourcePolicy [{}].", model.getId());
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAddOrUpdate, resourcePolicyId);
             try {
-                awsClientProxy.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
+                orgsClient.injectCredentialsAndInvokeV2(tagResourceRequest, orgsClient.client()::tagResource);
             } catch (Exception e) {
                 return handleErrorInGeneral(tagResourceRequest, e, orgsClient, model, callbackContext, logger, ResourcePolicyConstants.Action.TAG_RESOURCE, ResourcePolicyConstants.Handler.UPDATE);
             }
@@ -118,7 +125,7 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     protected PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest putResourcePolicyRequest, final ProxyClient<OrganizationsClient> orgsClient) {
-        log.log(String.format("Calling putResourcePolicy API for ResourcePolicy content [%s].", putResourcePolicyRequest.content()));
+        log.info("Calling putResourcePolicy API for ResourcePolicy content [{}].", putResourcePolicyRequest.content());
         return orgsClient.injectCredentialsAndInvokeV2(putResourcePolicyRequest, orgsClient.client()::putResourcePolicy);
     }
 
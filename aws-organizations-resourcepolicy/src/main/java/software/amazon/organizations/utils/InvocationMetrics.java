@@ -0,0 +1,319 @@
+package software.amazon.organizations.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Collects API latency, call, throttle, retry and error counts for one handler invocation and writes them as CloudWatch
+ * Embedded Metric Format (EMF) log lines when the invocation ends, so metrics cost no extra network calls.
+ * Calls are keyed by API operation; handler retries and errors by the Action they were reported for. The handler binds
+ * the instance to the invoking thread, and the client retry observer counts SDK retries against the call in progress.
+ */
+public final class InvocationMetrics {
+    public static final String NAMESPACE = "AWSOrganizationsResourceProviders";
+    // CloudWatch accepts at most 100 values per metric in one EMF record
+    static final int MAX_LATENCY_VALUES = 100;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ThreadLocal<InvocationMetrics> CURRENT = new ThreadLocal<>();
+    // SDK retries and throttled attempts of the call running on this thread
+    private static final ThreadLocal<int[]> CALL_RETRIES = new ThreadLocal<>();
+    // handler errors reported on this thread while an action runs under recordHandlerErrorsUnless
+    private static final ThreadLocal<List<HeldError>> HELD_ERRORS = new ThreadLocal<>();
+
+    // Placed after the conditions that decide on a retry, so it only sees attempts that are actually retried
+    private static final RetryCondition SDK_RETRY_OBSERVER = retryPolicyContext -> {
+        final int[] retries = CALL_RETRIES.get();
+        if (retries != null) {
+            retries[0]++;
+            if (AdaptiveRateLimiter.isThrottle(retryPolicyContext.exception())) {
+                retries[1]++;
+            }
+        }
+        return true;
+    };
+
+    private final String resourceType;
+    private final String handler;
+    private final LongSupplier clock;
+    private final Map<String, OperationStats> operations = new TreeMap<>();
+    private final Map<String, ActionStats> actions = new TreeMap<>();
+
+    public InvocationMetrics(final String resourceType, final String handler) {
+        this(resourceType, handler, System::currentTimeMillis);
+    }
+
+    InvocationMetrics(final String resourceType, final String handler, final LongSupplier clock) {
+        this.resourceType = resourceType;
+        this.handler = handler;
+        this.clock = clock;
+    }
+
+    public static InvocationMetrics current() {
+        return CURRENT.get();
+    }
+
+    // Wraps a task handed to another thread so its handler retries and errors are recorded for the submitting invocation
+    public static <T> Supplier<T> propagate(final Supplier<T> task) {
+        final InvocationMetrics metrics = CURRENT.get();
+        return metrics == null ? task : () -> metrics.runWith(task);
+    }
+
+    public static RetryCondition sdkRetryObserver() {
+        return SDK_RETRY_OBSERVER;
+    }
+
+    // Records a callback retry scheduled by the handler; a no-op outside an instrumented invocation
+    public static void recordHandlerRetry(final String handlerName, final String actionName) {
+        final InvocationMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.addHandlerRetry(handlerName, actionName);
+        }
+    }
+
+    // Records an error the handler reported for an action; a no-op outside an instrumented invocation
+    public static void recordHandlerError(final String handlerName, final String actionName, final Exception e) {
+        recordHandlerError(new HeldError(handlerName, actionName, errorCodeOf(e)));
+    }
+
+    /**
+     * Runs the action and records the handler errors it reports on this thread only if its result is not an expected
+     * one, such as a read that does not see a resource created a moment ago yet. Nested calls hand the errors they
+     * keep on to the enclosing one.
+     */
+    public static <T> T recordHandlerErrorsUnless(final Supplier<T> action, final Predicate<T> expected) {
+        final List<HeldError> previous = HELD_ERRORS.get();
+        final List<HeldError> held = new ArrayList<>();
+        HELD_ERRORS.set(held);
+        boolean dropped = false;
+        try {
+            final T result = action.get();
+            dropped = expected.test(result);
+            return result;
+        } finally {
+            if (previous == null) {
+                HELD_ERRORS.remove();
+            } else {
+                HELD_ERRORS.set(previous);
+            }
+            if (!dropped) {
+                held.forEach(InvocationMetrics::recordHandlerError);
+            }
+        }
+    }
+
+    private static void recordHandlerError(final HeldError error) {
+        final List<HeldError> held = HELD_ERRORS.get();
+        if (held != null) {
+            held.add(error);
+            return;
+        }
+        final InvocationMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.addHandlerError(error.handler, error.action, error.errorCode);
+        }
+    }
+
+    public static String errorCodeOf(final Throwable e) {
+        if (e instanceof AwsServiceException) {
+            final AwsErrorDetails awsErrorDetails = ((AwsServiceException) e).awsErrorDetails();
+            if (awsErrorDetails != null && awsErrorDetails.errorCode() != null) {
+                return awsErrorDetails.errorCode();
+            }
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    // Runs the action with this instance bound to the current thread, restoring whatever was bound before
+    public <T> T runWith(final Supplier<T> action) {
+        final InvocationMetrics previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    // Runs one API call on the calling thread and records its latency, SDK retries and outcome
+    public <T> T time(final String operation, final Supplier<T> call) {
+        final int[] previousRetries = CALL_RETRIES.get();
+        final int[] retries = new int[2];
+        CALL_RETRIES.set(retries);
+        final long start = System.nanoTime();
+        try {
+            final T result = call.get();
+            recordCall(operation, elapsedMillis(start), retries[0], retries[1], null);
+            return result;
+        } catch (RuntimeException e) {
+            final int throttles = retries[1] + (AdaptiveRateLimiter.isThrottle(e) ? 1 : 0);
+            recordCall(operation, elapsedMillis(start), retries[0], throttles, errorCodeOf(e));
+            throw e;
+        } finally {
+            if (previousRetries == null) {
+                CALL_RETRIES.remove();
+            } else {
+                CALL_RETRIES.set(previousRetries);
+            }
+        }
+    }
+
+    synchronized void recordCall(final String operation, final long latencyMillis, final int sdkRetries, final int throttles, final String errorCode) {
+        final OperationStats stats = operations.computeIfAbsent(operation, key -> new OperationStats());
+        stats.calls++;
+        if (stats.latencies.size() < MAX_LATENCY_VALUES) {
+            stats.latencies.add(latencyMillis);
+        }
+        stats.sdkRetries += sdkRetries;
+        stats.throttles += throttles;
+        if (errorCode != null) {
+            stats.errorCodes.merge(errorCode, 1, Integer::sum);
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return operations.isEmpty() && actions.isEmpty();
+    }
+
+    /**
+     * Returns one EMF record per API operation and per Action with handler retries or errors. Error codes are attached
+     * as a property so they can be queried in CloudWatch Logs Insights without adding dimensions.
+     */
+    public synchronized List<String> toEmf() {
+        final long timestamp = clock.getAsLong();
+        final List<String> records = new ArrayList<>();
+        operations.forEach((operation, stats) -> {
+            final Map<String, Object> record = record(timestamp, "Operation", operation, Arrays.asList(
+                metric("Latency", "Milliseconds"),
+                metric("CallCount", "Count"),
+                metric("ErrorCount", "Count"),
+                metric("ThrottleCount", "Count"),
+                metric("SdkRetryCount", "Count")));
+            record.put("Latency", stats.latencies);
+            record.put("CallCount", stats.calls);
+            record.put("ErrorCount", stats.errorCodes.values().stream().mapToInt(Integer::intValue).sum());
+            record.put("ThrottleCount", stats.throttles);
+            record.put("SdkRetryCount", stats.sdkRetries);
+            record.put("ErrorCodes", stats.errorCodes);
+            records.add(toJson(record));
+        });
+        actions.forEach((key, stats) -> {
+            final Map<String, Object> record = record(timestamp, "Action", stats.action, Arrays.asList(
+                metric("HandlerRetryCount", "Count"),
+                metric("HandlerErrorCount", "Count")));
+            record.put("Handler", stats.handler);
+            record.put("HandlerRetryCount", stats.handlerRetries);
+            record.put("HandlerErrorCount", stats.errorCodes.values().stream().mapToInt(Integer::intValue).sum());
+            record.put("ErrorCodes", stats.errorCodes);
+            records.add(toJson(record));
+        });
+        return records;
+    }
+
+    // Writes the EMF records through the raw handler logger, as EMF requires every log event to be a bare JSON object
+    public void flush(final Logger logger) {
+        if (isEmpty()) {
+            return;
+        }
+        toEmf().forEach(logger::log);
+    }
+
+    private synchronized void addHandlerRetry(final String handlerName, final String actionName) {
+        action(handlerName, actionName).handlerRetries++;
+    }
+
+    private synchronized void addHandlerError(final String handlerName, final String actionName, final String errorCode) {
+        action(handlerName, actionName).errorCodes.merge(errorCode, 1, Integer::sum);
+    }
+
+    private ActionStats action(final String handlerName, final String actionName) {
+        return actions.computeIfAbsent(handlerName + "/" + actionName, key -> new ActionStats(handlerName, actionName));
+    }
+
+    private Map<String, Object> record(final long timestamp, final String keyDimension, final String keyValue, final List<Map<String, String>> metrics) {
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", NAMESPACE);
+        directive.put("Dimensions", Collections.singletonList(Arrays.asList("ResourceType", "Handler", keyDimension)));
+        directive.put("Metrics", metrics);
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", timestamp);
+        metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("_aws", metadata);
+        record.put("ResourceType", resourceType);
+        record.put("Handler", handler);
+        record.put(keyDimension, keyValue);
+        return record;
+    }
+
+    private static Map<String, String> metric(final String name, final String unit) {
+        final Map<String, String> metric = new LinkedHashMap<>();
+        metric.put("Name", name);
+        metric.put("Unit", unit);
+        return metric;
+    }
+
+    private static String toJson(final Map<String, Object> record) {
+        try {
+            return MAPPER.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            // only plain maps, lists, strings and numbers are serialized
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long elapsedMillis(final long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+
+    private static final class OperationStats {
+        private int calls;
+        private int sdkRetries;
+        private int throttles;
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, Integer> errorCodes = new TreeMap<>();
+    }
+
+    private static final class HeldError {
+        private final String handler;
+        private final String action;
+        private final String errorCode;
+
+        private HeldError(final String handler, final String action, final String errorCode) {
+            this.handler = handler;
+            this.action = action;
+            this.errorCode = errorCode;
+        }
+    }
+
+    private static final class ActionStats {
+        private final String handler;
+        private final String action;
+        private int handlerRetries;
+        private final Map<String, Integer> errorCodes = new TreeMap<>();
+
+        private ActionStats(final String handler, final String action) {
+            this.handler = handler;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package software.amazon.organizations.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Canonical form and SHA-256 digest of policy content.
+ * Content that only differs in key order, whitespace or number formatting (1, 1.0, 1e0) has the same digest, so update
+ * handlers can tell whether a write would change anything. Content that is not valid JSON is digested as-is.
+ */
+public final class PolicyContentDigest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private PolicyContentDigest() {
+    }
+
+    public static String digest(final Object content) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonicalize(content).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // every JVM ships SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static boolean isSameContent(final Object previousContent, final Object desiredContent) {
+        if (previousContent == null || desiredContent == null) {
+            return previousContent == desiredContent;
+        }
+        return digest(previousContent).equals(digest(desiredContent));
+    }
+
+    public static String canonicalize(final Object content) {
+        final JsonNode node;
+        try {
+            node = content instanceof String ? MAPPER.readTree((String) content) : MAPPER.valueToTree(content);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return String.valueOf(content);
+        }
+        if (node == null) {
+            return String.valueOf(content);
+        }
+        final StringBuilder builder = new StringBuilder();
+        write(node, builder);
+        return builder.toString();
+    }
+
+    private static void write(final JsonNode node, final StringBuilder builder) {
+        if (node.isObject()) {
+            final List<String> fieldNames = new ArrayList<>();
+            node.fieldNames().forEachRemaining(fieldNames::add);
+            Collections.sort(fieldNames);
+            builder.append('{');
+            for (int i = 0; i < fieldNames.size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                writeString(fieldNames.get(i), builder);
+                builder.append(':');
+                write(node.get(fieldNames.get(i)), builder);
+            }
+            builder.append('}');
+        } else if (node.isArray()) {
+            builder.append('[');
+            final Iterator<JsonNode> elements = node.elements();
+            while (elements.hasNext()) {
+                write(elements.next(), builder);
+                if (elements.hasNext()) {
+                    builder.append(',');
+                }
+            }
+            builder.append(']');
+        } else if (node.isNumber()) {
+            builder.append(node.decimalValue().stripTrailingZeros().toPlainString());
+        } else if (node.isTextual()) {
+            writeString(node.textValue(), builder);
+        } else {
+            // booleans and null
+            builder.append(node.toString());
+        }
+    }
+
+    private static void writeString(final String value, final StringBuilder builder) {
+        try {
+            builder.append(MAPPER.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
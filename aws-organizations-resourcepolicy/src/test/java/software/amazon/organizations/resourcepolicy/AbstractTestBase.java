@@ -33,6 +33,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 
 
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.organizations.utils.CallBudget;
+import software.amazon.organizations.utils.CallCountingProxyClient;
 import software.amazon.organizations.utils.OrgsLoggerWrapper;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -52,6 +54,19 @@ public class AbstractTestBase {
   protected static final String RESOURCE_POLICY_SCHEMA_SHA256_HEXSTRING = "C48EDAD6CE9CC65CC1E5FC37BBAC107D685574B0DA9CC4C46090D56761E714BF";
   protected static final String RESOURCE_POLICY_JSON_SCHEMA_FILE_NAME = "aws-organizations-resourcepolicy.json";
 
+  // API call budgets of the handler paths, see ApiCallBudgetTest
+  protected static final CallBudget READ_CALLS = CallBudget.calls()
+                                                     .exactly("DescribeResourcePolicy", 1)
+                                                     .exactly("ListTagsForResource", 1);
+  protected static final CallBudget CREATE_CALLS = CallBudget.calls()
+                                                       .exactly("DescribeResourcePolicy", 1)
+                                                       .exactly("PutResourcePolicy", 1);
+  protected static final CallBudget UPDATE_CALLS = CallBudget.calls()
+                                                       .exactly("PutResourcePolicy", 1)
+                                                       .atMost("UntagResource", 1)
+                                                       .atMost("TagResource", 1);
+  protected static final CallBudget DELETE_CALLS = CallBudget.calls().exactly("DeleteResourcePolicy", 1);
+
   protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy loggerProxy;
     protected static final OrgsLoggerWrapper logger;
@@ -105,6 +120,13 @@ public class AbstractTestBase {
       };
   }
 
+  // MOCK_PROXY that also counts the calls made through it, to check them against a CallBudget
+  static CallCountingProxyClient<OrganizationsClient> COUNTING_PROXY(
+      final AmazonWebServicesClientProxy proxy,
+      final OrganizationsClient orgsClient) {
+      return new CallCountingProxyClient<>(MOCK_PROXY(proxy, orgsClient));
+  }
+
   static ResourceModel generateInitialResourceModel(boolean hasTags, Object content) {
       return ResourceModel.builder()
           .content(content)
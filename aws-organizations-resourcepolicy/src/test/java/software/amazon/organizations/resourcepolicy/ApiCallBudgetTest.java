@@ -0,0 +1,120 @@
+package software.amazon.organizations.resourcepolicy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.CallCountingProxyClient;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.organizations.utils.CallBudget.calls;
+
+// Holds every handler path to the API calls it is budgeted for, so a change that adds a round trip fails the build
+public class ApiCallBudgetTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private CallCountingProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = COUNTING_PROXY(awsClientProxy, new FakeOrganizationsClient());
+    }
+
+    @Test
+    public void create() {
+        assertThat(create(new CreateHandler(false)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the check for an existing resource policy, PutResourcePolicy, then the Read
+        CREATE_CALLS.plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void create_WriteThroughSkipsRead() {
+        assertThat(create(new CreateHandler(true)).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        CREATE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void read() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ReadHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                          .desiredResourceState(ResourceModel.builder().id(created.getId()).build())
+                                                          .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        READ_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_ChangeContentAndTags() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        final ResourceModel updatedModel = generateUpdatedResourceModel(true, TEST_RESOURCEPOLICY_UPDATED_CONTENT_JSON);
+        updatedModel.setId(created.getId());
+        assertThat(invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .previousResourceState(created)
+                                                            .desiredResourceState(updatedModel)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        UPDATE_CALLS.plus(READ_CALLS).assertWithin(proxyClient);
+    }
+
+    @Test
+    public void update_UnchangedContentSkipsPut() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .previousResourceState(created)
+                                                            .desiredResourceState(created)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        READ_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void delete() {
+        final ResourceModel created = create(new CreateHandler(true)).getResourceModel();
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new DeleteHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                            .desiredResourceState(created)
+                                                            .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        DELETE_CALLS.assertWithin(proxyClient);
+    }
+
+    @Test
+    public void list() {
+        create(new CreateHandler(true));
+        proxyClient.reset();
+
+        assertThat(invokeUntilDone(new ListHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                          .desiredResourceState(ResourceModel.builder().build())
+                                                          .build()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        calls().exactly("DescribeResourcePolicy", 1).assertWithin(proxyClient);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> create(final CreateHandler handler) {
+        return invokeUntilDone(handler, ResourceHandlerRequest.<ResourceModel>builder()
+                                            .desiredResourceState(generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT_JSON))
+                                            .build());
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
@@ -85,6 +85,35 @@ public class CreateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_WriteThrough_SkipsReadBack() {
+        final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .desiredResourceTags(defaultStackTags)
+            .build();
+
+        when(mockProxyClient.client().describeResourcePolicy(any(DescribeResourcePolicyRequest.class))).thenReturn(null);
+
+        final PutResourcePolicyResponse putResourcePolicyResponse = getPutResourcePolicyResponse();
+        when(mockProxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponse);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new CreateHandler(true).handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+        assertThat(response.getResourceModel().getId()).isEqualTo(TEST_RESOURCEPOLICY_ID);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_RESOURCEPOLICY_ARN);
+        assertThat(response.getResourceModel().getContent()).isEqualTo(TEST_RESOURCEPOLICY_CONTENT_JSON);
+
+        // only the pre-existence check describes the resource policy, there is no read back after the put
+        verify(mockProxyClient.client()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verify(mockProxyClient.client()).describeResourcePolicy(any(DescribeResourcePolicyRequest.class));
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
     @Test
     public void handleRequest_WithTags_SimpleSuccess() {
         final ResourceModel model = generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT);
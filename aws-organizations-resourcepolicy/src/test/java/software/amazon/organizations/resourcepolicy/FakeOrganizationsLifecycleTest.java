@@ -0,0 +1,82 @@
+package software.amazon.organizations.resourcepolicy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.organizations.utils.FakeOrganizationsClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the handlers end to end against the in-memory FakeOrganizationsClient instead of per-call mocks
+public class FakeOrganizationsLifecycleTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy awsClientProxy;
+    private FakeOrganizationsClient fakeOrgsClient;
+    private ProxyClient<OrganizationsClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        awsClientProxy = new AmazonWebServicesClientProxy(loggerProxy, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        fakeOrgsClient = new FakeOrganizationsClient();
+        proxyClient = MOCK_PROXY(awsClientProxy, fakeOrgsClient);
+    }
+
+    @Test
+    public void handleRequest_CreateReadUpdateListDelete() {
+        final ProgressEvent<ResourceModel, CallbackContext> created = invokeUntilDone(new CreateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .desiredResourceState(generateInitialResourceModel(true, TEST_RESOURCEPOLICY_CONTENT_JSON))
+                                                                                                               .build());
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final String resourcePolicyId = created.getResourceModel().getId();
+        assertThat(created.getResourceModel().getContent()).isEqualTo(TEST_RESOURCEPOLICY_CONTENT_JSON);
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(resourcePolicyId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourceHelper.defaultTags);
+
+        final ResourceModel updatedModel = generateUpdatedResourceModel(true, TEST_RESOURCEPOLICY_UPDATED_CONTENT_JSON);
+        updatedModel.setId(resourcePolicyId);
+        final ProgressEvent<ResourceModel, CallbackContext> updated = invokeUntilDone(new UpdateHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                               .previousResourceState(created.getResourceModel())
+                                                                                                               .desiredResourceState(updatedModel)
+                                                                                                               .build());
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getContent()).isEqualTo(TEST_RESOURCEPOLICY_UPDATED_CONTENT_JSON);
+        assertThat(fakeOrgsClient.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(resourcePolicyId).build()).tags())
+            .containsExactlyInAnyOrderElementsOf(TagTestResourceHelper.updatedTags);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = invokeUntilDone(new ListHandler(), ResourceHandlerRequest.<ResourceModel>builder()
+                                                                                                           .desiredResourceState(ResourceModel.builder().build())
+                                                                                                           .build());
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getId).containsExactly(resourcePolicyId);
+
+        final ResourceHandlerRequest<ResourceModel> deleteRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                                                                        .desiredResourceState(updated.getResourceModel())
+                                                                        .build();
+        assertThat(invokeUntilDone(new DeleteHandler(), deleteRequest).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> readAfterDelete = invokeUntilDone(new ReadHandler(), deleteRequest);
+        assertThat(readAfterDelete.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(readAfterDelete.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    }
+
+    // Re-invokes the handler with the returned callback context, as CloudFormation does after the callback delay
+    private ProgressEvent<ResourceModel, CallbackContext> invokeUntilDone(final BaseHandlerStd handler, final ResourceHandlerRequest<ResourceModel> request) {
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+        do {
+            response = handler.handleRequest(awsClientProxy, request, context, proxyClient, logger);
+            invocations++;
+        } while (response.getStatus() == OperationStatus.IN_PROGRESS && invocations < MAX_INVOCATIONS);
+        return response;
+    }
+}
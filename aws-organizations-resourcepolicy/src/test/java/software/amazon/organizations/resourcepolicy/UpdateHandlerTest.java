@@ -2,6 +2,7 @@ package software.amazon.organizations.resourcepolicy;
 
 import java.time.Duration;
 import java.util.Set;
+import java.util.TreeMap;
 
 import software.amazon.awssdk.services.organizations.OrganizationsClient;
 import software.amazon.awssdk.services.organizations.model.ConstraintViolationException;
@@ -93,6 +94,30 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verifyNoMoreInteractions(mockOrgsClient);
     }
 
+    @Test
+    public void handleRequest_ContentOnlyReformatted_SkipsPutResourcePolicy() {
+        final ResourceModel initialResourceModel = generateFinalResourceModel(false, TEST_RESOURCEPOLICY_CONTENT);
+        // same statement as TEST_RESOURCEPOLICY_CONTENT, given as JSON with its keys in another order
+        final ResourceModel updatedResourceModel = generateUpdatedResourceModel(false, new TreeMap<>(TEST_RESOURCEPOLICY_CONTENT_JSON));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .previousResourceState(initialResourceModel)
+            .desiredResourceState(updatedResourceModel)
+            .build();
+
+        mockReadHandler(false);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = updateHandler.handleRequest(mockAwsClientProxy, request, new CallbackContext(), mockProxyClient, logger);
+
+        verifyHandlerSuccess(response, request);
+
+        verify(mockProxyClient.client(), never()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+        verifyReadHandler();
+
+        verify(mockOrgsClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(mockOrgsClient);
+    }
+
     @Test
     public void handleRequest_NoTags_WithJSONContent_SimpleSuccess() {
         final ResourceModel initialResourceModel = generateFinalResourceModel(false, TEST_RESOURCEPOLICY_CONTENT);
@@ -0,0 +1,69 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RateLimitedProxyClientTest {
+
+    @Mock
+    private ProxyClient<OrganizationsClient> delegate;
+    @Mock
+    private OrganizationsClient orgsClient;
+
+    @AfterEach
+    public void tear_down() {
+        AdaptiveRateLimiter.resetAll();
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_RecordsSuccess() {
+        final ListRootsRequest request = ListRootsRequest.builder().build();
+        final ListRootsResponse response = ListRootsResponse.builder().build();
+        when(delegate.injectCredentialsAndInvokeV2(any(ListRootsRequest.class), any())).thenReturn(response);
+        final RateLimitedProxyClient<OrganizationsClient> proxyClient = new RateLimitedProxyClient<>(delegate);
+
+        assertThat(proxyClient.injectCredentialsAndInvokeV2(request, orgsClient::listRoots)).isSameAs(response);
+
+        final AdaptiveRateLimiter.Metrics metrics = AdaptiveRateLimiter.forOperation("ListRoots").snapshot();
+        assertThat(metrics.getSuccessCount()).isEqualTo(1);
+        assertThat(metrics.getThrottleCount()).isZero();
+        assertThat(proxyClient.getThrottledCalls()).isZero();
+    }
+
+    @Test
+    public void injectCredentialsAndInvokeV2_ThrottleLowersRateAndRethrows() {
+        final ListRootsRequest request = ListRootsRequest.builder().build();
+        when(delegate.injectCredentialsAndInvokeV2(any(ListRootsRequest.class), any()))
+            .thenThrow(TooManyRequestsException.builder().message("Rate exceeded").build());
+        final RateLimitedProxyClient<OrganizationsClient> proxyClient = new RateLimitedProxyClient<>(delegate);
+
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(request, orgsClient::listRoots))
+            .isInstanceOf(TooManyRequestsException.class);
+
+        final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.forOperation("ListRoots");
+        assertThat(limiter.getPermitsPerSecond()).isLessThan(AdaptiveRateLimiter.MAX_RATE);
+        assertThat(limiter.snapshot().getThrottleCount()).isEqualTo(1);
+        assertThat(proxyClient.getThrottledCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void client_ReturnsDelegateClient() {
+        when(delegate.client()).thenReturn(orgsClient);
+
+        assertThat(new RateLimitedProxyClient<>(delegate).client()).isSameAs(orgsClient);
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.organizations.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The API calls a handler path is allowed to make, per operation. Budgets are built up and combined in tests, for
+ * example calls().exactly("CreateAccount", 1).atMost("DescribeCreateAccountStatus", 5).plus(READ_CALLS), and checked
+ * against a CallCountingProxyClient. Any operation called more often than budgeted, or called without being budgeted
+ * at all, fails the check, so a change that adds a round trip has to update the budget with it.
+ */
+public final class CallBudget {
+    private final Map<String, Range> ranges;
+
+    private CallBudget(final Map<String, Range> ranges) {
+        this.ranges = Collections.unmodifiableMap(ranges);
+    }
+
+    // the empty budget, no calls allowed
+    public static CallBudget calls() {
+        return new CallBudget(new TreeMap<>());
+    }
+
+    public CallBudget exactly(final String operation, final long count) {
+        return between(operation, count, count);
+    }
+
+    public CallBudget atMost(final String operation, final long max) {
+        return between(operation, 0L, max);
+    }
+
+    public CallBudget between(final String operation, final long min, final long max) {
+        if (min < 0L || max < min) {
+            throw new IllegalArgumentException(String.format("Invalid budget for %s: %d to %d calls", operation, min, max));
+        }
+        return plus(operation, new Range(min, max));
+    }
+
+    // the calls of both paths, run one after the other
+    public CallBudget plus(final CallBudget other) {
+        CallBudget sum = this;
+        for (final Map.Entry<String, Range> entry : other.ranges.entrySet()) {
+            sum = sum.plus(entry.getKey(), entry.getValue());
+        }
+        return sum;
+    }
+
+    public long getMaxCalls(final String operation) {
+        final Range range = ranges.get(operation);
+        return range == null ? 0L : range.max;
+    }
+
+    public long getMaxTotalCalls() {
+        return ranges.values().stream().mapToLong(range -> range.max).sum();
+    }
+
+    public void assertWithin(final CallCountingProxyClient<?> proxyClient) {
+        assertWithin(proxyClient.getCallCounts());
+    }
+
+    public void assertWithin(final Map<String, Long> callCounts) {
+        final List<String> violations = new ArrayList<>();
+        final Map<String, Long> counts = new TreeMap<>(callCounts);
+        ranges.keySet().forEach(operation -> counts.putIfAbsent(operation, 0L));
+        counts.forEach((operation, count) -> {
+            final Range range = ranges.get(operation);
+            if (range == null) {
+                if (count > 0L) {
+                    violations.add(String.format("%s called %d times but not budgeted", operation, count));
+                }
+            } else if (count < range.min || count > range.max) {
+                violations.add(String.format("%s called %d times, budget %s", operation, count, range));
+            }
+        });
+        if (!violations.isEmpty()) {
+            throw new AssertionError(String.format("API calls outside budget:%n  %s%nbudget: %s%ncalls:  %s",
+                String.join(System.lineSeparator() + "  ", violations), this, callCounts));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ranges.toString();
+    }
+
+    private CallBudget plus(final String operation, final Range range) {
+        final Map<String, Range> sum = new TreeMap<>(ranges);
+        sum.merge(operation, range, (left, right) -> new Range(left.min + right.min, left.max + right.max));
+        return new CallBudget(sum);
+    }
+
+    private static final class Range {
+        private final long min;
+        private final long max;
+
+        Range(final long min, final long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public String toString() {
+            if (min == max) {
+                return String.valueOf(max);
+            }
+            return min == 0L ? "<=" + max : min + ".." + max;
+        }
+    }
+}
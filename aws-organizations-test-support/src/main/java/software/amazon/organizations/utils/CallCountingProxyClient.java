@@ -0,0 +1,98 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ProxyClient decorator for tests that counts every call a handler makes, keyed by API operation, so a test can hold a
+ * handler path to a CallBudget. Calls are counted before they are passed on, so failed and throttled calls count too.
+ * Handlers fan some calls out on the ConcurrentInvoker pool, so counting is thread safe.
+ */
+public final class CallCountingProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private static final String REQUEST_SUFFIX = "Request";
+
+    private final ProxyClient<ClientT> delegate;
+    private final ConcurrentHashMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+
+    public CallCountingProxyClient(final ProxyClient<ClientT> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        record(request);
+        return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        record(request);
+        return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        record(request);
+        return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        record(request);
+        return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        record(request);
+        return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    public long getCallCount(final String operation) {
+        final LongAdder count = calls.get(operation);
+        return count == null ? 0L : count.sum();
+    }
+
+    public long getTotalCallCount() {
+        return calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    // a sorted snapshot, so failure messages list operations in a stable order
+    public Map<String, Long> getCallCounts() {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        calls.forEach((operation, count) -> snapshot.put(operation, count.sum()));
+        return snapshot;
+    }
+
+    public void reset() {
+        calls.clear();
+    }
+
+    // counted under the operation name the handlers' AdaptiveRateLimiter uses, ListRootsRequest -> ListRoots
+    private void record(final Object request) {
+        final String name = request.getClass().getSimpleName();
+        final String operation = name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+        calls.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+}
@@ -0,0 +1,1087 @@
+package software.amazon.organizations.utils;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.Account;
+import software.amazon.awssdk.services.organizations.model.AccountAlreadyClosedException;
+import software.amazon.awssdk.services.organizations.model.AccountJoinedMethod;
+import software.amazon.awssdk.services.organizations.model.AccountNotFoundException;
+import software.amazon.awssdk.services.organizations.model.AccountStatus;
+import software.amazon.awssdk.services.organizations.model.AlreadyInOrganizationException;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.ChildNotFoundException;
+import software.amazon.awssdk.services.organizations.model.CloseAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CloseAccountResponse;
+import software.amazon.awssdk.services.organizations.model.CreateAccountFailureReason;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateAccountResponse;
+import software.amazon.awssdk.services.organizations.model.CreateAccountState;
+import software.amazon.awssdk.services.organizations.model.CreateAccountStatus;
+import software.amazon.awssdk.services.organizations.model.CreateAccountStatusNotFoundException;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.CreatePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DeleteOrganizationRequest;
+import software.amazon.awssdk.services.organizations.model.DeleteOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.DeleteOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.DeletePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DeletePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DeleteResourcePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DeleteResourcePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountResponse;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusResponse;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationResponse;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DescribePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeResourcePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DestinationParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DetachPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.DuplicateAccountException;
+import software.amazon.awssdk.services.organizations.model.DuplicateOrganizationalUnitException;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyAttachmentException;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyException;
+import software.amazon.awssdk.services.organizations.model.InvalidInputException;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentRequest;
+import software.amazon.awssdk.services.organizations.model.ListOrganizationalUnitsForParentResponse;
+import software.amazon.awssdk.services.organizations.model.ListParentsRequest;
+import software.amazon.awssdk.services.organizations.model.ListParentsResponse;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesRequest;
+import software.amazon.awssdk.services.organizations.model.ListPoliciesResponse;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.ListRootsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.ListTargetsForPolicyResponse;
+import software.amazon.awssdk.services.organizations.model.MalformedPolicyDocumentException;
+import software.amazon.awssdk.services.organizations.model.MoveAccountRequest;
+import software.amazon.awssdk.services.organizations.model.MoveAccountResponse;
+import software.amazon.awssdk.services.organizations.model.Organization;
+import software.amazon.awssdk.services.organizations.model.OrganizationNotEmptyException;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnit;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotEmptyException;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotFoundException;
+import software.amazon.awssdk.services.organizations.model.OrganizationsException;
+import software.amazon.awssdk.services.organizations.model.Parent;
+import software.amazon.awssdk.services.organizations.model.ParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ParentType;
+import software.amazon.awssdk.services.organizations.model.Policy;
+import software.amazon.awssdk.services.organizations.model.PolicyInUseException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotAttachedException;
+import software.amazon.awssdk.services.organizations.model.PolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.PolicySummary;
+import software.amazon.awssdk.services.organizations.model.PolicyTargetSummary;
+import software.amazon.awssdk.services.organizations.model.PutResourcePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.PutResourcePolicyResponse;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicy;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicyNotFoundException;
+import software.amazon.awssdk.services.organizations.model.ResourcePolicySummary;
+import software.amazon.awssdk.services.organizations.model.Root;
+import software.amazon.awssdk.services.organizations.model.SourceParentNotFoundException;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.awssdk.services.organizations.model.TagResourceRequest;
+import software.amazon.awssdk.services.organizations.model.TagResourceResponse;
+import software.amazon.awssdk.services.organizations.model.TargetNotFoundException;
+import software.amazon.awssdk.services.organizations.model.TargetType;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.awssdk.services.organizations.model.UntagResourceRequest;
+import software.amazon.awssdk.services.organizations.model.UntagResourceResponse;
+import software.amazon.awssdk.services.organizations.model.UpdateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.UpdateOrganizationalUnitResponse;
+import software.amazon.awssdk.services.organizations.model.UpdatePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.UpdatePolicyResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory, stateful stand-in for the Organizations service, for running the handlers end to end without a live
+ * organization. It models the organization and its root, accounts, OUs, policies and their attachments, tags and the
+ * resource policy, and can simulate per-call latency, random throttling, eventually consistent reads and asynchronous
+ * CreateAccount requests. Only the operations the handlers call are implemented; the rest keep the SDK default of throwing
+ * UnsupportedOperationException.
+ * All state is guarded by one lock. Simulated latency is spent outside it, so concurrent callers overlap like real calls.
+ */
+public class FakeOrganizationsClient implements OrganizationsClient {
+    private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String DIGITS = "0123456789";
+
+    private final Config config;
+    private final Random random;
+    private final Object lock = new Object();
+    private final Map<String, AtomicLong> callCounts = new ConcurrentHashMap<>();
+
+    private OrganizationState organization;
+    private final Map<String, AccountState> accounts = new LinkedHashMap<>();
+    private final Map<String, OrganizationalUnitState> organizationalUnits = new LinkedHashMap<>();
+    private final Map<String, PolicyState> policies = new LinkedHashMap<>();
+    private final Map<String, CreateAccountRequestState> createAccountRequests = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new LinkedHashMap<>();
+    private ResourcePolicyState resourcePolicy;
+
+    public FakeOrganizationsClient() {
+        this(Config.builder().build());
+    }
+
+    public FakeOrganizationsClient(final Config config) {
+        this.config = config;
+        this.random = new Random(config.getSeed());
+        if (config.isOrganizationExists()) {
+            synchronized (lock) {
+                createOrganizationState("ALL");
+            }
+        }
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class Config {
+        @lombok.Builder.Default
+        private final LatencyDistribution latency = LatencyDistribution.none();
+        // probability that any call fails with TooManyRequestsException before it takes effect
+        @lombok.Builder.Default
+        private final double throttleRate = 0.0;
+        // how long a created or deleted entity stays invisible, or visible, to Describe and List calls
+        @lombok.Builder.Default
+        private final long consistencyLagMillis = 0L;
+        // how long a CreateAccount request stays IN_PROGRESS
+        @lombok.Builder.Default
+        private final long createAccountDurationMillis = 0L;
+        // when set, CreateAccount requests end FAILED with this reason
+        private final CreateAccountFailureReason createAccountFailureReason;
+        @lombok.Builder.Default
+        private final boolean organizationExists = true;
+        @lombok.Builder.Default
+        private final String managementAccountId = "111111111111";
+        @lombok.Builder.Default
+        private final String managementAccountEmail = "management@example.com";
+        @lombok.Builder.Default
+        private final int pageSize = 20;
+        @lombok.Builder.Default
+        private final long seed = 42L;
+        @lombok.Builder.Default
+        private final LongSupplier clock = System::currentTimeMillis;
+    }
+
+    @FunctionalInterface
+    public interface LatencyDistribution {
+        long sampleMillis(Random random);
+
+        static LatencyDistribution none() {
+            return random -> 0L;
+        }
+
+        static LatencyDistribution fixed(final long millis) {
+            return random -> millis;
+        }
+
+        static LatencyDistribution uniform(final long minMillis, final long maxMillis) {
+            return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+        }
+
+        // long tailed like real API latency, a sigma of 0.5 puts p99 at roughly three times the median
+        static LatencyDistribution logNormal(final long medianMillis, final double sigma) {
+            return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    public long getCallCount(final String operation) {
+        final AtomicLong count = callCounts.get(operation);
+        return count == null ? 0L : count.get();
+    }
+
+    public long getTotalCallCount() {
+        return callCounts.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public String getRootId() {
+        synchronized (lock) {
+            requireOrganization();
+            return organization.rootId;
+        }
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Organization
+
+    @Override
+    public CreateOrganizationResponse createOrganization(final CreateOrganizationRequest request) {
+        beforeCall("CreateOrganization");
+        synchronized (lock) {
+            if (organization != null && organization.exists()) {
+                throw error(AlreadyInOrganizationException.builder(), "The management account is already a member of an organization.");
+            }
+            createOrganizationState(request.featureSetAsString() == null ? "ALL" : request.featureSetAsString());
+            return CreateOrganizationResponse.builder().organization(toOrganization()).build();
+        }
+    }
+
+    @Override
+    public DescribeOrganizationResponse describeOrganization(final DescribeOrganizationRequest request) {
+        beforeCall("DescribeOrganization");
+        synchronized (lock) {
+            if (organization == null || !visible(organization)) {
+                throw notInUse();
+            }
+            return DescribeOrganizationResponse.builder().organization(toOrganization()).build();
+        }
+    }
+
+    @Override
+    public DeleteOrganizationResponse deleteOrganization(final DeleteOrganizationRequest request) {
+        beforeCall("DeleteOrganization");
+        synchronized (lock) {
+            requireOrganization();
+            final boolean hasMembers = accounts.values().stream()
+                                           .anyMatch(account -> account.exists() && !account.id.equals(config.getManagementAccountId()));
+            if (hasMembers || organizationalUnits.values().stream().anyMatch(Entity::exists)) {
+                throw error(OrganizationNotEmptyException.builder(), "The organization still has member accounts or organizational units.");
+            }
+            final long now = now();
+            organization.deletedAt = now;
+            for (final AccountState account : accounts.values()) {
+                account.deletedAt = now;
+            }
+            return DeleteOrganizationResponse.builder().build();
+        }
+    }
+
+    @Override
+    public ListRootsResponse listRoots(final ListRootsRequest request) {
+        beforeCall("ListRoots");
+        synchronized (lock) {
+            requireOrganization();
+            final Root root = Root.builder()
+                                  .id(organization.rootId)
+                                  .arn(rootArn())
+                                  .name("Root")
+                                  .build();
+            return ListRootsResponse.builder().roots(root).build();
+        }
+    }
+
+    // Accounts
+
+    @Override
+    public CreateAccountResponse createAccount(final CreateAccountRequest request) {
+        beforeCall("CreateAccount");
+        synchronized (lock) {
+            requireOrganization();
+            final CreateAccountRequestState state = new CreateAccountRequestState();
+            state.id = "car-" + randomString(ALPHANUMERIC, 32);
+            state.accountName = request.accountName();
+            state.email = request.email();
+            state.requestedAt = now();
+            state.tags = request.tags();
+            final boolean emailTaken = accounts.values().stream().anyMatch(account -> account.exists() && account.email.equals(request.email()));
+            state.failureReason = emailTaken ? CreateAccountFailureReason.EMAIL_ALREADY_EXISTS : config.getCreateAccountFailureReason();
+            createAccountRequests.put(state.id, state);
+            return CreateAccountResponse.builder().createAccountStatus(toCreateAccountStatus(state)).build();
+        }
+    }
+
+    @Override
+    public DescribeCreateAccountStatusResponse describeCreateAccountStatus(final DescribeCreateAccountStatusRequest request) {
+        beforeCall("DescribeCreateAccountStatus");
+        synchronized (lock) {
+            requireOrganization();
+            final CreateAccountRequestState state = createAccountRequests.get(request.createAccountRequestId());
+            if (state == null) {
+                throw error(CreateAccountStatusNotFoundException.builder(), "We can't find a create account request with the ID that you specified.");
+            }
+            return DescribeCreateAccountStatusResponse.builder().createAccountStatus(toCreateAccountStatus(state)).build();
+        }
+    }
+
+    @Override
+    public DescribeAccountResponse describeAccount(final DescribeAccountRequest request) {
+        beforeCall("DescribeAccount");
+        synchronized (lock) {
+            requireOrganization();
+            final AccountState account = accounts.get(request.accountId());
+            if (account == null || !visible(account)) {
+                throw accountNotFound();
+            }
+            return DescribeAccountResponse.builder().account(toAccount(account)).build();
+        }
+    }
+
+    @Override
+    public ListAccountsResponse listAccounts(final ListAccountsRequest request) {
+        beforeCall("ListAccounts");
+        synchronized (lock) {
+            requireOrganization();
+            final Page<Account> page = page(visibleValues(accounts).stream().map(this::toAccount).collect(Collectors.toList()),
+                request.nextToken(), request.maxResults());
+            return ListAccountsResponse.builder().accounts(page.items).nextToken(page.nextToken).build();
+        }
+    }
+
+    @Override
+    public ListAccountsForParentResponse listAccountsForParent(final ListAccountsForParentRequest request) {
+        beforeCall("ListAccountsForParent");
+        synchronized (lock) {
+            requireOrganization();
+            if (!parentExists(request.parentId())) {
+                throw parentNotFound();
+            }
+            final List<Account> children = visibleValues(accounts).stream()
+                                               .filter(account -> account.parentId.equals(request.parentId()))
+                                               .map(this::toAccount)
+                                               .collect(Collectors.toList());
+            final Page<Account> page = page(children, request.nextToken(), request.maxResults());
+            return ListAccountsForParentResponse.builder().accounts(page.items).nextToken(page.nextToken).build();
+        }
+    }
+
+    @Override
+    public MoveAccountResponse moveAccount(final MoveAccountRequest request) {
+        beforeCall("MoveAccount");
+        synchronized (lock) {
+            requireOrganization();
+            final AccountState account = accounts.get(request.accountId());
+            if (account == null || !account.exists()) {
+                throw accountNotFound();
+            }
+            if (!parentExists(request.destinationParentId())) {
+                throw error(DestinationParentNotFoundException.builder(), "We can't find the destination container (a root or OU) with the ParentId that you specified.");
+            }
+            if (!account.parentId.equals(request.sourceParentId())) {
+                throw error(SourceParentNotFoundException.builder(), "We can't find a source root or OU with the ParentId that you specified.");
+            }
+            if (account.parentId.equals(request.destinationParentId())) {
+                throw error(DuplicateAccountException.builder(), "That account is already present in the specified destination.");
+            }
+            account.parentId = request.destinationParentId();
+            return MoveAccountResponse.builder().build();
+        }
+    }
+
+    @Override
+    public CloseAccountResponse closeAccount(final CloseAccountRequest request) {
+        beforeCall("CloseAccount");
+        synchronized (lock) {
+            requireOrganization();
+            final AccountState account = accounts.get(request.accountId());
+            if (account == null || !account.exists()) {
+                throw accountNotFound();
+            }
+            if (account.status == AccountStatus.SUSPENDED) {
+                throw error(AccountAlreadyClosedException.builder(), "You are trying to close an account that is already closed.");
+            }
+            account.status = AccountStatus.SUSPENDED;
+            return CloseAccountResponse.builder().build();
+        }
+    }
+
+    @Override
+    public ListParentsResponse listParents(final ListParentsRequest request) {
+        beforeCall("ListParents");
+        synchronized (lock) {
+            requireOrganization();
+            final String parentId;
+            final AccountState account = accounts.get(request.childId());
+            final OrganizationalUnitState organizationalUnit = organizationalUnits.get(request.childId());
+            if (account != null && visible(account)) {
+                parentId = account.parentId;
+            } else if (organizationalUnit != null && visible(organizationalUnit)) {
+                parentId = organizationalUnit.parentId;
+            } else {
+                throw error(ChildNotFoundException.builder(), "We can't find an organizational unit (OU) or AWS account with the ChildId that you specified.");
+            }
+            final ParentType type = parentId.equals(organization.rootId) ? ParentType.ROOT : ParentType.ORGANIZATIONAL_UNIT;
+            return ListParentsResponse.builder().parents(Parent.builder().id(parentId).type(type).build()).build();
+        }
+    }
+
+    // Organizational units
+
+    @Override
+    public CreateOrganizationalUnitResponse createOrganizationalUnit(final CreateOrganizationalUnitRequest request) {
+        beforeCall("CreateOrganizationalUnit");
+        synchronized (lock) {
+            requireOrganization();
+            if (!parentExists(request.parentId())) {
+                throw parentNotFound();
+            }
+            requireUniqueOrganizationalUnitName(request.parentId(), request.name(), null);
+            final OrganizationalUnitState organizationalUnit = new OrganizationalUnitState();
+            organizationalUnit.id = "ou-" + organization.rootId.substring(2) + "-" + randomString(ALPHANUMERIC, 8);
+            organizationalUnit.name = request.name();
+            organizationalUnit.parentId = request.parentId();
+            organizationalUnit.createdAt = now();
+            organizationalUnits.put(organizationalUnit.id, organizationalUnit);
+            putTags(organizationalUnit.id, request.tags());
+            return CreateOrganizationalUnitResponse.builder().organizationalUnit(toOrganizationalUnit(organizationalUnit)).build();
+        }
+    }
+
+    @Override
+    public DescribeOrganizationalUnitResponse describeOrganizationalUnit(final DescribeOrganizationalUnitRequest request) {
+        beforeCall("DescribeOrganizationalUnit");
+        synchronized (lock) {
+            requireOrganization();
+            final OrganizationalUnitState organizationalUnit = organizationalUnits.get(request.organizationalUnitId());
+            if (organizationalUnit == null || !visible(organizationalUnit)) {
+                throw organizationalUnitNotFound();
+            }
+            return DescribeOrganizationalUnitResponse.builder().organizationalUnit(toOrganizationalUnit(organizationalUnit)).build();
+        }
+    }
+
+    @Override
+    public UpdateOrganizationalUnitResponse updateOrganizationalUnit(final UpdateOrganizationalUnitRequest request) {
+        beforeCall("UpdateOrganizationalUnit");
+        synchronized (lock) {
+            requireOrganization();
+            final OrganizationalUnitState organizationalUnit = organizationalUnits.get(request.organizationalUnitId());
+            if (organizationalUnit == null || !organizationalUnit.exists()) {
+                throw organizationalUnitNotFound();
+            }
+            if (request.name() != null) {
+                requireUniqueOrganizationalUnitName(organizationalUnit.parentId, request.name(), organizationalUnit.id);
+                organizationalUnit.name = request.name();
+            }
+            return UpdateOrganizationalUnitResponse.builder().organizationalUnit(toOrganizationalUnit(organizationalUnit)).build();
+        }
+    }
+
+    @Override
+    public DeleteOrganizationalUnitResponse deleteOrganizationalUnit(final DeleteOrganizationalUnitRequest request) {
+        beforeCall("DeleteOrganizationalUnit");
+        synchronized (lock) {
+            requireOrganization();
+            final OrganizationalUnitState organizationalUnit = organizationalUnits.get(request.organizationalUnitId());
+            if (organizationalUnit == null || !organizationalUnit.exists()) {
+                throw organizationalUnitNotFound();
+            }
+            final boolean hasChildren = accounts.values().stream().anyMatch(account -> account.exists() && account.parentId.equals(organizationalUnit.id))
+                || organizationalUnits.values().stream().anyMatch(child -> child.exists() && child.parentId.equals(organizationalUnit.id));
+            if (hasChildren) {
+                throw error(OrganizationalUnitNotEmptyException.builder(), "The organizational unit still contains accounts or organizational units.");
+            }
+            organizationalUnit.deletedAt = now();
+            detachFromAllPolicies(organizationalUnit.id);
+            return DeleteOrganizationalUnitResponse.builder().build();
+        }
+    }
+
+    @Override
+    public ListOrganizationalUnitsForParentResponse listOrganizationalUnitsForParent(final ListOrganizationalUnitsForParentRequest request) {
+        beforeCall("ListOrganizationalUnitsForParent");
+        synchronized (lock) {
+            requireOrganization();
+            if (!parentExists(request.parentId())) {
+                throw parentNotFound();
+            }
+            final List<OrganizationalUnit> children = visibleValues(organizationalUnits).stream()
+                                                          .filter(organizationalUnit -> organizationalUnit.parentId.equals(request.parentId()))
+                                                          .map(this::toOrganizationalUnit)
+                                                          .collect(Collectors.toList());
+            final Page<OrganizationalUnit> page = page(children, request.nextToken(), request.maxResults());
+            return ListOrganizationalUnitsForParentResponse.builder().organizationalUnits(page.items).nextToken(page.nextToken).build();
+        }
+    }
+
+    // Policies
+
+    @Override
+    public CreatePolicyResponse createPolicy(final CreatePolicyRequest request) {
+        beforeCall("CreatePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            requireWellFormedContent(request.content());
+            final boolean duplicate = policies.values().stream()
+                                          .anyMatch(policy -> policy.exists() && policy.name.equals(request.name()) && policy.type.equals(request.typeAsString()));
+            if (duplicate) {
+                throw error(DuplicatePolicyException.builder(), "A policy with the same name already exists.");
+            }
+            final PolicyState policy = new PolicyState();
+            policy.id = "p-" + randomString(ALPHANUMERIC, 8);
+            policy.name = request.name();
+            policy.description = request.description();
+            policy.type = request.typeAsString();
+            policy.content = request.content();
+            policy.createdAt = now();
+            policies.put(policy.id, policy);
+            putTags(policy.id, request.tags());
+            return CreatePolicyResponse.builder().policy(toPolicy(policy)).build();
+        }
+    }
+
+    @Override
+    public DescribePolicyResponse describePolicy(final DescribePolicyRequest request) {
+        beforeCall("DescribePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            final PolicyState policy = policies.get(request.policyId());
+            if (policy == null || !visible(policy)) {
+                throw policyNotFound();
+            }
+            return DescribePolicyResponse.builder().policy(toPolicy(policy)).build();
+        }
+    }
+
+    @Override
+    public UpdatePolicyResponse updatePolicy(final UpdatePolicyRequest request) {
+        beforeCall("UpdatePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            final PolicyState policy = existingPolicy(request.policyId());
+            if (request.content() != null) {
+                requireWellFormedContent(request.content());
+                policy.content = request.content();
+            }
+            if (request.name() != null) {
+                policy.name = request.name();
+            }
+            if (request.description() != null) {
+                policy.description = request.description();
+            }
+            return UpdatePolicyResponse.builder().policy(toPolicy(policy)).build();
+        }
+    }
+
+    @Override
+    public DeletePolicyResponse deletePolicy(final DeletePolicyRequest request) {
+        beforeCall("DeletePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            final PolicyState policy = existingPolicy(request.policyId());
+            if (!policy.targets.isEmpty()) {
+                throw error(PolicyInUseException.builder(), "The policy is attached to one or more entities. You must detach it from all roots, OUs, and accounts before performing this operation.");
+            }
+            policy.deletedAt = now();
+            return DeletePolicyResponse.builder().build();
+        }
+    }
+
+    @Override
+    public AttachPolicyResponse attachPolicy(final AttachPolicyRequest request) {
+        beforeCall("AttachPolicy");
+        synchronized (lock) {
+            requireOrganization();
+            final PolicyState policy = existingPolicy(request.policyId());
+            if (!targetExists(request.targetId())) {
+                throw targetNotFound();
+            }
+            if (!policy.targets.add(request.targetId())) {
+                throw error(DuplicatePolicyAttachmentException.builder(), "The selected policy is already attached to the specified target.");
+            }
+            return AttachPolicyResponse.builder().build();
+        }
+    }
+
+    @Override
+    public DetachPolicyResponse detachPolicy(final DetachPolicyRequest request) {
+        beforeCall("DetachPolicy");
+        synchronized (lock) {
+            requireOrganization();
+            final PolicyState policy = existingPolicy(request.policyId());
+            if (!targetExists(request.targetId())) {
+                throw targetNotFound();
+            }
+            if (!policy.targets.remove(request.targetId())) {
+                throw error(PolicyNotAttachedException.builder(), "The policy isn't attached to the specified target in the specified root.");
+            }
+            return DetachPolicyResponse.builder().build();
+        }
+    }
+
+    @Override
+    public ListPoliciesResponse listPolicies(final ListPoliciesRequest request) {
+        beforeCall("ListPolicies");
+        synchronized (lock) {
+            requireOrganization();
+            final List<PolicySummary> summaries = visibleValues(policies).stream()
+                                                      .filter(policy -> request.filterAsString() == null || policy.type.equals(request.filterAsString()))
+                                                      .map(this::toPolicySummary)
+                                                      .collect(Collectors.toList());
+            final Page<PolicySummary> page = page(summaries, request.nextToken(), request.maxResults());
+            return ListPoliciesResponse.builder().policies(page.items).nextToken(page.nextToken).build();
+        }
+    }
+
+    @Override
+    public ListTargetsForPolicyResponse listTargetsForPolicy(final ListTargetsForPolicyRequest request) {
+        beforeCall("ListTargetsForPolicy");
+        synchronized (lock) {
+            requireOrganization();
+            final PolicyState policy = policies.get(request.policyId());
+            if (policy == null || !visible(policy)) {
+                throw policyNotFound();
+            }
+            final List<PolicyTargetSummary> targets = policy.targets.stream().map(this::toTargetSummary).collect(Collectors.toList());
+            final Page<PolicyTargetSummary> page = page(targets, request.nextToken(), request.maxResults());
+            return ListTargetsForPolicyResponse.builder().targets(page.items).nextToken(page.nextToken).build();
+        }
+    }
+
+    // Tags
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        beforeCall("TagResource");
+        synchronized (lock) {
+            requireOrganization();
+            requireTaggableResource(request.resourceId());
+            putTags(request.resourceId(), request.tags());
+            return TagResourceResponse.builder().build();
+        }
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        beforeCall("UntagResource");
+        synchronized (lock) {
+            requireOrganization();
+            requireTaggableResource(request.resourceId());
+            final Map<String, String> resourceTags = tags.get(request.resourceId());
+            if (resourceTags != null) {
+                request.tagKeys().forEach(resourceTags::remove);
+            }
+            return UntagResourceResponse.builder().build();
+        }
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        beforeCall("ListTagsForResource");
+        synchronized (lock) {
+            requireOrganization();
+            requireTaggableResource(request.resourceId());
+            final List<Tag> resourceTags = tags.getOrDefault(request.resourceId(), new LinkedHashMap<>()).entrySet().stream()
+                                               .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+                                               .collect(Collectors.toList());
+            final Page<Tag> page = page(resourceTags, request.nextToken(), null);
+            return ListTagsForResourceResponse.builder().tags(page.items).nextToken(page.nextToken).build();
+        }
+    }
+
+    // Resource policy
+
+    @Override
+    public PutResourcePolicyResponse putResourcePolicy(final PutResourcePolicyRequest request) {
+        beforeCall("PutResourcePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            requireWellFormedContent(request.content());
+            if (resourcePolicy == null || !resourcePolicy.exists()) {
+                resourcePolicy = new ResourcePolicyState();
+                resourcePolicy.id = "rp-" + randomString(ALPHANUMERIC, 8);
+                resourcePolicy.createdAt = now();
+            }
+            resourcePolicy.content = request.content();
+            putTags(resourcePolicy.id, request.tags());
+            return PutResourcePolicyResponse.builder().resourcePolicy(toResourcePolicy(resourcePolicy)).build();
+        }
+    }
+
+    @Override
+    public DescribeResourcePolicyResponse describeResourcePolicy(final DescribeResourcePolicyRequest request) {
+        beforeCall("DescribeResourcePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            if (resourcePolicy == null || !visible(resourcePolicy)) {
+                throw resourcePolicyNotFound();
+            }
+            return DescribeResourcePolicyResponse.builder().resourcePolicy(toResourcePolicy(resourcePolicy)).build();
+        }
+    }
+
+    @Override
+    public DeleteResourcePolicyResponse deleteResourcePolicy(final DeleteResourcePolicyRequest request) {
+        beforeCall("DeleteResourcePolicy");
+        synchronized (lock) {
+            requireOrganization();
+            if (resourcePolicy == null || !resourcePolicy.exists()) {
+                throw resourcePolicyNotFound();
+            }
+            resourcePolicy.deletedAt = now();
+            tags.remove(resourcePolicy.id);
+            return DeleteResourcePolicyResponse.builder().build();
+        }
+    }
+
+    // Simulation
+
+    // Counts the call, spends its simulated latency outside the lock and then fails it at the configured throttle rate
+    private void beforeCall(final String operation) {
+        callCounts.computeIfAbsent(operation, key -> new AtomicLong()).incrementAndGet();
+        final long latencyMillis = config.getLatency().sampleMillis(random);
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (config.getThrottleRate() > 0 && random.nextDouble() < config.getThrottleRate()) {
+            throw error(TooManyRequestsException.builder(), "Rate exceeded");
+        }
+    }
+
+    private long now() {
+        return config.getClock().getAsLong();
+    }
+
+    // Describe and List calls only see an entity once the consistency lag has passed since it was created, and keep seeing
+    // it for the same lag after it was deleted; writes always act on the latest state
+    private boolean visible(final Entity entity) {
+        final long now = now();
+        final long lag = config.getConsistencyLagMillis();
+        return now >= entity.createdAt + lag && (entity.deletedAt == null || now < entity.deletedAt + lag);
+    }
+
+    private <T extends Entity> List<T> visibleValues(final Map<String, T> entities) {
+        return entities.values().stream().filter(this::visible).collect(Collectors.toList());
+    }
+
+    // Resolves CreateAccount requests whose simulated duration has passed; the account then appears in the root
+    private CreateAccountStatus toCreateAccountStatus(final CreateAccountRequestState state) {
+        if (state.state == CreateAccountState.IN_PROGRESS && now() >= state.requestedAt + config.getCreateAccountDurationMillis()) {
+            state.completedAt = now();
+            if (state.failureReason != null) {
+                state.state = CreateAccountState.FAILED;
+            } else {
+                final AccountState account = newAccount(randomString(DIGITS, 12), state.accountName, state.email, organization.rootId);
+                account.createdAt = state.completedAt;
+                putTags(account.id, state.tags);
+                state.accountId = account.id;
+                state.state = CreateAccountState.SUCCEEDED;
+            }
+        }
+        return CreateAccountStatus.builder()
+                   .id(state.id)
+                   .accountName(state.accountName)
+                   .state(state.state)
+                   .requestedTimestamp(Instant.ofEpochMilli(state.requestedAt))
+                   .completedTimestamp(state.completedAt == null ? null : Instant.ofEpochMilli(state.completedAt))
+                   .accountId(state.accountId)
+                   .failureReason(state.state == CreateAccountState.FAILED ? state.failureReason : null)
+                   .build();
+    }
+
+    private void createOrganizationState(final String featureSet) {
+        organization = new OrganizationState();
+        organization.id = "o-" + randomString(ALPHANUMERIC, 10);
+        organization.rootId = "r-" + randomString(ALPHANUMERIC, 4);
+        organization.featureSet = featureSet;
+        organization.createdAt = now();
+        final AccountState management = newAccount(config.getManagementAccountId(), "Management", config.getManagementAccountEmail(), organization.rootId);
+        management.createdAt = organization.createdAt;
+    }
+
+    private AccountState newAccount(final String id, final String name, final String email, final String parentId) {
+        final AccountState account = new AccountState();
+        account.id = id;
+        account.name = name;
+        account.email = email;
+        account.parentId = parentId;
+        account.status = AccountStatus.ACTIVE;
+        accounts.put(id, account);
+        return account;
+    }
+
+    private void requireOrganization() {
+        if (organization == null || !organization.exists()) {
+            throw notInUse();
+        }
+    }
+
+    private void requireUniqueOrganizationalUnitName(final String parentId, final String name, final String ignoredId) {
+        final boolean duplicate = organizationalUnits.values().stream()
+                                      .anyMatch(sibling -> sibling.exists() && sibling.parentId.equals(parentId)
+                                          && sibling.name.equals(name) && !sibling.id.equals(ignoredId));
+        if (duplicate) {
+            throw error(DuplicateOrganizationalUnitException.builder(), "An OU with the same name already exists.");
+        }
+    }
+
+    private void requireWellFormedContent(final String content) {
+        if (content == null || content.isBlank()) {
+            throw error(MalformedPolicyDocumentException.builder(), "The provided policy document doesn't meet the requirements of the specified policy type.");
+        }
+    }
+
+    private void requireTaggableResource(final String resourceId) {
+        final boolean isResourcePolicy = resourcePolicy != null && resourcePolicy.exists() && resourcePolicy.id.equals(resourceId);
+        if (!targetExists(resourceId) && !isResourcePolicy && !(policies.containsKey(resourceId) && policies.get(resourceId).exists())) {
+            throw targetNotFound();
+        }
+    }
+
+    private PolicyState existingPolicy(final String policyId) {
+        final PolicyState policy = policies.get(policyId);
+        if (policy == null || !policy.exists()) {
+            throw policyNotFound();
+        }
+        return policy;
+    }
+
+    private boolean parentExists(final String parentId) {
+        return organization.rootId.equals(parentId)
+            || (organizationalUnits.containsKey(parentId) && organizationalUnits.get(parentId).exists());
+    }
+
+    private boolean targetExists(final String targetId) {
+        return parentExists(targetId) || (accounts.containsKey(targetId) && accounts.get(targetId).exists());
+    }
+
+    private void detachFromAllPolicies(final String targetId) {
+        policies.values().forEach(policy -> policy.targets.remove(targetId));
+    }
+
+    private void putTags(final String resourceId, final Collection<Tag> resourceTags) {
+        if (resourceTags == null || resourceTags.isEmpty()) {
+            return;
+        }
+        final Map<String, String> existing = tags.computeIfAbsent(resourceId, key -> new LinkedHashMap<>());
+        resourceTags.forEach(tag -> existing.put(tag.key(), tag.value()));
+    }
+
+    private <T> Page<T> page(final List<T> items, final String nextToken, final Integer maxResults) {
+        final int start;
+        try {
+            start = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        } catch (NumberFormatException e) {
+            throw error(InvalidInputException.builder(), "The pagination token is not valid.");
+        }
+        // like the service, a page can hold fewer items than MaxResults asks for
+        final int end = Math.min(items.size(), start + (maxResults == null ? config.getPageSize() : Math.min(maxResults, config.getPageSize())));
+        return new Page<>(new ArrayList<>(items.subList(Math.min(start, end), end)), end < items.size() ? String.valueOf(end) : null);
+    }
+
+    private String randomString(final String alphabet, final int length) {
+        final StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    // Translation to SDK model objects
+
+    private String arn(final String resource) {
+        return String.format("arn:aws:organizations::%s:%s", config.getManagementAccountId(), resource);
+    }
+
+    private String rootArn() {
+        return arn(String.format("root/%s/%s", organization.id, organization.rootId));
+    }
+
+    private Organization toOrganization() {
+        return Organization.builder()
+                   .id(organization.id)
+                   .arn(arn("organization/" + organization.id))
+                   .featureSet(organization.featureSet)
+                   .masterAccountId(config.getManagementAccountId())
+                   .masterAccountArn(arn(String.format("account/%s/%s", organization.id, config.getManagementAccountId())))
+                   .masterAccountEmail(config.getManagementAccountEmail())
+                   .build();
+    }
+
+    private Account toAccount(final AccountState account) {
+        return Account.builder()
+                   .id(account.id)
+                   .arn(arn(String.format("account/%s/%s", organization.id, account.id)))
+                   .name(account.name)
+                   .email(account.email)
+                   .status(account.status)
+                   .joinedMethod(AccountJoinedMethod.CREATED)
+                   .joinedTimestamp(Instant.ofEpochMilli(account.createdAt))
+                   .build();
+    }
+
+    private OrganizationalUnit toOrganizationalUnit(final OrganizationalUnitState organizationalUnit) {
+        return OrganizationalUnit.builder()
+                   .id(organizationalUnit.id)
+                   .arn(arn(String.format("ou/%s/%s", organization.id, organizationalUnit.id)))
+                   .name(organizationalUnit.name)
+                   .build();
+    }
+
+    private PolicySummary toPolicySummary(final PolicyState policy) {
+        return PolicySummary.builder()
+                   .id(policy.id)
+                   .arn(arn(String.format("policy/%s/%s/%s", organization.id, policy.type.toLowerCase(Locale.ROOT), policy.id)))
+                   .name(policy.name)
+                   .description(policy.description)
+                   .type(policy.type)
+                   .awsManaged(false)
+                   .build();
+    }
+
+    private Policy toPolicy(final PolicyState policy) {
+        return Policy.builder().policySummary(toPolicySummary(policy)).content(policy.content).build();
+    }
+
+    private PolicyTargetSummary toTargetSummary(final String targetId) {
+        final PolicyTargetSummary.Builder builder = PolicyTargetSummary.builder().targetId(targetId);
+        if (targetId.equals(organization.rootId)) {
+            return builder.type(TargetType.ROOT).name("Root").arn(rootArn()).build();
+        }
+        final OrganizationalUnitState organizationalUnit = organizationalUnits.get(targetId);
+        if (organizationalUnit != null) {
+            return builder.type(TargetType.ORGANIZATIONAL_UNIT).name(organizationalUnit.name).arn(toOrganizationalUnit(organizationalUnit).arn()).build();
+        }
+        final AccountState account = accounts.get(targetId);
+        return builder.type(TargetType.ACCOUNT).name(account.name).arn(toAccount(account).arn()).build();
+    }
+
+    private ResourcePolicy toResourcePolicy(final ResourcePolicyState state) {
+        return ResourcePolicy.builder()
+                   .resourcePolicySummary(ResourcePolicySummary.builder()
+                                              .id(state.id)
+                                              .arn(arn(String.format("resourcepolicy/%s/%s", organization.id, state.id)))
+                                              .build())
+                   .content(state.content)
+                   .build();
+    }
+
+    // Errors carry the service error code in their details, as handlers that swallow specific codes read it from there
+
+    private static OrganizationsException error(final OrganizationsException.Builder builder, final String message) {
+        final AwsServiceException exception = builder.message(message).statusCode(400).build();
+        return (OrganizationsException) exception.toBuilder()
+                                            .awsErrorDetails(AwsErrorDetails.builder()
+                                                                 .errorCode(exception.getClass().getSimpleName())
+                                                                 .errorMessage(message)
+                                                                 .serviceName(SERVICE_NAME)
+                                                                 .build())
+                                            .build();
+    }
+
+    private static OrganizationsException notInUse() {
+        return error(AwsOrganizationsNotInUseException.builder(), "Your account is not a member of an organization.");
+    }
+
+    private static OrganizationsException accountNotFound() {
+        return error(AccountNotFoundException.builder(), "We can't find an AWS account with the AccountId that you specified.");
+    }
+
+    private static OrganizationsException organizationalUnitNotFound() {
+        return error(OrganizationalUnitNotFoundException.builder(), "We can't find an OU with the OrganizationalUnitId that you specified.");
+    }
+
+    private static OrganizationsException parentNotFound() {
+        return error(ParentNotFoundException.builder(), "We can't find a root or OU with the ParentId that you specified.");
+    }
+
+    private static OrganizationsException policyNotFound() {
+        return error(PolicyNotFoundException.builder(), "We can't find a policy with the PolicyId that you specified.");
+    }
+
+    private static OrganizationsException targetNotFound() {
+        return error(TargetNotFoundException.builder(), "We can't find a root, OU, account, or email address with the TargetId that you specified.");
+    }
+
+    private static OrganizationsException resourcePolicyNotFound() {
+        return error(ResourcePolicyNotFoundException.builder(), "We can't find a resource policy request with the parameter that you specified.");
+    }
+
+    // Simulated state
+
+    private abstract static class Entity {
+        long createdAt;
+        Long deletedAt;
+
+        boolean exists() {
+            return deletedAt == null;
+        }
+    }
+
+    private static final class OrganizationState extends Entity {
+        String id;
+        String rootId;
+        String featureSet;
+    }
+
+    private static final class AccountState extends Entity {
+        String id;
+        String name;
+        String email;
+        String parentId;
+        AccountStatus status;
+    }
+
+    private static final class OrganizationalUnitState extends Entity {
+        String id;
+        String name;
+        String parentId;
+    }
+
+    private static final class PolicyState extends Entity {
+        String id;
+        String name;
+        String description;
+        String type;
+        String content;
+        final Set<String> targets = new LinkedHashSet<>();
+    }
+
+    private static final class ResourcePolicyState extends Entity {
+        String id;
+        String content;
+    }
+
+    private static final class CreateAccountRequestState {
+        String id;
+        String accountName;
+        String email;
+        long requestedAt;
+        Long completedAt;
+        List<Tag> tags;
+        String accountId;
+        CreateAccountFailureReason failureReason;
+        CreateAccountState state = CreateAccountState.IN_PROGRESS;
+    }
+
+    private static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+}
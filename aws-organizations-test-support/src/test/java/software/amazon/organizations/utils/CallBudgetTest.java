@@ -0,0 +1,104 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.organizations.OrganizationsClient;
+import software.amazon.awssdk.services.organizations.model.ListRootsRequest;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CallBudgetTest {
+    @Mock
+    private ProxyClient<OrganizationsClient> delegate;
+    @Mock
+    private OrganizationsClient orgsClient;
+
+    @Test
+    public void assertWithin_PassesWhenEveryOperationIsInBudget() {
+        final CallBudget budget = CallBudget.calls().exactly("CreateAccount", 1).atMost("DescribeCreateAccountStatus", 3);
+
+        budget.assertWithin(counts("CreateAccount", 1L, "DescribeCreateAccountStatus", 2L));
+        budget.assertWithin(counts("CreateAccount", 1L));
+    }
+
+    @Test
+    public void assertWithin_FailsOnExtraCall() {
+        final CallBudget budget = CallBudget.calls().exactly("CreateAccount", 1).atMost("DescribeCreateAccountStatus", 3);
+
+        assertThatThrownBy(() -> budget.assertWithin(counts("CreateAccount", 1L, "DescribeCreateAccountStatus", 4L)))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("DescribeCreateAccountStatus called 4 times, budget <=3");
+    }
+
+    @Test
+    public void assertWithin_FailsOnUnbudgetedOperation() {
+        final CallBudget budget = CallBudget.calls().exactly("CreateAccount", 1);
+
+        assertThatThrownBy(() -> budget.assertWithin(counts("CreateAccount", 1L, "DescribeAccount", 1L)))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("DescribeAccount called 1 times but not budgeted");
+    }
+
+    @Test
+    public void assertWithin_FailsOnMissingExactCall() {
+        final CallBudget budget = CallBudget.calls().exactly("CreateAccount", 1);
+
+        assertThatThrownBy(() -> budget.assertWithin(new HashMap<>()))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("CreateAccount called 0 times, budget 1");
+    }
+
+    @Test
+    public void plus_AddsRangesPerOperation() {
+        final CallBudget read = CallBudget.calls().exactly("DescribeAccount", 1).exactly("ListParents", 1);
+        final CallBudget budget = CallBudget.calls().exactly("ListParents", 1).atMost("ListRoots", 1).plus(read);
+
+        assertThat(budget.getMaxCalls("ListParents")).isEqualTo(2L);
+        assertThat(budget.getMaxCalls("ListRoots")).isEqualTo(1L);
+        assertThat(budget.getMaxCalls("MoveAccount")).isZero();
+        assertThat(budget.getMaxTotalCalls()).isEqualTo(4L);
+        assertThat(budget.toString()).isEqualTo("{DescribeAccount=1, ListParents=2, ListRoots=<=1}");
+    }
+
+    @Test
+    public void between_RejectsInvalidRange() {
+        assertThatThrownBy(() -> CallBudget.calls().between("ListRoots", 2, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void callCountingProxyClient_CountsFailedCallsByOperation() {
+        when(delegate.injectCredentialsAndInvokeV2(any(ListRootsRequest.class), any()))
+            .thenThrow(TooManyRequestsException.builder().message("Rate exceeded").build());
+        final CallCountingProxyClient<OrganizationsClient> proxyClient = new CallCountingProxyClient<>(delegate);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(ListRootsRequest.builder().build(), orgsClient::listRoots))
+                .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        assertThat(proxyClient.getCallCount("ListRoots")).isEqualTo(2L);
+        assertThat(proxyClient.getTotalCallCount()).isEqualTo(2L);
+        CallBudget.calls().exactly("ListRoots", 2).assertWithin(proxyClient);
+        proxyClient.reset();
+        assertThat(proxyClient.getCallCounts()).isEmpty();
+    }
+
+    private static Map<String, Long> counts(final Object... operationsAndCounts) {
+        final Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < operationsAndCounts.length; i += 2) {
+            counts.put((String) operationsAndCounts[i], (Long) operationsAndCounts[i + 1]);
+        }
+        return counts;
+    }
+}
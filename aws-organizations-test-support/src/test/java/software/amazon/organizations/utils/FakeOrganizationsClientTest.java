@@ -0,0 +1,166 @@
+package software.amazon.organizations.utils;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.organizations.model.AccountNotFoundException;
+import software.amazon.awssdk.services.organizations.model.AttachPolicyRequest;
+import software.amazon.awssdk.services.organizations.model.AwsOrganizationsNotInUseException;
+import software.amazon.awssdk.services.organizations.model.CreateAccountFailureReason;
+import software.amazon.awssdk.services.organizations.model.CreateAccountRequest;
+import software.amazon.awssdk.services.organizations.model.CreateAccountState;
+import software.amazon.awssdk.services.organizations.model.CreateAccountStatus;
+import software.amazon.awssdk.services.organizations.model.CreateOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.CreatePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DeletePolicyRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeAccountRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeCreateAccountStatusRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationRequest;
+import software.amazon.awssdk.services.organizations.model.DescribeOrganizationalUnitRequest;
+import software.amazon.awssdk.services.organizations.model.DuplicatePolicyException;
+import software.amazon.awssdk.services.organizations.model.ListAccountsRequest;
+import software.amazon.awssdk.services.organizations.model.ListAccountsResponse;
+import software.amazon.awssdk.services.organizations.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.organizations.model.OrganizationalUnitNotFoundException;
+import software.amazon.awssdk.services.organizations.model.PolicyInUseException;
+import software.amazon.awssdk.services.organizations.model.PolicyType;
+import software.amazon.awssdk.services.organizations.model.Tag;
+import software.amazon.awssdk.services.organizations.model.TooManyRequestsException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FakeOrganizationsClientTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    public void createAccount_StaysInProgressForConfiguredDuration() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                                                .createAccountDurationMillis(60_000L)
+                                                                                .clock(now::get)
+                                                                                .build());
+
+        final CreateAccountStatus initiated = client.createAccount(CreateAccountRequest.builder()
+                                                                       .accountName("member")
+                                                                       .email("member@example.com")
+                                                                       .tags(Tag.builder().key("team").value("platform").build())
+                                                                       .build()).createAccountStatus();
+        assertThat(initiated.state()).isEqualTo(CreateAccountState.IN_PROGRESS);
+
+        now.addAndGet(59_999L);
+        assertThat(describe(client, initiated.id()).state()).isEqualTo(CreateAccountState.IN_PROGRESS);
+
+        now.addAndGet(1L);
+        final CreateAccountStatus completed = describe(client, initiated.id());
+        assertThat(completed.state()).isEqualTo(CreateAccountState.SUCCEEDED);
+        assertThat(client.describeAccount(DescribeAccountRequest.builder().accountId(completed.accountId()).build()).account().email())
+            .isEqualTo("member@example.com");
+        assertThat(client.listTagsForResource(ListTagsForResourceRequest.builder().resourceId(completed.accountId()).build()).tags())
+            .containsExactly(Tag.builder().key("team").value("platform").build());
+    }
+
+    @Test
+    public void createAccount_FailsWithConfiguredReasonOrDuplicateEmail() {
+        final FakeOrganizationsClient failing = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                                                 .createAccountFailureReason(CreateAccountFailureReason.ACCOUNT_LIMIT_EXCEEDED)
+                                                                                 .build());
+        final String failedId = failing.createAccount(CreateAccountRequest.builder().accountName("a").email("a@example.com").build()).createAccountStatus().id();
+        assertThat(describe(failing, failedId).failureReason()).isEqualTo(CreateAccountFailureReason.ACCOUNT_LIMIT_EXCEEDED);
+
+        final FakeOrganizationsClient client = new FakeOrganizationsClient();
+        final String duplicateId = client.createAccount(CreateAccountRequest.builder().accountName("m").email("management@example.com").build()).createAccountStatus().id();
+        final CreateAccountStatus duplicate = describe(client, duplicateId);
+        assertThat(duplicate.state()).isEqualTo(CreateAccountState.FAILED);
+        assertThat(duplicate.failureReason()).isEqualTo(CreateAccountFailureReason.EMAIL_ALREADY_EXISTS);
+    }
+
+    @Test
+    public void reads_LagBehindWritesByConsistencyLag() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder()
+                                                                                .consistencyLagMillis(2_000L)
+                                                                                .clock(now::get)
+                                                                                .build());
+        now.addAndGet(2_000L);
+        final String ouId = client.createOrganizationalUnit(CreateOrganizationalUnitRequest.builder()
+                                                                .parentId(client.getRootId())
+                                                                .name("workloads")
+                                                                .build()).organizationalUnit().id();
+        final DescribeOrganizationalUnitRequest describeRequest = DescribeOrganizationalUnitRequest.builder().organizationalUnitId(ouId).build();
+
+        assertThatThrownBy(() -> client.describeOrganizationalUnit(describeRequest)).isInstanceOf(OrganizationalUnitNotFoundException.class);
+        now.addAndGet(2_000L);
+        assertThat(client.describeOrganizationalUnit(describeRequest).organizationalUnit().name()).isEqualTo("workloads");
+    }
+
+    @Test
+    public void beforeCall_ThrottlesAtConfiguredRate() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().throttleRate(1.0).build());
+
+        assertThatThrownBy(() -> client.describeOrganization(DescribeOrganizationRequest.builder().build()))
+            .isInstanceOf(TooManyRequestsException.class)
+            .satisfies(e -> assertThat(((TooManyRequestsException) e).awsErrorDetails().errorCode()).isEqualTo("TooManyRequestsException"));
+        assertThat(client.getCallCount("DescribeOrganization")).isEqualTo(1);
+    }
+
+    @Test
+    public void listAccounts_PagesThroughAllAccounts() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().pageSize(2).build());
+        for (int i = 0; i < 4; i++) {
+            final String id = client.createAccount(CreateAccountRequest.builder().accountName("a" + i).email(i + "@example.com").build()).createAccountStatus().id();
+            describe(client, id);
+        }
+
+        int accounts = 0;
+        String nextToken = null;
+        do {
+            final ListAccountsResponse page = client.listAccounts(ListAccountsRequest.builder().nextToken(nextToken).build());
+            accounts += page.accounts().size();
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+
+        // the management account plus the four created ones
+        assertThat(accounts).isEqualTo(5);
+        assertThat(client.getCallCount("ListAccounts")).isEqualTo(3);
+    }
+
+    @Test
+    public void policies_EnforceNameUniquenessAndDetachBeforeDelete() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient();
+        final CreatePolicyRequest createPolicyRequest = CreatePolicyRequest.builder()
+                                                            .name("deny-all")
+                                                            .type(PolicyType.SERVICE_CONTROL_POLICY)
+                                                            .content("{\"Version\":\"2012-10-17\"}")
+                                                            .build();
+        final String policyId = client.createPolicy(createPolicyRequest).policy().policySummary().id();
+        assertThatThrownBy(() -> client.createPolicy(createPolicyRequest)).isInstanceOf(DuplicatePolicyException.class);
+
+        client.attachPolicy(AttachPolicyRequest.builder().policyId(policyId).targetId(client.getRootId()).build());
+        assertThatThrownBy(() -> client.deletePolicy(DeletePolicyRequest.builder().policyId(policyId).build()))
+            .isInstanceOf(PolicyInUseException.class);
+    }
+
+    @Test
+    public void calls_FailWhenNoOrganizationExists() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient(FakeOrganizationsClient.Config.builder().organizationExists(false).build());
+
+        assertThatThrownBy(() -> client.describeOrganization(DescribeOrganizationRequest.builder().build()))
+            .isInstanceOf(AwsOrganizationsNotInUseException.class);
+        assertThatThrownBy(() -> client.describeAccount(DescribeAccountRequest.builder().accountId("123456789012").build()))
+            .isInstanceOf(AwsOrganizationsNotInUseException.class);
+    }
+
+    @Test
+    public void describeAccount_UnknownAccount_ThrowsAccountNotFound() {
+        final FakeOrganizationsClient client = new FakeOrganizationsClient();
+
+        assertThatThrownBy(() -> client.describeAccount(DescribeAccountRequest.builder().accountId("123456789012").build()))
+            .isInstanceOf(AccountNotFoundException.class);
+    }
+
+    private static CreateAccountStatus describe(final FakeOrganizationsClient client, final String createAccountRequestId) {
+        return client.describeCreateAccountStatus(DescribeCreateAccountStatusRequest.builder()
+                                                      .createAccountRequestId(createAccountRequestId)
+                                                      .build()).createAccountStatus();
+    }
+}